@@ -0,0 +1,107 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.output.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+/**
+ * Compares sending a batch of embeddings between nodes as primitive, bulk encoded {@link ModelTensor}s with the previous
+ * boxed data written and read one value at a time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelTensorStreamBenchmark {
+
+    @Param({ "384", "1024" })
+    public int dimension;
+
+    @Param({ "32" })
+    public int batchSize;
+
+    private List<ModelTensor> primitiveTensors;
+    private List<Number[]> boxedEmbeddings;
+
+    @Setup
+    public void setUp() {
+        primitiveTensors = new ArrayList<>();
+        boxedEmbeddings = new ArrayList<>();
+        for (int i = 0; i < batchSize; i++) {
+            float[] embedding = new float[dimension];
+            Number[] boxed = new Number[dimension];
+            for (int j = 0; j < dimension; j++) {
+                embedding[j] = (float) Math.sin(i * dimension + j);
+                boxed[j] = embedding[j];
+            }
+            primitiveTensors
+                .add(
+                    ModelTensor
+                        .builder()
+                        .name("sentence_embedding")
+                        .floatData(embedding)
+                        .shape(new long[] { dimension })
+                        .dataType(MLResultDataType.FLOAT32)
+                        .build()
+                );
+            boxedEmbeddings.add(boxed);
+        }
+    }
+
+    @Benchmark
+    public List<ModelTensor> primitiveBulk() throws IOException {
+        BytesStreamOutput output = new BytesStreamOutput();
+        for (ModelTensor tensor : primitiveTensors) {
+            tensor.writeTo(output);
+        }
+        StreamInput input = output.bytes().streamInput();
+        List<ModelTensor> tensors = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            tensors.add(new ModelTensor(input));
+        }
+        return tensors;
+    }
+
+    @Benchmark
+    public List<Number[]> boxedPerValue() throws IOException {
+        BytesStreamOutput output = new BytesStreamOutput();
+        for (Number[] embedding : boxedEmbeddings) {
+            output.writeInt(embedding.length);
+            for (Number value : embedding) {
+                output.writeFloat(value.floatValue());
+            }
+        }
+        StreamInput input = output.bytes().streamInput();
+        List<Number[]> embeddings = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            Number[] embedding = new Number[input.readInt()];
+            for (int j = 0; j < embedding.length; j++) {
+                embedding[j] = input.readFloat();
+            }
+            embeddings.add(embedding);
+        }
+        return embeddings;
+    }
+}
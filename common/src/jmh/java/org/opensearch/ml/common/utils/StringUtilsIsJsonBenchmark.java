@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.JsonSyntaxException;
+
+/**
+ * Compares {@link StringUtils#isJson(String)} with the previous org.json plus Gson double parse
+ * on small, large and invalid inputs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringUtilsIsJsonBenchmark {
+
+    @Param({ "small", "large", "invalid_text", "invalid_json" })
+    public String input;
+
+    private String json;
+
+    @Setup
+    public void setUp() {
+        switch (input) {
+            case "small":
+                json = "{\"model\": \"text-embedding-3-small\", \"input\": [\"hello world\"]}";
+                break;
+            case "large":
+                json = largeJson();
+                break;
+            case "invalid_text":
+                json = "You are a helpful assistant. Answer the question based on the given context. " + "context ".repeat(5000);
+                break;
+            case "invalid_json":
+                String large = largeJson();
+                json = large.substring(0, large.length() - 1);
+                break;
+            default:
+                throw new IllegalArgumentException("unknown input " + input);
+        }
+    }
+
+    @Benchmark
+    public boolean isJson() {
+        return StringUtils.isJson(json);
+    }
+
+    @Benchmark
+    public boolean orgJsonAndGson() {
+        try {
+            if (!StringUtils.isValidJsonString(json)) {
+                return false;
+            }
+            StringUtils.gson.fromJson(json, Object.class);
+            return true;
+        } catch (JsonSyntaxException e) {
+            return false;
+        }
+    }
+
+    private static String largeJson() {
+        StringBuilder builder = new StringBuilder("{\"messages\": [");
+        for (int i = 0; i < 2000; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder
+                .append("{\"role\": \"user\", \"content\": \"retrieved passage number ")
+                .append(i)
+                .append(" with some text to make the prompt long\"}");
+        }
+        return builder.append("]}").toString();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A connector request body compiled into literal segments and parameter slots.
+ *
+ * Rendering a compiled template gives the same result as running {@code HttpConnector.fillNullParameters} and a
+ * {@code StringSubstitutor} with the {@code ${parameters.} prefix over the raw request body, without scanning the
+ * body again on every request. Bodies using features that need the full substitutor, like escaped placeholders
+ * or placeholders nested in defaults, are not compiled, and rendering falls back when a parameter value itself
+ * contains a placeholder.
+ */
+public class ConnectorRequestTemplate {
+    public static final String PARAMETER_PREFIX = "${parameters.";
+    private static final String PARAMETER_SUFFIX = "}";
+    private static final String DEFAULT_VALUE_DELIMITER = ":-";
+    private static final String NULL_DEFAULT_VALUE = "null";
+    private static final Pattern WORD_PATTERN = Pattern.compile("\\w+");
+
+    private final List<String> literals;
+    private final List<Slot> slots;
+    private final int literalLength;
+
+    private ConnectorRequestTemplate(List<String> literals, List<Slot> slots) {
+        this.literals = literals;
+        this.slots = slots;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Compile a request body.
+     * @param requestBody raw request body of a connector action
+     * @return compiled template, or null if the body needs the full substitutor
+     */
+    public static ConnectorRequestTemplate compile(String requestBody) {
+        if (requestBody == null || requestBody.contains("$" + PARAMETER_PREFIX)) {
+            return null;
+        }
+        List<String> literals = new ArrayList<>();
+        List<Slot> slots = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int position = 0;
+        while (position < requestBody.length()) {
+            int start = requestBody.indexOf(PARAMETER_PREFIX, position);
+            if (start < 0) {
+                literal.append(requestBody, position, requestBody.length());
+                break;
+            }
+            int end = requestBody.indexOf(PARAMETER_SUFFIX, start + PARAMETER_PREFIX.length());
+            if (end < 0) {
+                // unterminated placeholder stays as literal text
+                literal.append(requestBody, position, requestBody.length());
+                break;
+            }
+            String variable = requestBody.substring(start + PARAMETER_PREFIX.length(), end);
+            if (variable.contains("${")) {
+                return null;
+            }
+            String name = variable;
+            String defaultValue = null;
+            int delimiter = variable.indexOf(DEFAULT_VALUE_DELIMITER);
+            if (delimiter >= 0) {
+                name = variable.substring(0, delimiter);
+                defaultValue = variable.substring(delimiter + DEFAULT_VALUE_DELIMITER.length());
+            }
+            boolean quotedNullDefault = NULL_DEFAULT_VALUE.equals(defaultValue)
+                && WORD_PATTERN.matcher(name).matches()
+                && start > 0
+                && requestBody.charAt(start - 1) == '"'
+                && end + 1 < requestBody.length()
+                && requestBody.charAt(end + 1) == '"';
+
+            if (quotedNullDefault) {
+                // the surrounding quotes belong to the slot, the whole quoted placeholder becomes null if the parameter is missing
+                literal.append(requestBody, position, start - 1);
+                position = end + 2;
+            } else {
+                literal.append(requestBody, position, start);
+                position = end + 1;
+            }
+            literals.add(literal.toString());
+            literal.setLength(0);
+            slots.add(new Slot(name, defaultValue, quotedNullDefault, requestBody.substring(start, end + 1)));
+        }
+        literals.add(literal.toString());
+        return new ConnectorRequestTemplate(literals, slots);
+    }
+
+    /**
+     * Render the template with the given parameters.
+     * @param parameters request parameters
+     * @return rendered payload, or null if a parameter value contains a placeholder and the full substitutor is needed
+     */
+    public String render(Map<String, String> parameters) {
+        int capacity = literalLength;
+        for (Slot slot : slots) {
+            String value = parameters.get(slot.name);
+            if (value != null) {
+                if (value.contains(PARAMETER_PREFIX)) {
+                    return null;
+                }
+                capacity += value.length() + 2;
+            }
+        }
+        StringBuilder builder = new StringBuilder(capacity);
+        for (int i = 0; i < slots.size(); i++) {
+            builder.append(literals.get(i));
+            Slot slot = slots.get(i);
+            String value = parameters.get(slot.name);
+            if (slot.quotedNullDefault) {
+                if (value == null) {
+                    builder.append(NULL_DEFAULT_VALUE);
+                } else {
+                    builder.append('"').append(value).append('"');
+                }
+            } else if (value != null) {
+                builder.append(value);
+            } else if (slot.defaultValue != null) {
+                builder.append(slot.defaultValue);
+            } else {
+                builder.append(slot.placeholder);
+            }
+        }
+        builder.append(literals.get(slots.size()));
+        return builder.toString();
+    }
+
+    private static class Slot {
+        private final String name;
+        private final String defaultValue;
+        private final boolean quotedNullDefault;
+        private final String placeholder;
+
+        private Slot(String name, String defaultValue, boolean quotedNullDefault, String placeholder) {
+            this.name = name;
+            this.defaultValue = defaultValue;
+            this.quotedNullDefault = quotedNullDefault;
+            this.placeholder = placeholder;
+        }
+    }
+}
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -64,6 +65,9 @@ public class HttpConnector extends AbstractConnector {
 
     // TODO: add RequestConfig like request time out,
 
+    // Request bodies compiled on first use, keyed by the raw request body so updated actions are compiled again.
+    private final transient Map<String, Optional<ConnectorRequestTemplate>> requestTemplates = new ConcurrentHashMap<>();
+
     @Builder
     public HttpConnector(
         String name,
@@ -353,11 +357,15 @@ public class HttpConnector extends AbstractConnector {
     public <T> T createPayload(String action, Map<String, String> parameters) {
         Optional<ConnectorAction> connectorAction = findAction(action);
         if (connectorAction.isPresent() && connectorAction.get().getRequestBody() != null) {
-            String payload = connectorAction.get().getRequestBody();
-            payload = fillNullParameters(parameters, payload);
+            String requestBody = connectorAction.get().getRequestBody();
             parseParameters(parameters);
-            StringSubstitutor substitutor = new StringSubstitutor(parameters, "${parameters.", "}");
-            payload = substitutor.replace(payload);
+            ConnectorRequestTemplate template = getRequestTemplate(requestBody);
+            String payload = template == null ? null : template.render(parameters);
+            if (payload == null) {
+                payload = fillNullParameters(parameters, requestBody);
+                StringSubstitutor substitutor = new StringSubstitutor(parameters, "${parameters.", "}");
+                payload = substitutor.replace(payload);
+            }
 
             if (!isJsonOrNdjson(payload)) {
                 throw new IllegalArgumentException("Invalid payload: " + payload);
@@ -373,6 +381,15 @@ public class HttpConnector extends AbstractConnector {
         return (T) parameters.get("http_body");
     }
 
+    private ConnectorRequestTemplate getRequestTemplate(String requestBody) {
+        Optional<ConnectorRequestTemplate> template = requestTemplates.get(requestBody);
+        if (template == null) {
+            template = Optional.ofNullable(ConnectorRequestTemplate.compile(requestBody));
+            requestTemplates.put(requestBody, template);
+        }
+        return template.orElse(null);
+    }
+
     private boolean neededStreamParameterInPayload(Map<String, String> parameters) {
         if (parameters == null) {
             return false;
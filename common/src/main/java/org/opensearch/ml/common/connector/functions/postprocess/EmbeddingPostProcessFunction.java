@@ -35,20 +35,26 @@ public class EmbeddingPostProcessFunction extends ConnectorPostProcessFunction<L
 
     @Override
     public List<ModelTensor> process(List<List<Number>> embeddings, MLResultDataType dataType) {
+        MLResultDataType resultDataType = dataType == null ? MLResultDataType.FLOAT32 : dataType;
         List<ModelTensor> modelTensors = new ArrayList<>();
-        embeddings
-            .forEach(
-                embedding -> modelTensors
-                    .add(
-                        ModelTensor
-                            .builder()
-                            .name("sentence_embedding")
-                            .dataType(dataType == null ? MLResultDataType.FLOAT32 : dataType)
-                            .shape(new long[] { embedding.size() })
-                            .data(embedding.toArray(new Number[0]))
-                            .build()
-                    )
-            );
+        embeddings.forEach(embedding -> {
+            ModelTensor.ModelTensorBuilder modelTensor = ModelTensor
+                .builder()
+                .name("sentence_embedding")
+                .dataType(resultDataType)
+                .shape(new long[] { embedding.size() });
+            if (resultDataType == MLResultDataType.FLOAT32) {
+                // float embeddings are kept as primitive floats, which is also what is sent between nodes
+                float[] data = new float[embedding.size()];
+                for (int i = 0; i < data.length; i++) {
+                    data[i] = embedding.get(i).floatValue();
+                }
+                modelTensor.floatData(data);
+            } else {
+                modelTensor.data(embedding.toArray(new Number[0]));
+            }
+            modelTensors.add(modelTensor.build());
+        });
         return modelTensors;
     }
 }
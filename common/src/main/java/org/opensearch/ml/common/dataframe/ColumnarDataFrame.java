@@ -0,0 +1,461 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.dataframe;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import org.opensearch.Version;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.common.CommonValue;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Data frame which keeps each column in a primitive array, e.g. a double[] for a DOUBLE column, instead of a row of boxed
+ * column values per row like {@link DefaultDataFrame}. Only numeric and boolean columns are supported;
+ * {@link DataFrameBuilder} builds a columnar data frame when all columns are numeric or boolean.
+ * <p>
+ * Rows returned by {@link #getRow(int)} and the iterator are created on access, read numeric values with
+ * {@link #getDouble(int, int)} or {@link #getRowAsDoubles(int)} instead. {@link #select(int[])} and {@link #remove(int)}
+ * return views sharing the column arrays with this data frame. Rows are only appended, so a view never sees rows appended
+ * to this data frame after it was created, and appending to a view copies its columns first.
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ColumnarDataFrame extends AbstractDataFrame {
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_COLUMNAR_DATA_FRAME = CommonValue.VERSION_3_5_0;
+    private static final String COLUMN_META_FIELD = "column_metas";
+    private static final String ROWS_FIELD = "rows";
+    private static final int INITIAL_CAPACITY = 16;
+
+    final ColumnMeta[] columnMetas;
+    // one primitive array per column, the capacity of the arrays can be bigger than the size
+    Object[] columns;
+    int size;
+    // the columns are shared with the data frame this view was created from
+    boolean shared;
+
+    public ColumnarDataFrame(final ColumnMeta[] columnMetas) {
+        this(columnMetas, INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param columnMetas column metas, all columns must be numeric or boolean
+     * @param expectedSize number of rows to allocate the columns for
+     */
+    public ColumnarDataFrame(final ColumnMeta[] columnMetas, int expectedSize) {
+        super(DataFrameType.COLUMNAR);
+        for (ColumnMeta columnMeta : columnMetas) {
+            if (!isSupported(columnMeta.getColumnType())) {
+                throw new IllegalArgumentException("unsupported column type for columnar data frame:" + columnMeta.getColumnType());
+            }
+        }
+        this.columnMetas = columnMetas;
+        this.columns = new Object[columnMetas.length];
+        for (int i = 0; i < columnMetas.length; i++) {
+            columns[i] = newColumn(columnMetas[i].getColumnType(), Math.max(expectedSize, 0));
+        }
+    }
+
+    private ColumnarDataFrame(final ColumnMeta[] columnMetas, final Object[] columns, int size) {
+        super(DataFrameType.COLUMNAR);
+        this.columnMetas = columnMetas;
+        this.columns = columns;
+        this.size = size;
+        this.shared = true;
+    }
+
+    public ColumnarDataFrame(StreamInput streamInput) throws IOException {
+        super(DataFrameType.COLUMNAR);
+        this.columnMetas = streamInput.readArray(ColumnMeta::new, ColumnMeta[]::new);
+        this.size = streamInput.readVInt();
+        this.columns = new Object[columnMetas.length];
+        for (int i = 0; i < columnMetas.length; i++) {
+            columns[i] = readColumn(streamInput, columnMetas[i].getColumnType(), size);
+        }
+    }
+
+    /**
+     * @param columnMetas column metas
+     * @return true if a columnar data frame can hold the columns, i.e. all columns are numeric or boolean
+     */
+    public static boolean isSupported(ColumnMeta[] columnMetas) {
+        return Arrays.stream(columnMetas).allMatch(columnMeta -> isSupported(columnMeta.getColumnType()));
+    }
+
+    private static boolean isSupported(ColumnType columnType) {
+        switch (columnType) {
+            case SHORT:
+            case INTEGER:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
+            case BOOLEAN:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void appendRow(final Object[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("input values can't be null");
+        }
+        checkRowSize(values.length);
+        for (int i = 0; i < columnMetas.length; i++) {
+            checkColumnType(i, values[i] == null ? ColumnType.NULL : ColumnType.from(values[i]));
+        }
+
+        ensureCapacity(size + 1);
+        for (int i = 0; i < columnMetas.length; i++) {
+            set(i, size, ColumnValueBuilder.build(values[i]));
+        }
+        size++;
+    }
+
+    @Override
+    public void appendRow(final Row row) {
+        if (row == null) {
+            throw new IllegalArgumentException("input row can't be null");
+        }
+        checkRowSize(row.size());
+        for (int i = 0; i < columnMetas.length; i++) {
+            checkColumnType(i, row.getValue(i).columnType());
+        }
+
+        ensureCapacity(size + 1);
+        for (int i = 0; i < columnMetas.length; i++) {
+            set(i, size, row.getValue(i));
+        }
+        size++;
+    }
+
+    private void checkRowSize(int rowSize) {
+        if (rowSize != columnMetas.length) {
+            final String message = String
+                .format("the size is different between input row:%d " + "and column size in dataframe:%d", rowSize, columnMetas.length);
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    private void checkColumnType(int index, ColumnType columnType) {
+        if (columnMetas[index].getColumnType() != columnType) {
+            final String message = String
+                .format(
+                    "the column type is different in column meta:%s and input row:%s for index: %d",
+                    columnMetas[index].getColumnType(),
+                    columnType,
+                    index
+                );
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (columns.length == 0) {
+            return;
+        }
+        if (!shared && Array.getLength(columns[0]) >= capacity) {
+            return;
+        }
+        int newLength = Math.max(capacity, Math.max(INITIAL_CAPACITY, size + (size >> 1)));
+        Object[] newColumns = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            newColumns[i] = Array.newInstance(columns[i].getClass().getComponentType(), newLength);
+            System.arraycopy(columns[i], 0, newColumns[i], 0, size);
+        }
+        columns = newColumns;
+        shared = false;
+    }
+
+    @Override
+    public Row getRow(int index) {
+        Objects.checkIndex(index, size);
+        ColumnValue[] values = new ColumnValue[columnMetas.length];
+        for (int i = 0; i < columnMetas.length; i++) {
+            values[i] = get(i, index);
+        }
+        return new Row(values);
+    }
+
+    /**
+     * Gets a value as double without boxing it
+     * @param rowIndex index of the row
+     * @param columnIndex index of the column
+     * @return the value as double
+     */
+    public double getDouble(int rowIndex, int columnIndex) {
+        Objects.checkIndex(rowIndex, size);
+        Object column = columns[columnIndex];
+        switch (columnMetas[columnIndex].getColumnType()) {
+            case SHORT:
+                return ((short[]) column)[rowIndex];
+            case INTEGER:
+                return ((int[]) column)[rowIndex];
+            case LONG:
+                return ((long[]) column)[rowIndex];
+            case FLOAT:
+                return ((float[]) column)[rowIndex];
+            case DOUBLE:
+                return ((double[]) column)[rowIndex];
+            default:
+                throw new RuntimeException("the value isn't Double type");
+        }
+    }
+
+    @Override
+    public double[] getRowAsDoubles(int index) {
+        double[] values = new double[columnMetas.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getDouble(index, i);
+        }
+        return values;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public ColumnMeta[] columnMetas() {
+        return Arrays.copyOf(columnMetas, columnMetas.length);
+    }
+
+    @Override
+    public DataFrame remove(int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= columnMetas.length) {
+            throw new IllegalArgumentException("columnIndex can't be negative or bigger than columns length:" + columnMetas.length);
+        }
+        int[] columnIndices = new int[columnMetas.length - 1];
+        int index = 0;
+        for (int i = 0; i < columnMetas.length; i++) {
+            if (i != columnIndex) {
+                columnIndices[index++] = i;
+            }
+        }
+        return view(columnIndices);
+    }
+
+    @Override
+    public DataFrame select(int[] columns) {
+        if (columns == null || columns.length == 0) {
+            throw new IllegalArgumentException("columns can't be null or empty");
+        }
+        for (int col : columns) {
+            if (col < 0 || col >= columnMetas.length) {
+                throw new IllegalArgumentException("columnIndex can't be negative or bigger than columns length");
+            }
+        }
+        return view(columns);
+    }
+
+    private ColumnarDataFrame view(int[] columnIndices) {
+        ColumnMeta[] newColumnMetas = new ColumnMeta[columnIndices.length];
+        Object[] newColumns = new Object[columnIndices.length];
+        for (int i = 0; i < columnIndices.length; i++) {
+            newColumnMetas[i] = columnMetas[columnIndices[i]];
+            newColumns[i] = columns[columnIndices[i]];
+        }
+        return new ColumnarDataFrame(newColumnMetas, newColumns, size);
+    }
+
+    @Override
+    public int getColumnIndex(String target) {
+        for (int i = 0; i < columnMetas.length; i++) {
+            if (columnMetas[i].getName().equals(target)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("No matched target when generating dataset from data frame.");
+    }
+
+    @Override
+    public Iterator<Row> iterator() {
+        return new Iterator<>() {
+            int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Row next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return getRow(next++);
+            }
+        };
+    }
+
+    private ColumnValue get(int columnIndex, int rowIndex) {
+        Object column = columns[columnIndex];
+        ColumnType columnType = columnMetas[columnIndex].getColumnType();
+        switch (columnType) {
+            case SHORT:
+                return new ShortValue(((short[]) column)[rowIndex]);
+            case INTEGER:
+                return new IntValue(((int[]) column)[rowIndex]);
+            case LONG:
+                return new LongValue(((long[]) column)[rowIndex]);
+            case FLOAT:
+                return new FloatValue(((float[]) column)[rowIndex]);
+            case DOUBLE:
+                return new DoubleValue(((double[]) column)[rowIndex]);
+            case BOOLEAN:
+                return new BooleanValue(((boolean[]) column)[rowIndex]);
+            default:
+                throw new IllegalArgumentException("unsupported column type for columnar data frame:" + columnType);
+        }
+    }
+
+    private void set(int columnIndex, int rowIndex, ColumnValue value) {
+        Object column = columns[columnIndex];
+        ColumnType columnType = columnMetas[columnIndex].getColumnType();
+        switch (columnType) {
+            case SHORT:
+                ((short[]) column)[rowIndex] = value.shortValue();
+                break;
+            case INTEGER:
+                ((int[]) column)[rowIndex] = value.intValue();
+                break;
+            case LONG:
+                ((long[]) column)[rowIndex] = value.longValue();
+                break;
+            case FLOAT:
+                ((float[]) column)[rowIndex] = value.floatValue();
+                break;
+            case DOUBLE:
+                ((double[]) column)[rowIndex] = value.doubleValue();
+                break;
+            case BOOLEAN:
+                ((boolean[]) column)[rowIndex] = value.booleanValue();
+                break;
+            default:
+                throw new IllegalArgumentException("unsupported column type for columnar data frame:" + columnType);
+        }
+    }
+
+    private static Object newColumn(ColumnType columnType, int capacity) {
+        switch (columnType) {
+            case SHORT:
+                return new short[capacity];
+            case INTEGER:
+                return new int[capacity];
+            case LONG:
+                return new long[capacity];
+            case FLOAT:
+                return new float[capacity];
+            case DOUBLE:
+                return new double[capacity];
+            case BOOLEAN:
+                return new boolean[capacity];
+            default:
+                throw new IllegalArgumentException("unsupported column type for columnar data frame:" + columnType);
+        }
+    }
+
+    private static Object readColumn(StreamInput in, ColumnType columnType, int size) throws IOException {
+        Object column = newColumn(columnType, size);
+        for (int i = 0; i < size; i++) {
+            switch (columnType) {
+                case SHORT:
+                    ((short[]) column)[i] = in.readShort();
+                    break;
+                case INTEGER:
+                    ((int[]) column)[i] = in.readInt();
+                    break;
+                case LONG:
+                    ((long[]) column)[i] = in.readLong();
+                    break;
+                case FLOAT:
+                    ((float[]) column)[i] = in.readFloat();
+                    break;
+                case DOUBLE:
+                    ((double[]) column)[i] = in.readDouble();
+                    break;
+                default:
+                    ((boolean[]) column)[i] = in.readBoolean();
+                    break;
+            }
+        }
+        return column;
+    }
+
+    private void writeColumn(StreamOutput out, int columnIndex) throws IOException {
+        Object column = columns[columnIndex];
+        ColumnType columnType = columnMetas[columnIndex].getColumnType();
+        for (int i = 0; i < size; i++) {
+            switch (columnType) {
+                case SHORT:
+                    out.writeShort(((short[]) column)[i]);
+                    break;
+                case INTEGER:
+                    out.writeInt(((int[]) column)[i]);
+                    break;
+                case LONG:
+                    out.writeLong(((long[]) column)[i]);
+                    break;
+                case FLOAT:
+                    out.writeFloat(((float[]) column)[i]);
+                    break;
+                case DOUBLE:
+                    out.writeDouble(((double[]) column)[i]);
+                    break;
+                default:
+                    out.writeBoolean(((boolean[]) column)[i]);
+                    break;
+            }
+        }
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        if (!out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_COLUMNAR_DATA_FRAME)) {
+            // nodes of older versions only read row based data frames
+            out.writeEnum(DataFrameType.DEFAULT);
+            out.writeArray(columnMetas);
+            out.writeVInt(size);
+            for (Row row : this) {
+                row.writeTo(out);
+            }
+            return;
+        }
+        super.writeTo(out);
+        out.writeArray(columnMetas);
+        out.writeVInt(size);
+        for (int i = 0; i < columnMetas.length; i++) {
+            writeColumn(out, i);
+        }
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, ToXContent.Params params) throws IOException {
+        builder.startArray(COLUMN_META_FIELD);
+        for (ColumnMeta columnMeta : columnMetas) {
+            columnMeta.toXContent(builder, params);
+        }
+        builder.endArray();
+
+        builder.startArray(ROWS_FIELD);
+        for (Row row : this) {
+            row.toXContent(builder, params);
+        }
+        builder.endArray();
+        return builder;
+    }
+}
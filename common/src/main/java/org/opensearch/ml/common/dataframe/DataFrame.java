@@ -32,6 +32,20 @@ public interface DataFrame extends Iterable<Row>, Writeable, ToXContentObject {
      */
     Row getRow(int index);
 
+    /**
+     * Get the values of a row as doubles, e.g. as the features of a model. All columns must be numeric.
+     * @param index index value
+     * @return values of the row
+     */
+    default double[] getRowAsDoubles(int index) {
+        Row row = getRow(index);
+        double[] values = new double[row.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = row.getValue(i).doubleValue();
+        }
+        return values;
+    }
+
     /**
      * Get the size of the data frame. This is the row size actually.
      * @return the size
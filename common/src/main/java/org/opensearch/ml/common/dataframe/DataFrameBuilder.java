@@ -19,7 +19,7 @@ import lombok.experimental.UtilityClass;
 public class DataFrameBuilder {
 
     /**
-     * Build empty data frame without any real data.
+     * Build empty data frame without any real data. It's a columnar data frame if all columns are numeric or boolean.
      * @param columnMetas column metas
      * @return empty data frame
      */
@@ -27,6 +27,9 @@ public class DataFrameBuilder {
         if (columnMetas == null || columnMetas.length == 0) {
             throw new IllegalArgumentException("columnMetas array is null or empty");
         }
+        if (ColumnarDataFrame.isSupported(columnMetas)) {
+            return new ColumnarDataFrame(columnMetas);
+        }
         return new DefaultDataFrame(columnMetas);
     }
 
@@ -55,7 +58,8 @@ public class DataFrameBuilder {
 
     /**
      * Load data frame given columnMetas, and list of map objects. and all of the
-     * map objects should have same key set, otherwise it will throw exception.
+     * map objects should have same key set, otherwise it will throw exception. It's a columnar data frame if all columns
+     * are numeric or boolean.
      * @param columnMetas array of ColumnMeta
      * @param input input list of map objects
      * @return data frame
@@ -75,31 +79,42 @@ public class DataFrameBuilder {
             columnsMap.put(columnMetas[i].getName(), i);
         }
 
-        List<Row> rows = input.stream().map(item -> {
-            Row row = new Row(columnSize);
-            if (item.size() != columnSize) {
-                throw new IllegalArgumentException("input item map size is different in the map");
-            }
-
-            for (Map.Entry<String, Object> entry : item.entrySet()) {
-                if (!columnsMap.containsKey(entry.getKey())) {
-                    throw new IllegalArgumentException("field of input item doesn't exist in columns, filed:" + entry.getKey());
-                }
-                String columnName = entry.getKey();
-                int index = columnsMap.get(columnName);
-                ColumnType columnType = columnMetas[index].getColumnType();
-                ColumnValue value = ColumnValueBuilder.build(entry.getValue());
-                if (columnType != value.columnType()) {
-                    throw new IllegalArgumentException("the same field has different data type");
-                }
-                row.setValue(index, value);
+        if (ColumnarDataFrame.isSupported(columnMetas)) {
+            ColumnarDataFrame dataFrame = new ColumnarDataFrame(columnMetas, input.size());
+            for (Map<String, Object> item : input) {
+                // the row is only used to append the values to the primitive columns
+                dataFrame.appendRow(toRow(columnMetas, columnsMap, item));
             }
-            return row;
-        }).collect(Collectors.toList());
+            return dataFrame;
+        }
+        List<Row> rows = input.stream().map(item -> toRow(columnMetas, columnsMap, item)).collect(Collectors.toList());
 
         return new DefaultDataFrame(columnMetas, rows);
     }
 
+    private Row toRow(final ColumnMeta[] columnMetas, final Map<String, Integer> columnsMap, final Map<String, Object> item) {
+        int columnSize = columnMetas.length;
+        Row row = new Row(columnSize);
+        if (item.size() != columnSize) {
+            throw new IllegalArgumentException("input item map size is different in the map");
+        }
+
+        for (Map.Entry<String, Object> entry : item.entrySet()) {
+            if (!columnsMap.containsKey(entry.getKey())) {
+                throw new IllegalArgumentException("field of input item doesn't exist in columns, filed:" + entry.getKey());
+            }
+            String columnName = entry.getKey();
+            int index = columnsMap.get(columnName);
+            ColumnType columnType = columnMetas[index].getColumnType();
+            ColumnValue value = ColumnValueBuilder.build(entry.getValue());
+            if (columnType != value.columnType()) {
+                throw new IllegalArgumentException("the same field has different data type");
+            }
+            row.setValue(index, value);
+        }
+        return row;
+    }
+
     /**
      * Load data frame from stream input.
      * @param input stream input
@@ -111,6 +126,8 @@ public class DataFrameBuilder {
         switch (dataFrameType) {
             case DEFAULT:
                 return new DefaultDataFrame(input);
+            case COLUMNAR:
+                return new ColumnarDataFrame(input);
             default:
                 throw new IllegalStateException("Unexpected value: " + dataFrameType);
         }
@@ -28,19 +28,28 @@ import lombok.Setter;
 public class MLDeploySetting implements ToXContentObject, Writeable {
     public static final String IS_AUTO_DEPLOY_ENABLED_FIELD = "is_auto_deploy_enabled";
     public static final String MODEL_TTL_MINUTES_FIELD = "model_ttl_minutes";
+    public static final String RESULT_CACHE_TTL_MINUTES_FIELD = "result_cache_ttl_minutes";
     private static final long DEFAULT_TTL_MINUTES = -1;
     public static final Version MINIMAL_SUPPORTED_VERSION_FOR_MODEL_TTL = CommonValue.VERSION_2_14_0;
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_RESULT_CACHE = CommonValue.VERSION_3_5_0;
 
     private Boolean isAutoDeployEnabled;
     private Long modelTTLInMinutes; // in minutes
+    // how long the deployed model's node local prediction results are reused for identical inputs, null or 0 disables it
+    private Long resultCacheTTLInMinutes; // in minutes
 
-    @Builder(toBuilder = true)
     public MLDeploySetting(Boolean isAutoDeployEnabled, Long modelTTLInMinutes) {
+        this(isAutoDeployEnabled, modelTTLInMinutes, null);
+    }
+
+    @Builder(toBuilder = true)
+    public MLDeploySetting(Boolean isAutoDeployEnabled, Long modelTTLInMinutes, Long resultCacheTTLInMinutes) {
         this.isAutoDeployEnabled = isAutoDeployEnabled;
         this.modelTTLInMinutes = modelTTLInMinutes;
         if (modelTTLInMinutes == null) {
             this.modelTTLInMinutes = DEFAULT_TTL_MINUTES;
         }
+        this.resultCacheTTLInMinutes = resultCacheTTLInMinutes;
     }
 
     public MLDeploySetting(StreamInput in) throws IOException {
@@ -49,6 +58,9 @@ public class MLDeploySetting implements ToXContentObject, Writeable {
         if (streamInputVersion.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_MODEL_TTL)) {
             this.modelTTLInMinutes = in.readOptionalLong();
         }
+        if (streamInputVersion.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_RESULT_CACHE)) {
+            this.resultCacheTTLInMinutes = in.readOptionalLong();
+        }
     }
 
     @Override
@@ -58,11 +70,15 @@ public class MLDeploySetting implements ToXContentObject, Writeable {
         if (streamOutputVersion.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_MODEL_TTL)) {
             out.writeOptionalLong(modelTTLInMinutes);
         }
+        if (streamOutputVersion.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_RESULT_CACHE)) {
+            out.writeOptionalLong(resultCacheTTLInMinutes);
+        }
     }
 
     public static MLDeploySetting parse(XContentParser parser) throws IOException {
         Boolean isAutoDeployEnabled = null;
         Long modelTTLMinutes = null;
+        Long resultCacheTTLMinutes = null;
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
             String fieldName = parser.currentName();
@@ -73,12 +89,16 @@ public class MLDeploySetting implements ToXContentObject, Writeable {
                     break;
                 case MODEL_TTL_MINUTES_FIELD:
                     modelTTLMinutes = parser.longValue();
+                    break;
+                case RESULT_CACHE_TTL_MINUTES_FIELD:
+                    resultCacheTTLMinutes = parser.longValue();
+                    break;
                 default:
                     parser.skipChildren();
                     break;
             }
         }
-        return new MLDeploySetting(isAutoDeployEnabled, modelTTLMinutes);
+        return new MLDeploySetting(isAutoDeployEnabled, modelTTLMinutes, resultCacheTTLMinutes);
     }
 
     @Override
@@ -90,6 +110,9 @@ public class MLDeploySetting implements ToXContentObject, Writeable {
         if (modelTTLInMinutes != null) {
             builder.field(MODEL_TTL_MINUTES_FIELD, modelTTLInMinutes);
         }
+        if (resultCacheTTLInMinutes != null) {
+            builder.field(RESULT_CACHE_TTL_MINUTES_FIELD, resultCacheTTLInMinutes);
+        }
         builder.endObject();
         return builder;
     }
@@ -17,6 +17,7 @@ import java.security.PrivilegedExceptionAction;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.IntUnaryOperator;
 
 import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -27,8 +28,11 @@ import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Setter;
 
 @Data
 public class ModelTensor implements Writeable, ToXContentObject {
@@ -42,30 +46,65 @@ public class ModelTensor implements Writeable, ToXContentObject {
     public static final String BYTE_BUFFER_ORDER_FIELD = "order";
     public static final String RESULT_FIELD = "result";
     public static final String DATA_AS_MAP_FIELD = "dataAsMap";
+    // number of values encoded or decoded with one bulk read or write
+    private static final int STREAM_CHUNK_SIZE = 2048;
 
     private String name;
     private Number[] data;
+    // primitive data, e.g. embeddings of models and data read from stream, which is only boxed when data is read
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private float[] floatData;
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private int[] intData;
     private long[] shape;
     private MLResultDataType dataType;
     private ByteBuffer byteBuffer;// whole result in bytes
     private String result;// whole result in string
     private Map<String, ?> dataAsMap;// whole result in Map
 
+    public ModelTensor(
+        String name,
+        Number[] data,
+        long[] shape,
+        MLResultDataType dataType,
+        ByteBuffer byteBuffer,
+        String result,
+        Map<String, ?> dataAsMap
+    ) {
+        this(name, data, null, null, shape, dataType, byteBuffer, result, dataAsMap);
+    }
+
+    /**
+     * @param floatData data of a floating data type as primitive floats, instead of data
+     * @param intData data of an integer or boolean data type as primitive ints, instead of data
+     */
     @Builder
     public ModelTensor(
         String name,
         Number[] data,
+        float[] floatData,
+        int[] intData,
         long[] shape,
         MLResultDataType dataType,
         ByteBuffer byteBuffer,
         String result,
         Map<String, ?> dataAsMap
     ) {
-        if (data != null && (dataType == null || dataType == MLResultDataType.UNKNOWN)) {
+        if ((data != null || floatData != null || intData != null) && (dataType == null || dataType == MLResultDataType.UNKNOWN)) {
             throw new IllegalArgumentException("data type is null");
         }
+        if (floatData != null && !dataType.isFloating()) {
+            throw new IllegalArgumentException("float data requires a floating data type");
+        }
+        if (intData != null && !dataType.isInteger() && !dataType.isBoolean()) {
+            throw new IllegalArgumentException("int data requires an integer or boolean data type");
+        }
         this.name = name;
         this.data = data;
+        this.floatData = data == null ? floatData : null;
+        this.intData = data == null && floatData == null ? intData : null;
         this.shape = shape;
         this.dataType = dataType;
         this.byteBuffer = byteBuffer;
@@ -78,6 +117,35 @@ public class ModelTensor implements Writeable, ToXContentObject {
         this.result = result;
     }
 
+    /**
+     * Boxes the primitive data on first access, reading embeddings which are only written to the response doesn't box them.
+     * @return data as numbers
+     */
+    public Number[] getData() {
+        if (data == null) {
+            if (floatData != null) {
+                Number[] boxed = new Number[floatData.length];
+                for (int i = 0; i < floatData.length; i++) {
+                    boxed[i] = floatData[i];
+                }
+                data = boxed;
+            } else if (intData != null) {
+                Number[] boxed = new Number[intData.length];
+                for (int i = 0; i < intData.length; i++) {
+                    boxed[i] = intData[i];
+                }
+                data = boxed;
+            }
+        }
+        return data;
+    }
+
+    public void setData(Number[] data) {
+        this.data = data;
+        this.floatData = null;
+        this.intData = null;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, ToXContent.Params params) throws IOException {
         builder.startObject();
@@ -92,6 +160,10 @@ public class ModelTensor implements Writeable, ToXContentObject {
         }
         if (data != null) {
             builder.field(DATA_FIELD, data);
+        } else if (floatData != null) {
+            builder.array(DATA_FIELD, floatData);
+        } else if (intData != null) {
+            builder.array(DATA_FIELD, intData);
         }
         if (byteBuffer != null) {
             builder.startObject(BYTE_BUFFER_FIELD);
@@ -203,17 +275,12 @@ public class ModelTensor implements Writeable, ToXContentObject {
         }
         if (in.readBoolean()) {
             int size = in.readInt();
-            data = new Number[size];
             if (dataType.isFloating()) {
-                for (int i = 0; i < size; i++) {
-                    data[i] = in.readFloat();
-                }
+                floatData = new float[size];
+                readValues(in, size, (buffer, offset, length) -> buffer.asFloatBuffer().get(floatData, offset, length));
             } else if (dataType.isInteger() || dataType.isBoolean()) {
-                for (int i = 0; i < size; i++) {
-                    data[i] = in.readInt();
-                }
-            } else {
-                data = null;
+                intData = new int[size];
+                readValues(in, size, (buffer, offset, length) -> buffer.asIntBuffer().get(intData, offset, length));
             }
         }
         if (in.readBoolean()) {
@@ -253,17 +320,14 @@ public class ModelTensor implements Writeable, ToXContentObject {
         } else {
             out.writeBoolean(false);
         }
-        if (data != null && dataType != null && dataType != MLResultDataType.UNKNOWN) {
+        int size = data != null ? data.length : floatData != null ? floatData.length : intData != null ? intData.length : -1;
+        if (size >= 0 && dataType != null && dataType != MLResultDataType.UNKNOWN) {
             out.writeBoolean(true);
-            out.writeInt(data.length);
+            out.writeInt(size);
             if (dataType.isFloating()) {
-                for (Number n : data) {
-                    out.writeFloat(n.floatValue());
-                }
+                writeValues(out, size, i -> Float.floatToIntBits(floatValue(i)));
             } else if (dataType.isInteger() || dataType.isBoolean()) {
-                for (Number n : data) {
-                    out.writeInt(n.intValue());
-                }
+                writeValues(out, size, this::intValue);
             }
         } else {
             out.writeBoolean(false);
@@ -291,6 +355,51 @@ public class ModelTensor implements Writeable, ToXContentObject {
         }
     }
 
+    private float floatValue(int index) {
+        if (data != null) {
+            return data[index].floatValue();
+        }
+        return floatData != null ? floatData[index] : intData[index];
+    }
+
+    private int intValue(int index) {
+        if (data != null) {
+            return data[index].intValue();
+        }
+        return intData != null ? intData[index] : (int) floatData[index];
+    }
+
+    /**
+     * Writes 4 byte values in chunks, with the same big endian layout as writing them one by one with StreamOutput#writeInt.
+     */
+    private static void writeValues(StreamOutput out, int size, IntUnaryOperator valueBits) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Math.min(size, STREAM_CHUNK_SIZE) * Integer.BYTES);
+        for (int i = 0; i < size; i++) {
+            buffer.putInt(valueBits.applyAsInt(i));
+            if (!buffer.hasRemaining()) {
+                out.writeBytes(buffer.array(), 0, buffer.position());
+                buffer.clear();
+            }
+        }
+        if (buffer.position() > 0) {
+            out.writeBytes(buffer.array(), 0, buffer.position());
+        }
+    }
+
+    private static void readValues(StreamInput in, int size, ChunkReader reader) throws IOException {
+        byte[] bytes = new byte[Math.min(size, STREAM_CHUNK_SIZE) * Integer.BYTES];
+        for (int offset = 0; offset < size; offset += STREAM_CHUNK_SIZE) {
+            int length = Math.min(size - offset, STREAM_CHUNK_SIZE);
+            in.readBytes(bytes, 0, length * Integer.BYTES);
+            reader.read(ByteBuffer.wrap(bytes, 0, length * Integer.BYTES), offset, length);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkReader {
+        void read(ByteBuffer buffer, int offset, int length);
+    }
+
     @Override
     public String toString() {
         try {
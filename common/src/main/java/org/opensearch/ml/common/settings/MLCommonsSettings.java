@@ -34,6 +34,16 @@ public final class MLCommonsSettings {
             Setting.Property.NodeScope,
             Setting.Property.Dynamic
         );
+    // How long the node load table used by the least_load dispatch policy is reused before it's refreshed, 0 fetches node stats per request
+    public static final Setting<Integer> ML_COMMONS_TASK_DISPATCH_LOAD_REFRESH_INTERVAL_IN_MILLIS = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "task_dispatch_load_refresh_interval_in_millis",
+            1000,
+            0,
+            60000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
 
     public static final Setting<Integer> ML_COMMONS_MAX_MODELS_PER_NODE = Setting
         .intSetting(ML_PLUGIN_SETTING_PREFIX + "max_model_on_node", 10, 0, 10000, Setting.Property.NodeScope, Setting.Property.Dynamic);
@@ -76,6 +86,79 @@ public final class MLCommonsSettings {
             Setting.Property.NodeScope,
             Setting.Property.Dynamic
         );
+    // Max number of concurrent bulk requests of one batch ingestion task, shared by all of its sources.
+    public static final Setting<Integer> ML_COMMONS_BATCH_INGESTION_MAX_IN_FLIGHT_BULKS = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "batch_ingestion_max_in_flight_bulks",
+            4,
+            1,
+            100,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    // Max number of documents from concurrent predict requests coalesced into one local model forward pass. 1 disables batching.
+    // Applied to local text embedding models when they are deployed.
+    public static final Setting<Integer> ML_COMMONS_LOCAL_MODEL_PREDICT_BATCH_SIZE = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "local_model_predict_batch_size",
+            1,
+            1,
+            1024,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Max time a local model predict batch waits to fill up before it runs.
+    public static final Setting<Integer> ML_COMMONS_LOCAL_MODEL_PREDICT_BATCH_WAIT_TIME_IN_MILLIS = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "local_model_predict_batch_wait_time_in_millis",
+            5,
+            0,
+            1000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Disk space for verified model zip files kept on the node across deploy and undeploy, keyed by model content hash. 0 disables it.
+    public static final Setting<Integer> ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE_IN_MB = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "model_artifact_cache_size_in_mb",
+            2048,
+            0,
+            Integer.MAX_VALUE,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Heap for trained models (e.g. KMeans, RCF) deserialized by predict requests which pass the model instead of deploying it,
+    // measured by the size of the serialized model content. 0 disables it.
+    public static final Setting<Integer> ML_COMMONS_DESERIALIZED_MODEL_CACHE_SIZE_IN_MB = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "deserialized_model_cache_size_in_mb",
+            256,
+            0,
+            Integer.MAX_VALUE,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Heap for the prediction results of each deployed model which enables the result cache with "result_cache_ttl_minutes" in
+    // its deploy setting, measured by the size of the serialized results. 0 disables the result cache of all models.
+    public static final Setting<Integer> ML_COMMONS_INFERENCE_RESULT_CACHE_SIZE_IN_MB = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "inference_result_cache_size_in_mb",
+            32,
+            0,
+            Integer.MAX_VALUE,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Max threads scoring the rows of one batch RCF request which doesn't update the forest, including the request's own thread.
+    // Helper threads are taken from the ML train or predict thread pool. 1 scores on the request's thread only.
+    public static final Setting<Integer> ML_COMMONS_RCF_SCORING_THREADS = Setting
+        .intSetting(ML_PLUGIN_SETTING_PREFIX + "rcf_scoring_threads", 1, 1, 64, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
     public static final Setting<Integer> ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE = Setting
         .intSetting(
             ML_PLUGIN_SETTING_PREFIX + "max_deploy_model_tasks_per_node",
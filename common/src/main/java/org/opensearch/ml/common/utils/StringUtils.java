@@ -40,7 +40,10 @@ import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadFeature;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -112,6 +115,11 @@ public class StringUtils {
     }
     public static final String TO_STRING_FUNCTION_NAME = ".toString()";
 
+    private static final JsonFactory STRICT_JSON_FACTORY = JsonFactory
+        .builder()
+        .enable(StreamReadFeature.STRICT_DUPLICATE_DETECTION)
+        .build();
+
     public static final ObjectMapper MAPPER = new ObjectMapper()
         .configure(com.fasterxml.jackson.core.JsonParser.Feature.STRICT_DUPLICATE_DETECTION, true)
         .configure(DeserializationFeature.FAIL_ON_READING_DUP_TREE_KEY, true);
@@ -137,7 +145,20 @@ public class StringUtils {
         if (json == null || json.isBlank()) {
             return false;
         }
+        // Both JSONObject and JSONArray only skip characters up to space before the opening bracket,
+        // so anything else can be rejected without parsing.
+        char first = firstNonWhitespaceChar(json);
+        if (first != '{' && first != '[') {
+            return false;
+        }
+        if (isStrictJsonObjectOrArray(json)) {
+            return true;
+        }
+        // Keep accepting the lenient forms like "[abc]" which strict JSON rejects.
+        return isLenientJson(json);
+    }
 
+    private static boolean isLenientJson(String json) {
         try {
             if (!isValidJsonString(json)) {
                 return false;
@@ -150,6 +171,34 @@ public class StringUtils {
         }
     }
 
+    /**
+     * Scans the string as a stream of JSON tokens without building any object, and stops at the first error.
+     * @param json the string to validate
+     * @return true if the string is exactly one strict JSON object or array without duplicate keys
+     */
+    private static boolean isStrictJsonObjectOrArray(String json) {
+        try (com.fasterxml.jackson.core.JsonParser parser = STRICT_JSON_FACTORY.createParser(json)) {
+            JsonToken token = parser.nextToken();
+            if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+                return false;
+            }
+            parser.skipChildren();
+            return parser.nextToken() == null;
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static char firstNonWhitespaceChar(String json) {
+        for (int i = 0; i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (c > ' ') {
+                return c;
+            }
+        }
+        return 0;
+    }
+
     /**
      * Checks if the given string is valid JSON or NDJSON (newline-delimited JSON).
      * NDJSON is commonly used for bulk operations in OpenSearch where each line is a separate JSON object.
@@ -167,15 +216,18 @@ public class StringUtils {
             return true;
         }
 
-        // Check if it's NDJSON (newline-delimited JSON)
-        String[] lines = json.split("\\r?\\n");
-
-        // Each non-empty line must be valid JSON
-        for (String line : lines) {
-            String trimmedLine = line.trim();
+        // Check if it's NDJSON (newline-delimited JSON), each non-empty line must be valid JSON
+        int lineStart = 0;
+        while (lineStart <= json.length()) {
+            int lineEnd = json.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                lineEnd = json.length();
+            }
+            String trimmedLine = json.substring(lineStart, lineEnd).trim();
             if (!trimmedLine.isEmpty() && !isJson(trimmedLine)) {
                 return false;
             }
+            lineStart = lineEnd + 1;
         }
 
         return true;
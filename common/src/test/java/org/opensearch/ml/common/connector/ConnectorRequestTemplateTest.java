@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.text.StringSubstitutor;
+import org.junit.Test;
+
+public class ConnectorRequestTemplateTest {
+
+    @Test
+    public void render_SameAsSubstitutor() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("model", "text-embedding-3");
+        parameters.put("input", "[\"hello\",\"world\"]");
+        parameters.put("prompt", "Say \\\"hi\\\"");
+
+        assertRenderedLikeSubstitutor("{\"model\": \"${parameters.model}\", \"input\": ${parameters.input}}", parameters);
+        assertRenderedLikeSubstitutor("{\"prompt\": \"${parameters.prompt}\", \"max\": ${parameters.max_tokens:-100}}", parameters);
+        assertRenderedLikeSubstitutor("{\"missing\": \"${parameters.missing}\"}", parameters);
+        assertRenderedLikeSubstitutor("${parameters.model}${parameters.model}", parameters);
+        assertRenderedLikeSubstitutor("{\"empty\": \"${parameters.empty:-}\"}", parameters);
+        assertRenderedLikeSubstitutor("{\"no_placeholder\": true}", parameters);
+        assertRenderedLikeSubstitutor("{\"unterminated\": \"${parameters.model", parameters);
+    }
+
+    @Test
+    public void render_QuotedNullDefault() {
+        ConnectorRequestTemplate template = ConnectorRequestTemplate.compile("{\"user\": \"${parameters.user:-null}\", \"x\": 1}");
+        assertNotNull(template);
+        assertEquals("{\"user\": null, \"x\": 1}", template.render(new HashMap<>()));
+
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("user", null);
+        assertEquals("{\"user\": null, \"x\": 1}", template.render(parameters));
+
+        parameters.put("user", "bob");
+        assertEquals("{\"user\": \"bob\", \"x\": 1}", template.render(parameters));
+    }
+
+    @Test
+    public void render_UnquotedNullDefault() {
+        ConnectorRequestTemplate template = ConnectorRequestTemplate.compile("{\"user\": ${parameters.user:-null}}");
+        assertEquals("{\"user\": null}", template.render(new HashMap<>()));
+    }
+
+    @Test
+    public void render_RecursivePlaceholderInValue_FallsBack() {
+        ConnectorRequestTemplate template = ConnectorRequestTemplate.compile("{\"prompt\": \"${parameters.prompt}\"}");
+        Map<String, String> parameters = Map.of("prompt", "You are a ${parameters.role}", "role", "helper");
+        assertNull(template.render(parameters));
+    }
+
+    @Test
+    public void compile_NotCompilable() {
+        assertNull(ConnectorRequestTemplate.compile(null));
+        assertNull(ConnectorRequestTemplate.compile("{\"escaped\": \"$${parameters.model}\"}"));
+        assertNull(ConnectorRequestTemplate.compile("{\"nested\": \"${parameters.a:-${parameters.b}}\"}"));
+    }
+
+    private void assertRenderedLikeSubstitutor(String body, Map<String, String> parameters) {
+        ConnectorRequestTemplate template = ConnectorRequestTemplate.compile(body);
+        assertNotNull(template);
+        String expected = new StringSubstitutor(parameters, ConnectorRequestTemplate.PARAMETER_PREFIX, "}").replace(body);
+        assertEquals(expected, template.render(parameters));
+    }
+}
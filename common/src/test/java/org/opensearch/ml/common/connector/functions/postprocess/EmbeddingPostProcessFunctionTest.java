@@ -53,12 +53,12 @@ public class EmbeddingPostProcessFunctionTest {
         List<ModelTensor> result = function.apply(List.of(List.of(1.1, 1.2, 1.3), List.of(2.1, 2.2, 2.3)), null);
         assertEquals(2, result.size());
         assertEquals(3, result.get(0).getData().length);
-        assertEquals(1.1, result.get(0).getData()[0]);
-        assertEquals(1.2, result.get(0).getData()[1]);
-        assertEquals(1.3, result.get(0).getData()[2]);
+        assertEquals(1.1f, result.get(0).getData()[0]);
+        assertEquals(1.2f, result.get(0).getData()[1]);
+        assertEquals(1.3f, result.get(0).getData()[2]);
         assertEquals(3, result.get(1).getData().length);
-        assertEquals(2.1, result.get(1).getData()[0]);
-        assertEquals(2.2, result.get(1).getData()[1]);
-        assertEquals(2.3, result.get(1).getData()[2]);
+        assertEquals(2.1f, result.get(1).getData()[0]);
+        assertEquals(2.2f, result.get(1).getData()[1]);
+        assertEquals(2.3f, result.get(1).getData()[2]);
     }
 }
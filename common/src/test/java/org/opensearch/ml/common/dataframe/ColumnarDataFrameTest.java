@@ -0,0 +1,183 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.dataframe;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.common.CommonValue;
+import org.opensearch.ml.common.TestHelper;
+
+public class ColumnarDataFrameTest {
+
+    ColumnarDataFrame columnarDataFrame;
+
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    @Before
+    public void setUp() {
+        ColumnMeta[] columnMetas = new ColumnMeta[] {
+            ColumnMeta.builder().name("c1").columnType(ColumnType.INTEGER).build(),
+            ColumnMeta.builder().name("c2").columnType(ColumnType.DOUBLE).build(),
+            ColumnMeta.builder().name("c3").columnType(ColumnType.LONG).build(),
+            ColumnMeta.builder().name("c4").columnType(ColumnType.BOOLEAN).build() };
+        columnarDataFrame = new ColumnarDataFrame(columnMetas, 0);
+        for (int i = 0; i < 100; i++) {
+            columnarDataFrame.appendRow(new Object[] { i, i * 0.5D, (long) i * 2, i % 2 == 0 });
+        }
+    }
+
+    @Test
+    public void appendRow_Success() {
+        assertEquals(100, columnarDataFrame.size());
+        Row row = columnarDataFrame.getRow(7);
+        assertEquals(7, row.getValue(0).intValue());
+        assertEquals(3.5D, row.getValue(1).doubleValue(), 0);
+        assertEquals(14L, row.getValue(2).longValue());
+        assertFalse(row.getValue(3).booleanValue());
+        assertEquals(3.5D, columnarDataFrame.getDouble(7, 1), 0);
+
+        int count = 0;
+        for (Row ignored : columnarDataFrame) {
+            count++;
+        }
+        assertEquals(100, count);
+    }
+
+    @Test
+    public void appendRow_Exception_DifferentColumnType() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("the column type is different in column meta:INTEGER and input row:STRING for index: 0");
+        columnarDataFrame.appendRow(new Object[] { "string", 1D, 1L, true });
+    }
+
+    @Test
+    public void appendRow_Exception_NullValue() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("the column type is different in column meta:DOUBLE and input row:NULL for index: 1");
+        columnarDataFrame.appendRow(new Object[] { 1, null, 1L, true });
+    }
+
+    @Test
+    public void constructor_Exception_StringColumn() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("unsupported column type for columnar data frame:STRING");
+        new ColumnarDataFrame(new ColumnMeta[] { ColumnMeta.builder().name("c1").columnType(ColumnType.STRING).build() });
+    }
+
+    @Test
+    public void getRowAsDoubles_Success() {
+        DataFrame features = columnarDataFrame.select(new int[] { 0, 1, 2 });
+        assertArrayEquals(new double[] { 9, 4.5, 18 }, features.getRowAsDoubles(9), 0);
+    }
+
+    @Test
+    public void select_SharesColumnsAndCopiesOnAppend() {
+        DataFrame dataFrame = columnarDataFrame.select(new int[] { 1, 0 });
+        assertEquals(100, dataFrame.size());
+        assertEquals("c2", dataFrame.columnMetas()[0].getName());
+        assertEquals(3, dataFrame.getRow(3).getValue(1).intValue());
+
+        dataFrame.appendRow(new Object[] { -1D, -1 });
+        columnarDataFrame.appendRow(new Object[] { 100, 50D, 200L, true });
+        assertEquals(101, dataFrame.size());
+        assertEquals(-1, dataFrame.getRow(100).getValue(1).intValue());
+        assertEquals(100, columnarDataFrame.getRow(100).getValue(0).intValue());
+    }
+
+    @Test
+    public void remove_Success() {
+        DataFrame dataFrame = columnarDataFrame.remove(1);
+        assertEquals(3, dataFrame.columnMetas().length);
+        assertEquals("c3", dataFrame.columnMetas()[1].getName());
+        assertEquals(10L, dataFrame.getRow(5).getValue(1).longValue());
+    }
+
+    @Test
+    public void remove_Exception_InvalidColumnIndex() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("columnIndex can't be negative or bigger than columns length:4");
+        columnarDataFrame.remove(4);
+    }
+
+    @Test
+    public void getColumnIndex_Success() {
+        assertEquals(2, columnarDataFrame.getColumnIndex("c3"));
+    }
+
+    @Test
+    public void writeTo_Success() throws IOException {
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        columnarDataFrame.writeTo(bytesStreamOutput);
+        DataFrame dataFrame = DataFrameBuilder.load(bytesStreamOutput.bytes().streamInput());
+
+        assertTrue(dataFrame instanceof ColumnarDataFrame);
+        assertEquals(100, dataFrame.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(columnarDataFrame.getRow(i), dataFrame.getRow(i));
+        }
+    }
+
+    @Test
+    public void writeTo_OlderVersion_RowBased() throws IOException {
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        bytesStreamOutput.setVersion(CommonValue.VERSION_3_4_0);
+        columnarDataFrame.writeTo(bytesStreamOutput);
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        streamInput.setVersion(CommonValue.VERSION_3_4_0);
+        assertEquals(DataFrameType.DEFAULT, streamInput.readEnum(DataFrameType.class));
+        DefaultDataFrame dataFrame = new DefaultDataFrame(streamInput);
+
+        assertEquals(100, dataFrame.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(columnarDataFrame.getRow(i), dataFrame.getRow(i));
+        }
+    }
+
+    @Test
+    public void toXContent_SameAsDefaultDataFrame() throws IOException {
+        List<Row> rows = new ArrayList<>();
+        columnarDataFrame.forEach(rows::add);
+        DefaultDataFrame defaultDataFrame = new DefaultDataFrame(columnarDataFrame.columnMetas(), rows);
+
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        builder.startObject();
+        columnarDataFrame.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        builder.endObject();
+        XContentBuilder defaultBuilder = XContentBuilder.builder(XContentType.JSON.xContent());
+        defaultBuilder.startObject();
+        defaultDataFrame.toXContent(defaultBuilder);
+        defaultBuilder.endObject();
+
+        assertEquals(TestHelper.xContentBuilderToString(defaultBuilder), TestHelper.xContentBuilderToString(builder));
+    }
+
+    @Test
+    public void dataFrameBuilder_ColumnarForNumericData() {
+        DataFrame numeric = DataFrameBuilder.load(List.of(Map.of("k1", 1.5D, "k2", 2)));
+        assertEquals(DataFrameType.COLUMNAR, ((AbstractDataFrame) numeric).getDataFrameType());
+
+        DataFrame withString = DataFrameBuilder.load(List.of(Map.of("k1", 1.5D, "k2", "string")));
+        assertEquals(DataFrameType.DEFAULT, ((AbstractDataFrame) withString).getDataFrameType());
+    }
+}
@@ -117,6 +117,21 @@ public class MLDeployingSettingTests {
         });
     }
 
+    @Test
+    public void parseAndReadResultCacheTTL() throws Exception {
+        final String inputStr = "{\"model_ttl_minutes\":-1,\"result_cache_ttl_minutes\":10}";
+
+        testParseFromJsonString(inputStr, parsedInput -> {
+            assertEquals(10L, parsedInput.getResultCacheTTLInMinutes().longValue());
+            try {
+                assertEquals(inputStr, serializationWithToXContent(parsedInput));
+                readInputStream(parsedInput, readInput -> assertEquals(10L, readInput.getResultCacheTTLInMinutes().longValue()));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
     private void testParseFromJsonString(String expectedInputStr, Consumer<MLDeploySetting> verify) throws Exception {
         XContentParser parser = XContentType.JSON
             .xContent()
@@ -5,7 +5,9 @@
 
 package org.opensearch.ml.common.output.model;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.spy;
@@ -126,6 +128,71 @@ public class ModelTensorTest {
             .build();
     }
 
+    @Test
+    public void test_StreamInAndOut_FloatData() throws IOException {
+        float[] values = new float[5000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i / 7f;
+        }
+        ModelTensor tensor = ModelTensor.builder().name("sentence_embedding").floatData(values).dataType(MLResultDataType.FLOAT32).build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        tensor.writeTo(bytesStreamOutput);
+
+        ModelTensor parsedTensor = new ModelTensor(bytesStreamOutput.bytes().streamInput());
+        assertArrayEquals(values, parsedTensor.getFloatData(), 0);
+        assertEquals(tensor, parsedTensor);
+        assertEquals(Float.valueOf(values[4999]), parsedTensor.getData()[4999]);
+    }
+
+    @Test
+    public void test_StreamOut_SameBytesAsBoxedData() throws IOException {
+        Number[] boxed = new Number[] { 0.5f, -1.25f, 3f };
+        BytesStreamOutput boxedOutput = new BytesStreamOutput();
+        ModelTensor.builder().data(boxed).dataType(MLResultDataType.FLOAT32).build().writeTo(boxedOutput);
+        BytesStreamOutput primitiveOutput = new BytesStreamOutput();
+        ModelTensor
+            .builder()
+            .floatData(new float[] { 0.5f, -1.25f, 3f })
+            .dataType(MLResultDataType.FLOAT32)
+            .build()
+            .writeTo(primitiveOutput);
+        assertEquals(boxedOutput.bytes(), primitiveOutput.bytes());
+
+        // values written one by one, as by nodes which don't encode data in bulk
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.writeOptionalString(null);
+        output.writeBoolean(true);
+        output.writeEnum(MLResultDataType.FLOAT32);
+        output.writeBoolean(false);
+        output.writeBoolean(true);
+        output.writeInt(boxed.length);
+        for (Number value : boxed) {
+            output.writeFloat(value.floatValue());
+        }
+        output.writeBoolean(false);
+        output.writeOptionalString(null);
+        output.writeBoolean(false);
+        assertEquals(output.bytes(), boxedOutput.bytes());
+    }
+
+    @Test
+    public void test_ToXContent_IntData() throws IOException {
+        ModelTensor tensor = ModelTensor.builder().intData(new int[] { 1, 2, 3 }).dataType(MLResultDataType.INT32).build();
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        tensor.toXContent(builder, EMPTY_PARAMS);
+        assertEquals("{\"data_type\":\"INT32\",\"data\":[1,2,3]}", TestHelper.xContentBuilderToString(builder));
+
+        tensor.setData(null);
+        assertNull(tensor.getData());
+    }
+
+    @Test
+    public void test_FloatDataWithIntegerDataType() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("float data requires a floating data type");
+        ModelTensor.builder().floatData(new float[] { 1 }).dataType(MLResultDataType.INT32).build();
+    }
+
     @Test
     public void test_ToString() {
         String result = modelTensor.toString();
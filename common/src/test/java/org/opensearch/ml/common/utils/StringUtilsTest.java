@@ -80,6 +80,30 @@ public class StringUtilsTest {
         assertFalse(StringUtils.isJson("[abc\n123]"));
     }
 
+    @Test
+    public void isJson_LeadingWhitespaceAndNesting() {
+        assertTrue(StringUtils.isJson("  \n\t{\"a\": {\"b\": [1, 2, {\"c\": null}]}}"));
+        assertTrue(StringUtils.isJson("[{\"a\": 1}, {\"a\": 2}]"));
+        assertFalse(StringUtils.isJson("{\"a\": {\"b\": 1, \"b\": 2}}"));
+        assertFalse(StringUtils.isJson("\"just a string\""));
+        assertFalse(StringUtils.isJson("123"));
+        assertFalse(StringUtils.isJson("plain text {\"a\": 1}"));
+    }
+
+    @Test
+    public void isJson_LargeInput() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < 10000; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"id\": ").append(i).append(", \"text\": \"passage ").append(i).append("\"}");
+        }
+        String json = builder.append(']').toString();
+        assertTrue(StringUtils.isJson(json));
+        assertFalse(StringUtils.isJson(json.substring(0, json.length() - 1)));
+    }
+
     @Test
     public void isJsonOrNdjson_NullInput() {
         assertFalse(StringUtils.isJsonOrNdjson(null));
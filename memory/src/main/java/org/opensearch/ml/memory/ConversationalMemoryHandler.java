@@ -159,6 +159,14 @@ public interface ConversationalMemoryHandler {
      */
     public ActionFuture<String> createInteraction(InteractionBuilder builder);
 
+    /**
+     * Adds a batch of interactions, e.g. the traces of an agent run, to a conversation with one bulk request
+     * @param conversationId the conversation to add the interactions to
+     * @param interactions the interactions to add, their ids and conversation ids are ignored
+     * @param listener gets the ids of the new interactions, in the order of the interactions
+     */
+    public void createInteractions(String conversationId, List<Interaction> interactions, ActionListener<List<String>> listener);
+
     /**
      * Get the interactions associate with this conversation, sorted by recency
      * @param conversationId the conversation whose interactions to get
@@ -21,11 +21,16 @@ import static org.opensearch.ml.common.conversation.ConversationalIndexConstants
 import static org.opensearch.ml.common.utils.IndexUtils.DEFAULT_INDEX_SETTINGS;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.OpenSearchWrapperException;
@@ -64,6 +69,10 @@ import org.opensearch.search.sort.SortOrder;
 import org.opensearch.transport.client.Client;
 import org.opensearch.transport.client.Requests;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
@@ -73,9 +82,19 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 @AllArgsConstructor
 public class ConversationMetaIndex {
+    private static final Duration ACCESS_CACHE_TTL = Duration.ofSeconds(30);
+    private static final long ACCESS_CACHE_MAX_SIZE = 10_000;
 
     private Client client;
     private ClusterService clusterService;
+    // Conversations created by this node which may not be searchable yet, by user name
+    private final RecentWritesBuffer<ConversationMeta> recentWrites = new RecentWritesBuffer<>();
+    // Access decisions by conversation id and user name, every message and trace write checks access
+    private final Cache<String, Boolean> accessCache = CacheBuilder
+        .newBuilder()
+        .expireAfterWrite(ACCESS_CACHE_TTL)
+        .maximumSize(ACCESS_CACHE_MAX_SIZE)
+        .build();
 
     private String getUserStrFromThreadContext() {
         return client.threadPool().getThreadContext().getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
@@ -162,6 +181,7 @@ public class ConversationMetaIndex {
                     ActionListener<String> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
                     ActionListener<IndexResponse> al = ActionListener.wrap(resp -> {
                         if (resp.status() == RestStatus.CREATED) {
+                            addRecentWrite(userStr, resp.getId(), sourceMap, now);
                             internalListener.onResponse(resp.getId());
                             log.info("Successfully created the memory with id : {}", resp.getId());
                         } else {
@@ -218,7 +238,14 @@ public class ConversationMetaIndex {
         else
             queryBuilder = new TermQueryBuilder(ConversationalIndexConstants.USER_FIELD, User.parse(userStr).getName());
         request.source().query(queryBuilder);
-        request.source().from(from).size(maxResults);
+        String group = getUserName(userStr);
+        List<ConversationMeta> buffered = recentWrites.get(group);
+        if (buffered.isEmpty()) {
+            request.source().from(from).size(maxResults);
+        } else {
+            // search from the start so the requested page can be cut out after merging the buffered conversations
+            request.source().from(0).size((int) Math.min((long) from + maxResults, Integer.MAX_VALUE));
+        }
         request.source().sort(ConversationalIndexConstants.META_UPDATED_TIME_FIELD, SortOrder.DESC);
         try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
             ActionListener<List<ConversationMeta>> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
@@ -227,18 +254,14 @@ public class ConversationMetaIndex {
                 for (SearchHit hit : searchResponse.getHits()) {
                     result.add(ConversationMeta.fromSearchHit(hit));
                 }
+                result = mergeRecentWrites(group, result, buffered, from, maxResults);
                 internalListener.onResponse(result);
                 log.info("Successfully retrieved memories");
             }, e -> {
                 log.error("Failed to retrieve memories", e);
                 internalListener.onFailure(e);
             });
-            client.admin().indices().refresh(Requests.refreshRequest(META_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
-                client.search(request, al);
-            }, e -> {
-                log.error("Failed to retrieve memories during refresh", e);
-                internalListener.onFailure(e);
-            }));
+            client.search(request, al);
         } catch (Exception e) {
             log.error("Failed to retrieve memories", e);
             listener.onFailure(e);
@@ -273,6 +296,8 @@ public class ConversationMetaIndex {
                     ActionListener<Boolean> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
                     // When we get the delete response, do this:
                     ActionListener<DeleteResponse> al = ActionListener.wrap(deleteResponse -> {
+                        recentWrites.confirm(getUserName(userStr), List.of(conversationId));
+                        invalidateAccess(conversationId);
                         if (deleteResponse.getResult() == Result.DELETED) {
                             internalListener.onResponse(true);
                         } else if (deleteResponse.status() == RestStatus.NOT_FOUND) {
@@ -310,6 +335,12 @@ public class ConversationMetaIndex {
             return;
         }
         String userStr = getUserStrFromThreadContext();
+        String accessKey = getAccessKey(conversationId, userStr);
+        Boolean cachedAccess = accessCache.getIfPresent(accessKey);
+        if (cachedAccess != null) {
+            listener.onResponse(cachedAccess);
+            return;
+        }
         try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
             ActionListener<Boolean> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
             GetRequest getRequest = Requests.getRequest(META_INDEX_NAME).id(conversationId);
@@ -320,6 +351,7 @@ public class ConversationMetaIndex {
                 }
                 // If security is off - User doesn't exist - you have permission
                 if (userStr == null || User.parse(userStr) == null) {
+                    accessCache.put(accessKey, true);
                     internalListener.onResponse(true);
                     return;
                 }
@@ -327,17 +359,15 @@ public class ConversationMetaIndex {
                 String user = User.parse(userStr).getName();
                 // If you're not the owner of this conversation, you do not have permission
                 if (!user.equals(conversation.getUser())) {
+                    accessCache.put(accessKey, false);
                     internalListener.onResponse(false);
                     return;
                 }
+                accessCache.put(accessKey, true);
                 internalListener.onResponse(true);
             }, e -> { internalListener.onFailure(e); });
-            client.admin().indices().refresh(Requests.refreshRequest(META_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
-                client.get(getRequest, al);
-            }, e -> {
-                log.error("Failed to refresh memory index during check access ", e);
-                internalListener.onFailure(e);
-            }));
+            // get is realtime, no refresh needed to see a conversation which was just created
+            client.get(getRequest, al);
         } catch (Exception e) {
             listener.onFailure(e);
         }
@@ -387,7 +417,7 @@ public class ConversationMetaIndex {
 
         this.checkAccess(conversationId, ActionListener.wrap(access -> {
             if (access) {
-                innerUpdateConversation(updateRequest, listener);
+                innerUpdateConversation(updateRequest, ActionListener.runAfter(listener, () -> invalidateAccess(conversationId)));
             } else {
                 String userStr = client
                     .threadPool()
@@ -463,4 +493,64 @@ public class ConversationMetaIndex {
             listener.onFailure(e);
         }
     }
+
+    @VisibleForTesting
+    RecentWritesBuffer<ConversationMeta> getRecentWrites() {
+        return recentWrites;
+    }
+
+    /**
+     * Drop the cached access decisions of a conversation, e.g. after it was deleted or updated
+     * @param conversationId id of the conversation
+     */
+    public void invalidateAccess(String conversationId) {
+        String prefix = conversationId + '\u0000';
+        accessCache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private String getAccessKey(String conversationId, String userStr) {
+        return conversationId + '\u0000' + getUserName(userStr);
+    }
+
+    private String getUserName(String userStr) {
+        User user = User.parse(userStr);
+        return user == null ? "" : user.getName();
+    }
+
+    private void addRecentWrite(String userStr, String conversationId, Map<String, Object> sourceMap, Instant timestamp) {
+        Map<String, Object> fields = new HashMap<>(sourceMap);
+        fields.put(ConversationalIndexConstants.META_CREATED_TIME_FIELD, timestamp.toString());
+        fields.put(ConversationalIndexConstants.META_UPDATED_TIME_FIELD, timestamp.toString());
+        recentWrites.add(getUserName(userStr), conversationId, ConversationMeta.fromMap(conversationId, fields));
+    }
+
+    /**
+     * Merge buffered conversations which the search didn't return yet into the search hits and cut out the requested page.
+     * Search hits win over buffered conversations, updates of conversations are refreshed immediately.
+     */
+    private List<ConversationMeta> mergeRecentWrites(
+        String group,
+        List<ConversationMeta> hits,
+        List<ConversationMeta> buffered,
+        int from,
+        int maxResults
+    ) {
+        if (buffered.isEmpty()) {
+            return hits;
+        }
+        Set<String> hitIds = new HashSet<>();
+        for (ConversationMeta hit : hits) {
+            hitIds.add(hit.getId());
+        }
+        recentWrites.confirm(group, hitIds);
+        List<ConversationMeta> merged = new ArrayList<>(hits);
+        for (ConversationMeta conversation : buffered) {
+            if (!hitIds.contains(conversation.getId())) {
+                merged.add(conversation);
+            }
+        }
+        merged.sort(Comparator.comparing(ConversationMeta::getUpdatedTime).reversed());
+        int end = (int) Math.min((long) from + maxResults, merged.size());
+        return from >= end ? new LinkedList<>() : new LinkedList<>(merged.subList(from, end));
+    }
 }
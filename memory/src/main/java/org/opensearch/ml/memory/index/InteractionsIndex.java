@@ -22,10 +22,15 @@ import static org.opensearch.ml.common.utils.IndexUtils.DEFAULT_INDEX_SETTINGS;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.OpenSearchWrapperException;
@@ -33,15 +38,14 @@ import org.opensearch.ResourceAlreadyExistsException;
 import org.opensearch.ResourceNotFoundException;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
+import org.opensearch.action.bulk.BulkItemResponse;
 import org.opensearch.action.bulk.BulkRequest;
-import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
-import org.opensearch.action.support.WriteRequest;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.cluster.service.ClusterService;
@@ -57,6 +61,9 @@ import org.opensearch.index.query.ExistsQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.index.reindex.BulkByScrollResponse;
+import org.opensearch.index.reindex.DeleteByQueryAction;
+import org.opensearch.index.reindex.DeleteByQueryRequest;
 import org.opensearch.ml.common.conversation.ActionConstants;
 import org.opensearch.ml.common.conversation.ConversationalIndexConstants;
 import org.opensearch.ml.common.conversation.Interaction;
@@ -77,12 +84,16 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 @AllArgsConstructor
 public class InteractionsIndex {
+    private static final Comparator<Interaction> CREATE_TIME_ORDER = Comparator.comparing(Interaction::getCreateTime);
+    private static final Comparator<Interaction> TRACE_NUMBER_ORDER = Comparator.comparing(Interaction::getTraceNum);
 
     private Client client;
     private ClusterService clusterService;
     private ConversationMetaIndex conversationMetaIndex;
     // How big the steps should be when gathering *ALL* interactions in a conversation
     private final int resultsAtATime = 300;
+    // Interactions created by this node which may not be searchable yet, by conversation id
+    private final RecentWritesBuffer<Interaction> recentWrites = new RecentWritesBuffer<>();
 
     /**
      * 'PUT's the index in opensearch if it's not there already
@@ -162,33 +173,23 @@ public class InteractionsIndex {
             if (indexExists) {
                 this.conversationMetaIndex.checkAccess(conversationId, ActionListener.wrap(access -> {
                     if (access) {
-                        Map<String, Object> sourceMap = new HashMap<>();
-                        sourceMap.put(ConversationalIndexConstants.INTERACTIONS_CONVERSATION_ID_FIELD, conversationId);
-                        sourceMap.put(ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD, timestamp);
-                        sourceMap.put(ConversationalIndexConstants.INTERACTIONS_UPDATED_TIME_FIELD, timestamp);
-                        sourceMap.put(ConversationalIndexConstants.PARENT_INTERACTIONS_ID_FIELD, parentId);
-                        sourceMap.put(ConversationalIndexConstants.INTERACTIONS_TRACE_NUMBER_FIELD, traceNumber);
-
-                        if (input != null && !input.trim().isEmpty()) {
-                            sourceMap.put(ConversationalIndexConstants.INTERACTIONS_INPUT_FIELD, input);
-                        }
-                        if (promptTemplate != null && !promptTemplate.trim().isEmpty()) {
-                            sourceMap.put(ConversationalIndexConstants.INTERACTIONS_PROMPT_TEMPLATE_FIELD, promptTemplate);
-                        }
-                        if (response != null && !response.trim().isEmpty()) {
-                            sourceMap.put(ConversationalIndexConstants.INTERACTIONS_RESPONSE_FIELD, response);
-                        }
-                        if (origin != null && !origin.trim().isEmpty()) {
-                            sourceMap.put(ConversationalIndexConstants.INTERACTIONS_ORIGIN_FIELD, origin);
-                        }
-                        if (additionalInfo != null && !additionalInfo.isEmpty()) {
-                            sourceMap.put(ConversationalIndexConstants.INTERACTIONS_ADDITIONAL_INFO_FIELD, additionalInfo);
-                        }
+                        Map<String, Object> sourceMap = toSourceMap(
+                            conversationId,
+                            input,
+                            promptTemplate,
+                            response,
+                            origin,
+                            additionalInfo,
+                            timestamp,
+                            parentId,
+                            traceNumber
+                        );
                         IndexRequest request = Requests.indexRequest(INTERACTIONS_INDEX_NAME).source(sourceMap);
                         try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
                             ActionListener<String> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
                             ActionListener<IndexResponse> al = ActionListener.wrap(resp -> {
                                 if (resp.status() == RestStatus.CREATED) {
+                                    addRecentWrite(resp.getId(), sourceMap);
                                     internalListener.onResponse(resp.getId());
                                     log.info("Successfully created the message with id : {}", resp.getId());
                                 } else {
@@ -258,6 +259,78 @@ public class InteractionsIndex {
         createInteraction(conversationId, input, promptTemplate, response, origin, additionalInfo, Instant.now(), listener, null, null);
     }
 
+    /**
+     * Add a batch of interactions of one conversation, e.g. the traces of an agent run, with one access check and one bulk
+     * request. Return the IDs of the newly created interactions
+     * @param conversationId The id of the conversation the interactions belong to
+     * @param interactions the interactions to add, their ids and conversation ids are ignored
+     * @param listener gets the ids of the newly created interactions, in the order of the interactions
+     */
+    public void createInteractions(String conversationId, List<Interaction> interactions, ActionListener<List<String>> listener) {
+        if (interactions.isEmpty()) {
+            listener.onResponse(List.of());
+            return;
+        }
+        initInteractionsIndexIfAbsent(ActionListener.wrap(indexExists -> {
+            if (!indexExists) {
+                listener.onFailure(new IOException("no index to add memory to"));
+                return;
+            }
+            String userStr = client
+                .threadPool()
+                .getThreadContext()
+                .getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
+            String user = User.parse(userStr) == null ? ActionConstants.DEFAULT_USERNAME_FOR_ERRORS : User.parse(userStr).getName();
+            this.conversationMetaIndex.checkAccess(conversationId, ActionListener.wrap(access -> {
+                if (!access) {
+                    throw new OpenSearchStatusException(
+                        "User [" + user + "] does not have access to memory " + conversationId,
+                        RestStatus.UNAUTHORIZED
+                    );
+                }
+                BulkRequest bulkRequest = Requests.bulkRequest();
+                List<Map<String, Object>> sourceMaps = new ArrayList<>(interactions.size());
+                for (Interaction interaction : interactions) {
+                    Instant timestamp = interaction.getCreateTime() == null ? Instant.now() : interaction.getCreateTime();
+                    Map<String, Object> sourceMap = toSourceMap(
+                        conversationId,
+                        interaction.getInput(),
+                        interaction.getPromptTemplate(),
+                        interaction.getResponse(),
+                        interaction.getOrigin(),
+                        interaction.getAdditionalInfo(),
+                        timestamp,
+                        interaction.getParentInteractionId(),
+                        interaction.getTraceNum()
+                    );
+                    sourceMaps.add(sourceMap);
+                    bulkRequest.add(Requests.indexRequest(INTERACTIONS_INDEX_NAME).source(sourceMap));
+                }
+                try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
+                    ActionListener<List<String>> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
+                    client.bulk(bulkRequest, ActionListener.wrap(bulkResponse -> {
+                        List<String> ids = new ArrayList<>(interactions.size());
+                        BulkItemResponse[] items = bulkResponse.getItems();
+                        for (int i = 0; i < items.length; i++) {
+                            if (!items[i].isFailed()) {
+                                addRecentWrite(items[i].getId(), sourceMaps.get(i));
+                                ids.add(items[i].getId());
+                            }
+                        }
+                        if (bulkResponse.hasFailures()) {
+                            internalListener.onFailure(new IOException("Failed to create messages: " + bulkResponse.buildFailureMessage()));
+                        } else {
+                            internalListener.onResponse(ids);
+                            log.info("Successfully created {} messages in memory {}", ids.size(), conversationId);
+                        }
+                    }, internalListener::onFailure));
+                } catch (Exception e) {
+                    listener.onFailure(e);
+                }
+            }, listener::onFailure));
+        }, listener::onFailure));
+    }
+
     /**
      * Gets a list of interactions belonging to a conversation
      * @param conversationId the conversation to read from
@@ -291,6 +364,7 @@ public class InteractionsIndex {
     @VisibleForTesting
     void innerGetInteractions(String conversationId, int from, int maxResults, ActionListener<List<Interaction>> listener) {
         SearchRequest request = Requests.searchRequest(INTERACTIONS_INDEX_NAME);
+        List<Interaction> buffered = getBufferedInteractions(conversationId, interaction -> interaction.getTraceNum() == null);
 
         // Build the query
         BoolQueryBuilder boolQueryBuilder = QueryBuilders.boolQuery();
@@ -309,7 +383,7 @@ public class InteractionsIndex {
         searchSourceBuilder.query(boolQueryBuilder);
 
         request.source(searchSourceBuilder);
-        request.source().from(from).size(maxResults);
+        setSearchWindow(request, from, maxResults, buffered);
         request.source().sort(ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD, SortOrder.ASC);
         try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
             ActionListener<List<Interaction>> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
@@ -318,18 +392,14 @@ public class InteractionsIndex {
                 for (SearchHit hit : response.getHits()) {
                     result.add(Interaction.fromSearchHit(hit));
                 }
+                result = mergeRecentWrites(conversationId, result, buffered, CREATE_TIME_ORDER, from, maxResults);
                 internalListener.onResponse(result);
                 log.info("Successfully get the messages for memory {}", conversationId);
             }, e -> {
                 internalListener.onFailure(e);
                 log.error("Failed to get the messages for memory {}", conversationId);
             });
-            client
-                .admin()
-                .indices()
-                .refresh(Requests.refreshRequest(INTERACTIONS_INDEX_NAME), ActionListener.wrap(r -> { client.search(request, al); }, e -> {
-                    internalListener.onFailure(e);
-                }));
+            client.search(request, al);
         } catch (Exception e) {
             listener.onFailure(e);
         }
@@ -361,7 +431,7 @@ public class InteractionsIndex {
                 String conversationId = interaction.getConversationId();
                 ActionListener<Boolean> accessListener = ActionListener.wrap(access -> {
                     if (access) {
-                        innerGetTraces(interactionId, from, maxResults, listener);
+                        innerGetTraces(conversationId, interactionId, from, maxResults, listener);
                     } else {
                         String userStr = client
                             .threadPool()
@@ -378,12 +448,8 @@ public class InteractionsIndex {
                 }, e -> { listener.onFailure(e); });
                 conversationMetaIndex.checkAccess(conversationId, accessListener);
             }, e -> { internalListener.onFailure(e); });
-            client.admin().indices().refresh(Requests.refreshRequest(INTERACTIONS_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
-                client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
-            }, e -> {
-                log.error("Failed to refresh message index during get message ", e);
-                internalListener.onFailure(e);
-            }));
+            // get is realtime, no refresh needed to see the latest version of the interaction
+            client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
         } catch (Exception e) {
             listener.onFailure(e);
         }
@@ -391,7 +457,23 @@ public class InteractionsIndex {
 
     @VisibleForTesting
     void innerGetTraces(String interactionId, int from, int maxResults, ActionListener<List<Interaction>> listener) {
+        innerGetTraces(null, interactionId, from, maxResults, listener);
+    }
+
+    private void innerGetTraces(
+        String conversationId,
+        String interactionId,
+        int from,
+        int maxResults,
+        ActionListener<List<Interaction>> listener
+    ) {
         SearchRequest request = Requests.searchRequest(INTERACTIONS_INDEX_NAME);
+        List<Interaction> buffered = conversationId == null
+            ? List.of()
+            : getBufferedInteractions(
+                conversationId,
+                interaction -> interaction.getTraceNum() != null && interactionId.equals(interaction.getParentInteractionId())
+            );
         // Build the query
         BoolQueryBuilder boolQueryBuilder = QueryBuilders.boolQuery();
 
@@ -407,7 +489,7 @@ public class InteractionsIndex {
         searchSourceBuilder.query(boolQueryBuilder);
 
         request.source(searchSourceBuilder);
-        request.source().from(from).size(maxResults);
+        setSearchWindow(request, from, maxResults, buffered);
         request.source().sort(ConversationalIndexConstants.INTERACTIONS_TRACE_NUMBER_FIELD, SortOrder.ASC);
         try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
             ActionListener<List<Interaction>> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
@@ -416,6 +498,7 @@ public class InteractionsIndex {
                 for (SearchHit hit : response.getHits()) {
                     result.add(Interaction.fromSearchHit(hit));
                 }
+                result = mergeRecentWrites(conversationId, result, buffered, TRACE_NUMBER_ORDER, from, maxResults);
                 internalListener.onResponse(result);
                 log.info("Successfully get traces for the message {}", interactionId);
             }, e -> {
@@ -475,7 +558,7 @@ public class InteractionsIndex {
 
     /**
      * Deletes all interactions associated with a conversationId
-     * Note this uses a bulk delete request (and tries to delete an entire conversation) so it may be heavyweight
+     * Note this runs a delete by query task, which deletes the interactions server side in scroll batches
      * @param conversationId the id of the conversation to delete from
      * @param listener gets whether the deletion was successful
      */
@@ -488,24 +571,18 @@ public class InteractionsIndex {
         String user = User.parse(userStr) == null ? ActionConstants.DEFAULT_USERNAME_FOR_ERRORS : User.parse(userStr).getName();
         try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
             ActionListener<Boolean> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
-            ActionListener<List<Interaction>> searchListener = ActionListener.wrap(interactions -> {
-                if (interactions.size() == 0) {
-                    internalListener.onResponse(true);
+            ActionListener<BulkByScrollResponse> deleteListener = ActionListener.wrap(response -> {
+                recentWrites.remove(conversationId);
+                if (!response.getBulkFailures().isEmpty() || !response.getSearchFailures().isEmpty()) {
+                    log.error("Failed to delete all messages of memory id=" + conversationId);
+                    internalListener.onResponse(false);
                     return;
                 }
-                BulkRequest request = Requests.bulkRequest().setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
-                for (Interaction interaction : interactions) {
-                    DeleteRequest delRequest = Requests.deleteRequest(INTERACTIONS_INDEX_NAME).id(interaction.getId());
-                    request.add(delRequest);
-                }
-                client
-                    .bulk(request, ActionListener.wrap(bulkResponse -> { internalListener.onResponse(!bulkResponse.hasFailures()); }, e -> {
-                        internalListener.onFailure(e);
-                    }));
+                internalListener.onResponse(response.getVersionConflicts() == 0);
             }, e -> { internalListener.onFailure(e); });
             ActionListener<Boolean> accessListener = ActionListener.wrap(access -> {
                 if (access) {
-                    getAllInteractions(conversationId, resultsAtATime, searchListener);
+                    deleteInteractionsByQuery(conversationId, deleteListener);
                 } else {
                     throw new OpenSearchStatusException(
                         "User [" + user + "] does not have access to memory " + conversationId,
@@ -520,6 +597,26 @@ public class InteractionsIndex {
         }
     }
 
+    private void deleteInteractionsByQuery(String conversationId, ActionListener<BulkByScrollResponse> listener) {
+        DeleteByQueryRequest request = new DeleteByQueryRequest(INTERACTIONS_INDEX_NAME)
+            .setQuery(new TermQueryBuilder(ConversationalIndexConstants.INTERACTIONS_CONVERSATION_ID_FIELD, conversationId))
+            .setBatchSize(resultsAtATime)
+            .setAbortOnVersionConflict(false)
+            .setRefresh(false);
+        // the query only sees searchable interactions, refresh only if some of this conversation may not be searchable yet
+        if (!recentWrites.hasWrites(conversationId)) {
+            client.execute(DeleteByQueryAction.INSTANCE, request, listener);
+            return;
+        }
+        client
+            .admin()
+            .indices()
+            .refresh(
+                Requests.refreshRequest(INTERACTIONS_INDEX_NAME),
+                ActionListener.wrap(refreshResponse -> client.execute(DeleteByQueryAction.INSTANCE, request, listener), listener::onFailure)
+            );
+    }
+
     /**
      * Execute a search query over the interactions of a conversation by constructing a wrapper
      * boolean query around the original query, AND a term query over conversation id
@@ -538,10 +635,16 @@ public class InteractionsIndex {
                     newQuery.must(originalQuery);
                     newQuery.must(new TermQueryBuilder(ConversationalIndexConstants.INTERACTIONS_CONVERSATION_ID_FIELD, conversationId));
                     request.source().query(newQuery);
+                    // arbitrary queries can't be run over the buffered interactions, refresh only if some may be missing
+                    if (!recentWrites.hasWrites(conversationId)) {
+                        client.search(request, internalListener);
+                        return;
+                    }
                     client
                         .admin()
                         .indices()
                         .refresh(Requests.refreshRequest(INTERACTIONS_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
+                            recentWrites.remove(conversationId);
                             client.search(request, internalListener);
                         }, e -> {
                             log.error("Failed to refresh messages index during search messages ", e);
@@ -589,12 +692,8 @@ public class InteractionsIndex {
                 // checks if the user has permission to access the conversation that the interaction belongs to
                 checkInteractionPermission(interactionId, interaction, internalListener);
             }, e -> { internalListener.onFailure(e); });
-            client.admin().indices().refresh(Requests.refreshRequest(INTERACTIONS_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
-                client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
-            }, e -> {
-                log.error("Failed to refresh message index during get message ", e);
-                internalListener.onFailure(e);
-            }));
+            // get is realtime, no refresh needed to see the latest version of the interaction
+            client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
         } catch (Exception e) {
             listener.onFailure(e);
         }
@@ -686,4 +785,107 @@ public class InteractionsIndex {
         }, e -> { internalListener.onFailure(e); });
         conversationMetaIndex.checkAccess(conversationId, accessListener);
     }
+
+    private Map<String, Object> toSourceMap(
+        String conversationId,
+        String input,
+        String promptTemplate,
+        String response,
+        String origin,
+        Map<String, String> additionalInfo,
+        Instant timestamp,
+        String parentId,
+        Integer traceNumber
+    ) {
+        Map<String, Object> sourceMap = new HashMap<>();
+        sourceMap.put(ConversationalIndexConstants.INTERACTIONS_CONVERSATION_ID_FIELD, conversationId);
+        sourceMap.put(ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD, timestamp);
+        sourceMap.put(ConversationalIndexConstants.INTERACTIONS_UPDATED_TIME_FIELD, timestamp);
+        sourceMap.put(ConversationalIndexConstants.PARENT_INTERACTIONS_ID_FIELD, parentId);
+        sourceMap.put(ConversationalIndexConstants.INTERACTIONS_TRACE_NUMBER_FIELD, traceNumber);
+
+        if (input != null && !input.trim().isEmpty()) {
+            sourceMap.put(ConversationalIndexConstants.INTERACTIONS_INPUT_FIELD, input);
+        }
+        if (promptTemplate != null && !promptTemplate.trim().isEmpty()) {
+            sourceMap.put(ConversationalIndexConstants.INTERACTIONS_PROMPT_TEMPLATE_FIELD, promptTemplate);
+        }
+        if (response != null && !response.trim().isEmpty()) {
+            sourceMap.put(ConversationalIndexConstants.INTERACTIONS_RESPONSE_FIELD, response);
+        }
+        if (origin != null && !origin.trim().isEmpty()) {
+            sourceMap.put(ConversationalIndexConstants.INTERACTIONS_ORIGIN_FIELD, origin);
+        }
+        if (additionalInfo != null && !additionalInfo.isEmpty()) {
+            sourceMap.put(ConversationalIndexConstants.INTERACTIONS_ADDITIONAL_INFO_FIELD, additionalInfo);
+        }
+        return sourceMap;
+    }
+
+    @VisibleForTesting
+    RecentWritesBuffer<Interaction> getRecentWrites() {
+        return recentWrites;
+    }
+
+    private void addRecentWrite(String interactionId, Map<String, Object> sourceMap) {
+        Instant timestamp = (Instant) sourceMap.get(ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD);
+        Map<String, Object> fields = new HashMap<>(sourceMap);
+        fields.put(ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD, timestamp.toString());
+        fields.put(ConversationalIndexConstants.INTERACTIONS_UPDATED_TIME_FIELD, timestamp.toString());
+        Interaction interaction = Interaction.fromMap(interactionId, fields);
+        recentWrites.add(interaction.getConversationId(), interactionId, interaction);
+    }
+
+    private List<Interaction> getBufferedInteractions(String conversationId, Predicate<Interaction> filter) {
+        List<Interaction> buffered = new ArrayList<>();
+        for (Interaction interaction : recentWrites.get(conversationId)) {
+            if (filter.test(interaction)) {
+                buffered.add(interaction);
+            }
+        }
+        return buffered;
+    }
+
+    /**
+     * If there are buffered interactions, search from the start of the result list so the requested page can be cut out after
+     * merging the buffered interactions into the search hits.
+     */
+    private void setSearchWindow(SearchRequest request, int from, int maxResults, List<Interaction> buffered) {
+        if (buffered.isEmpty()) {
+            request.source().from(from).size(maxResults);
+        } else {
+            request.source().from(0).size((int) Math.min((long) from + maxResults, Integer.MAX_VALUE));
+        }
+    }
+
+    /**
+     * Merge buffered interactions which the search didn't return yet into the search hits and cut out the requested page.
+     * Search hits win over buffered interactions, updates of interactions are refreshed immediately.
+     */
+    private List<Interaction> mergeRecentWrites(
+        String conversationId,
+        List<Interaction> hits,
+        List<Interaction> buffered,
+        Comparator<Interaction> order,
+        int from,
+        int maxResults
+    ) {
+        if (buffered.isEmpty()) {
+            return hits;
+        }
+        Set<String> hitIds = new HashSet<>();
+        for (Interaction hit : hits) {
+            hitIds.add(hit.getId());
+        }
+        recentWrites.confirm(conversationId, hitIds);
+        List<Interaction> merged = new ArrayList<>(hits);
+        for (Interaction interaction : buffered) {
+            if (!hitIds.contains(interaction.getId())) {
+                merged.add(interaction);
+            }
+        }
+        merged.sort(order);
+        int end = (int) Math.min((long) from + maxResults, merged.size());
+        return from >= end ? new LinkedList<>() : new LinkedList<>(merged.subList(from, end));
+    }
 }
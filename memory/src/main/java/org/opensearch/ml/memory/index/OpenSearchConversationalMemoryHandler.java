@@ -250,6 +250,16 @@ public class OpenSearchConversationalMemoryHandler implements ConversationalMemo
         return fut;
     }
 
+    /**
+     * Adds a batch of interactions, e.g. the traces of an agent run, to a conversation with one bulk request
+     * @param conversationId the conversation to add the interactions to
+     * @param interactions the interactions to add, their ids and conversation ids are ignored
+     * @param listener gets the ids of the new interactions, in the order of the interactions
+     */
+    public void createInteractions(String conversationId, List<Interaction> interactions, ActionListener<List<String>> listener) {
+        interactionsIndex.createInteractions(conversationId, interactions, listener);
+    }
+
     /**
      * Get the interactions associate with this conversation, sorted by recency
      * @param conversationId the conversation whose interactions to get
@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.ml.memory.index;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Node local buffer of documents written by this node which may not be searchable yet.
+ *
+ * Memory reads search the memory indices without refreshing them first, so documents created since the last refresh are
+ * missing from the search results. Writers add the documents to this buffer and readers merge the buffered documents of
+ * the same group, e.g. the same conversation, into their results. A document is dropped from the buffer once a search
+ * returned it or once the retention time passed, by then a periodic refresh has made it searchable.
+ *
+ * @param <T> type of the buffered documents
+ */
+public class RecentWritesBuffer<T> {
+    static final Duration DEFAULT_RETENTION = Duration.ofMinutes(1);
+
+    private final Map<String, Map<String, Entry<T>>> groups = new ConcurrentHashMap<>();
+    private final long retentionNanos;
+    private final LongSupplier nanoClock;
+    private volatile long lastSweepTime;
+
+    public RecentWritesBuffer() {
+        this(DEFAULT_RETENTION, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    RecentWritesBuffer(Duration retention, LongSupplier nanoClock) {
+        this.retentionNanos = retention.toNanos();
+        this.nanoClock = nanoClock;
+        this.lastSweepTime = nanoClock.getAsLong();
+    }
+
+    /**
+     * Add a document which was just written
+     * @param group group of the document, e.g. the conversation it belongs to
+     * @param id id of the document
+     * @param document the document
+     */
+    public void add(String group, String id, T document) {
+        long now = nanoClock.getAsLong();
+        // put inside compute, so a concurrent reader can't drop the group as empty in between
+        groups.compute(group, (k, entries) -> {
+            Map<String, Entry<T>> groupEntries = entries == null ? new ConcurrentHashMap<>() : entries;
+            groupEntries.put(id, new Entry<>(document, now));
+            return groupEntries;
+        });
+        if (now - lastSweepTime > retentionNanos) {
+            lastSweepTime = now;
+            for (String key : groups.keySet()) {
+                get(key, now);
+            }
+        }
+    }
+
+    /**
+     * Get the buffered documents of a group
+     * @param group group of the documents
+     * @return buffered documents which did not expire yet
+     */
+    public List<T> get(String group) {
+        return get(group, nanoClock.getAsLong());
+    }
+
+    /**
+     * @param group group of the documents
+     * @return whether the group has buffered documents which may not be searchable yet
+     */
+    public boolean hasWrites(String group) {
+        return !get(group).isEmpty();
+    }
+
+    /**
+     * Drop documents which were returned by a search, they are searchable now
+     * @param group group of the documents
+     * @param ids ids of the documents found by the search
+     */
+    public void confirm(String group, Collection<String> ids) {
+        Map<String, Entry<T>> entries = groups.get(group);
+        if (entries != null) {
+            entries.keySet().removeAll(ids);
+            groups.computeIfPresent(group, (k, v) -> v.isEmpty() ? null : v);
+        }
+    }
+
+    /**
+     * Drop all documents of a group, e.g. after the group was deleted
+     * @param group group of the documents
+     */
+    public void remove(String group) {
+        groups.remove(group);
+    }
+
+    private List<T> get(String group, long now) {
+        Map<String, Entry<T>> entries = groups.get(group);
+        if (entries == null) {
+            return List.of();
+        }
+        entries.values().removeIf(entry -> now - entry.writeTime > retentionNanos);
+        groups.computeIfPresent(group, (k, v) -> v.isEmpty() ? null : v);
+        List<T> documents = new ArrayList<>(entries.size());
+        for (Entry<T> entry : entries.values()) {
+            documents.add(entry.document);
+        }
+        return documents;
+    }
+
+    private record Entry<T>(T document, long writeTime) {
+    }
+}
@@ -23,11 +23,13 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Before;
 import org.mockito.ArgumentCaptor;
@@ -57,6 +59,7 @@ import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.index.query.MatchAllQueryBuilder;
 import org.opensearch.ml.common.conversation.ConversationMeta;
+import org.opensearch.search.SearchHits;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
@@ -330,30 +333,57 @@ public class ConversationMetaIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue().getMessage().equals("Test Exception"));
     }
 
-    public void testGet_RefreshFails_ThenFail() {
+    public void testGet_RecentWrites_NoRefresh() {
+        setupUser("user");
         doReturn(true).when(metadata).hasIndex(anyString());
+        IndexResponse indexResponse = new IndexResponse(new ShardId(new Index("index", "_na_"), 0), "cid", 1, 1, 1, true);
         doAnswer(invocation -> {
-            ActionListener<RefreshResponse> al = invocation.getArgument(1);
-            al.onFailure(new Exception("Refresh Exception"));
+            ActionListener<IndexResponse> al = invocation.getArgument(1);
+            al.onResponse(indexResponse);
             return null;
-        }).when(indicesAdminClient).refresh(any(), any());
+        }).when(client).index(any(), any());
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        doReturn(SearchHits.empty()).when(searchResponse).getHits();
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> al = invocation.getArgument(1);
+            al.onResponse(searchResponse);
+            return null;
+        }).when(client).search(any(), any());
+        @SuppressWarnings("unchecked")
+        ActionListener<String> createConversationListener = mock(ActionListener.class);
+        conversationMetaIndex.createConversation("test", createConversationListener);
+        verify(createConversationListener, times(1)).onResponse("cid");
+
+        // the new conversation is not searchable yet, it's taken from the recent writes
         @SuppressWarnings("unchecked")
         ActionListener<List<ConversationMeta>> getConversationsListener = mock(ActionListener.class);
         conversationMetaIndex.getConversations(10, getConversationsListener);
-        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
-        verify(getConversationsListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Refresh Exception"));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ConversationMeta>> argCaptor = ArgumentCaptor.forClass(List.class);
+        verify(getConversationsListener, times(1)).onResponse(argCaptor.capture());
+        assert (argCaptor.getValue().size() == 1);
+        assert (argCaptor.getValue().get(0).getId().equals("cid"));
+        assert (argCaptor.getValue().get(0).getName().equals("test"));
+        assert (argCaptor.getValue().get(0).getUser().equals("user"));
+        verify(indicesAdminClient, never()).refresh(any(), any());
+
+        // a page after the new conversation is empty
+        @SuppressWarnings("unchecked")
+        ActionListener<List<ConversationMeta>> nextPageListener = mock(ActionListener.class);
+        conversationMetaIndex.getConversations(1, 10, nextPageListener);
+        verify(nextPageListener, times(1)).onResponse(argCaptor.capture());
+        assert (argCaptor.getValue().isEmpty());
     }
 
     public void testGet_ClientFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
-        doThrow(new RuntimeException("Refresh Client Failure")).when(indicesAdminClient).refresh(any(), any());
+        doThrow(new RuntimeException("Search Client Failure")).when(client).search(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<List<ConversationMeta>> getConversationsListener = mock(ActionListener.class);
         conversationMetaIndex.getConversations(10, getConversationsListener);
         ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
         verify(getConversationsListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Refresh Client Failure"));
+        assert (argCaptor.getValue().getMessage().equals("Search Client Failure"));
     }
 
     public void testDelete_NoIndex_ThenReturnTrue() {
@@ -491,7 +521,7 @@ public class ConversationMetaIndexTests extends OpenSearchTestCase {
         setupUser("user");
         setupRefreshSuccess();
         doReturn(true).when(metadata).hasIndex(anyString());
-        doThrow(new RuntimeException("Client Test Fail")).when(client).admin();
+        doThrow(new RuntimeException("Client Test Fail")).when(client).get(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<Boolean> accessListener = mock(ActionListener.class);
         conversationMetaIndex.checkAccess("test id", accessListener);
@@ -521,20 +551,57 @@ public class ConversationMetaIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue());
     }
 
-    public void testCheckAccess_RefreshFails_ThenFail() {
+    public void testCheckAccess_Cached() {
         setupUser("user");
         doReturn(true).when(metadata).hasIndex(anyString());
+        GetResponse response = mock(GetResponse.class);
+        doReturn(true).when(response).isExists();
+        doReturn("test id").when(response).getId();
+        doReturn(Map.of("create_time", "2023-01-01T00:00:00Z", "updated_time", "2023-01-01T00:00:00Z", "user", "other"))
+            .when(response)
+            .getSourceAsMap();
         doAnswer(invocation -> {
-            ActionListener<RefreshResponse> al = invocation.getArgument(1);
-            al.onFailure(new Exception("Refresh Exception"));
+            ActionListener<GetResponse> al = invocation.getArgument(1);
+            al.onResponse(response);
             return null;
-        }).when(indicesAdminClient).refresh(any(), any());
+        }).when(client).get(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<Boolean> accessListener = mock(ActionListener.class);
         conversationMetaIndex.checkAccess("test id", accessListener);
-        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
-        verify(accessListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Refresh Exception"));
+        conversationMetaIndex.checkAccess("test id", accessListener);
+        verify(accessListener, times(2)).onResponse(false);
+        verify(client, times(1)).get(any(), any());
+
+        // another user is checked on its own
+        setupUser("other");
+        conversationMetaIndex.checkAccess("test id", accessListener);
+        verify(accessListener, times(1)).onResponse(true);
+        verify(client, times(2)).get(any(), any());
+
+        conversationMetaIndex.invalidateAccess("test id");
+        conversationMetaIndex.checkAccess("test id", accessListener);
+        verify(client, times(3)).get(any(), any());
+    }
+
+    public void testCheckAccess_NoRefresh() {
+        setupUser("user");
+        doReturn(true).when(metadata).hasIndex(anyString());
+        GetResponse response = mock(GetResponse.class);
+        doReturn(true).when(response).isExists();
+        doReturn("test id").when(response).getId();
+        doReturn(Map.of("create_time", "2023-01-01T00:00:00Z", "updated_time", "2023-01-01T00:00:00Z", "user", "user"))
+            .when(response)
+            .getSourceAsMap();
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> al = invocation.getArgument(1);
+            al.onResponse(response);
+            return null;
+        }).when(client).get(any(), any());
+        @SuppressWarnings("unchecked")
+        ActionListener<Boolean> accessListener = mock(ActionListener.class);
+        conversationMetaIndex.checkAccess("test id", accessListener);
+        verify(accessListener, times(1)).onResponse(true);
+        verify(indicesAdminClient, never()).refresh(any(), any());
     }
 
     public void testSearchConversations_RefreshFails_ThenFail() {
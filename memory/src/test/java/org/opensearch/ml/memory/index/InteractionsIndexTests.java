@@ -25,10 +25,12 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
@@ -42,6 +44,8 @@ import org.opensearch.ResourceAlreadyExistsException;
 import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
 import org.opensearch.action.admin.indices.refresh.RefreshResponse;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexResponse;
@@ -65,6 +69,9 @@ import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.index.query.MatchAllQueryBuilder;
+import org.opensearch.index.reindex.BulkByScrollResponse;
+import org.opensearch.index.reindex.DeleteByQueryAction;
+import org.opensearch.index.reindex.DeleteByQueryRequest;
 import org.opensearch.ml.common.conversation.ActionConstants;
 import org.opensearch.ml.common.conversation.ConversationalIndexConstants;
 import org.opensearch.ml.common.conversation.Interaction;
@@ -407,26 +414,60 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue().getMessage().equals("Failure in Search"));
     }
 
-    public void testGet_RefreshFails_ThenFail() {
+    public void testGet_RecentWrites_NoRefresh() throws IOException {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
+        IndexResponse indexResponse = new IndexResponse(new ShardId(new Index("index", "_na_"), 0), "iid2", 1, 1, 1, true);
         doAnswer(invocation -> {
-            ActionListener<RefreshResponse> al = invocation.getArgument(1);
-            al.onFailure(new Exception("Failed to Refresh"));
+            ActionListener<IndexResponse> al = invocation.getArgument(1);
+            al.onResponse(indexResponse);
             return null;
-        }).when(indicesAdminClient).refresh(any(), any());
+        }).when(client).index(any(), any());
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        XContentBuilder content = XContentBuilder.builder(XContentType.JSON.xContent());
+        content.startObject();
+        content.field(ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD, Instant.ofEpochMilli(1234));
+        content.field(ConversationalIndexConstants.INTERACTIONS_INPUT_FIELD, "inp");
+        content.field(ConversationalIndexConstants.INTERACTIONS_CONVERSATION_ID_FIELD, "cid");
+        content.endObject();
+        SearchHit hit = new SearchHit(0, "iid", null, null).sourceRef(BytesReference.bytes(content));
+        doReturn(new SearchHits(new SearchHit[] { hit }, null, Float.NaN)).when(searchResponse).getHits();
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> al = invocation.getArgument(1);
+            al.onResponse(searchResponse);
+            return null;
+        }).when(client).search(any(), any());
+        @SuppressWarnings("unchecked")
+        ActionListener<String> createInteractionListener = mock(ActionListener.class);
+        interactionsIndex.createInteraction("cid", "inp2", "pt", "rsp2", "ogn", null, createInteractionListener);
+        verify(createInteractionListener, times(1)).onResponse("iid2");
+
+        // the new interaction is not searchable yet, it's taken from the recent writes
         @SuppressWarnings("unchecked")
         ActionListener<List<Interaction>> getInteractionsListener = mock(ActionListener.class);
         interactionsIndex.getInteractions("cid", 0, 10, getInteractionsListener);
-        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
-        verify(getInteractionsListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Failed to Refresh"));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Interaction>> argCaptor = ArgumentCaptor.forClass(List.class);
+        verify(getInteractionsListener, times(1)).onResponse(argCaptor.capture());
+        assert (argCaptor.getValue().size() == 2);
+        assert (argCaptor.getValue().get(0).getId().equals("iid"));
+        assert (argCaptor.getValue().get(1).getId().equals("iid2"));
+        assert (argCaptor.getValue().get(1).getInput().equals("inp2"));
+        assert (argCaptor.getValue().get(1).getResponse().equals("rsp2"));
+        verify(indicesAdminClient, never()).refresh(any(), any());
+
+        @SuppressWarnings("unchecked")
+        ActionListener<List<Interaction>> pageListener = mock(ActionListener.class);
+        interactionsIndex.getInteractions("cid", 1, 1, pageListener);
+        verify(pageListener, times(1)).onResponse(argCaptor.capture());
+        assert (argCaptor.getValue().size() == 1);
+        assert (argCaptor.getValue().get(0).getId().equals("iid2"));
     }
 
     public void testGet_ClientFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
-        doThrow(new RuntimeException("Client Failure")).when(indicesAdminClient).refresh(any(), any());
+        doThrow(new RuntimeException("Client Failure")).when(client).search(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<List<Interaction>> getInteractionsListener = mock(ActionListener.class);
         interactionsIndex.getInteractions("cid", 0, 10, getInteractionsListener);
@@ -614,80 +655,179 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue());
     }
 
-    public void testDelete_BulkHasFailures_ReturnFalse() {
+    public void testCreateInteractions_Bulk() {
+        doReturn(true).when(metadata).hasIndex(anyString());
+        setupGrantAccess();
+        BulkItemResponse item1 = mock(BulkItemResponse.class);
+        doReturn("tid1").when(item1).getId();
+        BulkItemResponse item2 = mock(BulkItemResponse.class);
+        doReturn("tid2").when(item2).getId();
+        BulkResponse bulkResponse = mock(BulkResponse.class);
+        doReturn(new BulkItemResponse[] { item1, item2 }).when(bulkResponse).getItems();
+        doAnswer(invocation -> {
+            BulkRequest request = invocation.getArgument(0);
+            assert (request.numberOfActions() == 2);
+            ActionListener<BulkResponse> al = invocation.getArgument(1);
+            al.onResponse(bulkResponse);
+            return null;
+        }).when(client).bulk(any(), any());
+        List<Interaction> traces = List
+            .of(
+                new Interaction(null, null, null, null, "trace1", null, "rsp1", "tool", null, "iid", 1),
+                new Interaction(null, null, null, null, "trace2", null, "rsp2", "tool", null, "iid", 2)
+            );
+        @SuppressWarnings("unchecked")
+        ActionListener<List<String>> createListener = mock(ActionListener.class);
+        interactionsIndex.createInteractions("cid", traces, createListener);
+        verify(createListener, times(1)).onResponse(List.of("tid1", "tid2"));
+        verify(conversationMetaIndex, times(1)).checkAccess(eq("cid"), any());
+        verify(client, never()).index(any(), any());
+        assert (interactionsIndex.getRecentWrites().get("cid").size() == 2);
+    }
+
+    public void testCreateInteractions_BulkHasFailures_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
         BulkResponse bulkResponse = mock(BulkResponse.class);
+        doReturn(new BulkItemResponse[0]).when(bulkResponse).getItems();
         doReturn(true).when(bulkResponse).hasFailures();
+        doReturn("index failure").when(bulkResponse).buildFailureMessage();
         doAnswer(invocation -> {
             ActionListener<BulkResponse> al = invocation.getArgument(1);
             al.onResponse(bulkResponse);
             return null;
         }).when(client).bulk(any(), any());
+        @SuppressWarnings("unchecked")
+        ActionListener<List<String>> createListener = mock(ActionListener.class);
+        interactionsIndex.createInteractions("cid", List.of(Interaction.builder().input("trace1").build()), createListener);
+        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(createListener, times(1)).onFailure(argCaptor.capture());
+        assert (argCaptor.getValue().getMessage().equals("Failed to create messages: index failure"));
+    }
+
+    public void testCreateInteractions_NoAccess_ThenFail() {
+        doReturn(true).when(metadata).hasIndex(anyString());
+        setupDenyAccess("user");
+        @SuppressWarnings("unchecked")
+        ActionListener<List<String>> createListener = mock(ActionListener.class);
+        interactionsIndex.createInteractions("cid", List.of(Interaction.builder().input("trace1").build()), createListener);
+        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(createListener, times(1)).onFailure(argCaptor.capture());
+        assert (argCaptor.getValue().getMessage().equals("User [user] does not have access to memory cid"));
+        verify(client, never()).bulk(any(), any());
+    }
+
+    public void testDelete_DeleteByQuery() {
+        doReturn(true).when(metadata).hasIndex(anyString());
+        setupGrantAccess();
+        BulkByScrollResponse response = mock(BulkByScrollResponse.class);
         doAnswer(invocation -> {
-            ActionListener<List<Interaction>> al = invocation.getArgument(2);
-            al.onResponse(List.of(interaction));
+            DeleteByQueryRequest request = invocation.getArgument(1);
+            assert (request.getBatchSize() == 300);
+            assert (!request.isRefresh());
+            ActionListener<BulkByScrollResponse> al = invocation.getArgument(2);
+            al.onResponse(response);
             return null;
-        }).when(interactionsIndex).getAllInteractions(anyString(), anyInt(), any());
+        }).when(client).execute(eq(DeleteByQueryAction.INSTANCE), any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<Boolean> deleteConversationListener = mock(ActionListener.class);
         interactionsIndex.deleteConversation("cid", deleteConversationListener);
         ArgumentCaptor<Boolean> argCaptor = ArgumentCaptor.forClass(Boolean.class);
         verify(deleteConversationListener, times(1)).onResponse(argCaptor.capture());
-        assert (!argCaptor.getValue());
+        assert (argCaptor.getValue());
+        verify(indicesAdminClient, never()).refresh(any(), any());
+        verify(client, never()).bulk(any(), any());
     }
 
-    public void testDelete_BulkFails_ThenFail() {
+    public void testDelete_RecentWrites_RefreshFirst() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
+        interactionsIndex.getRecentWrites().add("cid", "iid", interaction);
         doAnswer(invocation -> {
-            ActionListener<BulkResponse> al = invocation.getArgument(1);
-            al.onFailure(new Exception("Failure during Bulk"));
+            ActionListener<RefreshResponse> al = invocation.getArgument(1);
+            al.onResponse(mock(RefreshResponse.class));
             return null;
-        }).when(client).bulk(any(), any());
+        }).when(indicesAdminClient).refresh(any(), any());
+        BulkByScrollResponse response = mock(BulkByScrollResponse.class);
         doAnswer(invocation -> {
-            ActionListener<List<Interaction>> al = invocation.getArgument(2);
-            al.onResponse(List.of(interaction));
+            ActionListener<BulkByScrollResponse> al = invocation.getArgument(2);
+            al.onResponse(response);
             return null;
-        }).when(interactionsIndex).getAllInteractions(anyString(), anyInt(), any());
+        }).when(client).execute(eq(DeleteByQueryAction.INSTANCE), any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<Boolean> deleteConversationListener = mock(ActionListener.class);
         interactionsIndex.deleteConversation("cid", deleteConversationListener);
-        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
-        verify(deleteConversationListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Failure during Bulk"));
+        verify(indicesAdminClient, times(1)).refresh(any(), any());
+        verify(deleteConversationListener, times(1)).onResponse(true);
+        assert (!interactionsIndex.getRecentWrites().hasWrites("cid"));
+    }
+
+    public void testDelete_BulkHasFailures_ReturnFalse() {
+        doReturn(true).when(metadata).hasIndex(anyString());
+        setupGrantAccess();
+        BulkByScrollResponse response = mock(BulkByScrollResponse.class);
+        doReturn(List.of(mock(BulkItemResponse.Failure.class))).when(response).getBulkFailures();
+        doAnswer(invocation -> {
+            ActionListener<BulkByScrollResponse> al = invocation.getArgument(2);
+            al.onResponse(response);
+            return null;
+        }).when(client).execute(eq(DeleteByQueryAction.INSTANCE), any(), any());
+        @SuppressWarnings("unchecked")
+        ActionListener<Boolean> deleteConversationListener = mock(ActionListener.class);
+        interactionsIndex.deleteConversation("cid", deleteConversationListener);
+        ArgumentCaptor<Boolean> argCaptor = ArgumentCaptor.forClass(Boolean.class);
+        verify(deleteConversationListener, times(1)).onResponse(argCaptor.capture());
+        assert (!argCaptor.getValue());
+    }
+
+    public void testDelete_VersionConflicts_ReturnFalse() {
+        doReturn(true).when(metadata).hasIndex(anyString());
+        setupGrantAccess();
+        BulkByScrollResponse response = mock(BulkByScrollResponse.class);
+        doReturn(1L).when(response).getVersionConflicts();
+        doAnswer(invocation -> {
+            ActionListener<BulkByScrollResponse> al = invocation.getArgument(2);
+            al.onResponse(response);
+            return null;
+        }).when(client).execute(eq(DeleteByQueryAction.INSTANCE), any(), any());
+        @SuppressWarnings("unchecked")
+        ActionListener<Boolean> deleteConversationListener = mock(ActionListener.class);
+        interactionsIndex.deleteConversation("cid", deleteConversationListener);
+        verify(deleteConversationListener, times(1)).onResponse(false);
     }
 
-    public void testDelete_SearchFails_ThenFail() {
+    public void testDelete_BulkFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
         doAnswer(invocation -> {
-            ActionListener<List<Interaction>> al = invocation.getArgument(2);
-            al.onFailure(new Exception("Failure during GetAllInteractions"));
+            ActionListener<BulkByScrollResponse> al = invocation.getArgument(2);
+            al.onFailure(new Exception("Failure during DeleteByQuery"));
             return null;
-        }).when(interactionsIndex).getAllInteractions(anyString(), anyInt(), any());
+        }).when(client).execute(eq(DeleteByQueryAction.INSTANCE), any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<Boolean> deleteConversationListener = mock(ActionListener.class);
         interactionsIndex.deleteConversation("cid", deleteConversationListener);
         ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
         verify(deleteConversationListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Failure during GetAllInteractions"));
+        assert (argCaptor.getValue().getMessage().equals("Failure during DeleteByQuery"));
     }
 
-    public void testDelete_SearchReturnEmpty_ThenPass() {
+    public void testDelete_RefreshFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
+        interactionsIndex.getRecentWrites().add("cid", "iid", interaction);
         doAnswer(invocation -> {
-            ActionListener<List<Interaction>> al = invocation.getArgument(2);
-            al.onResponse(List.of());
+            ActionListener<RefreshResponse> al = invocation.getArgument(1);
+            al.onFailure(new Exception("Failed during Delete Refresh"));
             return null;
-        }).when(interactionsIndex).getAllInteractions(anyString(), anyInt(), any());
+        }).when(indicesAdminClient).refresh(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<Boolean> deleteConversationListener = mock(ActionListener.class);
         interactionsIndex.deleteConversation("cid", deleteConversationListener);
-        ArgumentCaptor<Boolean> argCaptor = ArgumentCaptor.forClass(Boolean.class);
-        verify(deleteConversationListener, times(1)).onResponse(argCaptor.capture());
-        assert (argCaptor.getValue());
+        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(deleteConversationListener, times(1)).onFailure(argCaptor.capture());
+        assert (argCaptor.getValue().getMessage().equals("Failed during Delete Refresh"));
+        verify(client, never()).execute(any(), any(), any());
     }
 
     public void testDelete_NoAccessNoUser_ThenFail() {
@@ -745,6 +885,8 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         setupGrantAccess();
         SearchRequest request = dummyRequest();
         final String cid = "test_id";
+        // only refreshed if interactions of the conversation may not be searchable yet
+        interactionsIndex.getRecentWrites().add(cid, "iid", interaction);
         doAnswer(invocation -> {
             ActionListener<RefreshResponse> al = invocation.getArgument(1);
             al.onFailure(new Exception("Failed during Search Refresh"));
@@ -762,7 +904,7 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         setupGrantAccess();
         SearchRequest request = dummyRequest();
         final String cid = "test_cid";
-        doThrow(new RuntimeException("Client Failure in Search Interactions")).when(client).admin();
+        doThrow(new RuntimeException("Client Failure in Search Interactions")).when(client).search(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<SearchResponse> searchInteractionsListener = mock(ActionListener.class);
         interactionsIndex.searchInteractions(cid, request, searchInteractionsListener);
@@ -836,26 +978,27 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue().getMessage().equals("Message [iid] not found"));
     }
 
-    public void testGetSg_RefreshFails_ThenFail() {
+    public void testGetSg_GetFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
         doAnswer(invocation -> {
-            ActionListener<RefreshResponse> al = invocation.getArgument(1);
-            al.onFailure(new Exception("Failed during Sg Get Refresh"));
+            ActionListener<GetResponse> al = invocation.getArgument(1);
+            al.onFailure(new Exception("Failed during Sg Get"));
             return null;
-        }).when(indicesAdminClient).refresh(any(), any());
+        }).when(client).get(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<Interaction> getListener = mock(ActionListener.class);
         interactionsIndex.getInteraction("iid", getListener);
         ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
         verify(getListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Failed during Sg Get Refresh"));
+        assert (argCaptor.getValue().getMessage().equals("Failed during Sg Get"));
+        verify(indicesAdminClient, never()).refresh(any(), any());
     }
 
     public void testGetSg_ClientFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
-        doThrow(new RuntimeException("Client Failure in Sg Get")).when(client).admin();
+        doThrow(new RuntimeException("Client Failure in Sg Get")).when(client).get(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<Interaction> getListener = mock(ActionListener.class);
         interactionsIndex.getInteraction("iid", getListener);
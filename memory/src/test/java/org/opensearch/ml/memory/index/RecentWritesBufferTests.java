@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.ml.memory.index;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class RecentWritesBufferTests extends OpenSearchTestCase {
+    private AtomicLong clock;
+    private RecentWritesBuffer<String> buffer;
+
+    @Before
+    public void setup() {
+        clock = new AtomicLong();
+        buffer = new RecentWritesBuffer<>(Duration.ofSeconds(10), clock::get);
+    }
+
+    public void testAddAndGet() {
+        buffer.add("cid1", "iid1", "interaction1");
+        buffer.add("cid1", "iid2", "interaction2");
+        buffer.add("cid2", "iid3", "interaction3");
+        assertEquals(2, buffer.get("cid1").size());
+        assertTrue(buffer.get("cid1").containsAll(List.of("interaction1", "interaction2")));
+        assertEquals(List.of("interaction3"), buffer.get("cid2"));
+        assertTrue(buffer.get("cid3").isEmpty());
+        assertFalse(buffer.hasWrites("cid3"));
+    }
+
+    public void testConfirm() {
+        buffer.add("cid1", "iid1", "interaction1");
+        buffer.add("cid1", "iid2", "interaction2");
+        buffer.confirm("cid1", List.of("iid1", "other"));
+        assertEquals(List.of("interaction2"), buffer.get("cid1"));
+        buffer.confirm("cid1", List.of("iid2"));
+        assertFalse(buffer.hasWrites("cid1"));
+        buffer.confirm("cid2", List.of("iid2"));
+    }
+
+    public void testRemove() {
+        buffer.add("cid1", "iid1", "interaction1");
+        buffer.remove("cid1");
+        assertFalse(buffer.hasWrites("cid1"));
+    }
+
+    public void testExpire() {
+        buffer.add("cid1", "iid1", "interaction1");
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        buffer.add("cid1", "iid2", "interaction2");
+        clock.addAndGet(Duration.ofSeconds(6).toNanos());
+        assertEquals(List.of("interaction2"), buffer.get("cid1"));
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertFalse(buffer.hasWrites("cid1"));
+    }
+}
@@ -40,6 +40,7 @@ public class MLEngine {
     public static final String REGISTER_MODEL_FOLDER = "register";
     public static final String DEPLOY_MODEL_FOLDER = "deploy";
     public static final String ANALYSIS_FOLDER = "analysis";
+    public static final String MODEL_ARTIFACT_FOLDER = "artifacts";
     private final String MODEL_REPO = "https://artifacts.opensearch.org/models/ml-models";
 
     @Getter
@@ -116,6 +117,14 @@ public class MLEngine {
         return mlModelsCachePath.resolve("models");
     }
 
+    /**
+     * Model artifacts are shared by model ids, so they are kept next to the per model cache folders which are cleaned up
+     * by model id.
+     */
+    public Path getModelArtifactCachePath() {
+        return mlModelsCachePath.resolve(MODEL_ARTIFACT_FOLDER);
+    }
+
     public Path getAnalysisRootPath() {
         return mlModelsCachePath.resolve(ANALYSIS_FOLDER);
     }
@@ -0,0 +1,159 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.opensearch.ml.engine.utils.FileUtils;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node local cache of verified model zip files keyed by the sha256 hash of their content.
+ *
+ * The cache lives on disk, so it survives undeploy and node restarts, and models registered from the same artifact
+ * share one entry. The last modified time of an entry is its last access time, entries are evicted least recently
+ * used first once the cache grows over its size limit. A size limit of 0 disables the cache.
+ */
+@Log4j2
+public class ModelArtifactCache {
+    private static final Pattern SHA256_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final String ARTIFACT_SUFFIX = ".zip";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path cachePath;
+    private volatile long maxSizeInBytes;
+
+    public ModelArtifactCache(Path cachePath, long maxSizeInBytes) {
+        this.cachePath = cachePath;
+        this.maxSizeInBytes = maxSizeInBytes;
+    }
+
+    public void setMaxSizeInBytes(long maxSizeInBytes) {
+        this.maxSizeInBytes = maxSizeInBytes;
+        synchronized (this) {
+            evict();
+        }
+    }
+
+    /**
+     * Copy the cached artifact with the given content hash to the target file. The content of the copy is hashed again,
+     * an artifact that no longer matches its hash, e.g. because it was changed on disk, is evicted.
+     * @param contentHash sha256 hash of the model content
+     * @param target file to copy the artifact to
+     * @return the target file, or null if the artifact is not cached
+     */
+    public synchronized File get(String contentHash, File target) {
+        if (maxSizeInBytes <= 0 || !isValidHash(contentHash)) {
+            return null;
+        }
+        Path artifact = getArtifactPath(contentHash);
+        if (!Files.exists(artifact)) {
+            return null;
+        }
+        try {
+            Files.createDirectories(target.toPath().getParent());
+            link(artifact, target.toPath());
+            if (!contentHash.equals(FileUtils.calculateFileHash(target))) {
+                log.warn("Model artifact {} in cache doesn't match its content hash, evicting it", contentHash);
+                FileUtils.deleteFileQuietly(target);
+                FileUtils.deleteFileQuietly(artifact);
+                return null;
+            }
+            Files.setLastModifiedTime(artifact, FileTime.fromMillis(System.currentTimeMillis()));
+            log.debug("Found model artifact {} in cache", contentHash);
+            return target;
+        } catch (IOException e) {
+            log.warn("Failed to read model artifact {} from cache", contentHash, e);
+            return null;
+        }
+    }
+
+    /**
+     * Add a model artifact whose content hash was verified to the cache.
+     * @param contentHash sha256 hash of the model content
+     * @param file model zip file, it's left in place
+     */
+    public synchronized void put(String contentHash, File file) {
+        if (maxSizeInBytes <= 0 || !isValidHash(contentHash) || file.length() > maxSizeInBytes) {
+            return;
+        }
+        Path artifact = getArtifactPath(contentHash);
+        if (Files.exists(artifact)) {
+            return;
+        }
+        Path tempArtifact = cachePath.resolve(contentHash + TEMP_SUFFIX);
+        try {
+            Files.createDirectories(cachePath);
+            link(file.toPath(), tempArtifact);
+            Files.move(tempArtifact, artifact, StandardCopyOption.ATOMIC_MOVE);
+            Files.setLastModifiedTime(artifact, FileTime.fromMillis(System.currentTimeMillis()));
+            log.debug("Added model artifact {} to cache", contentHash);
+        } catch (IOException e) {
+            log.warn("Failed to add model artifact {} to cache", contentHash, e);
+            FileUtils.deleteFileQuietly(tempArtifact);
+            return;
+        }
+        evict();
+    }
+
+    private void evict() {
+        if (!Files.isDirectory(cachePath)) {
+            return;
+        }
+        List<Path> artifacts = new ArrayList<>();
+        try (Stream<Path> files = Files.list(cachePath)) {
+            files.filter(path -> path.getFileName().toString().endsWith(ARTIFACT_SUFFIX)).forEach(artifacts::add);
+        } catch (IOException e) {
+            log.warn("Failed to list model artifact cache", e);
+            return;
+        }
+        long totalSize = 0;
+        for (Path artifact : artifacts) {
+            totalSize += artifact.toFile().length();
+        }
+        artifacts.sort(Comparator.comparingLong(path -> path.toFile().lastModified()));
+        for (Path artifact : artifacts) {
+            if (totalSize <= maxSizeInBytes) {
+                break;
+            }
+            long size = artifact.toFile().length();
+            FileUtils.deleteFileQuietly(artifact);
+            totalSize -= size;
+            log.debug("Evicted model artifact {} from cache", artifact.getFileName());
+        }
+    }
+
+    /**
+     * Hard link the file if possible, the cache and the deploy folder usually sit on the same file system. Copy otherwise.
+     */
+    private void link(Path source, Path target) throws IOException {
+        Files.deleteIfExists(target);
+        try {
+            Files.createLink(target, source);
+        } catch (UnsupportedOperationException | SecurityException | IOException e) {
+            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private Path getArtifactPath(String contentHash) {
+        return cachePath.resolve(contentHash + ARTIFACT_SUFFIX);
+    }
+
+    private boolean isValidHash(String contentHash) {
+        return contentHash != null && SHA256_PATTERN.matcher(contentHash).matches();
+    }
+}
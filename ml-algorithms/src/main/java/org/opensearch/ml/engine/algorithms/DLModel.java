@@ -58,6 +58,8 @@ public abstract class DLModel implements Predictable {
     public static final String MODEL_ZIP_FILE = "model_zip_file";
     public static final String MODEL_HELPER = "model_helper";
     public static final String ML_ENGINE = "ml_engine";
+    public static final String PREDICT_BATCH_SIZE = "predict_batch_size";
+    public static final String PREDICT_BATCH_WAIT_TIME_IN_MILLIS = "predict_batch_wait_time_in_millis";
     protected ModelHelper modelHelper;
     protected MLEngine mlEngine;
     protected String modelId;
@@ -68,6 +70,7 @@ public abstract class DLModel implements Predictable {
     protected AtomicInteger nextDevice = new AtomicInteger(0);
 
     protected MLModelConfig modelConfig;
+    protected PredictionBatcher predictionBatcher;
 
     @Override
     public MLOutput predict(MLInput mlInput, MLModel model) {
@@ -140,12 +143,48 @@ public abstract class DLModel implements Predictable {
             throw new IllegalArgumentException("wrong function name");
         }
         loadModel(modelZipFile, modelId, model.getName(), model.getVersion(), model.getModelConfig(), engine);
+        initPredictionBatcher(params);
+    }
+
+    /**
+     * Create a batcher which coalesces inputs of concurrent predict requests when a batch size larger than 1 is configured.
+     * @param params deploy parameters
+     */
+    protected void initPredictionBatcher(Map<String, Object> params) {
+        Integer batchSize = (Integer) params.get(PREDICT_BATCH_SIZE);
+        if (batchSize == null || batchSize <= 1 || predictors == null) {
+            return;
+        }
+        Number waitTime = (Number) params.get(PREDICT_BATCH_WAIT_TIME_IN_MILLIS);
+        long waitTimeInMillis = waitTime == null ? 0 : waitTime.longValue();
+        predictionBatcher = new PredictionBatcher(batchSize, waitTimeInMillis, predictors.length, this::getPredictor);
+        log.info("Enabled prediction batching for model {} with batch size {} and wait time {}ms", modelId, batchSize, waitTimeInMillis);
+    }
+
+    /**
+     * Predict a list of inputs. Inputs go through the prediction batcher if batching is enabled for this model,
+     * otherwise they are predicted one by one.
+     * @param inputs model inputs
+     * @return outputs in the same order as the inputs
+     * @throws TranslateException if the model fails to translate an input or output
+     */
+    protected List<Output> predictInputs(List<Input> inputs) throws TranslateException {
+        PredictionBatcher batcher = predictionBatcher;
+        if (batcher != null) {
+            return batcher.predict(inputs);
+        }
+        List<Output> outputs = new ArrayList<>(inputs.size());
+        for (Input input : inputs) {
+            outputs.add(getPredictor().predict(input));
+        }
+        return outputs;
     }
 
     @Override
     public void close() {
         if (modelHelper != null && modelId != null) {
             modelHelper.deleteFileCache(modelId);
+            predictionBatcher = null;
             if (predictors != null) {
                 closePredictors(predictors);
                 predictors = null;
@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.types.Shape;
+import ai.djl.translate.StackBatchifier;
+
+/**
+ * Stacks tokenized inputs of different lengths into one batch.
+ *
+ * Every array is padded with zeros along its first axis to the longest array at the same position
+ * of the batch before stacking. Padded token positions have an attention mask of 0, so the model
+ * ignores them; translators trim the padded positions from the unbatchified outputs.
+ */
+public class PaddingBatchifier extends StackBatchifier {
+    public static final PaddingBatchifier INSTANCE = new PaddingBatchifier();
+
+    @Override
+    public NDList batchify(NDList[] inputs) {
+        if (inputs.length > 1) {
+            int size = inputs[0].size();
+            for (int i = 0; i < size; i++) {
+                long maxLength = 0;
+                for (NDList input : inputs) {
+                    maxLength = Math.max(maxLength, length(input.get(i)));
+                }
+                for (NDList input : inputs) {
+                    NDArray array = input.get(i);
+                    if (length(array) < maxLength) {
+                        input.set(i, pad(array, maxLength));
+                    }
+                }
+            }
+        }
+        return super.batchify(inputs);
+    }
+
+    private static long length(NDArray array) {
+        Shape shape = array.getShape();
+        return shape.dimension() == 0 ? 0 : shape.get(0);
+    }
+
+    private static NDArray pad(NDArray array, long length) {
+        long[] padShape = array.getShape().getShape().clone();
+        padShape[0] = length - padShape[0];
+        NDArray padded = array.concat(array.getManager().zeros(new Shape(padShape), array.getDataType()));
+        padded.setName(array.getName());
+        return padded;
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.opensearch.ml.common.exception.MLException;
+
+import ai.djl.inference.Predictor;
+import ai.djl.modality.Input;
+import ai.djl.modality.Output;
+import ai.djl.translate.TranslateException;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Coalesces inputs from concurrent predict requests on the same model into a single
+ * {@link Predictor#batchPredict(List)} call.
+ *
+ * Callers enqueue their inputs and then take turns flushing the queue: whoever gets a flush permit
+ * waits up to {@code maxWaitTimeInMillis} for the batch to fill, runs it on the next predictor and
+ * completes every pending input in the batch. Callers without a permit wait for their own results.
+ * The number of permits equals the number of predictors, so every device can run one batch at a time.
+ */
+@Log4j2
+public class PredictionBatcher {
+    private static final long MIN_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Getter
+    private final int maxBatchSize;
+    @Getter
+    private final long maxWaitTimeInMillis;
+    private final long maxWaitNanos;
+    private final Supplier<Predictor<Input, Output>> predictorSupplier;
+    private final Semaphore flushPermits;
+    private final LinkedBlockingQueue<PendingPrediction> queue = new LinkedBlockingQueue<>();
+
+    public PredictionBatcher(
+        int maxBatchSize,
+        long maxWaitTimeInMillis,
+        int concurrentBatches,
+        Supplier<Predictor<Input, Output>> predictorSupplier
+    ) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("max batch size must be positive");
+        }
+        if (maxWaitTimeInMillis < 0) {
+            throw new IllegalArgumentException("max wait time must not be negative");
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitTimeInMillis = maxWaitTimeInMillis;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitTimeInMillis);
+        this.flushPermits = new Semaphore(Math.max(1, concurrentBatches));
+        this.predictorSupplier = predictorSupplier;
+    }
+
+    /**
+     * Predict the given inputs, possibly together with inputs of other concurrent callers.
+     * @param inputs model inputs
+     * @return outputs in the same order as the inputs
+     * @throws TranslateException if the model fails to translate an input or output
+     */
+    public List<Output> predict(List<Input> inputs) throws TranslateException {
+        List<PendingPrediction> pendingPredictions = new ArrayList<>(inputs.size());
+        for (Input input : inputs) {
+            PendingPrediction pendingPrediction = new PendingPrediction(input);
+            pendingPredictions.add(pendingPrediction);
+            queue.add(pendingPrediction);
+        }
+
+        List<Output> outputs = new ArrayList<>(inputs.size());
+        for (PendingPrediction pendingPrediction : pendingPredictions) {
+            outputs.add(awaitOutput(pendingPrediction));
+        }
+        return outputs;
+    }
+
+    private Output awaitOutput(PendingPrediction pendingPrediction) throws TranslateException {
+        CompletableFuture<Output> future = pendingPrediction.future;
+        while (!future.isDone()) {
+            if (flushPermits.tryAcquire()) {
+                try {
+                    flush();
+                } finally {
+                    flushPermits.release();
+                }
+            } else {
+                try {
+                    future.get(Math.max(maxWaitNanos, MIN_POLL_NANOS), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException | ExecutionException e) {
+                    // either another caller is still flushing or the result is ready, re-check below
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new MLException("Interrupted while waiting for batched prediction", e);
+                }
+            }
+        }
+        try {
+            return future.join();
+        } catch (Exception e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            if (cause instanceof TranslateException) {
+                throw (TranslateException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new MLException(cause);
+        }
+    }
+
+    private void flush() {
+        List<PendingPrediction> batch = new ArrayList<>(maxBatchSize);
+        queue.drainTo(batch, maxBatchSize);
+        long deadline = System.nanoTime() + maxWaitNanos;
+        try {
+            while (batch.size() < maxBatchSize) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    break;
+                }
+                PendingPrediction pendingPrediction = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (pendingPrediction == null) {
+                    break;
+                }
+                batch.add(pendingPrediction);
+                queue.drainTo(batch, maxBatchSize - batch.size());
+            }
+        } catch (InterruptedException e) {
+            // run what was collected so far, the caller notices the interrupt while waiting for its own output
+            Thread.currentThread().interrupt();
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            predictBatch(batch);
+        } finally {
+            // an Error escaping the predictor must not leave the other callers of the batch waiting forever
+            for (PendingPrediction pendingPrediction : batch) {
+                if (!pendingPrediction.future.isDone()) {
+                    pendingPrediction.future.completeExceptionally(new MLException("Batched prediction did not complete"));
+                }
+            }
+        }
+    }
+
+    private void predictBatch(List<PendingPrediction> batch) {
+        Predictor<Input, Output> predictor = predictorSupplier.get();
+        if (batch.size() == 1) {
+            predictOne(predictor, batch.get(0));
+            return;
+        }
+        List<Input> inputs = new ArrayList<>(batch.size());
+        for (PendingPrediction pendingPrediction : batch) {
+            inputs.add(pendingPrediction.input);
+        }
+        try {
+            List<Output> outputs = predictor.batchPredict(inputs);
+            if (outputs == null || outputs.size() != batch.size()) {
+                throw new MLException("Batch prediction returned unexpected number of outputs");
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future.complete(outputs.get(i));
+            }
+        } catch (Exception e) {
+            // Translators that can't stack inputs of different shapes fail the whole batch, so fall back to
+            // predicting one by one rather than failing requests that would succeed on their own.
+            log.debug("Failed to run batch of {} inputs, falling back to single predictions", batch.size(), e);
+            for (PendingPrediction pendingPrediction : batch) {
+                predictOne(predictor, pendingPrediction);
+            }
+        }
+    }
+
+    private void predictOne(Predictor<Input, Output> predictor, PendingPrediction pendingPrediction) {
+        try {
+            pendingPrediction.future.complete(predictor.predict(pendingPrediction.input));
+        } catch (Exception e) {
+            pendingPrediction.future.completeExceptionally(e);
+        }
+    }
+
+    private static class PendingPrediction {
+        private final Input input;
+        private final CompletableFuture<Output> future = new CompletableFuture<>();
+
+        private PendingPrediction(Input input) {
+            this.input = input;
+        }
+    }
+}
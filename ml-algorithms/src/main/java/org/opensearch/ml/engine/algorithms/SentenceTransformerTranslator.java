@@ -19,7 +19,7 @@ public abstract class SentenceTransformerTranslator implements ServingTranslator
 
     @Override
     public Batchifier getBatchifier() {
-        return Batchifier.STACK;
+        return PaddingBatchifier.INSTANCE;
     }
 
     @Override
@@ -34,6 +34,7 @@ public abstract class SentenceTransformerTranslator implements ServingTranslator
         NDManager manager = ctx.getNDManager();
         NDList ndList = new NDList();
         Encoding encodings = tokenizer.encode(sentence);
+        ctx.setAttachment("encoding", encodings);
         long[] indices = encodings.getIds();
         long[] attentionMask = encodings.getAttentionMask();
 
@@ -34,10 +34,9 @@ public abstract class TextEmbeddingModel extends DLModel {
             ? addPrefixesToData((AsymmetricTextEmbeddingParameters) mlParams, (TextDocsInputDataSet) mlInput.getInputDataset())
             : mlInput.getInputDataset();
 
-        List<ModelTensors> tensorOutputs = new ArrayList<>();
-        Output output;
         TextDocsInputDataSet textDocsInput = (TextDocsInputDataSet) inputDataSet;
         ModelResultFilter resultFilter = textDocsInput.getResultFilter();
+        List<Input> inputs = new ArrayList<>(textDocsInput.getDocs().size());
         for (String doc : textDocsInput.getDocs()) {
             Input input = new Input();
             input.add(doc);
@@ -45,8 +44,11 @@ public abstract class TextEmbeddingModel extends DLModel {
                 AsymmetricTextEmbeddingParameters params = (AsymmetricTextEmbeddingParameters) mlParams;
                 input.add(AsymmetricTextEmbeddingParameters.SPARSE_EMBEDDING_FORMAT_FIELD, params.getSparseEmbeddingFormat().name());
             }
+            inputs.add(input);
+        }
 
-            output = getPredictor().predict(input);
+        List<ModelTensors> tensorOutputs = new ArrayList<>(inputs.size());
+        for (Output output : predictInputs(inputs)) {
             tensorOutputs.add(parseModelTensorOutput(output, resultFilter));
         }
         return new ModelTensorOutput(tensorOutputs);
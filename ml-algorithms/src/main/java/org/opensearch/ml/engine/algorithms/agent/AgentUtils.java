@@ -52,6 +52,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -92,6 +93,7 @@ import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.spi.tools.Tool;
 import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.ml.engine.MLEngineClassLoader;
+import org.opensearch.ml.engine.algorithms.remote.McpClientSessionPool;
 import org.opensearch.ml.engine.algorithms.remote.McpConnectorExecutor;
 import org.opensearch.ml.engine.algorithms.remote.McpStreamableHttpConnectorExecutor;
 import org.opensearch.ml.engine.encryptor.Encryptor;
@@ -111,6 +113,7 @@ import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
 
+import io.modelcontextprotocol.client.McpSyncClient;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
@@ -140,6 +143,8 @@ public class AgentUtils {
     public static final String TOOL_CALLS_TOOL_NAME = "tool_calls.tool_name";
     public static final String TOOL_CALLS_TOOL_INPUT = "tool_calls.tool_input";
     public static final String TOOL_CALL_ID_PATH = "tool_calls.id_path";
+    public static final String TOOL_CALLS = "tool_calls";
+    public static final String MAX_PARALLEL_TOOL_CALLS = "max_parallel_tool_calls";
     private static final String NAME = "name";
     private static final String DESCRIPTION = "description";
     private static final Pattern ADDITIONAL_PROPERTIES_PATTERN = Pattern
@@ -436,12 +441,14 @@ public class AgentUtils {
                     String toolCallId = "";
                     if (functionCalling != null) {
                         toolCalls = functionCalling.handle(tmpModelTensorOutput, parameters);
-                        // TODO: support multiple tool calls here
                         if (!toolCalls.isEmpty()) {
                             toolName = toolCalls.getFirst().get("tool_name");
                             toolInput = toolCalls.getFirst().get("tool_input");
                             toolCallId = toolCalls.getFirst().get("tool_call_id");
                         }
+                        if (isParallelToolCalls(parameters, toolCalls, inputTools)) {
+                            modelOutput.put(TOOL_CALLS, StringUtils.toJson(toolCalls));
+                        }
                     } else {
                         String toolCallsPath = parameters.get(TOOL_CALLS_PATH);
                         if (toolCallsPath.startsWith("_llm_response.")) {
@@ -463,7 +470,7 @@ public class AgentUtils {
                         if (toolCallsMsgExcludePath != null) {
                             workingDataAsMap = removeJsonPath(dataAsMap, toolCallsMsgExcludePath, false);
                         }
-                        if (functionCalling != null) {
+                        if (functionCalling != null && !modelOutput.containsKey(TOOL_CALLS)) {
                             workingDataAsMap = functionCalling.filterToFirstToolCall(workingDataAsMap, parameters);
                         }
                         Object toolCallsMsg = JsonPath.read(workingDataAsMap, toolCallsMsgPath);
@@ -525,6 +532,41 @@ public class AgentUtils {
         return modelOutput;
     }
 
+    /**
+     * Get how many tool calls of one LLM response can run at the same time. Tool calls run one per step unless the
+     * agent sets max_parallel_tool_calls to a value greater than 1. AG-UI agents always run one tool call per step.
+     * @param parameters agent parameters
+     * @return max number of tool calls running at the same time, at least 1
+     */
+    public static int getMaxParallelToolCalls(Map<String, String> parameters) {
+        if (parameters == null || !parameters.containsKey(MAX_PARALLEL_TOOL_CALLS) || isAGUIAgent(parameters)) {
+            return 1;
+        }
+        try {
+            return Math.max(1, Integer.parseInt(parameters.get(MAX_PARALLEL_TOOL_CALLS).trim()));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid {} value: {}", MAX_PARALLEL_TOOL_CALLS, parameters.get(MAX_PARALLEL_TOOL_CALLS));
+            return 1;
+        }
+    }
+
+    private static boolean isParallelToolCalls(
+        Map<String, String> parameters,
+        List<Map<String, String>> toolCalls,
+        Set<String> inputTools
+    ) {
+        if (toolCalls.size() <= 1 || getMaxParallelToolCalls(parameters) <= 1) {
+            return false;
+        }
+        for (Map<String, String> toolCall : toolCalls) {
+            String toolName = toolCall.get("tool_name");
+            if (toolName == null || inputTools == null || !inputTools.contains(toolName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static String postFilterFinalAnswer(Map<String, String> parameters, Map<String, Object> llmResponse) {
         String filter = parameters.get(LLM_FINAL_RESPONSE_POST_FILTER);
         if (filter != null) {
@@ -846,31 +888,13 @@ public class AgentUtils {
                     toolListener.onResponse(Collections.emptyList());
                     return;
                 }
-                connector.decrypt("", (credential, tid) -> encryptor.decrypt(credential, tenantId), tenantId);
-
-                List<MLToolSpec> mcpToolSpecs;
-                if (client == null) {
-                    throw new IllegalArgumentException("Client cannot be null for MCP connector execution");
-                }
-
-                if (connector instanceof McpConnector) {
-                    McpConnectorExecutor connectorExecutor = MLEngineClassLoader
-                        .initInstance(connector.getProtocol(), connector, Connector.class);
-                    connectorExecutor.setClient(client);
-                    mcpToolSpecs = connectorExecutor.getMcpToolSpecs();
-                    toolListener.onResponse(mcpToolSpecs);
-                    return;
-                }
-                if (connector instanceof McpStreamableHttpConnector) {
-                    McpStreamableHttpConnectorExecutor connectorExecutor = MLEngineClassLoader
-                        .initInstance(connector.getProtocol(), connector, Connector.class);
-                    connectorExecutor.setClient(client);
-                    mcpToolSpecs = connectorExecutor.getMcpToolSpecs();
-                    toolListener.onResponse(mcpToolSpecs);
-                    return;
-                }
-                log.error("Unsupported connector type for connector: " + connectorId);
-                toolListener.onResponse(Collections.emptyList());
+                // load the master key without blocking the calling thread, decrypting then only hits the cache
+                encryptor.loadMasterKey(tenantId, ActionListener.wrap(masterKey -> {
+                    getMCPToolSpecsFromDecryptedConnector(connectorId, tenantId, connector, client, encryptor, toolListener);
+                }, e -> {
+                    log.error("Failed to load the master key for connector: " + connectorId, e);
+                    toolListener.onResponse(Collections.emptyList());
+                }));
             } catch (Exception e) {
                 log.error("Failed to get tools from connector: " + connectorId, e);
                 toolListener.onResponse(Collections.emptyList());
@@ -882,6 +906,46 @@ public class AgentUtils {
 
     }
 
+    private static void getMCPToolSpecsFromDecryptedConnector(
+        String connectorId,
+        String tenantId,
+        Connector connector,
+        Client client,
+        Encryptor encryptor,
+        ActionListener<List<MLToolSpec>> toolListener
+    ) {
+        try {
+            connector.decrypt("", (credential, tid) -> encryptor.decrypt(credential, tenantId), tenantId);
+
+            List<MLToolSpec> mcpToolSpecs;
+            if (client == null) {
+                throw new IllegalArgumentException("Client cannot be null for MCP connector execution");
+            }
+
+            if (connector instanceof McpConnector) {
+                McpConnectorExecutor connectorExecutor = MLEngineClassLoader
+                    .initInstance(connector.getProtocol(), connector, Connector.class);
+                connectorExecutor.setClient(client);
+                mcpToolSpecs = connectorExecutor.getMcpToolSpecs();
+                toolListener.onResponse(mcpToolSpecs);
+                return;
+            }
+            if (connector instanceof McpStreamableHttpConnector) {
+                McpStreamableHttpConnectorExecutor connectorExecutor = MLEngineClassLoader
+                    .initInstance(connector.getProtocol(), connector, Connector.class);
+                connectorExecutor.setClient(client);
+                mcpToolSpecs = connectorExecutor.getMcpToolSpecs();
+                toolListener.onResponse(mcpToolSpecs);
+                return;
+            }
+            log.error("Unsupported connector type for connector: " + connectorId);
+            toolListener.onResponse(Collections.emptyList());
+        } catch (Exception e) {
+            log.error("Failed to get tools from connector: " + connectorId, e);
+            toolListener.onResponse(Collections.emptyList());
+        }
+    }
+
     public static void getConnector(
         String connectorId,
         String tenantId,
@@ -1030,16 +1094,29 @@ public class AgentUtils {
     }
 
     public static void cleanUpResource(Map<String, Tool> tools) {
+        // MCP clients are pooled across agent runs, only clients which are no longer pooled are closed.
+        // All tools fetched from an MCP connector share one session lease, which is released once. Connectors with the
+        // same session share a client, but each of them holds its own lease.
+        Map<Object, McpSyncClient> leases = new IdentityHashMap<>();
         for (Map.Entry<String, Tool> entry : tools.entrySet()) {
             Tool tool = entry.getValue();
             if (tool instanceof McpSseTool) {
                 // TODO: make this more general, avoid checking specific tool type
-                ((McpSseTool) tool).getMcpSyncClient().closeGracefully();
+                McpSseTool mcpTool = (McpSseTool) tool;
+                addMcpSessionLease(leases, mcpTool.getMcpSessionLease(), mcpTool.getMcpSyncClient());
             } else if (tool instanceof McpStreamableHttpTool) {
                 // TODO: make this more general, avoid checking specific tool type
-                ((McpStreamableHttpTool) tool).getMcpSyncClient().closeGracefully();
+                McpStreamableHttpTool mcpTool = (McpStreamableHttpTool) tool;
+                addMcpSessionLease(leases, mcpTool.getMcpSessionLease(), mcpTool.getMcpSyncClient());
             }
         }
+        McpClientSessionPool sessionPool = McpClientSessionPool.getInstance();
+        leases.values().forEach(sessionPool::release);
+    }
+
+    private static void addMcpSessionLease(Map<Object, McpSyncClient> leases, Object lease, McpSyncClient client) {
+        // tools created without a lease release their client once
+        leases.put(lease == null ? client : lease, client);
     }
 
     /**
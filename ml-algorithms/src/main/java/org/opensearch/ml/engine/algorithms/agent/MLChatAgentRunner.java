@@ -26,6 +26,7 @@ import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.PROMPT_CHAT_H
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.PROMPT_PREFIX;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.PROMPT_SUFFIX;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.RESPONSE_FORMAT_INSTRUCTION;
+import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_CALLS;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_CALL_ID;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_RESPONSE;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_RESULT;
@@ -35,6 +36,7 @@ import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.constructTool
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.createMemoryParams;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.createTools;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.getCurrentDateTime;
+import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.getMaxParallelToolCalls;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.getMcpToolSpecs;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.getMessageHistoryLimit;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.getMlToolSpecs;
@@ -61,6 +63,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.apache.commons.text.StringSubstitutor;
 import org.opensearch.action.ActionRequest;
@@ -520,7 +523,27 @@ public class MLChatAgentRunner implements MLAgentRunner {
                         return;
                     }
 
-                    if (tools.containsKey(action)) {
+                    List<ToolCall> parallelToolCalls = getParallelToolCalls(
+                        modelOutput,
+                        tools,
+                        toolSpecMap,
+                        backendTools,
+                        question,
+                        tenantId
+                    );
+                    if (parallelToolCalls != null) {
+                        runToolsInParallel(
+                            tools,
+                            toolSpecMap,
+                            tmpParameters,
+                            (ActionListener<Object>) nextStepListener,
+                            parallelToolCalls,
+                            interactions,
+                            functionCalling,
+                            hookRegistry,
+                            getMaxParallelToolCalls(tmpParameters)
+                        );
+                    } else if (tools.containsKey(action)) {
                         // Check if this is a backend tool - if it is, execute it normally in the ReAct loop
                         // If it's NOT a backend tool, it must be a frontend tool, so break out of the loop
                         boolean isBackendTool = backendTools != null && backendTools.containsKey(action);
@@ -577,34 +600,59 @@ public class MLChatAgentRunner implements MLAgentRunner {
                         ((ActionListener<Object>) nextStepListener).onResponse(res);
                     }
                 } else {
-                    // filteredOutput is the POST Tool output
-                    Object filteredOutput = filterToolOutput(lastToolParams, output);
-                    addToolOutputToAddtionalInfo(toolSpecMap, lastAction, additionalInfo, filteredOutput);
-
-                    String toolResponse = constructToolResponse(
-                        tmpParameters,
-                        lastAction,
-                        lastActionInput,
-                        lastToolSelectionResponse,
-                        filteredOutput
-                    );
-                    scratchpadBuilder.append(toolResponse).append("\n\n");
+                    List<ToolCallResult> toolCallResults = output instanceof ToolCallResults
+                        ? ((ToolCallResults) output).results()
+                        : List
+                            .of(
+                                new ToolCallResult(
+                                    new ToolCall(lastAction.get(), lastActionInput.get(), lastToolCallId.get(), lastToolParams),
+                                    output
+                                )
+                            );
+                    for (ToolCallResult toolCallResult : toolCallResults) {
+                        ToolCall toolCall = toolCallResult.toolCall();
+                        // filteredOutput is the POST Tool output
+                        Object filteredOutput = filterToolOutput(toolCall.toolParams(), toolCallResult.output());
+                        addToolOutputToAddtionalInfo(toolSpecMap, toolCall.action(), additionalInfo, filteredOutput);
+
+                        String toolResponse = constructToolResponse(
+                            tmpParameters,
+                            toolCall.action(),
+                            toolCall.actionInput(),
+                            lastToolSelectionResponse.get(),
+                            filteredOutput
+                        );
+                        scratchpadBuilder.append(toolResponse).append("\n\n");
 
-                    // Record tool result for summary
-                    String outputSummary = outputToOutputString(filteredOutput);
+                        String toolOutputString = outputToOutputString(filteredOutput);
 
-                    // Save trace with processed output
-                    saveTraceData(
-                        memory,
-                        "ReAct",
-                        lastActionInput.get(),
-                        outputToOutputString(filteredOutput),
-                        sessionId,
-                        traceDisabled,
-                        parentInteractionId,
-                        traceNumber,
-                        lastAction.get()
-                    );
+                        // Save trace with processed output
+                        saveTraceData(
+                            memory,
+                            "ReAct",
+                            toolCall.actionInput(),
+                            toolOutputString,
+                            sessionId,
+                            traceDisabled,
+                            parentInteractionId,
+                            traceNumber,
+                            toolCall.action()
+                        );
+
+                        if (sessionMsgAnswerBuilder.length() > 0) {
+                            sessionMsgAnswerBuilder.append("\n");
+                        }
+                        sessionMsgAnswerBuilder.append(toolOutputString);
+
+                        if (streamingWrapper != null) {
+                            if (isAGUIAgent(parameters)) {
+                                streamingWrapper
+                                    .sendBackendToolResult(toolCall.toolCallId(), toolOutputString, sessionId, parentInteractionId);
+                            } else {
+                                streamingWrapper.sendToolResponse(toolOutputString, sessionId, parentInteractionId);
+                            }
+                        }
+                    }
 
                     StringSubstitutor substitutor = new StringSubstitutor(Map.of(SCRATCHPAD, scratchpadBuilder), "${parameters.", "}");
                     newPrompt.set(substitutor.replace(finalPrompt));
@@ -615,18 +663,6 @@ public class MLChatAgentRunner implements MLAgentRunner {
                         tmpParameters.put(INTERACTIONS, ", " + interactionsStr);
                     }
 
-                    sessionMsgAnswerBuilder.append(outputToOutputString(filteredOutput));
-
-                    String toolOutputString = outputToOutputString(filteredOutput);
-
-                    if (streamingWrapper != null) {
-                        if (isAGUIAgent(parameters)) {
-                            streamingWrapper.sendBackendToolResult(lastToolCallId.get(), toolOutputString, sessionId, parentInteractionId);
-                        } else {
-                            streamingWrapper.sendToolResponse(toolOutputString, sessionId, parentInteractionId);
-                        }
-                    }
-
                     traceTensors
                         .add(
                             ModelTensors
@@ -691,9 +727,9 @@ public class MLChatAgentRunner implements MLAgentRunner {
 
     private static String constructToolResponse(
         Map<String, String> tmpParameters,
-        AtomicReference<String> lastAction,
-        AtomicReference<String> lastActionInput,
-        AtomicReference<String> lastToolSelectionResponse,
+        String action,
+        String actionInput,
+        String toolSelectionResponse,
         Object output
     ) throws PrivilegedActionException {
         String toolResponse = tmpParameters.get(TOOL_RESPONSE);
@@ -701,11 +737,11 @@ public class MLChatAgentRunner implements MLAgentRunner {
             Map
                 .of(
                     "llm_tool_selection_response",
-                    lastToolSelectionResponse.get(),
+                    toolSelectionResponse,
                     "tool_name",
-                    lastAction.get(),
+                    action,
                     "tool_input",
-                    lastActionInput.get(),
+                    actionInput,
                     "observation",
                     outputToOutputString(output)
                 ),
@@ -718,11 +754,11 @@ public class MLChatAgentRunner implements MLAgentRunner {
 
     private static void addToolOutputToAddtionalInfo(
         Map<String, MLToolSpec> toolSpecMap,
-        AtomicReference<String> lastAction,
+        String action,
         Map<String, Object> additionalInfo,
         Object output
     ) throws PrivilegedActionException {
-        MLToolSpec toolSpec = toolSpecMap.get(lastAction.get());
+        MLToolSpec toolSpec = toolSpecMap.get(action);
         if (toolSpec != null && toolSpec.isIncludeOutputInAgentResponse()) {
             String outputString = outputToOutputString(output);
             String toolOutputKey = String.format("%s.output", getToolName(toolSpec));
@@ -810,20 +846,7 @@ public class MLChatAgentRunner implements MLAgentRunner {
                                 )
                         );
                 });
-                if (tools.get(action) instanceof MLModelTool) {
-                    Map<String, String> llmToolTmpParameters = new HashMap<>();
-                    llmToolTmpParameters.putAll(tmpParameters);
-                    llmToolTmpParameters.putAll(toolSpecMap.get(action).getParameters());
-                    llmToolTmpParameters.put(MLAgentExecutor.QUESTION, actionInput);
-                    tools.get(action).run(llmToolTmpParameters, toolListener); // run tool
-                    updateParametersAcrossTools(tmpParameters, llmToolTmpParameters);
-                } else {
-                    Map<String, String> parameters = new HashMap<>();
-                    parameters.putAll(tmpParameters);
-                    parameters.putAll(toolParams);
-                    tools.get(action).run(parameters, toolListener); // run tool
-                    updateParametersAcrossTools(tmpParameters, parameters);
-                }
+                runToolWithParameters(tools, toolSpecMap, tmpParameters, action, actionInput, toolParams, toolListener);
             } catch (Exception e) {
                 log.error("Failed to run tool {}", action, e);
                 nextStepListener
@@ -835,6 +858,90 @@ public class MLChatAgentRunner implements MLAgentRunner {
         }
     }
 
+    private static void runToolWithParameters(
+        Map<String, Tool> tools,
+        Map<String, MLToolSpec> toolSpecMap,
+        Map<String, String> tmpParameters,
+        String action,
+        String actionInput,
+        Map<String, String> toolParams,
+        ActionListener<Object> toolListener
+    ) {
+        Tool tool = tools.get(action);
+        Map<String, String> parameters = new HashMap<>();
+        // tool calls of one step may run at the same time, they all read and update the shared agent parameters
+        synchronized (tmpParameters) {
+            parameters.putAll(tmpParameters);
+            if (tool instanceof MLModelTool) {
+                parameters.putAll(toolSpecMap.get(action).getParameters());
+                parameters.put(MLAgentExecutor.QUESTION, actionInput);
+            } else {
+                parameters.putAll(toolParams);
+            }
+        }
+        tool.run(parameters, toolListener); // run tool
+        synchronized (tmpParameters) {
+            updateParametersAcrossTools(tmpParameters, parameters);
+        }
+    }
+
+    /**
+     * Build the tool calls to run in parallel from the LLM output. Returns null if the LLM output doesn't contain
+     * multiple tool calls, or if any of them isn't a backend tool, the step then runs the first tool call only.
+     */
+    private static List<ToolCall> getParallelToolCalls(
+        Map<String, String> modelOutput,
+        Map<String, Tool> tools,
+        Map<String, MLToolSpec> toolSpecMap,
+        Map<String, Tool> backendTools,
+        String question,
+        String tenantId
+    ) {
+        String toolCallsJson = modelOutput.get(TOOL_CALLS);
+        if (toolCallsJson == null || backendTools == null) {
+            return null;
+        }
+        Type type = new TypeToken<List<Map<String, String>>>() {
+        }.getType();
+        List<Map<String, String>> llmToolCalls = gson.fromJson(toolCallsJson, type);
+        List<ToolCall> toolCalls = new ArrayList<>();
+        for (Map<String, String> llmToolCall : llmToolCalls) {
+            String action = llmToolCall.get("tool_name");
+            if (!tools.containsKey(action) || !backendTools.containsKey(action)) {
+                return null;
+            }
+            AtomicReference<String> actionInput = new AtomicReference<>(llmToolCall.get("tool_input"));
+            Map<String, String> toolParams = constructToolParams(tools, toolSpecMap, question, actionInput, action, actionInput.get());
+            toolParams.put(TENANT_ID_FIELD, tenantId);
+            toolCalls.add(new ToolCall(action, actionInput.get(), llmToolCall.get(TOOL_CALL_ID), toolParams));
+        }
+        return toolCalls;
+    }
+
+    private static void runToolsInParallel(
+        Map<String, Tool> tools,
+        Map<String, MLToolSpec> toolSpecMap,
+        Map<String, String> tmpParameters,
+        ActionListener<Object> nextStepListener,
+        List<ToolCall> toolCalls,
+        List<String> interactions,
+        FunctionCalling functionCalling,
+        HookRegistry hookRegistry,
+        int maxParallelToolCalls
+    ) {
+        log.debug("Running {} tool calls with max parallelism {}", toolCalls.size(), maxParallelToolCalls);
+        new ParallelToolCallRunner(
+            tools,
+            toolSpecMap,
+            tmpParameters,
+            nextStepListener,
+            toolCalls,
+            interactions,
+            functionCalling,
+            hookRegistry
+        ).start(maxParallelToolCalls);
+    }
+
     /**
      * In each tool runs, it copies agent parameters, which is tmpParameters into a
      * new set of parameter llmToolTmpParameters,
@@ -1467,4 +1574,133 @@ public class MLChatAgentRunner implements MLAgentRunner {
         }
     }
 
+    private record ToolCall(String action, String actionInput, String toolCallId, Map<String, String> toolParams) {
+    }
+
+    private record ToolCallResult(ToolCall toolCall, Object output) {
+    }
+
+    /**
+     * Outputs of all tool calls of one step, in the order the LLM returned the tool calls.
+     */
+    private record ToolCallResults(List<ToolCallResult> results) {
+    }
+
+    /**
+     * Runs all tool calls of one LLM response with at most maxParallelToolCalls of them running at the same time. Once
+     * all tool calls complete, their results are supplied to the LLM in one step and the next step gets all outputs.
+     */
+    private static class ParallelToolCallRunner {
+        private final Map<String, Tool> tools;
+        private final Map<String, MLToolSpec> toolSpecMap;
+        private final Map<String, String> tmpParameters;
+        private final ActionListener<Object> nextStepListener;
+        private final List<ToolCall> toolCalls;
+        private final List<String> interactions;
+        private final FunctionCalling functionCalling;
+        private final HookRegistry hookRegistry;
+        private final AtomicReferenceArray<ToolCallResult> results;
+        private final AtomicReferenceArray<Map<String, Object>> llmToolResults;
+        private final AtomicInteger nextToolCall = new AtomicInteger();
+        private final AtomicInteger pendingToolCalls;
+
+        ParallelToolCallRunner(
+            Map<String, Tool> tools,
+            Map<String, MLToolSpec> toolSpecMap,
+            Map<String, String> tmpParameters,
+            ActionListener<Object> nextStepListener,
+            List<ToolCall> toolCalls,
+            List<String> interactions,
+            FunctionCalling functionCalling,
+            HookRegistry hookRegistry
+        ) {
+            this.tools = tools;
+            this.toolSpecMap = toolSpecMap;
+            this.tmpParameters = tmpParameters;
+            this.nextStepListener = nextStepListener;
+            this.toolCalls = toolCalls;
+            this.interactions = interactions;
+            this.functionCalling = functionCalling;
+            this.hookRegistry = hookRegistry;
+            this.results = new AtomicReferenceArray<>(toolCalls.size());
+            this.llmToolResults = new AtomicReferenceArray<>(toolCalls.size());
+            this.pendingToolCalls = new AtomicInteger(toolCalls.size());
+        }
+
+        void start(int maxParallelToolCalls) {
+            int parallelism = Math.min(maxParallelToolCalls, toolCalls.size());
+            for (int i = 0; i < parallelism; i++) {
+                runNextToolCall();
+            }
+        }
+
+        private void runNextToolCall() {
+            int index = nextToolCall.getAndIncrement();
+            if (index >= toolCalls.size()) {
+                return;
+            }
+            ToolCall toolCall = toolCalls.get(index);
+            String action = toolCall.action();
+            if (!tools.get(action).validate(toolCall.toolParams())) {
+                String res = String.format(Locale.ROOT, "Failed to run the tool %s due to wrong input %s.", action, toolCall.actionInput());
+                complete(index, res, res);
+                return;
+            }
+            ActionListener<Object> toolListener = ActionListener.wrap(r -> {
+                String outputResponse = parseResponse(filterToolOutput(toolCall.toolParams(), r));
+                // Emit POST_TOOL hook event after tool execution and process current tool output
+                List<MLToolSpec> postToolSpecs = new ArrayList<>(toolSpecMap.values());
+                String outputResponseAfterHook;
+                synchronized (tmpParameters) {
+                    outputResponseAfterHook = AgentContextUtil
+                        .emitPostToolHook(outputResponse, tmpParameters, postToolSpecs, null, hookRegistry)
+                        .toString();
+                }
+                complete(index, r, outputResponseAfterHook);
+            }, e -> onToolFailure(index, e));
+            try {
+                String actionInput = toolCall.actionInput();
+                runToolWithParameters(tools, toolSpecMap, tmpParameters, action, actionInput, toolCall.toolParams(), toolListener);
+            } catch (Exception e) {
+                onToolFailure(index, e);
+            }
+        }
+
+        private void onToolFailure(int index, Exception e) {
+            String action = toolCalls.get(index).action();
+            log.error("Failed to run tool {}", action, e);
+            String res = String.format(Locale.ROOT, "Failed to run the tool %s with the error message %s.", action, e.getMessage());
+            complete(index, res, "Tool " + action + " failed: " + e.getMessage());
+        }
+
+        private void complete(int index, Object output, String llmToolResult) {
+            ToolCall toolCall = toolCalls.get(index);
+            if (!results.compareAndSet(index, null, new ToolCallResult(toolCall, output))) {
+                log.warn("Tool {} already completed, ignoring the duplicate response", toolCall.action());
+                return;
+            }
+            Map<String, Object> toolResult = new HashMap<>();
+            toolResult.put(TOOL_CALL_ID, toolCall.toolCallId());
+            toolResult.put(TOOL_RESULT, Map.of("text", llmToolResult));
+            llmToolResults.set(index, toolResult);
+            if (pendingToolCalls.decrementAndGet() > 0) {
+                runNextToolCall();
+                return;
+            }
+            try {
+                List<Map<String, Object>> toolResults = new ArrayList<>(toolCalls.size());
+                List<ToolCallResult> toolCallResults = new ArrayList<>(toolCalls.size());
+                for (int i = 0; i < toolCalls.size(); i++) {
+                    toolResults.add(llmToolResults.get(i));
+                    toolCallResults.add(results.get(i));
+                }
+                for (LLMMessage llmMessage : functionCalling.supply(toolResults)) {
+                    interactions.add(llmMessage.getResponse());
+                }
+                nextStepListener.onResponse(new ToolCallResults(toolCallResults));
+            } catch (Exception e) {
+                nextStepListener.onFailure(e);
+            }
+        }
+    }
 }
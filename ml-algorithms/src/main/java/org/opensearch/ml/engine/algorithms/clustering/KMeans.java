@@ -26,6 +26,7 @@ import org.opensearch.ml.engine.TrainAndPredictable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.contants.TribuoOutputType;
 import org.opensearch.ml.engine.encryptor.Encryptor;
+import org.opensearch.ml.engine.utils.DeserializedModelCache;
 import org.opensearch.ml.engine.utils.ModelSerDeSer;
 import org.opensearch.ml.engine.utils.TribuoUtil;
 import org.tribuo.MutableDataset;
@@ -121,7 +122,7 @@ public class KMeans implements TrainAndPredictable {
         if (model == null) {
             throw new IllegalArgumentException("No model found for KMeans prediction.");
         }
-        this.kMeansModel = (KMeansModel) ModelSerDeSer.deserialize(model);
+        this.kMeansModel = DeserializedModelCache.getOrLoad(model, m -> (KMeansModel) ModelSerDeSer.deserialize(m));
         return predict(mlInput);
     }
 
@@ -7,18 +7,19 @@ package org.opensearch.ml.engine.algorithms.rcf;
 
 import static org.opensearch.ml.engine.utils.ModelSerDeSer.encodeBase64;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.dataframe.BooleanValue;
 import org.opensearch.ml.common.dataframe.ColumnMeta;
+import org.opensearch.ml.common.dataframe.ColumnType;
 import org.opensearch.ml.common.dataframe.ColumnValue;
+import org.opensearch.ml.common.dataframe.ColumnarDataFrame;
 import org.opensearch.ml.common.dataframe.DataFrame;
-import org.opensearch.ml.common.dataframe.DataFrameBuilder;
+import org.opensearch.ml.common.dataframe.DoubleValue;
 import org.opensearch.ml.common.dataframe.Row;
 import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.input.MLInput;
@@ -30,6 +31,7 @@ import org.opensearch.ml.common.output.MLPredictionOutput;
 import org.opensearch.ml.engine.TrainAndPredictable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.encryptor.Encryptor;
+import org.opensearch.ml.engine.utils.DeserializedModelCache;
 
 import com.amazon.randomcutforest.RandomCutForest;
 import com.amazon.randomcutforest.state.RandomCutForestMapper;
@@ -55,6 +57,10 @@ public class BatchRandomCutForest implements TrainAndPredictable {
     private Double anomalyScoreThreshold = DEFAULT_ANOMALY_SCORE_THRESHOLD;
     private Integer trainingDataSize;
 
+    private static final ColumnMeta[] OUTPUT_COLUMN_METAS = new ColumnMeta[] {
+        new ColumnMeta("score", ColumnType.DOUBLE),
+        new ColumnMeta("anomalous", ColumnType.BOOLEAN) };
+
     private static final RandomCutForestMapper rcfMapper = new RandomCutForestMapper();
 
     private RandomCutForest forest;
@@ -92,8 +98,8 @@ public class BatchRandomCutForest implements TrainAndPredictable {
     @Override
     public MLOutput predict(MLInput mlInput) {
         DataFrame dataFrame = ((DataFrameInputDataset) mlInput.getInputDataset()).getDataFrame();
-        List<Map<String, Object>> predictResult = process(dataFrame, forest, 0);
-        return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(predictResult)).build();
+        DataFrame predictResult = process(dataFrame, forest, 0, RCFParallelScorer.getPredictExecutor());
+        return MLPredictionOutput.builder().predictionResult(predictResult).build();
     }
 
     @Override
@@ -101,7 +107,8 @@ public class BatchRandomCutForest implements TrainAndPredictable {
         if (model == null) {
             throw new IllegalArgumentException("No model found for batch RCF prediction.");
         }
-        RandomCutForestState state = RCFModelSerDeSer.deserializeRCF(model);
+        // cache the state only, scoring updates the forest
+        RandomCutForestState state = DeserializedModelCache.getOrLoad(model, RCFModelSerDeSer::deserializeRCF);
         forest = rcfMapper.toModel(state);
         return predict(mlInput);
     }
@@ -110,8 +117,11 @@ public class BatchRandomCutForest implements TrainAndPredictable {
     public MLModel train(MLInput mlInput) {
         DataFrame dataFrame = ((DataFrameInputDataset) mlInput.getInputDataset()).getDataFrame();
         RandomCutForest forest = createRandomCutForest(dataFrame);
-        Integer actualTrainingDataSize = trainingDataSize == null ? dataFrame.size() : trainingDataSize;
-        process(dataFrame, forest, actualTrainingDataSize);
+        int actualTrainingDataSize = trainingDataSize == null ? dataFrame.size() : Math.min(trainingDataSize, dataFrame.size());
+        // the scores are not returned, only update the forest
+        for (int rowNum = 0; rowNum < actualTrainingDataSize; rowNum++) {
+            forest.update(dataFrame.getRowAsDoubles(rowNum));
+        }
 
         RandomCutForestState state = rcfMapper.toState(forest);
         MLModel model = MLModel
@@ -129,34 +139,29 @@ public class BatchRandomCutForest implements TrainAndPredictable {
     public MLOutput trainAndPredict(MLInput mlInput) {
         DataFrame dataFrame = ((DataFrameInputDataset) mlInput.getInputDataset()).getDataFrame();
         RandomCutForest forest = createRandomCutForest(dataFrame);
-        Integer actualTrainingDataSize = trainingDataSize == null ? dataFrame.size() : trainingDataSize;
-        List<Map<String, Object>> predictResult = process(dataFrame, forest, actualTrainingDataSize);
-        return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(predictResult)).build();
+        int actualTrainingDataSize = trainingDataSize == null ? dataFrame.size() : trainingDataSize;
+        DataFrame predictResult = process(dataFrame, forest, actualTrainingDataSize, RCFParallelScorer.getTrainExecutor());
+        return MLPredictionOutput.builder().predictionResult(predictResult).build();
     }
 
-    private List<Map<String, Object>> process(DataFrame dataFrame, RandomCutForest forest, Integer actualTrainingDataSize) {
-        List<Double> pointList = new ArrayList<>();
-        ColumnMeta[] columnMetas = dataFrame.columnMetas();
-        List<Map<String, Object>> predictResult = new ArrayList<>();
-
-        for (int rowNum = 0; rowNum < dataFrame.size(); rowNum++) {
-            for (int i = 0; i < columnMetas.length; i++) {
-                Row row = dataFrame.getRow(rowNum);
-                ColumnValue value = row.getValue(i);
-                pointList.add(value.doubleValue());
-            }
-            double[] point = pointList.stream().mapToDouble(d -> d).toArray();
-            pointList.clear();
-            double anomalyScore = forest.getAnomalyScore(point);
-            if (actualTrainingDataSize == null || rowNum < actualTrainingDataSize) {
-                forest.update(point);
-            }
-            Map<String, Object> result = new HashMap<>();
-            result.put("score", anomalyScore);
-            result.put("anomalous", anomalyScore > anomalyScoreThreshold);
-            predictResult.add(result);
+    /**
+     * Scores all rows, and updates the forest with the first rows. The rows after the training rows are scored in parallel.
+     */
+    private DataFrame process(DataFrame dataFrame, RandomCutForest forest, int actualTrainingDataSize, Executor executor) {
+        int trainingRows = Math.max(0, Math.min(actualTrainingDataSize, dataFrame.size()));
+        double[] scores = new double[dataFrame.size()];
+        for (int rowNum = 0; rowNum < trainingRows; rowNum++) {
+            double[] point = dataFrame.getRowAsDoubles(rowNum);
+            scores[rowNum] = forest.getAnomalyScore(point);
+            forest.update(point);
+        }
+        RCFParallelScorer.score(forest, dataFrame, trainingRows, scores, executor);
+
+        ColumnarDataFrame result = new ColumnarDataFrame(OUTPUT_COLUMN_METAS.clone(), scores.length);
+        for (double score : scores) {
+            result.appendRow(new Row(new ColumnValue[] { new DoubleValue(score), new BooleanValue(score > anomalyScoreThreshold) }));
         }
-        return predictResult;
+        return result;
     }
 
     private RandomCutForest createRandomCutForest(DataFrame dataFrame) {
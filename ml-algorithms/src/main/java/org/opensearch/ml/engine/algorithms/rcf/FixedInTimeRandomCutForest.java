@@ -23,7 +23,9 @@ import org.opensearch.ml.common.dataframe.ColumnMeta;
 import org.opensearch.ml.common.dataframe.ColumnType;
 import org.opensearch.ml.common.dataframe.ColumnValue;
 import org.opensearch.ml.common.dataframe.DataFrame;
-import org.opensearch.ml.common.dataframe.DataFrameBuilder;
+import org.opensearch.ml.common.dataframe.DefaultDataFrame;
+import org.opensearch.ml.common.dataframe.DoubleValue;
+import org.opensearch.ml.common.dataframe.LongValue;
 import org.opensearch.ml.common.dataframe.Row;
 import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.exception.MLValidationException;
@@ -36,6 +38,7 @@ import org.opensearch.ml.common.output.MLPredictionOutput;
 import org.opensearch.ml.engine.TrainAndPredictable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.encryptor.Encryptor;
+import org.opensearch.ml.engine.utils.DeserializedModelCache;
 
 import com.amazon.randomcutforest.config.ForestMode;
 import com.amazon.randomcutforest.config.Precision;
@@ -64,6 +67,8 @@ public class FixedInTimeRandomCutForest implements TrainAndPredictable {
     private static final String DEFAULT_TIME_FIELD = "timestamp";
     private static final String DEFAULT_DATE_FORMAT = "yyyy-MM-dd HH:mm:ss";
     private static final String DEFAULT_TIME_ZONE = "UTC";
+    private static final String SCORE_FIELD = "score";
+    private static final String ANOMALY_GRADE_FIELD = "anomaly_grade";
 
     private Integer numberOfTrees;
     private Integer shingleSize;
@@ -119,8 +124,8 @@ public class FixedInTimeRandomCutForest implements TrainAndPredictable {
     @Override
     public MLOutput predict(MLInput mlInput) {
         DataFrame dataFrame = ((DataFrameInputDataset) mlInput.getInputDataset()).getDataFrame();
-        List<Map<String, Object>> predictResult = process(dataFrame, forest, mlInput.getParameters());
-        return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(predictResult)).build();
+        DataFrame predictResult = process(dataFrame, forest, mlInput.getParameters());
+        return MLPredictionOutput.builder().predictionResult(predictResult).build();
     }
 
     @Override
@@ -128,7 +133,8 @@ public class FixedInTimeRandomCutForest implements TrainAndPredictable {
         if (model == null) {
             throw new IllegalArgumentException("No model found for FIT RCF prediction.");
         }
-        ThresholdedRandomCutForestState state = RCFModelSerDeSer.deserializeTRCF(model);
+        // cache the state only, scoring updates the forest
+        ThresholdedRandomCutForestState state = DeserializedModelCache.getOrLoad(model, RCFModelSerDeSer::deserializeTRCF);
         forest = trcfMapper.toModel(state);
         return predict(mlInput);
     }
@@ -155,11 +161,11 @@ public class FixedInTimeRandomCutForest implements TrainAndPredictable {
     public MLOutput trainAndPredict(MLInput mlInput) {
         DataFrame dataFrame = ((DataFrameInputDataset) mlInput.getInputDataset()).getDataFrame();
         ThresholdedRandomCutForest forest = createThresholdedRandomCutForest(dataFrame);
-        List<Map<String, Object>> predictResult = process(dataFrame, forest, null);
-        return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(predictResult)).build();
+        DataFrame predictResult = process(dataFrame, forest, null);
+        return MLPredictionOutput.builder().predictionResult(predictResult).build();
     }
 
-    private List<Map<String, Object>> process(DataFrame dataFrame, ThresholdedRandomCutForest forest, MLAlgoParams parameters) {
+    private DataFrame process(DataFrame dataFrame, ThresholdedRandomCutForest forest, MLAlgoParams parameters) {
         String timeField = this.timeField;
         DateFormat dateFormat = this.simpleDateFormat;
         if (parameters != null) {
@@ -170,46 +176,78 @@ public class FixedInTimeRandomCutForest implements TrainAndPredictable {
             dateFormat.setTimeZone(TimeZone.getTimeZone(timeZone));
         }
 
-        List<Double> pointList = new ArrayList<>();
         ColumnMeta[] columnMetas = dataFrame.columnMetas();
-        List<Map<String, Object>> predictResult = new ArrayList<>();
-        for (int rowNum = 0; rowNum < dataFrame.size(); rowNum++) {
+        // TODO: sort dataframe by time field with asc order. Currently consider the date already sorted by time.
+        int timeFieldIndex = -1;
+        for (int i = 0; i < columnMetas.length; i++) {
+            if (timeField != null && timeField.equals(columnMetas[i].getName())) {
+                ColumnType columnType = columnMetas[i].getColumnType();
+                if (columnType != ColumnType.LONG && columnType != ColumnType.STRING) {
+                    throw new MLValidationException("Wrong data type of time field. Should use LONG or STRING, but got " + columnType);
+                }
+                timeFieldIndex = i;
+                break;
+            }
+        }
+
+        int size = dataFrame.size();
+        long[] timestamps = new long[size];
+        double[] scores = new double[size];
+        double[] anomalyGrades = new double[size];
+        int dimensions = timeFieldIndex < 0 ? columnMetas.length : columnMetas.length - 1;
+        for (int rowNum = 0; rowNum < size; rowNum++) {
             Row row = dataFrame.getRow(rowNum);
+            double[] point = new double[dimensions];
             long timestamp = -1;
+            int pointIndex = 0;
             for (int i = 0; i < columnMetas.length; i++) {
-                ColumnMeta columnMeta = columnMetas[i];
                 ColumnValue value = row.getValue(i);
-
-                // TODO: sort dataframe by time field with asc order. Currently consider the date already sorted by time.
-                if (timeField != null && timeField.equals(columnMeta.getName())) {
-                    ColumnType columnType = columnMeta.getColumnType();
-                    if (columnType == ColumnType.LONG) {
-                        timestamp = value.longValue();
-                    } else if (columnType == ColumnType.STRING) {
-                        try {
-                            timestamp = dateFormat.parse(value.stringValue()).getTime();
-                        } catch (ParseException e) {
-                            log.error("Failed to parse timestamp " + value.stringValue(), e);
-                            throw new MLValidationException("Failed to parse timestamp " + value.stringValue());
-                        }
-                    } else {
-                        throw new MLValidationException("Wrong data type of time field. Should use LONG or STRING, but got " + columnType);
-                    }
+                if (i != timeFieldIndex) {
+                    point[pointIndex++] = value.doubleValue();
+                } else if (columnMetas[i].getColumnType() == ColumnType.LONG) {
+                    timestamp = value.longValue();
                 } else {
-                    pointList.add(value.doubleValue());
+                    try {
+                        timestamp = dateFormat.parse(value.stringValue()).getTime();
+                    } catch (ParseException e) {
+                        log.error("Failed to parse timestamp " + value.stringValue(), e);
+                        throw new MLValidationException("Failed to parse timestamp " + value.stringValue());
+                    }
                 }
             }
-            double[] point = pointList.stream().mapToDouble(d -> d).toArray();
-            pointList.clear();
-            Map<String, Object> result = new HashMap<>();
 
             AnomalyDescriptor process = forest.process(point, timestamp);
-            result.put(timeField, timestamp);
-            result.put("score", process.getRCFScore());
-            result.put("anomaly_grade", process.getAnomalyGrade());
-            predictResult.add(result);
+            timestamps[rowNum] = timestamp;
+            scores[rowNum] = process.getRCFScore();
+            anomalyGrades[rowNum] = process.getAnomalyGrade();
+        }
+        return toDataFrame(timeField, timestamps, scores, anomalyGrades);
+    }
+
+    /**
+     * Builds the prediction result from the output buffers. The columns keep the order of the keys of a hash map, which
+     * is how the result was built before.
+     */
+    private DataFrame toDataFrame(String timeField, long[] timestamps, double[] scores, double[] anomalyGrades) {
+        Map<String, ColumnType> columns = new HashMap<>();
+        columns.put(timeField, ColumnType.LONG);
+        columns.put(SCORE_FIELD, ColumnType.DOUBLE);
+        columns.put(ANOMALY_GRADE_FIELD, ColumnType.DOUBLE);
+        List<String> names = new ArrayList<>(columns.keySet());
+        ColumnMeta[] columnMetas = names.stream().map(name -> new ColumnMeta(name, columns.get(name))).toArray(ColumnMeta[]::new);
+        int timeIndex = names.indexOf(timeField);
+        int scoreIndex = names.indexOf(SCORE_FIELD);
+        int anomalyGradeIndex = names.indexOf(ANOMALY_GRADE_FIELD);
+
+        List<Row> rows = new ArrayList<>(scores.length);
+        for (int rowNum = 0; rowNum < scores.length; rowNum++) {
+            ColumnValue[] values = new ColumnValue[columnMetas.length];
+            values[timeIndex] = new LongValue(timestamps[rowNum]);
+            values[scoreIndex] = new DoubleValue(scores[rowNum]);
+            values[anomalyGradeIndex] = new DoubleValue(anomalyGrades[rowNum]);
+            rows.add(new Row(values));
         }
-        return predictResult;
+        return new DefaultDataFrame(columnMetas, rows);
     }
 
     private ThresholdedRandomCutForest createThresholdedRandomCutForest(DataFrame dataFrame) {
@@ -0,0 +1,128 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.rcf;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opensearch.ml.common.dataframe.DataFrame;
+import org.opensearch.ml.common.exception.MLException;
+
+import com.amazon.randomcutforest.RandomCutForest;
+
+/**
+ * Scores the rows of a data frame with a batch random cut forest on multiple threads.
+ * <p>
+ * Scoring a point without updating the forest doesn't modify the forest, so the rows scored after the forest stopped
+ * learning, e.g. all rows of a batch RCF prediction, are split into chunks which the calling thread and helper tasks on
+ * the ML train or predict thread pool score concurrently. The calling thread scores every chunk no helper has started,
+ * so it never waits for a helper queued behind it in the same thread pool.
+ */
+public final class RCFParallelScorer {
+    public static final int DEFAULT_THREADS = 1;
+    static final int CHUNK_SIZE = 1024;
+
+    private static volatile int threads = DEFAULT_THREADS;
+    private static volatile Executor trainExecutor;
+    private static volatile Executor predictExecutor;
+
+    private RCFParallelScorer() {}
+
+    /**
+     * Sets the thread pools to run helper tasks on
+     * @param trainExecutor executor of the ML train thread pool, used by train and predict requests
+     * @param predictExecutor executor of the ML predict thread pool, used by predict requests
+     */
+    public static void setExecutors(Executor trainExecutor, Executor predictExecutor) {
+        RCFParallelScorer.trainExecutor = trainExecutor;
+        RCFParallelScorer.predictExecutor = predictExecutor;
+    }
+
+    /**
+     * @param threads max number of threads scoring the rows of one request, including the calling thread
+     */
+    public static void setThreads(int threads) {
+        RCFParallelScorer.threads = Math.max(1, threads);
+    }
+
+    static Executor getTrainExecutor() {
+        return trainExecutor;
+    }
+
+    static Executor getPredictExecutor() {
+        return predictExecutor;
+    }
+
+    /**
+     * Scores the rows from the given row to the end of the data frame without updating the forest
+     * @param forest random cut forest
+     * @param dataFrame data frame, all columns are features
+     * @param fromRow first row to score
+     * @param scores buffer of the anomaly scores of all rows
+     * @param executor executor to run helper tasks on, null to score on the calling thread only
+     */
+    static void score(RandomCutForest forest, DataFrame dataFrame, int fromRow, double[] scores, Executor executor) {
+        int rows = dataFrame.size() - fromRow;
+        if (rows <= 0) {
+            return;
+        }
+        int chunks = (rows + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        int helpers = executor == null ? 0 : Math.min(threads - 1, chunks - 1);
+        if (helpers <= 0) {
+            scoreRows(forest, dataFrame, fromRow, dataFrame.size(), scores);
+            return;
+        }
+
+        AtomicInteger nextChunk = new AtomicInteger();
+        CountDownLatch remainingChunks = new CountDownLatch(chunks);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        Runnable worker = () -> {
+            for (int chunk = nextChunk.getAndIncrement(); chunk < chunks; chunk = nextChunk.getAndIncrement()) {
+                try {
+                    if (failure.get() == null) {
+                        int start = fromRow + chunk * CHUNK_SIZE;
+                        scoreRows(forest, dataFrame, start, Math.min(start + CHUNK_SIZE, dataFrame.size()), scores);
+                    }
+                } catch (Exception e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    remainingChunks.countDown();
+                }
+            }
+        };
+        for (int i = 0; i < helpers; i++) {
+            try {
+                executor.execute(worker);
+            } catch (RejectedExecutionException e) {
+                // the thread pool is busy, score the remaining chunks with fewer threads
+                break;
+            }
+        }
+        worker.run();
+
+        try {
+            remainingChunks.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MLException("Interrupted while scoring with RCF", e);
+        }
+        Exception e = failure.get();
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        } else if (e != null) {
+            throw new MLException("Failed to score with RCF", e);
+        }
+    }
+
+    private static void scoreRows(RandomCutForest forest, DataFrame dataFrame, int from, int to, double[] scores) {
+        for (int rowNum = from; rowNum < to; rowNum++) {
+            scores[rowNum] = forest.getAnomalyScore(dataFrame.getRowAsDoubles(rowNum));
+        }
+    }
+}
@@ -29,6 +29,7 @@ import org.opensearch.ml.engine.Trainable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.contants.TribuoOutputType;
 import org.opensearch.ml.engine.encryptor.Encryptor;
+import org.opensearch.ml.engine.utils.DeserializedModelCache;
 import org.opensearch.ml.engine.utils.ModelSerDeSer;
 import org.opensearch.ml.engine.utils.TribuoUtil;
 import org.tribuo.MutableDataset;
@@ -243,7 +244,7 @@ public class LinearRegression implements Trainable, Predictable {
             throw new IllegalArgumentException("No model found for linear regression prediction.");
         }
 
-        regressionModel = (org.tribuo.Model<Regressor>) ModelSerDeSer.deserialize(model);
+        regressionModel = DeserializedModelCache.getOrLoad(model, m -> (org.tribuo.Model<Regressor>) ModelSerDeSer.deserialize(m));
         return predict(mlInput);
     }
 
@@ -29,6 +29,7 @@ import org.opensearch.ml.engine.Trainable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.contants.TribuoOutputType;
 import org.opensearch.ml.engine.encryptor.Encryptor;
+import org.opensearch.ml.engine.utils.DeserializedModelCache;
 import org.opensearch.ml.engine.utils.ModelSerDeSer;
 import org.opensearch.ml.engine.utils.TribuoUtil;
 import org.tribuo.MutableDataset;
@@ -240,7 +241,7 @@ public class LogisticRegression implements Trainable, Predictable {
             throw new IllegalArgumentException("No model found for logistic regression prediction.");
         }
 
-        classificationModel = (org.tribuo.Model<Label>) ModelSerDeSer.deserialize(model);
+        classificationModel = DeserializedModelCache.getOrLoad(model, m -> (org.tribuo.Model<Label>) ModelSerDeSer.deserialize(m));
         return predict(mlInput);
     }
 }
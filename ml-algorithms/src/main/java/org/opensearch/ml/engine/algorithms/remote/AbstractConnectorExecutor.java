@@ -6,6 +6,8 @@
 package org.opensearch.ml.engine.algorithms.remote;
 
 import java.net.http.HttpRequest;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.ml.common.CommonValue;
@@ -21,6 +23,7 @@ import lombok.extern.log4j.Log4j2;
 @Getter
 public abstract class AbstractConnectorExecutor implements RemoteConnectorExecutor {
     private ConnectorClientConfig connectorClientConfig;
+    private RemoteBatchAggregator batchAggregator;
 
     public void initialize(Connector connector) {
         if (connector.getConnectorClientConfig() != null) {
@@ -28,6 +31,7 @@ public abstract class AbstractConnectorExecutor implements RemoteConnectorExecut
         } else {
             connectorClientConfig = new ConnectorClientConfig();
         }
+        batchAggregator = RemoteBatchAggregator.create(this, connector);
     }
 
     /**
@@ -36,8 +40,20 @@ public abstract class AbstractConnectorExecutor implements RemoteConnectorExecut
      * @param builder HttpRequest.Builder to add headers to
      */
     protected void getMcpRequestHeaders(HttpRequest.Builder builder) {
+        for (Map.Entry<String, String> header : getMcpRequestHeaders().entrySet()) {
+            builder.setHeader(header.getKey(), header.getValue());
+        }
+    }
+
+    /**
+     * Gets MCP request headers from ThreadContext.
+     *
+     * @return MCP request headers with a non empty value
+     */
+    protected Map<String, String> getMcpRequestHeaders() {
+        Map<String, String> headers = new LinkedHashMap<>();
         if (getClient() == null) {
-            return;
+            return headers;
         }
 
         ThreadContext threadContext = getClient().threadPool().getThreadContext();
@@ -53,9 +69,10 @@ public abstract class AbstractConnectorExecutor implements RemoteConnectorExecut
         for (String headerName : mcpHeaders) {
             String headerValue = threadContext.getHeader(headerName);
             if (headerValue != null && !headerValue.isEmpty()) {
-                builder.setHeader(headerName, headerValue);
+                headers.put(headerName, headerValue);
                 log.debug("Get MCP header: {}", headerName);
             }
         }
+        return headers;
     }
 }
@@ -264,10 +264,8 @@ public class ConnectorUtils {
         // Apply output processor chain if configured
         Object processedOutput;
         // Apply output processor chain if configured
-        List<Map<String, Object>> processorConfigs = ProcessorChain.extractProcessorConfigs(parameters);
-        if (!processorConfigs.isEmpty()) {
-            ProcessorChain processorChain = new ProcessorChain(processorConfigs);
-
+        ProcessorChain processorChain = ProcessorChain.getOrCreate(parameters, ProcessorChain.OUTPUT_PROCESSORS);
+        if (processorChain.hasProcessors()) {
             if (responseFilter != null) {
                 // Apply filter first, then processor chain
                 Object filteredResponse = JsonPath.parse(response).read(responseFilter);
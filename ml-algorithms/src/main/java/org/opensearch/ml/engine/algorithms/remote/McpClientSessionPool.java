@@ -0,0 +1,353 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.opensearch.ml.common.CommonValue.MCP_TOOLS_FIELD;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
+
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.spec.McpSchema;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node level pool of initialized MCP client sessions.
+ *
+ * Sessions are keyed by the MCP server endpoint and the credentials used to connect to it, so agent runs using the
+ * same connector and credentials share one session instead of doing the MCP handshake on every run. The tool list of
+ * a session is cached for a while. A session which wasn't used for some time is pinged before it's reused and it's
+ * reconnected if the ping fails. Sessions idle for too long are closed.
+ *
+ * Every {@link #getTools} call leases the session until its client is released once for that call, the returned
+ * {@link McpSessionTools} identifies the lease. A session which is invalidated or
+ * evicted while leased is only closed when its last lease is released, or when it stays leased for the idle timeout.
+ * Clients are created, initialized, pinged and closed outside of the pool's map operations.
+ */
+@Log4j2
+public class McpClientSessionPool {
+    static final Duration TOOLS_TTL = Duration.ofMinutes(5);
+    static final Duration HEALTH_CHECK_INTERVAL = Duration.ofSeconds(30);
+    static final Duration IDLE_TIMEOUT = Duration.ofMinutes(30);
+    static final int MAX_SESSIONS = 128;
+
+    private static final McpClientSessionPool INSTANCE = new McpClientSessionPool(
+        TOOLS_TTL,
+        HEALTH_CHECK_INTERVAL,
+        IDLE_TIMEOUT,
+        MAX_SESSIONS,
+        System::nanoTime
+    );
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    // sessions removed from the pool which are still leased
+    private final Set<Session> retiredSessions = ConcurrentHashMap.newKeySet();
+    private final long toolsTtlNanos;
+    private final long healthCheckIntervalNanos;
+    private final long idleTimeoutNanos;
+    private final int maxSessions;
+    private final LongSupplier nanoClock;
+
+    @VisibleForTesting
+    McpClientSessionPool(Duration toolsTtl, Duration healthCheckInterval, Duration idleTimeout, int maxSessions, LongSupplier nanoClock) {
+        this.toolsTtlNanos = toolsTtl.toNanos();
+        this.healthCheckIntervalNanos = healthCheckInterval.toNanos();
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.maxSessions = maxSessions;
+        this.nanoClock = nanoClock;
+    }
+
+    public static McpClientSessionPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Build the session key from everything that identifies a session, the key is hashed so credentials are not kept
+     * in the pool in plain text.
+     * @param parts server url, endpoint, headers and other connection settings
+     * @return session key
+     */
+    public static String sessionKey(Object... parts) {
+        StringBuilder builder = new StringBuilder();
+        for (Object part : parts) {
+            // header maps are sorted so equal maps give the same key
+            builder.append(part instanceof Map ? new TreeMap<>((Map<?, ?>) part) : part).append('\u0000');
+        }
+        return Hashing.sha256().hashString(builder, StandardCharsets.UTF_8).toString();
+    }
+
+    /**
+     * Get the tools of the MCP server with a pooled client. If listing the tools fails, the session is reconnected and
+     * listing the tools is retried once. The session stays leased until the returned client is released.
+     * @param key session key
+     * @param clientFactory creates a new client, the pool initializes it
+     * @return the client and the tools of the MCP server, each tool is a map parsed from the MCP tool JSON
+     */
+    public McpSessionTools getTools(String key, Supplier<McpSyncClient> clientFactory) {
+        Session session = acquire(key, clientFactory);
+        try {
+            return new McpSessionTools(session.client, session.getTools(nanoClock.getAsLong()));
+        } catch (Exception e) {
+            log.warn("Failed to list tools of pooled MCP session, reconnecting", e);
+            invalidate(key, session, nanoClock.getAsLong());
+            release(session);
+            session = acquire(key, clientFactory);
+            try {
+                return new McpSessionTools(session.client, session.getTools(nanoClock.getAsLong()));
+            } catch (Exception retryException) {
+                release(session);
+                throw retryException;
+            }
+        }
+    }
+
+    /**
+     * Release a client after an agent run. Pooled clients stay open, a client which is not in the pool anymore is
+     * closed once no other agent run uses it.
+     * @param client MCP client
+     */
+    public void release(McpSyncClient client) {
+        if (client == null) {
+            return;
+        }
+        Session session = findSession(client);
+        if (session == null) {
+            client.closeGracefully();
+            return;
+        }
+        release(session);
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * Close all sessions.
+     */
+    public void clear() {
+        for (String key : new ArrayList<>(sessions.keySet())) {
+            Session session = sessions.remove(key);
+            if (session != null) {
+                session.close();
+            }
+        }
+        for (Session session : new ArrayList<>(retiredSessions)) {
+            retiredSessions.remove(session);
+            session.close();
+        }
+    }
+
+    private Session acquire(String key, Supplier<McpSyncClient> clientFactory) {
+        long now = nanoClock.getAsLong();
+        closeIdleSessions(now);
+        Session existing = sessions.get(key);
+        if (existing != null) {
+            if (existing.isHealthy(now, healthCheckIntervalNanos) && existing.tryLease()) {
+                existing.lastUsedTime = now;
+                return existing;
+            }
+            log.debug("Reconnecting unhealthy MCP session");
+            invalidate(key, existing, now);
+        }
+
+        McpSyncClient client = clientFactory.get();
+        try {
+            client.initialize();
+        } catch (Exception e) {
+            client.closeGracefully();
+            throw e;
+        }
+        Session created = new Session(client, now);
+        created.tryLease();
+        Session session = install(key, created, now);
+        if (sessions.size() > maxSessions) {
+            closeLeastRecentlyUsedSessions(now);
+        }
+        return session;
+    }
+
+    /**
+     * Put a new leased session into the pool. If another request installed a session for the key meanwhile, that
+     * session is leased instead and the new one is closed.
+     */
+    private Session install(String key, Session created, long now) {
+        while (true) {
+            Session current = sessions.putIfAbsent(key, created);
+            if (current == null) {
+                return created;
+            }
+            if (current.tryLease()) {
+                current.lastUsedTime = now;
+                created.close();
+                return current;
+            }
+            // the current session was retired while it was looked up
+            sessions.remove(key, current);
+        }
+    }
+
+    private void invalidate(String key, Session session, long now) {
+        if (!sessions.remove(key, session)) {
+            return;
+        }
+        if (session.retire(now)) {
+            session.close();
+        } else {
+            retiredSessions.add(session);
+        }
+    }
+
+    private void release(Session session) {
+        if (session.releaseLease()) {
+            retiredSessions.remove(session);
+            session.close();
+        }
+    }
+
+    private Session findSession(McpSyncClient client) {
+        for (Session session : sessions.values()) {
+            if (session.client == client) {
+                return session;
+            }
+        }
+        for (Session session : retiredSessions) {
+            if (session.client == client) {
+                return session;
+            }
+        }
+        return null;
+    }
+
+    private void closeIdleSessions(long now) {
+        for (Map.Entry<String, Session> entry : sessions.entrySet()) {
+            if (now - entry.getValue().lastUsedTime > idleTimeoutNanos) {
+                invalidate(entry.getKey(), entry.getValue(), now);
+            }
+        }
+        // leases which were never released, e.g. by a failed agent run, must not keep a retired session open forever
+        for (Session session : retiredSessions) {
+            if (now - session.retiredTime > idleTimeoutNanos && retiredSessions.remove(session)) {
+                session.close();
+            }
+        }
+    }
+
+    private void closeLeastRecentlyUsedSessions(long now) {
+        List<Map.Entry<String, Session>> entries = new ArrayList<>(sessions.entrySet());
+        entries.sort(Comparator.comparingLong(entry -> entry.getValue().lastUsedTime));
+        for (int i = 0; i < entries.size() - maxSessions; i++) {
+            invalidate(entries.get(i).getKey(), entries.get(i).getValue(), now);
+        }
+    }
+
+    /**
+     * An MCP client and the tools of its MCP server, each instance stands for one lease of the client's session.
+     */
+    public record McpSessionTools(McpSyncClient client, List<Map<String, Object>> tools) {
+    }
+
+    private class Session {
+        private final McpSyncClient client;
+        private volatile long lastUsedTime;
+        private volatile long lastHealthyTime;
+        private volatile boolean closed;
+        private List<Map<String, Object>> tools;
+        private long toolsFetchedTime;
+        // guarded by the session's lock
+        private int leases;
+        private boolean retired;
+        private long retiredTime;
+
+        Session(McpSyncClient client, long now) {
+            this.client = client;
+            this.lastUsedTime = now;
+            this.lastHealthyTime = now;
+        }
+
+        synchronized boolean tryLease() {
+            if (retired) {
+                return false;
+            }
+            leases++;
+            return true;
+        }
+
+        /**
+         * @return true if the session is retired and this was its last lease, so it must be closed
+         */
+        synchronized boolean releaseLease() {
+            if (leases > 0) {
+                leases--;
+            }
+            return retired && leases == 0 && !closed;
+        }
+
+        /**
+         * @return true if the session isn't leased and can be closed right away
+         */
+        synchronized boolean retire(long now) {
+            retired = true;
+            retiredTime = now;
+            return leases == 0;
+        }
+
+        boolean isHealthy(long now, long healthCheckIntervalNanos) {
+            if (closed) {
+                return false;
+            }
+            if (now - lastHealthyTime < healthCheckIntervalNanos) {
+                return true;
+            }
+            try {
+                client.ping();
+                lastHealthyTime = now;
+                return true;
+            } catch (Exception e) {
+                log.debug("MCP session health check failed", e);
+                return false;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized List<Map<String, Object>> getTools(long now) {
+            if (tools == null || now - toolsFetchedTime > toolsTtlNanos) {
+                McpSchema.ListToolsResult result = client.listTools();
+                Gson gson = new Gson();
+                String json = gson.toJson(result, McpSchema.ListToolsResult.class);
+                Map<String, Object> map = gson.fromJson(json, Map.class);
+                List<Map<String, Object>> mcpTools = (List<Map<String, Object>>) map.get(MCP_TOOLS_FIELD);
+                tools = mcpTools == null ? Collections.emptyList() : Collections.unmodifiableList(mcpTools);
+                toolsFetchedTime = now;
+                lastHealthyTime = now;
+            }
+            return tools;
+        }
+
+        void close() {
+            closed = true;
+            try {
+                client.closeGracefully();
+            } catch (Exception e) {
+                log.debug("Failed to close MCP session", e);
+            }
+        }
+    }
+}
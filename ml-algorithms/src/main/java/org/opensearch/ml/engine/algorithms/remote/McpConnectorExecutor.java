@@ -6,8 +6,8 @@
 package org.opensearch.ml.engine.algorithms.remote;
 
 import static org.opensearch.ml.common.CommonValue.MCP_DEFAULT_SSE_ENDPOINT;
+import static org.opensearch.ml.common.CommonValue.MCP_SESSION_LEASE;
 import static org.opensearch.ml.common.CommonValue.MCP_SYNC_CLIENT;
-import static org.opensearch.ml.common.CommonValue.MCP_TOOLS_FIELD;
 import static org.opensearch.ml.common.CommonValue.MCP_TOOL_DESCRIPTION_FIELD;
 import static org.opensearch.ml.common.CommonValue.MCP_TOOL_INPUT_SCHEMA_FIELD;
 import static org.opensearch.ml.common.CommonValue.MCP_TOOL_NAME_FIELD;
@@ -42,10 +42,7 @@ import org.opensearch.ml.engine.tools.McpSseTool;
 import org.opensearch.script.ScriptService;
 import org.opensearch.transport.client.Client;
 
-import com.google.gson.Gson;
-
 import io.modelcontextprotocol.client.McpClient;
-import io.modelcontextprotocol.client.McpSyncClient;
 import io.modelcontextprotocol.client.transport.HttpClientSseClientTransport;
 import io.modelcontextprotocol.spec.McpClientTransport;
 import io.modelcontextprotocol.spec.McpSchema;
@@ -62,6 +59,8 @@ public class McpConnectorExecutor extends AbstractConnectorExecutor {
     @Getter
     @Setter
     private Client client;
+    @Setter
+    private McpClientSessionPool sessionPool = McpClientSessionPool.getInstance();
 
     public McpConnectorExecutor(Connector connector) {
         super.initialize(connector);
@@ -78,45 +77,49 @@ public class McpConnectorExecutor extends AbstractConnectorExecutor {
             Duration connectionTimeout = Duration.ofSeconds(super.getConnectorClientConfig().getConnectionTimeout());
             Duration readTimeout = Duration.ofSeconds(super.getConnectorClientConfig().getReadTimeout());
 
+            // MCP request headers are read from ThreadContext once, they are part of the credentials of the pooled session
+            Map<String, String> mcpRequestHeaders = getMcpRequestHeaders();
             Consumer<HttpRequest.Builder> headerConfig = builder -> {
                 if (connector.getDecryptedHeaders() != null) {
                     for (Map.Entry<String, String> entry : connector.getDecryptedHeaders().entrySet()) {
                         builder.header(entry.getKey(), entry.getValue());
                     }
                 }
-                // Add MCP request headers from ThreadContext
-                getMcpRequestHeaders(builder);
+                for (Map.Entry<String, String> entry : mcpRequestHeaders.entrySet()) {
+                    builder.setHeader(entry.getKey(), entry.getValue());
+                }
             };
 
-            // Create transport
-            McpClientTransport transport = HttpClientSseClientTransport
-                .builder(mcpServerUrl)
-                .sseEndpoint(sseEndpoint)
-                .customizeClient(clientBuilder -> {
-                    clientBuilder.connectTimeout(connectionTimeout);
-                })
-                .customizeRequest(headerConfig)
-                .build();
-
-            // Create and initialize client
-            McpSyncClient client = McpClient
-                .sync(transport)
-                .requestTimeout(readTimeout)
-                .capabilities(McpSchema.ClientCapabilities.builder().roots(false).build())
-                .build();
-
-            client.initialize();
-            McpSchema.ListToolsResult tools = client.listTools();
-
-            // Process the results
-            Gson gson = new Gson();
-            String json = gson.toJson(tools, McpSchema.ListToolsResult.class);
-            Map<String, Object> map = gson.fromJson(json, Map.class);
-
-            List<Object> mcpTools = (List<Object>) map.get(MCP_TOOLS_FIELD);
-
-            for (Object tool : mcpTools) {
-                Map<String, Object> toolMap = (Map<String, Object>) tool;
+            String sessionKey = McpClientSessionPool
+                .sessionKey(
+                    MCP_SSE,
+                    mcpServerUrl,
+                    sseEndpoint,
+                    connector.getDecryptedHeaders(),
+                    mcpRequestHeaders,
+                    connectionTimeout,
+                    readTimeout
+                );
+            McpClientSessionPool.McpSessionTools sessionTools = sessionPool.getTools(sessionKey, () -> {
+                // Create transport
+                McpClientTransport transport = HttpClientSseClientTransport
+                    .builder(mcpServerUrl)
+                    .sseEndpoint(sseEndpoint)
+                    .customizeClient(clientBuilder -> {
+                        clientBuilder.connectTimeout(connectionTimeout);
+                    })
+                    .customizeRequest(headerConfig)
+                    .build();
+
+                // Create client, the pool initializes it
+                return McpClient
+                    .sync(transport)
+                    .requestTimeout(readTimeout)
+                    .capabilities(McpSchema.ClientCapabilities.builder().roots(false).build())
+                    .build();
+            });
+
+            for (Map<String, Object> toolMap : sessionTools.tools()) {
                 Map<String, String> attributes = new HashMap<>();
                 attributes.put(TOOL_INPUT_SCHEMA_FIELD, StringUtils.toJson(toolMap.get(MCP_TOOL_INPUT_SCHEMA_FIELD)));
 
@@ -130,7 +133,8 @@ public class McpConnectorExecutor extends AbstractConnectorExecutor {
                     .description(description)
                     .attributes(attributes)
                     .build();
-                mlToolSpec.addRuntimeResource(MCP_SYNC_CLIENT, client);
+                mlToolSpec.addRuntimeResource(MCP_SYNC_CLIENT, sessionTools.client());
+                mlToolSpec.addRuntimeResource(MCP_SESSION_LEASE, sessionTools);
                 mcpToolSpecs.add(mlToolSpec);
             }
 
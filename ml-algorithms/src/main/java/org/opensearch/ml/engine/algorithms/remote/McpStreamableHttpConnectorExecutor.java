@@ -7,8 +7,8 @@ package org.opensearch.ml.engine.algorithms.remote;
 
 import static org.opensearch.ml.common.CommonValue.ENDPOINT_FIELD;
 import static org.opensearch.ml.common.CommonValue.MCP_DEFAULT_STREAMABLE_HTTP_ENDPOINT;
+import static org.opensearch.ml.common.CommonValue.MCP_SESSION_LEASE;
 import static org.opensearch.ml.common.CommonValue.MCP_SYNC_CLIENT;
-import static org.opensearch.ml.common.CommonValue.MCP_TOOLS_FIELD;
 import static org.opensearch.ml.common.CommonValue.MCP_TOOL_DESCRIPTION_FIELD;
 import static org.opensearch.ml.common.CommonValue.MCP_TOOL_INPUT_SCHEMA_FIELD;
 import static org.opensearch.ml.common.CommonValue.MCP_TOOL_NAME_FIELD;
@@ -44,10 +44,7 @@ import org.opensearch.ml.engine.tools.McpStreamableHttpTool;
 import org.opensearch.script.ScriptService;
 import org.opensearch.transport.client.Client;
 
-import com.google.gson.Gson;
-
 import io.modelcontextprotocol.client.McpClient;
-import io.modelcontextprotocol.client.McpSyncClient;
 import io.modelcontextprotocol.client.transport.HttpClientStreamableHttpTransport;
 import io.modelcontextprotocol.spec.McpClientTransport;
 import io.modelcontextprotocol.spec.McpSchema;
@@ -64,6 +61,8 @@ public class McpStreamableHttpConnectorExecutor extends AbstractConnectorExecuto
     @Getter
     @Setter
     private Client client;
+    @Setter
+    private McpClientSessionPool sessionPool = McpClientSessionPool.getInstance();
 
     public McpStreamableHttpConnectorExecutor(Connector connector) {
         super.initialize(connector);
@@ -81,49 +80,50 @@ public class McpStreamableHttpConnectorExecutor extends AbstractConnectorExecuto
             Duration connectionTimeout = Duration.ofSeconds(super.getConnectorClientConfig().getConnectionTimeout());
             Duration readTimeout = Duration.ofSeconds(super.getConnectorClientConfig().getReadTimeout());
 
+            // MCP request headers are read from ThreadContext once, they are part of the credentials of the pooled session
+            Map<String, String> mcpRequestHeaders = getMcpRequestHeaders();
             Consumer<HttpRequest.Builder> headerConfig = builder -> {
                 if (connector.getDecryptedHeaders() != null) {
                     for (Map.Entry<String, String> entry : connector.getDecryptedHeaders().entrySet()) {
                         builder.header(entry.getKey(), entry.getValue());
                     }
                 }
-                // Add MCP request headers from ThreadContext
-                getMcpRequestHeaders(builder);
+                for (Map.Entry<String, String> entry : mcpRequestHeaders.entrySet()) {
+                    builder.setHeader(entry.getKey(), entry.getValue());
+                }
             };
 
-            // Create streamable HTTP transport
-            McpClientTransport transport = HttpClientStreamableHttpTransport
-                .builder(mcpServerUrl)
-                .endpoint(endpoint)
-                .customizeClient(clientBuilder -> {
-                    clientBuilder.connectTimeout(connectionTimeout);
-                    clientBuilder.followRedirects(HttpClient.Redirect.NORMAL);
-                })
-                .customizeRequest(headerConfig)
-                .build();
-
-            // Create and initialize client
-            McpSyncClient client = McpClient
-                .sync(transport)
-                .requestTimeout(readTimeout)
-                .capabilities(McpSchema.ClientCapabilities.builder().roots(false).build())
-                .build();
-
-            client.initialize();
-            McpSchema.ListToolsResult tools = client.listTools();
-
-            // Process the results
-            Gson gson = new Gson();
-            String json = gson.toJson(tools, McpSchema.ListToolsResult.class);
-            @SuppressWarnings("unchecked")
-            Map<String, Object> map = gson.fromJson(json, Map.class);
-
-            @SuppressWarnings("unchecked")
-            List<Object> mcpTools = (List<Object>) map.get(MCP_TOOLS_FIELD);
-
-            for (Object tool : mcpTools) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> toolMap = (Map<String, Object>) tool;
+            String sessionKey = McpClientSessionPool
+                .sessionKey(
+                    MCP_STREAMABLE_HTTP,
+                    mcpServerUrl,
+                    endpoint,
+                    connector.getDecryptedHeaders(),
+                    mcpRequestHeaders,
+                    connectionTimeout,
+                    readTimeout
+                );
+            McpClientSessionPool.McpSessionTools sessionTools = sessionPool.getTools(sessionKey, () -> {
+                // Create streamable HTTP transport
+                McpClientTransport transport = HttpClientStreamableHttpTransport
+                    .builder(mcpServerUrl)
+                    .endpoint(endpoint)
+                    .customizeClient(clientBuilder -> {
+                        clientBuilder.connectTimeout(connectionTimeout);
+                        clientBuilder.followRedirects(HttpClient.Redirect.NORMAL);
+                    })
+                    .customizeRequest(headerConfig)
+                    .build();
+
+                // Create client, the pool initializes it
+                return McpClient
+                    .sync(transport)
+                    .requestTimeout(readTimeout)
+                    .capabilities(McpSchema.ClientCapabilities.builder().roots(false).build())
+                    .build();
+            });
+
+            for (Map<String, Object> toolMap : sessionTools.tools()) {
                 Map<String, String> attributes = new HashMap<>();
                 attributes.put(TOOL_INPUT_SCHEMA_FIELD, StringUtils.toJson(toolMap.get(MCP_TOOL_INPUT_SCHEMA_FIELD)));
 
@@ -137,7 +137,8 @@ public class McpStreamableHttpConnectorExecutor extends AbstractConnectorExecuto
                     .description(description)
                     .attributes(attributes)
                     .build();
-                mlToolSpec.addRuntimeResource(MCP_SYNC_CLIENT, client);
+                mlToolSpec.addRuntimeResource(MCP_SYNC_CLIENT, sessionTools.client());
+                mlToolSpec.addRuntimeResource(MCP_SESSION_LEASE, sessionTools);
                 mcpToolSpecs.add(mlToolSpec);
             }
 
@@ -0,0 +1,351 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.opensearch.ml.common.connector.MLPreProcessFunction.TEXT_DOCS_TO_COHERE_EMBEDDING_INPUT;
+import static org.opensearch.ml.common.connector.MLPreProcessFunction.TEXT_DOCS_TO_DEFAULT_EMBEDDING_INPUT;
+import static org.opensearch.ml.common.connector.MLPreProcessFunction.TEXT_DOCS_TO_OPENAI_EMBEDDING_INPUT;
+import static org.opensearch.ml.engine.algorithms.remote.RemoteConnectorExecutor.RETRY_EXECUTOR;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.commons.ConfigConstants;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.connector.ConnectorAction;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.input.parameter.MLAlgoParams;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Merges text docs of concurrent predict requests on the same connector into one remote call.
+ *
+ * Requests with the same action, user and model parameters that arrive within the wait time are
+ * collected until the connector's batch size is reached, sent as a single text docs input and the
+ * returned tensors are split back to each request by doc offset. If the remote output can't be split
+ * per doc, or the remote model returns an error status, every merged request gets the failure or status.
+ *
+ * Enabled per connector by setting the {@code cross_request_batch_size} connector parameter. Only actions
+ * whose pre process function sends all docs in one payload are merged: the built-in OpenAI, Cohere and
+ * default embedding pre process functions, or any action of a connector which sets the
+ * {@code cross_request_batch_multi_doc_input} parameter to true for its own pre process function.
+ */
+@Log4j2
+public class RemoteBatchAggregator {
+    public static final String CROSS_REQUEST_BATCH_SIZE_FIELD = "cross_request_batch_size";
+    public static final String CROSS_REQUEST_BATCH_WAIT_TIME_FIELD = "cross_request_batch_wait_time_in_millis";
+    public static final String CROSS_REQUEST_BATCH_MULTI_DOC_INPUT_FIELD = "cross_request_batch_multi_doc_input";
+    public static final String INPUT_DOCS_PROCESSED_STEP_SIZE_FIELD = "input_docs_processed_step_size";
+    public static final long DEFAULT_WAIT_TIME_IN_MILLIS = 10;
+    // built-in pre process functions which put every doc of the input into the payload
+    private static final Set<String> MULTI_DOC_PRE_PROCESS_FUNCTIONS = Set
+        .of(TEXT_DOCS_TO_COHERE_EMBEDDING_INPUT, TEXT_DOCS_TO_OPENAI_EMBEDDING_INPUT, TEXT_DOCS_TO_DEFAULT_EMBEDDING_INPUT);
+
+    private final RemoteConnectorExecutor executor;
+    @Getter
+    private final int maxBatchSize;
+    @Getter
+    private final long waitTimeInMillis;
+    // action types and names whose payload holds all docs of the input
+    @Getter
+    private final Set<String> multiDocActions;
+    private final Map<BatchKey, PendingBatch> pendingBatches = new HashMap<>();
+
+    RemoteBatchAggregator(RemoteConnectorExecutor executor, int maxBatchSize, long waitTimeInMillis, Set<String> multiDocActions) {
+        this.executor = executor;
+        this.maxBatchSize = maxBatchSize;
+        this.waitTimeInMillis = waitTimeInMillis;
+        this.multiDocActions = multiDocActions;
+    }
+
+    /**
+     * Create an aggregator for the connector if cross request batching is configured.
+     * @param executor connector executor which sends the merged requests
+     * @param connector connector
+     * @return aggregator, or null if cross request batching is not enabled for the connector or none of its actions
+     * sends many docs in one payload
+     */
+    public static RemoteBatchAggregator create(RemoteConnectorExecutor executor, Connector connector) {
+        Map<String, String> parameters = connector.getParameters();
+        if (parameters == null || !parameters.containsKey(CROSS_REQUEST_BATCH_SIZE_FIELD)) {
+            return null;
+        }
+        int batchSize = Integer.parseInt(parameters.get(CROSS_REQUEST_BATCH_SIZE_FIELD));
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Invalid parameter: " + CROSS_REQUEST_BATCH_SIZE_FIELD + ". It must be positive integer.");
+        }
+        if (parameters.containsKey(INPUT_DOCS_PROCESSED_STEP_SIZE_FIELD)) {
+            // never merge more docs than the provider accepts in one call
+            batchSize = Math.min(batchSize, Integer.parseInt(parameters.get(INPUT_DOCS_PROCESSED_STEP_SIZE_FIELD)));
+        }
+        if (batchSize <= 1) {
+            return null;
+        }
+        long waitTime = parameters.containsKey(CROSS_REQUEST_BATCH_WAIT_TIME_FIELD)
+            ? Long.parseLong(parameters.get(CROSS_REQUEST_BATCH_WAIT_TIME_FIELD))
+            : DEFAULT_WAIT_TIME_IN_MILLIS;
+        if (waitTime < 0) {
+            throw new IllegalArgumentException("Invalid parameter: " + CROSS_REQUEST_BATCH_WAIT_TIME_FIELD + ". It must not be negative.");
+        }
+        Set<String> multiDocActions = findMultiDocActions(connector, parameters);
+        if (multiDocActions.isEmpty()) {
+            log.warn("Cross request batching is configured but no connector action is known to accept many docs in one payload");
+            return null;
+        }
+        return new RemoteBatchAggregator(executor, batchSize, waitTime, multiDocActions);
+    }
+
+    private static Set<String> findMultiDocActions(Connector connector, Map<String, String> parameters) {
+        Set<String> multiDocActions = new HashSet<>();
+        if (connector.getActions() == null) {
+            return multiDocActions;
+        }
+        boolean multiDocInput = Boolean.parseBoolean(parameters.get(CROSS_REQUEST_BATCH_MULTI_DOC_INPUT_FIELD));
+        for (ConnectorAction connectorAction : connector.getActions()) {
+            if (multiDocInput || MULTI_DOC_PRE_PROCESS_FUNCTIONS.contains(connectorAction.getPreProcessFunction())) {
+                if (connectorAction.getActionType() != null) {
+                    multiDocActions.add(connectorAction.getActionType().name());
+                }
+                if (connectorAction.getName() != null) {
+                    multiDocActions.add(connectorAction.getName());
+                }
+            }
+        }
+        return multiDocActions;
+    }
+
+    /**
+     * Offer a text docs request to be merged with other requests.
+     * @param action connector action
+     * @param mlInput input with a text docs dataset
+     * @param listener listener of the request
+     * @return true if the request was taken over by the aggregator, false if it should be executed directly
+     */
+    public boolean offer(String action, MLInput mlInput, ActionListener<MLTaskResponse> listener) {
+        if (!(mlInput.getInputDataset() instanceof TextDocsInputDataSet) || !isMultiDocAction(action)) {
+            return false;
+        }
+        List<String> docs = ((TextDocsInputDataSet) mlInput.getInputDataset()).getDocs();
+        if (docs == null || docs.isEmpty() || docs.size() >= maxBatchSize) {
+            return false;
+        }
+        ThreadContext threadContext = executor.getClient().threadPool().getThreadContext();
+        String user = threadContext.getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
+        BatchKey key = new BatchKey(action, user, mlInput.getParameters());
+        PendingRequest request = new PendingRequest(docs, listener, threadContext.newRestorableContext(true));
+
+        PendingBatch fullBatch = null;
+        PendingBatch newBatch = null;
+        synchronized (pendingBatches) {
+            PendingBatch batch = pendingBatches.get(key);
+            if (batch != null && batch.docCount + docs.size() > maxBatchSize) {
+                fullBatch = pendingBatches.remove(key);
+                batch = null;
+            }
+            if (batch == null) {
+                batch = new PendingBatch(key);
+                pendingBatches.put(key, batch);
+                newBatch = batch;
+            }
+            batch.add(request);
+            if (batch.docCount >= maxBatchSize) {
+                // only an existing batch can fill up here, a new batch holds a single request smaller than the batch size
+                pendingBatches.remove(key);
+                fullBatch = batch;
+            }
+        }
+        if (newBatch != null) {
+            scheduleFlush(newBatch);
+        }
+        if (fullBatch != null) {
+            flush(fullBatch);
+        }
+        return true;
+    }
+
+    private boolean isMultiDocAction(String action) {
+        return action != null && (multiDocActions.contains(action) || multiDocActions.contains(action.toUpperCase(Locale.ROOT)));
+    }
+
+    private void scheduleFlush(PendingBatch batch) {
+        if (waitTimeInMillis == 0) {
+            flushIfPending(batch);
+            return;
+        }
+        ThreadPool threadPool = executor.getClient().threadPool();
+        threadPool.schedule(() -> flushIfPending(batch), TimeValue.timeValueMillis(waitTimeInMillis), RETRY_EXECUTOR);
+    }
+
+    private void flushIfPending(PendingBatch batch) {
+        synchronized (pendingBatches) {
+            if (!pendingBatches.remove(batch.key, batch)) {
+                return;
+            }
+        }
+        flush(batch);
+    }
+
+    private void flush(PendingBatch batch) {
+        if (batch.requests.size() == 1) {
+            invokeSeparately(batch.key, batch.requests.get(0));
+            return;
+        }
+        List<String> docs = new ArrayList<>(batch.docCount);
+        for (PendingRequest request : batch.requests) {
+            docs.addAll(request.docs);
+        }
+        MLInput batchInput = buildInput(batch.key, docs);
+        ActionListener<Tuple<Integer, ModelTensors>> batchListener = ActionListener
+            .wrap(r -> scatter(batch, r.v2()), e -> batch.requests.forEach(request -> request.listener.onFailure(e)));
+        // the merged request runs with the security context of the first request, all requests share the same user
+        try (ThreadContext.StoredContext ignored = batch.requests.get(0).contextSupplier.get()) {
+            executor.preparePayloadAndInvoke(batch.key.action, batchInput, new ExecutionContext(0), batchListener);
+        } catch (Exception e) {
+            log.error("Failed to invoke merged request of {} docs", batch.docCount, e);
+            batch.requests.forEach(request -> request.listener.onFailure(e));
+        }
+    }
+
+    private void scatter(PendingBatch batch, ModelTensors modelTensors) {
+        Integer statusCode = modelTensors == null ? null : modelTensors.getStatusCode();
+        if (statusCode != null && (statusCode < 200 || statusCode >= 300)) {
+            // the error is the answer to every merged request, sending each one again would only repeat it
+            batch.requests.forEach(request -> respond(request, modelTensors));
+            return;
+        }
+        List<ModelTensor> tensors = modelTensors == null ? null : modelTensors.getMlModelTensors();
+        if (tensors == null || tensors.size() != batch.docCount) {
+            OpenSearchStatusException e = new OpenSearchStatusException(
+                "Remote model returned "
+                    + (tensors == null ? 0 : tensors.size())
+                    + " tensors for "
+                    + batch.docCount
+                    + " merged docs, set "
+                    + CROSS_REQUEST_BATCH_MULTI_DOC_INPUT_FIELD
+                    + " only for connectors which embed every doc of the payload",
+                RestStatus.INTERNAL_SERVER_ERROR
+            );
+            batch.requests.forEach(request -> request.listener.onFailure(e));
+            return;
+        }
+        int offset = 0;
+        for (PendingRequest request : batch.requests) {
+            int end = offset + request.docs.size();
+            ModelTensors requestTensors = new ModelTensors(new ArrayList<>(tensors.subList(offset, end)));
+            requestTensors.setStatusCode(modelTensors.getStatusCode());
+            offset = end;
+            respond(request, requestTensors);
+        }
+    }
+
+    private void respond(PendingRequest request, ModelTensors modelTensors) {
+        try (ThreadContext.StoredContext ignored = request.contextSupplier.get()) {
+            request.listener.onResponse(new MLTaskResponse(new ModelTensorOutput(List.of(modelTensors))));
+        } catch (Exception e) {
+            log.error("Failed to respond merged remote request", e);
+        }
+    }
+
+    private void invokeSeparately(BatchKey key, PendingRequest request) {
+        ActionListener<Tuple<Integer, ModelTensors>> listener = ActionListener
+            .wrap(
+                r -> request.listener.onResponse(new MLTaskResponse(new ModelTensorOutput(List.of(r.v2())))),
+                request.listener::onFailure
+            );
+        try (ThreadContext.StoredContext ignored = request.contextSupplier.get()) {
+            executor.preparePayloadAndInvoke(key.action, buildInput(key, request.docs), new ExecutionContext(0), listener);
+        } catch (Exception e) {
+            request.listener.onFailure(e);
+        }
+    }
+
+    private MLInput buildInput(BatchKey key, List<String> docs) {
+        return MLInput
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .parameters(key.parameters)
+            .inputDataset(TextDocsInputDataSet.builder().docs(docs).build())
+            .build();
+    }
+
+    private static class BatchKey {
+        private final String action;
+        private final String user;
+        private final MLAlgoParams parameters;
+
+        private BatchKey(String action, String user, MLAlgoParams parameters) {
+            this.action = action;
+            this.user = user;
+            this.parameters = parameters;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BatchKey)) {
+                return false;
+            }
+            BatchKey other = (BatchKey) o;
+            return Objects.equals(action, other.action) && Objects.equals(user, other.user) && Objects.equals(parameters, other.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(action, user, parameters);
+        }
+    }
+
+    private static class PendingRequest {
+        private final List<String> docs;
+        private final ActionListener<MLTaskResponse> listener;
+        private final Supplier<ThreadContext.StoredContext> contextSupplier;
+
+        private PendingRequest(List<String> docs, ActionListener<MLTaskResponse> listener, Supplier<ThreadContext.StoredContext> context) {
+            this.docs = docs;
+            this.listener = listener;
+            this.contextSupplier = context;
+        }
+    }
+
+    private static class PendingBatch {
+        private final BatchKey key;
+        private final List<PendingRequest> requests = new ArrayList<>();
+        private int docCount;
+
+        private PendingBatch(BatchKey key) {
+            this.key = key;
+        }
+
+        private void add(PendingRequest request) {
+            requests.add(request);
+            docCount += request.docs.size();
+        }
+    }
+}
@@ -93,6 +93,11 @@ public interface RemoteConnectorExecutor {
             if (mlInput.getInputDataset() instanceof TextDocsInputDataSet) {
                 TextDocsInputDataSet textDocsInputDataSet = (TextDocsInputDataSet) mlInput.getInputDataset();
                 Tuple<Integer, Integer> calculatedChunkSize = calculateChunkSize(action, textDocsInputDataSet);
+                // requests that are sent as a single remote call can be merged with concurrent requests on the same connector
+                RemoteBatchAggregator batchAggregator = getBatchAggregator();
+                if (batchAggregator != null && calculatedChunkSize.v1() == 1 && batchAggregator.offer(action, mlInput, actionListener)) {
+                    return;
+                }
                 GroupedActionListener<Tuple<Integer, ModelTensors>> groupedActionListener = new GroupedActionListener<>(
                     tensorActionListener,
                     calculatedChunkSize.v1()
@@ -164,6 +169,10 @@ public interface RemoteConnectorExecutor {
 
     default void setScriptService(ScriptService scriptService) {}
 
+    default RemoteBatchAggregator getBatchAggregator() {
+        return null;
+    }
+
     ScriptService getScriptService();
 
     Connector getConnector();
@@ -244,9 +253,8 @@ public interface RemoteConnectorExecutor {
         parameters.putAll(inputParameters);
         String payload = connector.createPayload(action, parameters);
 
-        List<Map<String, Object>> processorConfigs = ProcessorChain.extractProcessorConfigs(parameters, INPUT_PROCESSORS);
-        if (!processorConfigs.isEmpty()) {
-            ProcessorChain processorChain = new ProcessorChain(processorConfigs);
+        ProcessorChain processorChain = ProcessorChain.getOrCreate(parameters, INPUT_PROCESSORS);
+        if (processorChain.hasProcessors()) {
             payload = StringUtils.toJson(processorChain.process(payload));
         }
 
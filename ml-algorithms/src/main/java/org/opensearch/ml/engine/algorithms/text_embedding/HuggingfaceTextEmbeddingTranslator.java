@@ -15,6 +15,8 @@ package org.opensearch.ml.engine.algorithms.text_embedding;
 import java.io.IOException;
 import java.util.Map;
 
+import org.opensearch.ml.engine.algorithms.PaddingBatchifier;
+
 import ai.djl.huggingface.tokenizers.Encoding;
 import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
 import ai.djl.ndarray.NDArray;
@@ -30,6 +32,7 @@ import ai.djl.translate.TranslatorContext;
 public class HuggingfaceTextEmbeddingTranslator implements Translator<String, float[]> {
 
     private static final int[] AXIS = { 0 };
+    private static final String PADDING_BATCHIFIER = "padding";
 
     private HuggingFaceTokenizer tokenizer;
     private Batchifier batchifier;
@@ -84,6 +87,10 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
         }
         Encoding encoding = (Encoding) ctx.getAttachment("encoding");
         long[] attentionMask = encoding.getAttentionMask();
+        if (embeddings.getShape().get(0) > attentionMask.length) {
+            // drop the positions padded by the batchifier
+            embeddings = embeddings.get("0:" + attentionMask.length);
+        }
         NDManager manager = ctx.getNDManager();
         NDArray inputAttentionMask = manager.create(attentionMask).toType(DataType.FLOAT32, true);
         switch (pooling) {
@@ -174,7 +181,7 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
     public static final class Builder {
 
         private HuggingFaceTokenizer tokenizer;
-        private Batchifier batchifier = Batchifier.STACK;
+        private Batchifier batchifier = PaddingBatchifier.INSTANCE;
         private boolean normalize = false;
         private boolean inputTokenTypeIds = false;
         private String pooling = "mean";
@@ -237,8 +244,9 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
          * @param arguments the model arguments
          */
         public void configure(Map<String, ?> arguments) {
-            String batchifierStr = ArgumentsUtil.stringValue(arguments, "batchifier", "stack");
-            optBatchifier(Batchifier.fromString(batchifierStr));
+            String batchifierStr = ArgumentsUtil.stringValue(arguments, "batchifier", PADDING_BATCHIFIER);
+            // tokenized inputs differ in length, so pad them unless the model asks for another batchifier
+            optBatchifier(PADDING_BATCHIFIER.equals(batchifierStr) ? PaddingBatchifier.INSTANCE : Batchifier.fromString(batchifierStr));
             optNormalize(ArgumentsUtil.booleanValue(arguments, "normalize", false));
             optInputTokenTypeIds(ArgumentsUtil.booleanValue(arguments, "inputTokenTypeIds", false));
             optPoolingMode(ArgumentsUtil.stringValue(arguments, "pooling", "mean"));
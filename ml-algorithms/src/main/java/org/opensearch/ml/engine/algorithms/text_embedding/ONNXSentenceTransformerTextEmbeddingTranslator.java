@@ -17,6 +17,7 @@ import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.PaddingBatchifier;
 
 import ai.djl.huggingface.tokenizers.Encoding;
 import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
@@ -25,6 +26,7 @@ import ai.djl.modality.Output;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.DataType;
 import ai.djl.translate.Batchifier;
 import ai.djl.translate.ServingTranslator;
 import ai.djl.translate.TranslatorContext;
@@ -48,8 +50,7 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
 
     @Override
     public Batchifier getBatchifier() {
-        return null;
-
+        return PaddingBatchifier.INSTANCE;
     }
 
     @Override
@@ -69,15 +70,15 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
         long[] indices = encode.getIds();
         long[] attentionMask = encode.getAttentionMask();
 
-        NDArray indicesArray = manager.create(indices).expandDims(0);
+        NDArray indicesArray = manager.create(indices);
         indicesArray.setName("input_ids");
-        NDArray attentionMaskArray = manager.create(attentionMask).expandDims(0);
+        NDArray attentionMaskArray = manager.create(attentionMask);
         attentionMaskArray.setName("attention_mask");
         ndList.add(indicesArray);
         ndList.add(attentionMaskArray);
         if ("bert".equalsIgnoreCase(modelType) || "albert".equalsIgnoreCase(modelType)) {
             long[] tokenTypeIds = encode.getTypeIds();
-            NDArray tokenTypeIdsArray = manager.create(tokenTypeIds).expandDims(0);
+            NDArray tokenTypeIdsArray = manager.create(tokenTypeIds);
             tokenTypeIdsArray.setName("token_type_ids");
             ndList.add(tokenTypeIdsArray);
         }
@@ -94,6 +95,10 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
         }
         Encoding encoding = (Encoding) ctx.getAttachment("encoding");
         long[] attentionMask = encoding.getAttentionMask();
+        if (embeddings.getShape().get(0) > attentionMask.length) {
+            // drop the positions padded by the batchifier
+            embeddings = embeddings.get("0:" + attentionMask.length);
+        }
         NDManager manager = ctx.getNDManager();
         NDArray inputAttentionMask = manager.create(attentionMask);
         switch (this.poolingMode) {
@@ -120,13 +125,13 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
             embeddings = embeddings.normalize(2, 0);
         }
 
-        Number[] data = embeddings.toArray();
+        float[] data = embeddings.toType(DataType.FLOAT32, false).toFloatArray();
         List<ModelTensor> outputs = new ArrayList<>();
         long[] shape = embeddings.getShape().getShape();
         ModelTensor modelTensor = ModelTensor
             .builder()
             .name(SENTENCE_EMBEDDING)
-            .data(data)
+            .floatData(data)
             .shape(shape)
             .dataType(MLResultDataType.FLOAT32)
             .build();
@@ -15,6 +15,7 @@ import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.algorithms.SentenceTransformerTranslator;
 
+import ai.djl.huggingface.tokenizers.Encoding;
 import ai.djl.modality.Output;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
@@ -27,24 +28,35 @@ public class SentenceTransformerTextEmbeddingTranslator extends SentenceTransfor
         Output output = new Output(200, "OK");
 
         List<ModelTensor> outputs = new ArrayList<>();
+        Encoding encoding = (Encoding) ctx.getAttachment("encoding");
+        int tokenCount = encoding == null ? -1 : encoding.getIds().length;
         Iterator<NDArray> iterator = list.iterator();
         while (iterator.hasNext()) {
             NDArray ndArray = iterator.next();
             String name = ndArray.getName();
-            Number[] data = ndArray.toArray();
+            if (tokenCount >= 0 && ndArray.getShape().dimension() > 1 && ndArray.getShape().get(0) > tokenCount) {
+                // drop the token positions padded by the batchifier
+                ndArray = ndArray.get("0:" + tokenCount);
+            }
             long[] shape = ndArray.getShape().getShape();
             DataType dataType = ndArray.getDataType();
             MLResultDataType mlResultDataType = MLResultDataType.valueOf(dataType.name());
             ByteBuffer buffer = ndArray.toByteBuffer();
-            ModelTensor tensor = ModelTensor
+            ModelTensor.ModelTensorBuilder tensor = ModelTensor
                 .builder()
                 .name(name)
-                .data(data)
                 .shape(shape)
                 .dataType(mlResultDataType)
-                .byteBuffer(buffer)
-                .build();
-            outputs.add(tensor);
+                .byteBuffer(buffer);
+            // keep float and int outputs, e.g. embeddings, primitive instead of boxing every value
+            if (dataType == DataType.FLOAT32) {
+                tensor.floatData(ndArray.toFloatArray());
+            } else if (dataType == DataType.INT32) {
+                tensor.intData(ndArray.toIntArray());
+            } else {
+                tensor.data(ndArray.toArray());
+            }
+            outputs.add(tensor.build());
         }
 
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
@@ -5,6 +5,8 @@
 
 package org.opensearch.ml.engine.encryptor;
 
+import org.opensearch.core.action.ActionListener;
+
 public interface Encryptor {
 
     /**
@@ -38,6 +40,13 @@ public interface Encryptor {
      */
     String getMasterKey(String tenantId);
 
+    /**
+     * Load the masterKey without blocking the calling thread, it's initialized if it doesn't exist yet
+     * @param tenantId ID of the tenant
+     * @param listener gets the masterKey once it's loaded
+     */
+    void loadMasterKey(String tenantId, ActionListener<String> listener);
+
     String generateMasterKey();
 
 }
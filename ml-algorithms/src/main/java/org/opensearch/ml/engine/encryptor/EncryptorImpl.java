@@ -20,9 +20,11 @@ import java.time.Instant;
 import java.util.Base64;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.TimeoutException;
 
 import javax.crypto.spec.SecretKeySpec;
 
@@ -31,6 +33,7 @@ import org.opensearch.OpenSearchStatusException;
 import org.opensearch.ResourceNotFoundException;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.support.ContextPreservingActionListener;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
@@ -65,12 +68,18 @@ public class EncryptorImpl implements Encryptor {
 
     public static final String MASTER_KEY_NOT_READY_ERROR =
         "The ML encryption master key has not been initialized yet. Please retry after waiting for 10 seconds.";
+    static final long MAX_DECRYPTED_CREDENTIALS = 10_000;
+    static final String ML_THREAD_POOL = "opensearch_ml_general";
     private ClusterService clusterService;
     private Client client;
     private SdkClient sdkClient;
     private final Cache<String, String> tenantMasterKeys;
+    // master key loads in flight, concurrent callers of one tenant share the load
+    private final Map<String, CompletableFuture<String>> pendingMasterKeys = new ConcurrentHashMap<>();
+    private final Cache<String, TenantCrypto> tenantCryptos;
+    private final Cache<String, DecryptedCredential> decryptedCredentials;
+    private final AwsCrypto crypto = AwsCrypto.builder().withCommitmentPolicy(CommitmentPolicy.RequireEncryptRequireDecrypt).build();
     private MLIndicesHandler mlIndicesHandler;
-    private final Object lock = new Object();
     private volatile long masterKeyCacheTtlMinutes;
 
     // concurrent map can't have null as a key. This is to support single tenancy
@@ -89,6 +98,8 @@ public class EncryptorImpl implements Encryptor {
                 }
             })
             .build();
+        this.tenantCryptos = CacheBuilder.newBuilder().expireAfterWrite(masterKeyCacheTtlMinutes, TimeUnit.MINUTES).build();
+        this.decryptedCredentials = buildDecryptedCredentialsCache(masterKeyCacheTtlMinutes, TimeUnit.MINUTES);
         this.clusterService = clusterService;
         this.client = client;
         this.sdkClient = sdkClient;
@@ -115,6 +126,8 @@ public class EncryptorImpl implements Encryptor {
                 }
             })
             .build();
+        this.tenantCryptos = CacheBuilder.newBuilder().expireAfterWrite(cacheTtl, timeUnit).build();
+        this.decryptedCredentials = buildDecryptedCredentialsCache(cacheTtl, timeUnit);
         this.clusterService = clusterService;
         this.client = client;
         this.sdkClient = sdkClient;
@@ -137,6 +150,8 @@ public class EncryptorImpl implements Encryptor {
                 }
             })
             .build();
+        this.tenantCryptos = CacheBuilder.newBuilder().expireAfterWrite(cacheTtl, timeUnit).build();
+        this.decryptedCredentials = buildDecryptedCredentialsCache(cacheTtl, timeUnit);
         this.tenantMasterKeys.put(Objects.requireNonNullElse(tenantId, DEFAULT_TENANT_ID), masterKey);
     }
 
@@ -150,11 +165,36 @@ public class EncryptorImpl implements Encryptor {
         return tenantMasterKeys.getIfPresent(Objects.requireNonNullElse(tenantId, DEFAULT_TENANT_ID));
     }
 
+    @Override
+    public void loadMasterKey(String tenantId, ActionListener<String> listener) {
+        String masterKey = getMasterKey(tenantId);
+        if (masterKey != null) {
+            listener.onResponse(masterKey);
+            return;
+        }
+        ThreadContext threadContext = client.threadPool().getThreadContext();
+        ActionListener<String> contextListener = new ContextPreservingActionListener<>(threadContext.newRestorableContext(false), listener);
+        loadMasterKey(tenantId).whenComplete((key, throwable) -> {
+            // the load completes on a thread of the sdk client, callers continue on an ML thread with their own context
+            try {
+                client.threadPool().executor(ML_THREAD_POOL).execute(() -> {
+                    if (throwable == null) {
+                        contextListener.onResponse(key);
+                    } else if (throwable instanceof Exception) {
+                        contextListener.onFailure((Exception) throwable);
+                    } else {
+                        contextListener.onFailure(new MLException(throwable));
+                    }
+                });
+            } catch (Exception e) {
+                contextListener.onFailure(e);
+            }
+        });
+    }
+
     @Override
     public String encrypt(String plainText, String tenantId) {
-        String masterKey = getOrInitMasterKey(tenantId);
-        final AwsCrypto crypto = AwsCrypto.builder().withCommitmentPolicy(CommitmentPolicy.RequireEncryptRequireDecrypt).build();
-        JceMasterKey jceMasterKey = createJceMasterKey(masterKey);
+        JceMasterKey jceMasterKey = getJceMasterKey(tenantId);
 
         final CryptoResult<byte[], JceMasterKey> encryptResult = crypto
             .encryptData(jceMasterKey, plainText.getBytes(StandardCharsets.UTF_8));
@@ -163,13 +203,19 @@ public class EncryptorImpl implements Encryptor {
 
     @Override
     public String decrypt(String encryptedText, String tenantId) {
-        String masterKey = getOrInitMasterKey(tenantId);
-        final AwsCrypto crypto = AwsCrypto.builder().withCommitmentPolicy(CommitmentPolicy.RequireEncryptRequireDecrypt).build();
-        JceMasterKey jceMasterKey = createJceMasterKey(masterKey);
+        JceMasterKey jceMasterKey = getJceMasterKey(tenantId);
+        // the encrypted text differs for every encryption, so it identifies the credential version of a connector
+        String cacheKey = Objects.requireNonNullElse(tenantId, DEFAULT_TENANT_ID) + '\u0000' + encryptedText;
+        DecryptedCredential cached = decryptedCredentials.getIfPresent(cacheKey);
+        if (cached != null && cached.jceMasterKey() == jceMasterKey) {
+            return cached.plainText();
+        }
 
         final CryptoResult<byte[], JceMasterKey> decryptedResult = crypto
             .decryptData(jceMasterKey, Base64.getDecoder().decode(encryptedText));
-        return new String(decryptedResult.getResult());
+        String plainText = new String(decryptedResult.getResult());
+        decryptedCredentials.put(cacheKey, new DecryptedCredential(jceMasterKey, plainText));
+        return plainText;
     }
 
     @Override
@@ -179,11 +225,26 @@ public class EncryptorImpl implements Encryptor {
         return Base64.getEncoder().encodeToString(keyBytes);
     }
 
+    private static Cache<String, DecryptedCredential> buildDecryptedCredentialsCache(long cacheTtl, TimeUnit timeUnit) {
+        return CacheBuilder.newBuilder().expireAfterWrite(cacheTtl, timeUnit).maximumSize(MAX_DECRYPTED_CREDENTIALS).build();
+    }
+
     private JceMasterKey createJceMasterKey(String masterKey) {
         byte[] bytes = Base64.getDecoder().decode(masterKey);
         return JceMasterKey.getInstance(new SecretKeySpec(bytes, "AES"), "Custom", "", "AES/GCM/NOPADDING");
     }
 
+    private JceMasterKey getJceMasterKey(String tenantId) {
+        String effectiveTenantId = Objects.requireNonNullElse(tenantId, DEFAULT_TENANT_ID);
+        String masterKey = getOrInitMasterKey(tenantId);
+        TenantCrypto tenantCrypto = tenantCryptos.getIfPresent(effectiveTenantId);
+        if (tenantCrypto == null || !tenantCrypto.masterKey().equals(masterKey)) {
+            tenantCrypto = new TenantCrypto(masterKey, createJceMasterKey(masterKey));
+            tenantCryptos.put(effectiveTenantId, tenantCrypto);
+        }
+        return tenantCrypto.jceMasterKey();
+    }
+
     private String getOrInitMasterKey(String tenantId) {
         String effectiveTenantId = Objects.requireNonNullElse(tenantId, DEFAULT_TENANT_ID);
         String masterKey = tenantMasterKeys.getIfPresent(effectiveTenantId);
@@ -191,82 +252,76 @@ public class EncryptorImpl implements Encryptor {
             return masterKey;
         }
 
-        // Double-checked locking to prevent duplicate index writes under high concurrency
-        synchronized (lock) {
-            masterKey = tenantMasterKeys.getIfPresent(effectiveTenantId);
-            if (masterKey == null) {
-                initMasterKey(tenantId);
-                masterKey = tenantMasterKeys.getIfPresent(effectiveTenantId);
-                if (masterKey == null) {
-                    throw new ResourceNotFoundException(MASTER_KEY_NOT_READY_ERROR);
-                }
+        CompletableFuture<String> masterKeyFuture = loadMasterKey(tenantId);
+        try {
+            // Callers which can't wait on a listener block here, only on the load of their own tenant.
+            // sometimes it may be take more than 1 seconds in multi-tenancy case where we need to
+            // create index, create a master key and then perform the prediction.
+            return masterKeyFuture.get(3, SECONDS);
+        } catch (TimeoutException e) {
+            // don't let later callers wait on a load which may never complete
+            pendingMasterKeys.remove(effectiveTenantId, masterKeyFuture);
+            throw new MLException("Fetching master key timed out.");
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            log.debug("Failed to init master key for tenant {}", tenantId, cause);
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new MLException(cause);
             }
         }
-        return masterKey;
     }
 
-    private void initMasterKey(String tenantId) {
-        if (tenantMasterKeys.getIfPresent(Objects.requireNonNullElse(tenantId, DEFAULT_TENANT_ID)) != null) {
-            return;
+    /**
+     * Load the master key of a tenant from the config index, or create it if it doesn't exist yet. Only one load per
+     * tenant runs at a time, concurrent callers get the future of the running load.
+     */
+    private CompletableFuture<String> loadMasterKey(String tenantId) {
+        String effectiveTenantId = Objects.requireNonNullElse(tenantId, DEFAULT_TENANT_ID);
+        CompletableFuture<String> masterKeyFuture = new CompletableFuture<>();
+        CompletableFuture<String> pending = pendingMasterKeys.putIfAbsent(effectiveTenantId, masterKeyFuture);
+        if (pending != null) {
+            return pending;
         }
-        String masterKeyId = MASTER_KEY;
-        if (tenantId != null) {
-            masterKeyId = MASTER_KEY + "_" + hashString(tenantId);
+        masterKeyFuture.whenComplete((key, throwable) -> pendingMasterKeys.remove(effectiveTenantId, masterKeyFuture));
+        // another load may have completed since the cache was checked
+        String masterKey = tenantMasterKeys.getIfPresent(effectiveTenantId);
+        if (masterKey != null) {
+            masterKeyFuture.complete(masterKey);
+            return masterKeyFuture;
         }
-        AtomicReference<Exception> exceptionRef = new AtomicReference<>();
-        CountDownLatch latch = new CountDownLatch(1);
-        mlIndicesHandler.initMLConfigIndex(createInitMLConfigIndexListener(exceptionRef, latch, tenantId, masterKeyId));
-        waitForLatch(latch);
-        checkMasterKeyInitialization(tenantId, exceptionRef);
-    }
-
-    private void waitForLatch(CountDownLatch latch) {
         try {
-            // TODO: we need to find a better way to depend on the listener rather than waiting for a fixed time
-            // sometimes it may be take more than 1 seconds in multi-tenancy case where we need to
-            // create index, create a master key and then perform the prediction.
-            boolean completed = latch.await(3, SECONDS);
-            if (!completed) {
-                throw new MLException("Fetching master key timed out.");
-            }
-        } catch (InterruptedException e) {
-            throw new IllegalStateException(e);
+            initMasterKey(tenantId, masterKeyFuture);
+        } catch (Exception e) {
+            masterKeyFuture.completeExceptionally(e);
         }
+        return masterKeyFuture;
     }
 
-    private void checkMasterKeyInitialization(String tenantId, AtomicReference<Exception> exceptionRef) {
-        if (exceptionRef.get() != null) {
-            log.debug("Failed to init master key for tenant {}", tenantId, exceptionRef.get());
-            if (exceptionRef.get() instanceof RuntimeException) {
-                throw (RuntimeException) exceptionRef.get();
-            } else {
-                throw new MLException(exceptionRef.get());
-            }
-        }
-        if (tenantMasterKeys.getIfPresent(Objects.requireNonNullElse(tenantId, DEFAULT_TENANT_ID)) == null) {
-            throw new ResourceNotFoundException(MASTER_KEY_NOT_READY_ERROR);
+    private void initMasterKey(String tenantId, CompletableFuture<String> masterKeyFuture) {
+        String masterKeyId = MASTER_KEY;
+        if (tenantId != null) {
+            masterKeyId = MASTER_KEY + "_" + hashString(tenantId);
         }
+        mlIndicesHandler.initMLConfigIndex(createInitMLConfigIndexListener(masterKeyFuture, tenantId, masterKeyId));
     }
 
     private ActionListener<Boolean> createInitMLConfigIndexListener(
-        AtomicReference<Exception> exceptionRef,
-        CountDownLatch latch,
+        CompletableFuture<String> masterKeyFuture,
         String tenantId,
         String masterKeyId
     ) {
         return ActionListener
             .wrap(
-                r -> handleInitMLConfigIndexSuccess(exceptionRef, latch, tenantId, masterKeyId),
-                e -> handleInitMLConfigIndexFailure(exceptionRef, latch, masterKeyId, e)
+                r -> handleInitMLConfigIndexSuccess(masterKeyFuture, tenantId, masterKeyId),
+                e -> handleInitMLConfigIndexFailure(masterKeyFuture, masterKeyId, e)
             );
     }
 
-    private void handleInitMLConfigIndexSuccess(
-        AtomicReference<Exception> exceptionRef,
-        CountDownLatch latch,
-        String tenantId,
-        String masterKeyId
-    ) {
+    private void handleInitMLConfigIndexSuccess(CompletableFuture<String> masterKeyFuture, String tenantId, String masterKeyId) {
         FetchSourceContext fetchSourceContext = new FetchSourceContext(true, Strings.EMPTY_ARRAY, Strings.EMPTY_ARRAY);
         GetDataObjectRequest getDataObjectRequest = createGetDataObjectRequest(tenantId, fetchSourceContext);
 
@@ -280,22 +335,15 @@ public class EncryptorImpl implements Encryptor {
                         context,
                         response,
                         throwable,
-                        exceptionRef,
-                        latch
+                        masterKeyFuture
                     )
                 );
         }
     }
 
-    private void handleInitMLConfigIndexFailure(
-        AtomicReference<Exception> exceptionRef,
-        CountDownLatch latch,
-        String masterKeyId,
-        Exception e
-    ) {
+    private void handleInitMLConfigIndexFailure(CompletableFuture<String> masterKeyFuture, String masterKeyId, Exception e) {
         log.debug("Failed to init ML config index", e);
-        exceptionRef.set(new RuntimeException("No response to create ML Config index"));
-        latch.countDown();
+        masterKeyFuture.completeExceptionally(new RuntimeException("No response to create ML Config index"));
     }
 
     private void handleGetDataObjectResponse(
@@ -304,67 +352,70 @@ public class EncryptorImpl implements Encryptor {
         ThreadContext.StoredContext context,
         GetDataObjectResponse response,
         Throwable throwable,
-        AtomicReference<Exception> exceptionRef,
-        CountDownLatch latch
+        CompletableFuture<String> masterKeyFuture
     ) {
         log.debug("Completed Get MASTER_KEY Request, for tenant id:{}", tenantId);
 
         if (throwable != null) {
-            handleGetDataObjectFailure(throwable, exceptionRef, latch);
-        } else {
-            handleGetDataObjectSuccess(response, tenantId, masterKeyId, exceptionRef, latch, context);
+            context.restore();
+            handleGetDataObjectFailure(throwable, masterKeyFuture);
+            return;
         }
+        // the master key is only created while the context is stashed, the future is completed once it's restored
+        handleGetDataObjectSuccess(response, tenantId, masterKeyId, masterKeyFuture, context);
         context.restore();
     }
 
-    private void handleGetDataObjectFailure(Throwable throwable, AtomicReference<Exception> exceptionRef, CountDownLatch latch) {
+    private void handleGetDataObjectFailure(Throwable throwable, CompletableFuture<String> masterKeyFuture) {
         Exception cause = SdkClientUtils.unwrapAndConvertToException(throwable, OpenSearchStatusException.class);
         log.debug("Failed to get ML encryption master key from config index", cause);
-        exceptionRef.set(cause);
-        latch.countDown();
+        masterKeyFuture.completeExceptionally(cause);
     }
 
     private void handleGetDataObjectSuccess(
         GetDataObjectResponse response,
         String tenantId,
         String masterKeyId,
-        AtomicReference<Exception> exceptionRef,
-        CountDownLatch latch,
+        CompletableFuture<String> masterKeyFuture,
         ThreadContext.StoredContext context
     ) {
         try {
             GetResponse getMasterKeyResponse = response.parser() == null ? null : GetResponse.fromXContent(response.parser());
             if (getMasterKeyResponse != null && getMasterKeyResponse.isExists()) {
-                Map<String, Object> source = getMasterKeyResponse.getSourceAsMap();
-                if (source != null) {
-                    Object keyValue = source.get(MASTER_KEY);
-                    if (keyValue instanceof String) {
-                        this.tenantMasterKeys.put(Objects.requireNonNullElse(tenantId, DEFAULT_TENANT_ID), (String) keyValue);
-                        log.info("ML encryption master key already initialized, no action needed");
-                    } else {
-                        log.error("Master key not found or not a string for tenantId: {}, masterKeyId: {}", tenantId, masterKeyId);
-                        exceptionRef.set(new ResourceNotFoundException(MASTER_KEY_NOT_READY_ERROR));
-                    }
-                } else {
-                    log.error("Master key not found or not a string for tenantId: {}, masterKeyId: {}", tenantId, masterKeyId);
-                    exceptionRef.set(new ResourceNotFoundException(MASTER_KEY_NOT_READY_ERROR));
-                }
-                latch.countDown();
+                context.restore();
+                completeWithExistingMasterKey(getMasterKeyResponse, tenantId, masterKeyId, masterKeyFuture);
             } else {
-                initializeNewMasterKey(tenantId, masterKeyId, exceptionRef, latch, context);
+                initializeNewMasterKey(tenantId, masterKeyId, masterKeyFuture, context);
             }
         } catch (Exception e) {
             log.debug("Failed to get ML encryption master key from config index", e);
-            exceptionRef.set(e);
-            latch.countDown();
+            context.restore();
+            masterKeyFuture.completeExceptionally(e);
+        }
+    }
+
+    private void completeWithExistingMasterKey(
+        GetResponse getMasterKeyResponse,
+        String tenantId,
+        String masterKeyId,
+        CompletableFuture<String> masterKeyFuture
+    ) {
+        Map<String, Object> source = getMasterKeyResponse.getSourceAsMap();
+        Object keyValue = source == null ? null : source.get(MASTER_KEY);
+        if (keyValue instanceof String) {
+            this.tenantMasterKeys.put(Objects.requireNonNullElse(tenantId, DEFAULT_TENANT_ID), (String) keyValue);
+            log.info("ML encryption master key already initialized, no action needed");
+            masterKeyFuture.complete((String) keyValue);
+        } else {
+            log.error("Master key not found or not a string for tenantId: {}, masterKeyId: {}", tenantId, masterKeyId);
+            masterKeyFuture.completeExceptionally(new ResourceNotFoundException(MASTER_KEY_NOT_READY_ERROR));
         }
     }
 
     private void initializeNewMasterKey(
         String tenantId,
         String masterKeyId,
-        AtomicReference<Exception> exceptionRef,
-        CountDownLatch latch,
+        CompletableFuture<String> masterKeyFuture,
         ThreadContext.StoredContext context
     ) {
         final String generatedMasterKey = generateMasterKey();
@@ -378,14 +429,12 @@ public class EncryptorImpl implements Encryptor {
                         context,
                         putDataObjectResponse,
                         throwable1,
-                        exceptionRef,
-                        latch,
+                        masterKeyFuture,
                         generatedMasterKey
                     );
                 } catch (IOException e) {
                     log.debug("Failed to index ML encryption master key to config index", e);
-                    exceptionRef.set(e);
-                    latch.countDown();
+                    masterKeyFuture.completeExceptionally(e);
                 }
             });
     }
@@ -417,20 +466,19 @@ public class EncryptorImpl implements Encryptor {
         ThreadContext.StoredContext context,
         PutDataObjectResponse putDataObjectResponse,
         Throwable throwable,
-        AtomicReference<Exception> exceptionRef,
-        CountDownLatch latch,
+        CompletableFuture<String> masterKeyFuture,
         String generatedMasterKey
     ) throws IOException {
         context.restore();
 
         if (throwable != null) {
-            handlePutDataObjectFailure(tenantId, masterKeyId, context, throwable, exceptionRef, latch);
+            handlePutDataObjectFailure(tenantId, masterKeyId, context, throwable, masterKeyFuture);
         } else {
             IndexResponse indexResponse = IndexResponse.fromXContent(putDataObjectResponse.parser());
             log.info("Master key creation result: {}, Master key id: {}", indexResponse.getResult(), indexResponse.getId());
             this.tenantMasterKeys.put(Objects.requireNonNullElse(tenantId, DEFAULT_TENANT_ID), generatedMasterKey);
             log.info("ML encryption master key initialized successfully");
-            latch.countDown();
+            masterKeyFuture.complete(generatedMasterKey);
         }
     }
 
@@ -439,17 +487,15 @@ public class EncryptorImpl implements Encryptor {
         String masterKeyId,
         ThreadContext.StoredContext context,
         Throwable throwable,
-        AtomicReference<Exception> exceptionRef,
-        CountDownLatch latch
+        CompletableFuture<String> masterKeyFuture
     ) {
         Exception cause = SdkClientUtils.unwrapAndConvertToException(throwable, OpenSearchStatusException.class);
         if (cause instanceof VersionConflictEngineException
             || (cause instanceof OpenSearchException && ((OpenSearchException) cause).status() == RestStatus.CONFLICT)) {
-            handleVersionConflict(tenantId, masterKeyId, context, exceptionRef, latch);
+            handleVersionConflict(tenantId, masterKeyId, context, masterKeyFuture);
         } else {
             log.debug("Failed to index ML encryption master key to config index", cause);
-            exceptionRef.set(cause);
-            latch.countDown();
+            masterKeyFuture.completeExceptionally(cause);
         }
     }
 
@@ -457,8 +503,7 @@ public class EncryptorImpl implements Encryptor {
         String tenantId,
         String masterKeyId,
         ThreadContext.StoredContext context,
-        AtomicReference<Exception> exceptionRef,
-        CountDownLatch latch
+        CompletableFuture<String> masterKeyFuture
     ) {
         sdkClient
             .getDataObjectAsync(
@@ -466,11 +511,10 @@ public class EncryptorImpl implements Encryptor {
             )
             .whenComplete((response, throwable) -> {
                 try {
-                    handleVersionConflictResponse(tenantId, masterKeyId, context, response, throwable, exceptionRef, latch);
+                    handleVersionConflictResponse(tenantId, masterKeyId, context, response, throwable, masterKeyFuture);
                 } catch (IOException e) {
                     log.debug("Failed to get ML encryption master key from config index", e);
-                    exceptionRef.set(e);
-                    latch.countDown();
+                    masterKeyFuture.completeExceptionally(e);
                 }
             });
     }
@@ -495,8 +539,7 @@ public class EncryptorImpl implements Encryptor {
         ThreadContext.StoredContext context,
         GetDataObjectResponse response1,
         Throwable throwable2,
-        AtomicReference<Exception> exceptionRef,
-        CountDownLatch latch
+        CompletableFuture<String> masterKeyFuture
     ) throws IOException {
         context.restore();
         log.debug("Completed Get config item");
@@ -504,30 +547,26 @@ public class EncryptorImpl implements Encryptor {
         if (throwable2 != null) {
             Exception cause1 = SdkClientUtils.unwrapAndConvertToException(throwable2, OpenSearchStatusException.class);
             log.debug("Failed to get ML encryption master key from config index", cause1);
-            exceptionRef.set(new ResourceNotFoundException(MASTER_KEY_NOT_READY_ERROR));
-            latch.countDown();
+            masterKeyFuture.completeExceptionally(new ResourceNotFoundException(MASTER_KEY_NOT_READY_ERROR));
         } else {
             GetResponse getMasterKeyResponse = response1.parser() == null ? null : GetResponse.fromXContent(response1.parser());
             if (getMasterKeyResponse != null && getMasterKeyResponse.isExists()) {
-                Map<String, Object> source = getMasterKeyResponse.getSourceAsMap();
-                if (source != null) {
-                    Object keyValue = source.get(MASTER_KEY);
-                    if (keyValue instanceof String) {
-                        this.tenantMasterKeys.put(Objects.requireNonNullElse(tenantId, DEFAULT_TENANT_ID), (String) keyValue);
-                        log.info("ML encryption master key already initialized, no action needed");
-                    } else {
-                        log.error("Master key not found or not a string for tenantId: {}, masterKeyId: {}", tenantId, masterKeyId);
-                        exceptionRef.set(new ResourceNotFoundException(MASTER_KEY_NOT_READY_ERROR));
-                    }
-                } else {
-                    log.error("Master key not found or not a string for tenantId: {}, masterKeyId: {}", tenantId, masterKeyId);
-                    exceptionRef.set(new ResourceNotFoundException(MASTER_KEY_NOT_READY_ERROR));
-                }
-                latch.countDown();
+                completeWithExistingMasterKey(getMasterKeyResponse, tenantId, masterKeyId, masterKeyFuture);
             } else {
-                exceptionRef.set(new ResourceNotFoundException(MASTER_KEY_NOT_READY_ERROR));
-                latch.countDown();
+                masterKeyFuture.completeExceptionally(new ResourceNotFoundException(MASTER_KEY_NOT_READY_ERROR));
             }
         }
     }
+
+    /**
+     * Crypto objects built from the master key of a tenant, they are thread safe and reused across calls.
+     */
+    private record TenantCrypto(String masterKey, JceMasterKey jceMasterKey) {
+    }
+
+    /**
+     * A decrypted credential and the master key it was decrypted with.
+     */
+    private record DecryptedCredential(JceMasterKey jceMasterKey, String plainText) {
+    }
 }
@@ -19,6 +19,7 @@ import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_CALL_ID;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_CALL_ID_PATH;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_RESULT;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_TEMPLATE;
+import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.getMaxParallelToolCalls;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.removeJsonPath;
 import static org.opensearch.ml.engine.algorithms.agent.MLChatAgentRunner.CHAT_HISTORY_QUESTION_TEMPLATE;
 import static org.opensearch.ml.engine.algorithms.agent.MLChatAgentRunner.CHAT_HISTORY_RESPONSE_TEMPLATE;
@@ -56,10 +57,11 @@ public class OpenaiV1ChatCompletionsFunctionCalling implements FunctionCalling {
         params.put(TOOL_CALLS_TOOL_NAME, "function.name");
         params.put(TOOL_CALLS_TOOL_INPUT, "function.arguments");
         params.put(TOOL_CALL_ID_PATH, "id");
-        params.put("tool_configs", ", \"tools\": [${parameters._tools:-}], \"parallel_tool_calls\": false");
+        String parallelToolCalls = String.valueOf(getMaxParallelToolCalls(params) > 1);
+        params.put("tool_configs", ", \"tools\": [${parameters._tools:-}], \"parallel_tool_calls\": " + parallelToolCalls);
 
         params.put("tool_choice", "auto");
-        params.put("parallel_tool_calls", "false");
+        params.put("parallel_tool_calls", parallelToolCalls);
 
         params.put(INTERACTION_TEMPLATE_ASSISTANT_TOOL_CALLS_PATH, "$.choices[0].message");
         params
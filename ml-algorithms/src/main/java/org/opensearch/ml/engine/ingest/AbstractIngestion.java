@@ -8,13 +8,18 @@ package org.opensearch.ml.engine.ingest;
 import static org.opensearch.ml.common.utils.StringUtils.getJsonPath;
 import static org.opensearch.ml.common.utils.StringUtils.obtainFieldNameFromJsonPath;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntToDoubleFunction;
 import java.util.stream.Collectors;
 
 import org.opensearch.OpenSearchStatusException;
@@ -28,12 +33,15 @@ import org.opensearch.ml.common.transport.batch.MLBatchIngestionInput;
 import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.transport.client.Client;
 
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 public class AbstractIngestion implements Ingestable {
+    // concurrent sources may update the same documents
+    static final int UPDATE_RETRY_ON_CONFLICT = 3;
 
     private final Client client;
 
@@ -63,6 +71,116 @@ public class AbstractIngestion implements Ingestable {
         });
     }
 
+    /**
+     * Ingests all sources of a batch ingestion. The first source is read on the calling thread, the others are read in
+     * parallel on the generic thread pool. If reading any source fails, the remaining sources stop reading. It returns
+     * or throws only after every source has stopped.
+     *
+     * @param context The ingestion context shared by all sources
+     * @param sourceIngester Ingests the source with the given index and returns its success rate
+     * @return The lowest success rate of all sources
+     */
+    protected double ingestSources(IngestionContext context, IntToDoubleFunction sourceIngester) {
+        int sourceCount = context.getSourceStats().size();
+        List<CompletableFuture<Double>> futures = new ArrayList<>();
+        for (int sourceIndex = 1; sourceIndex < sourceCount; sourceIndex++) {
+            int index = sourceIndex;
+            futures.add(CompletableFuture.supplyAsync(() -> sourceIngester.applyAsDouble(index), client.threadPool().generic()));
+        }
+        List<Double> successRates = new ArrayList<>();
+        try {
+            successRates.add(sourceIngester.applyAsDouble(0));
+            for (CompletableFuture<Double> future : futures) {
+                successRates.add(future.join());
+            }
+        } catch (CompletionException e) {
+            context.cancel();
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        } catch (RuntimeException e) {
+            context.cancel();
+            throw e;
+        } finally {
+            // the other sources stop reading once cancelled, wait for them so the caller can release what they share
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).handle((result, e) -> null).join();
+            context.reportProgress();
+        }
+        return calculateSuccessRate(successRates);
+    }
+
+    /**
+     * Reads the lines of a source and ingests them in bulks of the configured size. Before each bulk request the reader
+     * waits for a free slot in the bulk window of the ingestion, so it never gets ahead of the cluster by more than
+     * the window.
+     *
+     * @param reader The reader of the source
+     * @param context The ingestion context shared by all sources
+     * @param sourceIndex The index of the source
+     * @return The success rate of the source
+     */
+    protected double ingestLines(BufferedReader reader, IngestionContext context, int sourceIndex) throws IOException,
+        InterruptedException {
+        MLBatchIngestionInput mlBatchIngestionInput = context.getMlBatchIngestionInput();
+        SourceIngestionStats stats = context.getSourceStats().get(sourceIndex);
+        Map<String, Object> filteredMapping = context.isSoleSource()
+            ? filterFieldMappingSoleSource(mlBatchIngestionInput)
+            : filterFieldMapping(mlBatchIngestionInput, sourceIndex);
+        List<String> linesBuffer = new ArrayList<>();
+        // List of CompletableFutures to track batch ingestion operations
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        String line;
+        while (!context.isCancelled() && (line = reader.readLine()) != null) {
+            linesBuffer.add(line);
+            if (linesBuffer.size() == context.getBulkSize()) {
+                futures.add(sendBulk(linesBuffer, filteredMapping, context, stats));
+                linesBuffer.clear();
+            }
+        }
+        // Process any remaining lines in the buffer
+        if (!linesBuffer.isEmpty() && !context.isCancelled()) {
+            futures.add(sendBulk(linesBuffer, filteredMapping, context, stats));
+        }
+
+        // Wait for all bulk requests of this source to complete
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        stats.markCompleted();
+
+        int totalBatches = stats.getSuccessfulBatches().get() + stats.getFailedBatches().get();
+        return (totalBatches == 0) ? 100 : (double) stats.getSuccessfulBatches().get() / totalBatches * 100;
+    }
+
+    private CompletableFuture<Void> sendBulk(
+        List<String> lines,
+        Map<String, Object> filteredMapping,
+        IngestionContext context,
+        SourceIngestionStats stats
+    ) throws InterruptedException {
+        int lineCount = lines.size();
+        context.getBulkWindow().acquire();
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        future.whenComplete((r, e) -> {
+            context.getBulkWindow().release();
+            if (e == null) {
+                stats.getLinesIngested().addAndGet(lineCount);
+            }
+            context.maybeReportProgress();
+        });
+        stats.getLinesRead().addAndGet(lineCount);
+        try {
+            batchIngest(
+                lines,
+                filteredMapping,
+                context.getMlBatchIngestionInput(),
+                getBulkResponseListener(stats.getSuccessfulBatches(), stats.getFailedBatches(), future),
+                context.isSoleSource()
+            );
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        }
+        return future;
+    }
+
     protected double calculateSuccessRate(List<Double> successRates) {
         return successRates
             .stream()
@@ -185,13 +303,15 @@ public class AbstractIngestion implements Ingestable {
             return jsonMap;
         }
 
+        // parse the line once and read all fields from the parsed document
+        DocumentContext document = JsonPath.parse(jsonStr);
         fieldMapping.entrySet().stream().forEach(entry -> {
             Object value = entry.getValue();
             if (value instanceof String) {
                 String jsonPath = (String) value;
-                jsonMap.put(entry.getKey(), JsonPath.read(jsonStr, jsonPath));
+                jsonMap.put(entry.getKey(), document.read(jsonPath));
             } else if (value instanceof List) {
-                ((List<String>) value).stream().forEach(jsonPath -> { jsonMap.put(entry.getKey(), JsonPath.read(jsonStr, jsonPath)); });
+                ((List<String>) value).stream().forEach(jsonPath -> { jsonMap.put(entry.getKey(), document.read(jsonPath)); });
             }
         });
 
@@ -204,12 +324,22 @@ public class AbstractIngestion implements Ingestable {
         ActionListener<BulkResponse> bulkResponseListener,
         int sourceIndex,
         boolean isSoleSource
+    ) {
+        Map<String, Object> filteredMapping = isSoleSource
+            ? filterFieldMappingSoleSource(mlBatchIngestionInput)
+            : filterFieldMapping(mlBatchIngestionInput, sourceIndex);
+        batchIngest(sourceLines, filteredMapping, mlBatchIngestionInput, bulkResponseListener, isSoleSource);
+    }
+
+    protected void batchIngest(
+        List<String> sourceLines,
+        Map<String, Object> filteredMapping,
+        MLBatchIngestionInput mlBatchIngestionInput,
+        ActionListener<BulkResponse> bulkResponseListener,
+        boolean isSoleSource
     ) {
         BulkRequest bulkRequest = new BulkRequest();
         sourceLines.stream().forEach(jsonStr -> {
-            Map<String, Object> filteredMapping = isSoleSource
-                ? filterFieldMappingSoleSource(mlBatchIngestionInput)
-                : filterFieldMapping(mlBatchIngestionInput, sourceIndex);
             Map<String, Object> jsonMap = processFieldMapping(jsonStr, filteredMapping);
             if (jsonMap.isEmpty()) {
                 return;
@@ -224,7 +354,10 @@ public class AbstractIngestion implements Ingestable {
                     throw new IllegalArgumentException("The id filed must be provided to match documents for multiple sources");
                 }
                 String id = String.valueOf(jsonMap.remove("_id"));
-                UpdateRequest updateRequest = new UpdateRequest(mlBatchIngestionInput.getIndexName(), id).doc(jsonMap).upsert(jsonMap);
+                UpdateRequest updateRequest = new UpdateRequest(mlBatchIngestionInput.getIndexName(), id)
+                    .doc(jsonMap)
+                    .upsert(jsonMap)
+                    .retryOnConflict(UPDATE_RETRY_ON_CONFLICT);
                 bulkRequest.add(updateRequest);
             }
         });
@@ -5,6 +5,9 @@
 
 package org.opensearch.ml.engine.ingest;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 import org.opensearch.ml.common.transport.batch.MLBatchIngestionInput;
 
 public interface Ingestable {
@@ -16,4 +19,21 @@ public interface Ingestable {
     default double ingest(MLBatchIngestionInput mlBatchIngestionInput, int bulkSize) {
         throw new IllegalStateException("Ingest is not implemented");
     }
+
+    /**
+     * offline ingest data with given input, reading the sources in parallel.
+     * @param mlBatchIngestionInput batch ingestion input data
+     * @param bulkSize number of source lines per bulk request
+     * @param maxInFlightBulks maximum number of concurrent bulk requests of this ingestion
+     * @param progressListener periodically receives the progress of all sources, may be null
+     * @return successRate (0 - 100)
+     */
+    default double ingest(
+        MLBatchIngestionInput mlBatchIngestionInput,
+        int bulkSize,
+        int maxInFlightBulks,
+        Consumer<List<SourceIngestionStats>> progressListener
+    ) {
+        return ingest(mlBatchIngestionInput, bulkSize);
+    }
 }
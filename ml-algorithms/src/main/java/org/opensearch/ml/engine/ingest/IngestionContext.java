@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.ingest;
+
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.opensearch.ml.common.transport.batch.MLBatchIngestionInput;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * State shared by the readers of all sources of one batch ingestion.
+ * <p>
+ * All readers send their bulk requests through one window of in-flight bulk requests, so the number of concurrent
+ * bulk requests of an ingestion stays fixed no matter how many sources it reads or how fast they are read.
+ */
+@Log4j2
+@Getter
+public class IngestionContext {
+    static final long PROGRESS_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final MLBatchIngestionInput mlBatchIngestionInput;
+    private final int bulkSize;
+    private final boolean soleSource;
+    private final List<SourceIngestionStats> sourceStats;
+    private final Semaphore bulkWindow;
+    private final Consumer<List<SourceIngestionStats>> progressListener;
+    private final AtomicLong lastProgressReport = new AtomicLong(System.nanoTime());
+    private volatile boolean cancelled;
+
+    public IngestionContext(
+        MLBatchIngestionInput mlBatchIngestionInput,
+        List<String> sources,
+        int bulkSize,
+        int maxInFlightBulks,
+        Consumer<List<SourceIngestionStats>> progressListener
+    ) {
+        this.mlBatchIngestionInput = mlBatchIngestionInput;
+        this.bulkSize = bulkSize;
+        this.soleSource = sources.size() == 1;
+        this.sourceStats = sources.stream().map(SourceIngestionStats::new).toList();
+        this.bulkWindow = new Semaphore(maxInFlightBulks);
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Stops reading the remaining sources, e.g. after reading another source failed
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Reports the progress if the last report is older than the report interval
+     */
+    void maybeReportProgress() {
+        long now = System.nanoTime();
+        long last = lastProgressReport.get();
+        if (now - last >= PROGRESS_REPORT_INTERVAL_NANOS && lastProgressReport.compareAndSet(last, now)) {
+            reportProgress();
+        }
+    }
+
+    void reportProgress() {
+        if (progressListener == null) {
+            return;
+        }
+        try {
+            progressListener.accept(sourceStats);
+        } catch (Exception e) {
+            log.warn("Failed to report batch ingestion progress", e);
+        }
+    }
+}
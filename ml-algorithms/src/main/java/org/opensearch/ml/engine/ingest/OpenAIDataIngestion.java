@@ -5,6 +5,8 @@
 
 package org.opensearch.ml.engine.ingest;
 
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_BATCH_INGESTION_MAX_IN_FLIGHT_BULKS;
+
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
@@ -12,14 +14,12 @@ import java.net.URL;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import org.opensearch.OpenSearchStatusException;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.ml.common.transport.batch.MLBatchIngestionInput;
 import org.opensearch.ml.engine.annotation.Ingester;
@@ -40,30 +40,28 @@ public class OpenAIDataIngestion extends AbstractIngestion {
 
     @Override
     public double ingest(MLBatchIngestionInput mlBatchIngestionInput, int bulkSize) {
+        return ingest(mlBatchIngestionInput, bulkSize, ML_COMMONS_BATCH_INGESTION_MAX_IN_FLIGHT_BULKS.getDefault(Settings.EMPTY), null);
+    }
+
+    @Override
+    public double ingest(
+        MLBatchIngestionInput mlBatchIngestionInput,
+        int bulkSize,
+        int maxInFlightBulks,
+        Consumer<List<SourceIngestionStats>> progressListener
+    ) {
         List<String> sources = (List<String>) mlBatchIngestionInput.getDataSources().get(SOURCE);
         if (Objects.isNull(sources) || sources.isEmpty()) {
             return 100;
         }
 
-        boolean isSoleSource = sources.size() == 1;
-        List<Double> successRates = Collections.synchronizedList(new ArrayList<>());
-        for (int sourceIndex = 0; sourceIndex < sources.size(); sourceIndex++) {
-            successRates.add(ingestSingleSource(sources.get(sourceIndex), mlBatchIngestionInput, sourceIndex, isSoleSource, bulkSize));
-        }
-
-        return calculateSuccessRate(successRates);
+        IngestionContext context = new IngestionContext(mlBatchIngestionInput, sources, bulkSize, maxInFlightBulks, progressListener);
+        return ingestSources(context, sourceIndex -> ingestSingleSource(sources.get(sourceIndex), context, sourceIndex));
     }
 
-    private double ingestSingleSource(
-        String fileId,
-        MLBatchIngestionInput mlBatchIngestionInput,
-        int sourceIndex,
-        boolean isSoleSource,
-        int bulkSize
-    ) {
-        double successRate = 0;
+    private double ingestSingleSource(String fileId, IngestionContext context, int sourceIndex) {
         try {
-            String apiKey = mlBatchIngestionInput.getCredential().get(API_KEY);
+            String apiKey = context.getMlBatchIngestionInput().getCredential().get(API_KEY);
             URL url = new URL(API_URL + fileId + "/content");
 
             HttpURLConnection connection = (HttpURLConnection) url.openConnection();
@@ -75,55 +73,7 @@ public class OpenAIDataIngestion extends AbstractIngestion {
                     .doPrivileged((PrivilegedExceptionAction<InputStreamReader>) () -> new InputStreamReader(connection.getInputStream()));
                 BufferedReader reader = new BufferedReader(inputStreamReader)
             ) {
-                List<String> linesBuffer = new ArrayList<>();
-                String line;
-                int lineCount = 0;
-                // Atomic counters for tracking success and failure
-                AtomicInteger successfulBatches = new AtomicInteger(0);
-                AtomicInteger failedBatches = new AtomicInteger(0);
-                // List of CompletableFutures to track batch ingestion operations
-                List<CompletableFuture<Void>> futures = new ArrayList<>();
-
-                while ((line = reader.readLine()) != null) {
-                    linesBuffer.add(line);
-                    lineCount++;
-
-                    // Process every bulkSize lines
-                    if (lineCount % bulkSize == 0) {
-                        // Create a CompletableFuture that will be completed by the bulkResponseListener
-                        CompletableFuture<Void> future = new CompletableFuture<>();
-                        batchIngest(
-                            linesBuffer,
-                            mlBatchIngestionInput,
-                            getBulkResponseListener(successfulBatches, failedBatches, future),
-                            sourceIndex,
-                            isSoleSource
-                        );
-
-                        futures.add(future);
-                        linesBuffer.clear();
-                    }
-                }
-                // Process any remaining lines in the buffer
-                if (!linesBuffer.isEmpty()) {
-                    CompletableFuture<Void> future = new CompletableFuture<>();
-                    batchIngest(
-                        linesBuffer,
-                        mlBatchIngestionInput,
-                        getBulkResponseListener(successfulBatches, failedBatches, future),
-                        sourceIndex,
-                        isSoleSource
-                    );
-                    futures.add(future);
-                }
-
-                reader.close();
-                // Combine all futures and wait for completion
-                CompletableFuture<Void> allFutures = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
-                // Wait for all tasks to complete
-                allFutures.join();
-                int totalBatches = successfulBatches.get() + failedBatches.get();
-                successRate = (totalBatches == 0) ? 100 : (double) successfulBatches.get() / totalBatches * 100;
+                return ingestLines(reader, context, sourceIndex);
             }
         } catch (PrivilegedActionException e) {
             throw new RuntimeException("Failed to read from OpenAI file API: ", e);
@@ -131,7 +81,5 @@ public class OpenAIDataIngestion extends AbstractIngestion {
             log.error(e.getMessage());
             throw new OpenSearchStatusException("Failed to batch ingest: " + e.getMessage(), RestStatus.INTERNAL_SERVER_ERROR);
         }
-
-        return successRate;
     }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.ingest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.Getter;
+
+/**
+ * Progress and throughput of ingesting a single batch ingestion source, updated while the source is read.
+ */
+@Getter
+public class SourceIngestionStats {
+    public static final String SOURCE_FIELD = "source";
+    public static final String LINES_READ_FIELD = "lines_read";
+    public static final String LINES_INGESTED_FIELD = "lines_ingested";
+    public static final String SUCCESSFUL_BATCHES_FIELD = "successful_batches";
+    public static final String FAILED_BATCHES_FIELD = "failed_batches";
+    public static final String ELAPSED_MILLIS_FIELD = "elapsed_millis";
+    public static final String LINES_PER_SECOND_FIELD = "lines_per_second";
+    public static final String COMPLETED_FIELD = "completed";
+
+    private final String source;
+    private final AtomicLong linesRead = new AtomicLong();
+    private final AtomicLong linesIngested = new AtomicLong();
+    private final AtomicInteger successfulBatches = new AtomicInteger();
+    private final AtomicInteger failedBatches = new AtomicInteger();
+    private final long startTime = System.nanoTime();
+    private volatile long endTime = -1;
+
+    public SourceIngestionStats(String source) {
+        this.source = source;
+    }
+
+    public void markCompleted() {
+        endTime = System.nanoTime();
+    }
+
+    public boolean isCompleted() {
+        return endTime >= 0;
+    }
+
+    public long getElapsedMillis() {
+        long end = isCompleted() ? endTime : System.nanoTime();
+        return TimeUnit.NANOSECONDS.toMillis(end - startTime);
+    }
+
+    /**
+     * @return the stats as a map, as stored in the response of the batch ingestion task
+     */
+    public Map<String, Object> toMap() {
+        long elapsedMillis = getElapsedMillis();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(SOURCE_FIELD, source);
+        stats.put(LINES_READ_FIELD, linesRead.get());
+        stats.put(LINES_INGESTED_FIELD, linesIngested.get());
+        stats.put(SUCCESSFUL_BATCHES_FIELD, successfulBatches.get());
+        stats.put(FAILED_BATCHES_FIELD, failedBatches.get());
+        stats.put(ELAPSED_MILLIS_FIELD, elapsedMillis);
+        stats.put(LINES_PER_SECOND_FIELD, elapsedMillis == 0 ? 0 : linesRead.get() * 1000 / elapsedMillis);
+        stats.put(COMPLETED_FIELD, isCompleted());
+        return stats;
+    }
+}
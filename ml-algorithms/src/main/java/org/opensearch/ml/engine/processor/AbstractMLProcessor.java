@@ -5,8 +5,14 @@
 
 package org.opensearch.ml.engine.processor;
 
+import java.util.List;
 import java.util.Map;
 
+import org.opensearch.ml.common.utils.StringUtils;
+
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+
 /**
  * Abstract base class for all ML processors.
  * <p>
@@ -157,4 +163,34 @@ public abstract class AbstractMLProcessor implements MLProcessor {
         // Override in subclasses if validation is needed
     }
 
+    /**
+     * Parses the input into a JsonPath document.
+     * <p>
+     * A Map or List document handed over by a processor chain is used in place. Any other input is serialized and
+     * parsed into a copy, so the caller's object is never modified.
+     *
+     * @param input The input to parse
+     * @param shared Whether the input is a document handed over by a processor chain
+     * @return The JsonPath document
+     */
+    protected static DocumentContext parseDocument(Object input, boolean shared) {
+        if (shared && (input instanceof Map || input instanceof List)) {
+            return JsonPath.parse(input);
+        }
+        return JsonPath.parse(StringUtils.toJson(input));
+    }
+
+    /**
+     * Copies a Map or List value before it is put into a document, so the document never shares objects with the
+     * configuration or with other parts of itself. Other values are returned as is.
+     *
+     * @param value The value to copy
+     * @return A copy of a Map or List value, otherwise the value itself
+     */
+    protected static Object copyValue(Object value) {
+        if (value instanceof Map || value instanceof List) {
+            return JsonPath.parse(StringUtils.toJson(value)).json();
+        }
+        return value;
+    }
 }
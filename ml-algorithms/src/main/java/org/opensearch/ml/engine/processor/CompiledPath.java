@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.processor;
+
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.InvalidPathException;
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * A JsonPath expression compiled once when a processor is created.
+ * <p>
+ * An invalid expression is kept as a string, so it fails when the processor runs and the processor handles the
+ * error like any other processing error.
+ */
+final class CompiledPath {
+
+    private final String path;
+    private final JsonPath jsonPath;
+
+    CompiledPath(String path) {
+        this.path = path;
+        this.jsonPath = compile(path);
+    }
+
+    private static JsonPath compile(String path) {
+        if (path == null) {
+            return null;
+        }
+        try {
+            return JsonPath.compile(path);
+        } catch (InvalidPathException e) {
+            return null;
+        }
+    }
+
+    <T> T read(DocumentContext context) {
+        return jsonPath != null ? context.read(jsonPath) : context.read(path);
+    }
+
+    void set(DocumentContext context, Object value) {
+        if (jsonPath != null) {
+            context.set(jsonPath, value);
+        } else {
+            context.set(path, value);
+        }
+    }
+
+    void delete(DocumentContext context) {
+        if (jsonPath != null) {
+            context.delete(jsonPath);
+        } else {
+            context.delete(path);
+        }
+    }
+
+    String getPath() {
+        return path;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+}
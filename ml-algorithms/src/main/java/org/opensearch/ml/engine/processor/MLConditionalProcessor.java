@@ -8,14 +8,13 @@ package org.opensearch.ml.engine.processor;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
 
-import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.ml.engine.annotation.Processor;
 
-import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
 
 import lombok.extern.log4j.Log4j2;
@@ -148,6 +147,7 @@ import net.minidev.json.JSONArray;
  *   <li>If no conditions match and no default is specified, the input is returned unchanged</li>
  *   <li>Numeric comparisons work with both Number types and numeric strings</li>
  *   <li>Errors during path evaluation are logged and treated as null values</li>
+ *   <li>Regex conditions are compiled once when the processor is created; an invalid pattern never matches</li>
  * </ul>
  */
 @Log4j2
@@ -155,13 +155,16 @@ import net.minidev.json.JSONArray;
 public class MLConditionalProcessor extends AbstractMLProcessor {
 
     private final String path;
+    private final CompiledPath compiledPath;
     private final List<Map.Entry<String, List<MLProcessor>>> conditionalProcessors;
+    private final Map<String, Pattern> regexPatterns = new HashMap<>();
     private final List<MLProcessor> defaultProcessors;
 
     @SuppressWarnings("unchecked")
     public MLConditionalProcessor(Map<String, Object> config) {
         super(config);
         this.path = (String) config.get("path");
+        this.compiledPath = path != null && !path.isEmpty() ? new CompiledPath(path) : null;
 
         // Parse routes
         Object routesObj = config.get("routes");
@@ -178,6 +181,7 @@ public class MLConditionalProcessor extends AbstractMLProcessor {
                 for (Map.Entry<String, Object> routeEntry : routeMap.entrySet()) {
                     List<MLProcessor> processors = ProcessorChain.parseProcessorConfigs(routeEntry.getValue());
                     conditionalProcessors.add(new AbstractMap.SimpleEntry<>(routeEntry.getKey(), processors));
+                    compileRegex(routeEntry.getKey());
                 }
             }
         }
@@ -199,15 +203,33 @@ public class MLConditionalProcessor extends AbstractMLProcessor {
         }
     }
 
+    private void compileRegex(String condition) {
+        if (condition.startsWith("regex:")) {
+            try {
+                regexPatterns.put(condition, Pattern.compile(condition.substring(6)));
+            } catch (Exception e) {
+                log.debug("Invalid regex pattern '{}': {}", condition, e.getMessage());
+            }
+        }
+    }
+
     @Override
     public Object process(Object input) {
+        return process(input, false);
+    }
+
+    @Override
+    public Object processDocument(Object document) {
+        return process(document, true);
+    }
+
+    private Object process(Object input, boolean shared) {
         Object valueToCheck = input;
 
-        if (path != null && !path.isEmpty()) {
+        if (compiledPath != null) {
             try {
-                String jsonStr = StringUtils.toJson(input);
                 try {
-                    valueToCheck = JsonPath.read(jsonStr, path);
+                    valueToCheck = compiledPath.read(parseDocument(input, shared));
                 } catch (PathNotFoundException e) {
                     valueToCheck = null;
                 }
@@ -219,11 +241,11 @@ public class MLConditionalProcessor extends AbstractMLProcessor {
         for (Map.Entry<String, List<MLProcessor>> entry : conditionalProcessors) {
             String condition = entry.getKey();
             if (matchesCondition(condition, valueToCheck)) {
-                return ProcessorChain.applyProcessors(input, entry.getValue());
+                return ProcessorChain.applyProcessors(input, entry.getValue(), shared);
             }
         }
 
-        return ProcessorChain.applyProcessors(input, defaultProcessors);
+        return ProcessorChain.applyProcessors(input, defaultProcessors, shared);
     }
 
     private boolean matchesCondition(String condition, Object value) {
@@ -276,12 +298,8 @@ public class MLConditionalProcessor extends AbstractMLProcessor {
 
         // Regex matching
         if (condition.startsWith("regex:")) {
-            try {
-                return Pattern.matches(condition.substring(6), strValue);
-            } catch (Exception e) {
-                log.debug("Invalid regex pattern '{}': {}", condition, e.getMessage());
-                return false;
-            }
+            Pattern pattern = regexPatterns.get(condition);
+            return pattern != null && pattern.matcher(strValue).matches();
         }
 
         // Substring matching
@@ -9,11 +9,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.ml.engine.annotation.Processor;
 
 import com.jayway.jsonpath.DocumentContext;
-import com.jayway.jsonpath.JsonPath;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -107,6 +105,13 @@ public class MLForEachProcessor extends AbstractMLProcessor {
      */
     private final String path;
 
+    private final CompiledPath compiledPath;
+
+    /**
+     * Path the processed array is written back to, i.e. {@link #path} without a trailing [*] wildcard.
+     */
+    private final CompiledPath compiledSetPath;
+
     /**
      * List of processors to apply to each array element.
      */
@@ -121,6 +126,9 @@ public class MLForEachProcessor extends AbstractMLProcessor {
     public MLForEachProcessor(Map<String, Object> config) {
         super(config);
         this.path = (String) config.get("path");
+        this.compiledPath = new CompiledPath(path);
+        // Remove [*] wildcards from path for setting
+        this.compiledSetPath = new CompiledPath(path == null ? null : path.replaceAll("\\[\\*\\]$", ""));
         Object processorsConfig = config.get("processors");
         this.processors = ProcessorChain.parseProcessorConfigs(processorsConfig);
 
@@ -153,8 +161,8 @@ public class MLForEachProcessor extends AbstractMLProcessor {
      * Processes the input by iterating through the array at the specified path and applying
      * the configured processors to each element.
      * <p>
-     * The input is first converted to a JSON string, then parsed as a JSON document.
-     * The array at the specified path is read, and each element is processed through the
+     * The input is first converted to a JSON string, then parsed as a JSON document. A document handed over by a
+     * processor chain is modified in place instead. The array at the specified path is read, and each element is processed through the
      * processor chain. The modified array is then set back at the original path.
      * </p>
      * 
@@ -164,14 +172,22 @@ public class MLForEachProcessor extends AbstractMLProcessor {
      */
     @Override
     public Object process(Object input) {
+        return process(input, false);
+    }
+
+    @Override
+    public Object processDocument(Object document) {
+        return process(document, true);
+    }
+
+    private Object process(Object input, boolean shared) {
         try {
-            String jsonStr = StringUtils.toJson(input);
-            DocumentContext context = JsonPath.parse(jsonStr);
+            DocumentContext context = parseDocument(input, shared);
 
             // Read the array
             Object arrayObj;
             try {
-                arrayObj = context.read(path);
+                arrayObj = compiledPath.read(context);
             } catch (Exception e) {
                 log.warn("Path '{}' does not exist in input: {}", path, e.getMessage());
                 return input;
@@ -194,8 +210,9 @@ public class MLForEachProcessor extends AbstractMLProcessor {
             for (int i = 0; i < array.size(); i++) {
                 Object element = array.get(i);
                 try {
-                    Object processed = ProcessorChain.applyProcessors(element, processors);
-                    processedArray.add(processed);
+                    // the elements belong to the parsed document, so the processors can work on them in place
+                    Object processed = ProcessorChain.applyProcessors(element, processors, true);
+                    processedArray.add(processed == element ? processed : copyValue(processed));
                 } catch (Exception e) {
                     log.warn("Failed to process element at index {} in path '{}': {}", i, path, e.getMessage());
                     // Keep original element on error
@@ -204,9 +221,7 @@ public class MLForEachProcessor extends AbstractMLProcessor {
             }
 
             // Set the processed array back
-            // Remove [*] wildcards from path for setting
-            String setPath = path.replaceAll("\\[\\*\\]$", "");
-            context.set(setPath, processedArray);
+            compiledSetPath.set(context, processedArray);
             return context.json();
 
         } catch (Exception e) {
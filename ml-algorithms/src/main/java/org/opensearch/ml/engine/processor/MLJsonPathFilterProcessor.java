@@ -7,10 +7,8 @@ package org.opensearch.ml.engine.processor;
 
 import java.util.Map;
 
-import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.ml.engine.annotation.Processor;
 
-import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
 
 import lombok.extern.log4j.Log4j2;
@@ -100,11 +98,13 @@ import lombok.extern.log4j.Log4j2;
 public class MLJsonPathFilterProcessor extends AbstractMLProcessor {
 
     private final String path;
+    private final CompiledPath compiledPath;
     private final Object defaultValue;
 
     public MLJsonPathFilterProcessor(Map<String, Object> config) {
         super(config);
         this.path = (String) config.get("path");
+        this.compiledPath = new CompiledPath(path);
         this.defaultValue = config.get("default");
     }
 
@@ -121,9 +121,17 @@ public class MLJsonPathFilterProcessor extends AbstractMLProcessor {
 
     @Override
     public Object process(Object input) {
+        return process(input, false);
+    }
+
+    @Override
+    public Object processDocument(Object document) {
+        return process(document, true);
+    }
+
+    private Object process(Object input, boolean shared) {
         try {
-            String jsonStr = StringUtils.toJson(input);
-            return JsonPath.read(jsonStr, path);
+            return compiledPath.read(parseDocument(input, shared));
         } catch (PathNotFoundException e) {
             log.debug("JsonPath '{}' not found in input", path);
             return defaultValue != null ? defaultValue : input;
@@ -89,4 +89,28 @@ public interface MLProcessor {
      *         Returns the original input unchanged if processing fails.
      */
     Object process(Object input);
+
+    /**
+     * Processes a document handed over by a processor chain.
+     * <p>
+     * The chain calls this method with the output of a previous processor, which nobody else holds a reference to.
+     * Processors working on JSON documents can read and modify a Map or List document in place instead of serializing
+     * and parsing a copy of it. The default implementation simply calls {@link #process(Object)}.
+     *
+     * @param document The output of the previous processor in the chain
+     * @return The processed result, with the same contract as {@link #process(Object)}
+     */
+    default Object processDocument(Object document) {
+        return process(document);
+    }
+
+    /**
+     * Whether a result which differs from the input is a new document referencing neither the input nor the
+     * configuration, so the chain may hand it over to the next processor with {@link #processDocument(Object)}.
+     *
+     * @return true if new results are exclusively owned by the caller
+     */
+    default boolean returnsNewDocument() {
+        return false;
+    }
 }
@@ -8,11 +8,9 @@ package org.opensearch.ml.engine.processor;
 import java.util.List;
 import java.util.Map;
 
-import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.ml.engine.annotation.Processor;
 
 import com.jayway.jsonpath.DocumentContext;
-import com.jayway.jsonpath.JsonPath;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -64,6 +62,11 @@ public class MLRemoveJsonPathProcessor extends AbstractMLProcessor {
      */
     private final List<String> paths;
 
+    /**
+     * The JsonPath expressions compiled once when the processor is created.
+     */
+    private final List<CompiledPath> compiledPaths;
+
     /**
      * Constructs a new MLRemoveJsonPathProcessor with the specified configuration.
      * 
@@ -73,6 +76,7 @@ public class MLRemoveJsonPathProcessor extends AbstractMLProcessor {
     public MLRemoveJsonPathProcessor(Map<String, Object> config) {
         super(config);
         this.paths = (List<String>) config.get("paths");
+        this.compiledPaths = paths.stream().map(CompiledPath::new).toList();
     }
 
     /**
@@ -106,8 +110,9 @@ public class MLRemoveJsonPathProcessor extends AbstractMLProcessor {
     /**
      * Processes the input by removing the field(s) specified by the JsonPath expressions.
      * <p>
-     * The input is first converted to a JSON string, then parsed as a JSON document.
-     * Each specified path is deleted from the document in order, and the modified document is returned.
+     * The input is first converted to a JSON string, then parsed as a JSON document. A document handed over by a
+     * processor chain is modified in place instead. Each specified path is deleted from the document in order, and the
+     * modified document is returned.
      * </p>
      * 
      * @param input the input object to process (can be a Map, String, or any JSON-serializable object)
@@ -116,13 +121,26 @@ public class MLRemoveJsonPathProcessor extends AbstractMLProcessor {
      */
     @Override
     public Object process(Object input) {
+        return process(input, false);
+    }
+
+    @Override
+    public Object processDocument(Object document) {
+        return process(document, true);
+    }
+
+    @Override
+    public boolean returnsNewDocument() {
+        return true;
+    }
+
+    private Object process(Object input, boolean shared) {
         try {
-            String jsonStr = StringUtils.toJson(input);
-            DocumentContext context = JsonPath.parse(jsonStr);
+            DocumentContext context = parseDocument(input, shared);
 
-            for (String path : paths) {
+            for (CompiledPath path : compiledPaths) {
                 try {
-                    context.delete(path);
+                    path.delete(context);
                 } catch (Exception e) {
                     log.warn("Failed to remove JsonPath {}: {}", path, e.getMessage());
                 }
@@ -7,7 +7,6 @@ package org.opensearch.ml.engine.processor;
 
 import java.util.Map;
 
-import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.ml.engine.annotation.Processor;
 
 import lombok.extern.log4j.Log4j2;
@@ -132,16 +131,20 @@ import lombok.extern.log4j.Log4j2;
 public class MLSetFieldProcessor extends AbstractMLProcessor {
 
     private final String targetPath;
+    private final CompiledPath compiledTargetPath;
     private final Object value;
     private final String sourcePath;
+    private final CompiledPath compiledSourcePath;
     private final Object defaultValue;
     private final boolean hasDefault;
 
     public MLSetFieldProcessor(Map<String, Object> config) {
         super(config);
         this.targetPath = (String) config.get("path");
+        this.compiledTargetPath = new CompiledPath(targetPath);
         this.value = config.get("value");
         this.sourcePath = (String) config.get("source_path");
+        this.compiledSourcePath = new CompiledPath(sourcePath);
         this.defaultValue = config.get("default");
         this.hasDefault = config.containsKey("default");
     }
@@ -183,12 +186,25 @@ public class MLSetFieldProcessor extends AbstractMLProcessor {
 
     @Override
     public Object process(Object input) {
+        return process(input, false);
+    }
+
+    @Override
+    public Object processDocument(Object document) {
+        return process(document, true);
+    }
+
+    @Override
+    public boolean returnsNewDocument() {
+        return true;
+    }
+
+    private Object process(Object input, boolean shared) {
         try {
-            String jsonStr = StringUtils.toJson(input);
-            com.jayway.jsonpath.DocumentContext context = com.jayway.jsonpath.JsonPath.parse(jsonStr);
+            com.jayway.jsonpath.DocumentContext context = parseDocument(input, shared);
 
             // Determine the value to set
-            Object valueToSet = determineValue(context);
+            Object valueToSet = copyValue(determineValue(context));
             if (valueToSet == null && sourcePath != null && !hasDefault) {
                 // Source path read failed and no default provided, return original input
                 return input;
@@ -217,7 +233,7 @@ public class MLSetFieldProcessor extends AbstractMLProcessor {
     private Object determineValue(com.jayway.jsonpath.DocumentContext context) {
         if (sourcePath != null) {
             try {
-                Object sourceValue = context.read(sourcePath);
+                Object sourceValue = compiledSourcePath.read(context);
                 log.debug("Read value from source path '{}'", sourcePath);
                 return sourceValue;
             } catch (Exception e) {
@@ -242,7 +258,7 @@ public class MLSetFieldProcessor extends AbstractMLProcessor {
      */
     private boolean setValueAtPath(com.jayway.jsonpath.DocumentContext context, Object valueToSet) {
         try {
-            context.set(targetPath, valueToSet);
+            compiledTargetPath.set(context, valueToSet);
             log.debug("Successfully set value at path '{}'", targetPath);
             return true;
         } catch (Exception setException) {
@@ -15,6 +15,8 @@ import java.util.Map;
 
 import org.opensearch.ml.engine.MLEngineClassLoader;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.reflect.TypeToken;
 import com.google.gson.JsonSyntaxException;
 
@@ -49,6 +51,14 @@ public class ProcessorChain {
      */
     public static final String OUTPUT_PROCESSORS = "output_processors";
 
+    private static final ProcessorChain EMPTY_CHAIN = new ProcessorChain();
+
+    /**
+     * Processor chains by their raw configuration, so connectors and tools don't parse the same configuration and
+     * instantiate its processors on every request. Processors are immutable once created and can be shared.
+     */
+    private static final Cache<Object, ProcessorChain> CHAIN_CACHE = CacheBuilder.newBuilder().maximumSize(1000).build();
+
     /**
      * List of processors to apply sequentially.
      */
@@ -150,9 +160,29 @@ public class ProcessorChain {
      *         Returns the original input if processors list is empty.
      */
     public static Object applyProcessors(Object input, List<MLProcessor> processors) {
+        return applyProcessors(input, processors, false);
+    }
+
+    /**
+     * Applies a list of processors sequentially, handing over documents between them.
+     * <p>
+     * Once a processor returned a new document (see {@link MLProcessor#returnsNewDocument()}), the following
+     * processors get it through {@link MLProcessor#processDocument(Object)} and may modify it in place instead of
+     * serializing and parsing their own copy.
+     *
+     * @param input The initial input object to process
+     * @param processors List of processors to apply in order
+     * @param owned Whether the input is already a document owned by the caller, which may be modified in place
+     * @return The final processed result after all processors have been applied
+     */
+    static Object applyProcessors(Object input, List<MLProcessor> processors, boolean owned) {
         Object result = input;
         for (MLProcessor processor : processors) {
-            result = processor.process(result);
+            Object output = owned ? processor.processDocument(result) : processor.process(result);
+            if (output != result) {
+                owned = processor.returnsNewDocument();
+            }
+            result = output;
         }
         return result;
     }
@@ -202,11 +232,7 @@ public class ProcessorChain {
      * @return The final processed result after all processors have been applied
      */
     public Object process(Object input) {
-        Object result = input;
-        for (MLProcessor processor : processors) {
-            result = processor.process(result);
-        }
-        return result;
+        return applyProcessors(input, processors);
     }
 
     /**
@@ -221,6 +247,27 @@ public class ProcessorChain {
         return !processors.isEmpty();
     }
 
+    /**
+     * Gets the processor chain configured by a parameter, reusing the chain created for the same configuration before.
+     *
+     * @param params Parameter map which may contain the processor configuration
+     * @param paramName Name of the parameter holding the processor configuration
+     * @return The processor chain, empty if the parameter is absent
+     * @throws IllegalArgumentException if a processor type is invalid or instantiation fails
+     */
+    public static ProcessorChain getOrCreate(Map<String, ?> params, String paramName) {
+        Object configObj = params == null ? null : params.get(paramName);
+        if (configObj == null) {
+            return EMPTY_CHAIN;
+        }
+        ProcessorChain chain = CHAIN_CACHE.getIfPresent(configObj);
+        if (chain == null) {
+            chain = new ProcessorChain(extractProcessorConfigs(params, paramName));
+            CHAIN_CACHE.put(configObj, chain);
+        }
+        return chain;
+    }
+
     /**
      * Extracts processor configurations from tool parameters.
      * <p>
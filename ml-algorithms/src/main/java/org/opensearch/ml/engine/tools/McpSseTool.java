@@ -5,6 +5,7 @@
 
 package org.opensearch.ml.engine.tools;
 
+import static org.opensearch.ml.common.CommonValue.MCP_SESSION_LEASE;
 import static org.opensearch.ml.common.CommonValue.MCP_SYNC_CLIENT;
 
 import java.util.List;
@@ -45,6 +46,10 @@ public class McpSseTool implements WithModelTool {
     private String description = DEFAULT_DESCRIPTION;
     @Getter
     private McpSyncClient mcpSyncClient;
+    // the session pool lease the client was obtained with, several leases can share one client
+    @Getter
+    @Setter
+    private Object mcpSessionLease;
     @Setter
     private Parser inputParser;
     @Setter
@@ -119,7 +124,9 @@ public class McpSseTool implements WithModelTool {
 
         @Override
         public McpSseTool create(Map<String, Object> map) {
-            return new McpSseTool((McpSyncClient) map.get(MCP_SYNC_CLIENT));
+            McpSseTool tool = new McpSseTool((McpSyncClient) map.get(MCP_SYNC_CLIENT));
+            tool.setMcpSessionLease(map.get(MCP_SESSION_LEASE));
+            return tool;
         }
 
         @Override
@@ -5,6 +5,7 @@
 
 package org.opensearch.ml.engine.tools;
 
+import static org.opensearch.ml.common.CommonValue.MCP_SESSION_LEASE;
 import static org.opensearch.ml.common.CommonValue.MCP_SYNC_CLIENT;
 
 import java.util.List;
@@ -46,6 +47,10 @@ public class McpStreamableHttpTool implements WithModelTool {
     private String description = DEFAULT_DESCRIPTION;
     @Getter
     private McpSyncClient mcpSyncClient;
+    // the session pool lease the client was obtained with, several leases can share one client
+    @Getter
+    @Setter
+    private Object mcpSessionLease;
     @Setter
     @Getter
     @VisibleForTesting
@@ -120,7 +125,9 @@ public class McpStreamableHttpTool implements WithModelTool {
 
         @Override
         public McpStreamableHttpTool create(Map<String, Object> map) {
-            return new McpStreamableHttpTool((McpSyncClient) map.get(MCP_SYNC_CLIENT));
+            McpStreamableHttpTool tool = new McpStreamableHttpTool((McpSyncClient) map.get(MCP_SYNC_CLIENT));
+            tool.setMcpSessionLease(map.get(MCP_SESSION_LEASE));
+            return tool;
         }
 
         @Override
@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.opensearch.ml.common.MLModel;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Node level cache of deserialized trained models, e.g. Tribuo models or RCF model states.
+ * <p>
+ * Predicting with a model id which is not deployed passes the model document to the algorithm, which used to decode
+ * and deserialize the whole model content for every request. Models are cached by model id and only used for the same
+ * model version. The cache is bounded by the size of the serialized model content, and entries expire when they were
+ * not used for a while. The model document is still read for every predict request, so a deleted model is never
+ * predicted with; deleting a model additionally drops its entry on the node handling the deletion.
+ * <p>
+ * Cached objects are shared by concurrent requests. Only cache objects which predicting doesn't modify, e.g. cache
+ * the state of a random cut forest and build a new forest from it for each request, as scoring updates the forest.
+ */
+public final class DeserializedModelCache {
+    public static final long DEFAULT_MAX_SIZE_IN_BYTES = 256L * 1024 * 1024;
+    static final Duration EXPIRE_AFTER_ACCESS = Duration.ofHours(1);
+
+    private static volatile Cache<String, CachedModel> cache = buildCache(DEFAULT_MAX_SIZE_IN_BYTES);
+
+    private DeserializedModelCache() {}
+
+    /**
+     * Gets the deserialized model, deserializing it if it's not cached yet
+     * @param model the model document passed to predict
+     * @param loader deserializes the model
+     * @return the deserialized model
+     * @param <T> type of the deserialized model
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T getOrLoad(MLModel model, Function<MLModel, T> loader) {
+        Cache<String, CachedModel> current = cache;
+        String modelId = model.getModelId();
+        if (current == null || modelId == null || model.getContent() == null) {
+            return loader.apply(model);
+        }
+        CachedModel cached = current.getIfPresent(modelId);
+        if (cached != null && Objects.equals(cached.version(), model.getVersion())) {
+            return (T) cached.model();
+        }
+        T loaded = loader.apply(model);
+        current.put(modelId, new CachedModel(model.getVersion(), loaded, model.getContent().length()));
+        return loaded;
+    }
+
+    /**
+     * Drops the deserialized model, e.g. after the model was deleted
+     * @param modelId model id
+     */
+    public static void invalidate(String modelId) {
+        Cache<String, CachedModel> current = cache;
+        if (current != null && modelId != null) {
+            current.invalidate(modelId);
+        }
+    }
+
+    /**
+     * Replaces the cache with an empty cache of the given size
+     * @param maxSizeInBytes max total size of the serialized content of cached models, 0 disables the cache
+     */
+    public static void setMaxSizeInBytes(long maxSizeInBytes) {
+        cache = buildCache(maxSizeInBytes);
+    }
+
+    private static Cache<String, CachedModel> buildCache(long maxSizeInBytes) {
+        if (maxSizeInBytes <= 0) {
+            return null;
+        }
+        return CacheBuilder
+            .newBuilder()
+            .maximumWeight(maxSizeInBytes)
+            .weigher((String modelId, CachedModel cachedModel) -> cachedModel.size())
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .build();
+    }
+
+    private record CachedModel(String version, Object model, int size) {
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Writes model chunks which may arrive out of order into one file in chunk order.
+ *
+ * Chunks ahead of the next expected chunk are kept in memory until the gap is filled, so callers should bound how
+ * far ahead they fetch. The sha256 hash of the written content is computed while writing, it's the same value as
+ * {@link FileUtils#calculateFileHash(File)} of the finished file.
+ */
+@Log4j2
+public class ModelChunkWriter implements Closeable {
+    private final File file;
+    private final int totalChunks;
+    private final OutputStream output;
+    private final Hasher hasher;
+    private final Map<Integer, byte[]> pendingChunks = new HashMap<>();
+    private int nextChunk;
+    private String hash;
+
+    public ModelChunkWriter(File file, int totalChunks) throws IOException {
+        this.file = file;
+        this.totalChunks = totalChunks;
+        org.apache.commons.io.FileUtils.forceMkdir(file.getParentFile());
+        // remove instead of truncating, the file may be a hard link into the model artifact cache
+        Files.deleteIfExists(file.toPath());
+        this.output = new BufferedOutputStream(new FileOutputStream(file, false));
+        this.hasher = Hashing.sha256().newHasher();
+    }
+
+    /**
+     * Add a chunk, it's written right away if all chunks before it are written.
+     * @param chunkNumber chunk number, starting from 0
+     * @param content chunk content
+     * @return true if all chunks are written
+     * @throws IOException if writing the file fails
+     */
+    public synchronized boolean write(int chunkNumber, byte[] content) throws IOException {
+        if (chunkNumber < nextChunk || chunkNumber >= totalChunks || pendingChunks.containsKey(chunkNumber)) {
+            throw new IllegalArgumentException("Unexpected model chunk " + chunkNumber);
+        }
+        pendingChunks.put(chunkNumber, content);
+        byte[] chunk;
+        while ((chunk = pendingChunks.remove(nextChunk)) != null) {
+            output.write(chunk);
+            hasher.putBytes(chunk);
+            nextChunk++;
+        }
+        if (nextChunk == totalChunks) {
+            output.flush();
+            if (hash == null) {
+                hash = hasher.hash().toString();
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return number of chunks written to the file
+     */
+    public synchronized int getWrittenChunks() {
+        return nextChunk;
+    }
+
+    /**
+     * @return sha256 hash of the file content, only valid after all chunks are written
+     */
+    public synchronized String getHash() {
+        if (hash == null) {
+            throw new IllegalStateException("Model chunks are not fully written");
+        }
+        return hash;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public int getTotalChunks() {
+        return totalChunks;
+    }
+
+    /**
+     * Close the writer and delete the partially written file.
+     */
+    public synchronized void abort() {
+        pendingChunks.clear();
+        try {
+            output.close();
+        } catch (IOException e) {
+            log.debug("Failed to close model chunk file {}", file, e);
+        }
+        FileUtils.deleteFileQuietly(file);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        pendingChunks.clear();
+        output.close();
+    }
+}
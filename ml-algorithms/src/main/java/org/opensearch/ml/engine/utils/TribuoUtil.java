@@ -11,12 +11,10 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
-import java.util.stream.StreamSupport;
 
 import org.apache.commons.lang3.StringUtils;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.ml.common.dataframe.ColumnMeta;
-import org.opensearch.ml.common.dataframe.ColumnValue;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataframe.Row;
 import org.opensearch.ml.engine.contants.TribuoOutputType;
@@ -39,12 +37,8 @@ public class TribuoUtil {
     public static Tuple<String[], double[][]> transformDataFrame(DataFrame dataFrame) {
         String[] featureNames = Arrays.stream(dataFrame.columnMetas()).map(ColumnMeta::getName).toArray(String[]::new);
         double[][] featureValues = new double[dataFrame.size()][];
-        Iterator<Row> itr = dataFrame.iterator();
-        int i = 0;
-        while (itr.hasNext()) {
-            Row row = itr.next();
-            featureValues[i] = StreamSupport.stream(row.spliterator(), false).mapToDouble(ColumnValue::doubleValue).toArray();
-            ++i;
+        for (int i = 0; i < featureValues.length; i++) {
+            featureValues[i] = dataFrame.getRowAsDoubles(i);
         }
 
         return new Tuple<>(featureNames, featureValues);
@@ -182,34 +176,38 @@ public class TribuoUtil {
 
         List<Example<T>> dataset = new ArrayList<>();
         ArrayExample<T> example;
+        // the data frame is transformed once for all rows, when the first row is added
+        Tuple<String[], double[][]> featureNamesValues = null;
+        String[] featureNames = null;
+        String[] targetValues = null;
+        int finalTargetIndex = -1;
 
         for (int i = 0; i < dataFrame.size(); ++i) {
-            final int finalI = i;
             double[] featureValues;
-            Tuple<String[], double[][]> featureNamesValues;
-            String[] featureNames;
-            int finalTargetIndex;
             switch (outputType) {
                 case REGRESSOR:
-                    featureNamesValues = transformDataFrame(dataFrame);
-                    finalTargetIndex = findFinalTargetIndex(featureNamesValues, target);
-                    featureNames = createFeatureNames(featureNamesValues, finalTargetIndex);
-                    double targetValue = featureNamesValues.v2()[finalI][finalTargetIndex];
-                    featureValues = IntStream
-                        .range(0, featureNamesValues.v2()[i].length)
-                        .filter(e -> e != finalTargetIndex)
-                        .mapToDouble(e -> featureNamesValues.v2()[finalI][e])
-                        .toArray();
+                    if (featureNamesValues == null) {
+                        featureNamesValues = transformDataFrame(dataFrame);
+                        finalTargetIndex = findFinalTargetIndex(featureNamesValues, target);
+                        featureNames = createFeatureNames(featureNamesValues, finalTargetIndex);
+                    }
+                    double[] rowValues = featureNamesValues.v2()[i];
+                    double targetValue = rowValues[finalTargetIndex];
+                    featureValues = new double[rowValues.length - 1];
+                    for (int j = 0, col = 0; j < rowValues.length; j++) {
+                        if (j != finalTargetIndex) {
+                            featureValues[col++] = rowValues[j];
+                        }
+                    }
                     example = new ArrayExample<>((T) new Regressor(target, targetValue), featureNames, featureValues);
                     break;
                 case LABEL:
-                    featureNamesValues = transformClassificationDataFrame(dataFrame, target);
-                    featureNames = createFeatureNames(featureNamesValues);
-                    String[] targetValues = transformTargetValuesDataFrames(dataFrame, target);
-                    featureValues = IntStream
-                        .range(0, featureNamesValues.v2()[i].length)
-                        .mapToDouble(e -> featureNamesValues.v2()[finalI][e])
-                        .toArray();
+                    if (featureNamesValues == null) {
+                        featureNamesValues = transformClassificationDataFrame(dataFrame, target);
+                        featureNames = createFeatureNames(featureNamesValues);
+                        targetValues = transformTargetValuesDataFrames(dataFrame, target);
+                    }
+                    featureValues = featureNamesValues.v2()[i];
                     example = new ArrayExample<>((T) new Label(targetValues[i]), featureNames, featureValues);
                     break;
                 default:
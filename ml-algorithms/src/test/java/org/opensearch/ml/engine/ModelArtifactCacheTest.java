@@ -0,0 +1,120 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opensearch.ml.engine.utils.FileUtils;
+
+public class ModelArtifactCacheTest {
+    private TemporaryFolder tempDir;
+    private Path cachePath;
+
+    @Before
+    public void setUp() throws Exception {
+        tempDir = new TemporaryFolder();
+        tempDir.create();
+        cachePath = tempDir.getRoot().toPath().resolve("artifacts");
+    }
+
+    @After
+    public void tearDown() {
+        if (tempDir != null) {
+            tempDir.delete();
+        }
+    }
+
+    @Test
+    public void testPutAndGet() throws Exception {
+        ModelArtifactCache cache = new ModelArtifactCache(cachePath, 1024);
+        File modelZip = modelZip("model1", "model content");
+        String hash = FileUtils.calculateFileHash(modelZip);
+        cache.put(hash, modelZip);
+
+        // the deploy folder of the model is removed on undeploy
+        Files.delete(modelZip.toPath());
+        File target = new File(tempDir.getRoot(), "deploy/model2/model.zip");
+        assertNotNull(cache.get(hash, target));
+        assertArrayEquals("model content".getBytes(StandardCharsets.UTF_8), Files.readAllBytes(target.toPath()));
+        assertEquals(hash, FileUtils.calculateFileHash(target));
+    }
+
+    @Test
+    public void testGet_ModifiedArtifactEvicted() throws Exception {
+        ModelArtifactCache cache = new ModelArtifactCache(cachePath, 1024);
+        File modelZip = modelZip("model1", "model content");
+        String hash = FileUtils.calculateFileHash(modelZip);
+        cache.put(hash, modelZip);
+
+        // the cached artifact may share its inode with a deployed copy that was changed in place
+        Files.delete(modelZip.toPath());
+        Files.write(cachePath.resolve(hash + ".zip"), "tampered".getBytes(StandardCharsets.UTF_8));
+        File target = new File(tempDir.getRoot(), "deploy/model2/model.zip");
+        assertNull(cache.get(hash, target));
+        assertFalse(target.exists());
+        assertFalse(Files.exists(cachePath.resolve(hash + ".zip")));
+    }
+
+    @Test
+    public void testGet_NotCached() {
+        ModelArtifactCache cache = new ModelArtifactCache(cachePath, 1024);
+        File target = new File(tempDir.getRoot(), "deploy/model1/model.zip");
+        assertNull(cache.get("c446f747520bcc6af053813cb1e8d34944a7c4686bbb405aeaa23883b5a806c8", target));
+        assertNull(cache.get("../../invalid", target));
+        assertNull(cache.get(null, target));
+        assertFalse(target.exists());
+    }
+
+    @Test
+    public void testDisabled() throws Exception {
+        ModelArtifactCache cache = new ModelArtifactCache(cachePath, 0);
+        File modelZip = modelZip("model1", "model content");
+        String hash = FileUtils.calculateFileHash(modelZip);
+        cache.put(hash, modelZip);
+        assertFalse(Files.exists(cachePath));
+    }
+
+    @Test
+    public void testEvictLeastRecentlyUsed() throws Exception {
+        ModelArtifactCache cache = new ModelArtifactCache(cachePath, 20);
+        File modelZip1 = modelZip("model1", "content one");
+        File modelZip2 = modelZip("model2", "content two");
+        String hash1 = FileUtils.calculateFileHash(modelZip1);
+        String hash2 = FileUtils.calculateFileHash(modelZip2);
+        cache.put(hash1, modelZip1);
+        Files.setLastModifiedTime(cachePath.resolve(hash1 + ".zip"), FileTime.fromMillis(1000));
+
+        // adding the second artifact goes over the limit, the older one is evicted
+        cache.put(hash2, modelZip2);
+        assertFalse(Files.exists(cachePath.resolve(hash1 + ".zip")));
+        assertTrue(Files.exists(cachePath.resolve(hash2 + ".zip")));
+
+        cache.setMaxSizeInBytes(0);
+        assertFalse(Files.exists(cachePath.resolve(hash2 + ".zip")));
+    }
+
+    private File modelZip(String modelId, String content) throws Exception {
+        File file = new File(tempDir.getRoot(), "deploy/" + modelId + "/model.zip");
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import ai.djl.inference.Predictor;
+import ai.djl.modality.Input;
+import ai.djl.modality.Output;
+import ai.djl.translate.TranslateException;
+
+public class PredictionBatcherTest {
+
+    private Predictor<Input, Output> predictor;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws TranslateException {
+        predictor = mock(Predictor.class);
+        when(predictor.predict(any())).thenAnswer(invocation -> outputOf(invocation.getArgument(0)));
+        when(predictor.batchPredict(anyList())).thenAnswer(invocation -> {
+            List<Input> inputs = invocation.getArgument(0);
+            List<Output> outputs = new ArrayList<>();
+            for (Input input : inputs) {
+                outputs.add(outputOf(input));
+            }
+            return outputs;
+        });
+    }
+
+    @Test
+    public void predict_SingleInput_UsesPredict() throws TranslateException {
+        PredictionBatcher batcher = new PredictionBatcher(8, 0, 1, () -> predictor);
+        List<Output> outputs = batcher.predict(List.of(inputOf("doc1")));
+
+        assertEquals(1, outputs.size());
+        assertEquals("doc1", outputs.get(0).getAsString(0));
+        verify(predictor, never()).batchPredict(anyList());
+    }
+
+    @Test
+    public void predict_MultipleInputs_KeepsOrder() throws TranslateException {
+        PredictionBatcher batcher = new PredictionBatcher(2, 0, 1, () -> predictor);
+        List<Output> outputs = batcher.predict(List.of(inputOf("doc1"), inputOf("doc2"), inputOf("doc3")));
+
+        assertEquals(3, outputs.size());
+        assertEquals("doc1", outputs.get(0).getAsString(0));
+        assertEquals("doc2", outputs.get(1).getAsString(0));
+        assertEquals("doc3", outputs.get(2).getAsString(0));
+        verify(predictor, atLeastOnce()).batchPredict(anyList());
+    }
+
+    @Test
+    public void predict_ConcurrentCallers_CoalescedIntoBatches() throws Exception {
+        PredictionBatcher batcher = new PredictionBatcher(16, 50, 1, () -> predictor);
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<Output>>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                String doc = "doc" + i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return batcher.predict(List.of(inputOf(doc)));
+                }));
+            }
+            start.countDown();
+            for (int i = 0; i < callers; i++) {
+                List<Output> outputs = futures.get(i).get(10, TimeUnit.SECONDS);
+                assertEquals(1, outputs.size());
+                assertEquals("doc" + i, outputs.get(0).getAsString(0));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(predictor, atLeastOnce()).batchPredict(anyList());
+    }
+
+    @Test
+    public void predict_BatchFailure_FallsBackToSinglePredictions() throws TranslateException {
+        when(predictor.batchPredict(anyList())).thenThrow(new TranslateException("shape mismatch"));
+        PredictionBatcher batcher = new PredictionBatcher(4, 0, 1, () -> predictor);
+        List<Output> outputs = batcher.predict(List.of(inputOf("doc1"), inputOf("doc2")));
+
+        assertEquals("doc1", outputs.get(0).getAsString(0));
+        assertEquals("doc2", outputs.get(1).getAsString(0));
+        verify(predictor, times(2)).predict(any());
+    }
+
+    @Test(timeout = 10000, expected = LinkageError.class)
+    public void predict_BatchError_DoesNotHang() throws TranslateException {
+        when(predictor.batchPredict(anyList())).thenThrow(new LinkageError("failed"));
+        PredictionBatcher batcher = new PredictionBatcher(4, 0, 1, () -> predictor);
+        batcher.predict(List.of(inputOf("doc1"), inputOf("doc2")));
+    }
+
+    @Test
+    public void predict_PredictFailure_ThrowsTranslateException() throws TranslateException {
+        TranslateException exception = new TranslateException("failed");
+        when(predictor.predict(any())).thenThrow(exception);
+        PredictionBatcher batcher = new PredictionBatcher(4, 0, 1, () -> predictor);
+        try {
+            batcher.predict(List.of(inputOf("doc1")));
+        } catch (TranslateException e) {
+            assertSame(exception, e);
+            return;
+        }
+        throw new AssertionError("Expected TranslateException");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_InvalidBatchSize() {
+        new PredictionBatcher(0, 0, 1, () -> predictor);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_NegativeWaitTime() {
+        new PredictionBatcher(2, -1, 1, () -> predictor);
+    }
+
+    private static Input inputOf(String doc) {
+        Input input = new Input();
+        input.add(doc);
+        return input;
+    }
+
+    private static Output outputOf(Input input) {
+        Output output = new Output(200, "OK");
+        output.add(input.getAsString(0));
+        return output;
+    }
+}
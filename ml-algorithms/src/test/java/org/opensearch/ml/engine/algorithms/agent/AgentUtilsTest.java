@@ -13,12 +13,16 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.CommonValue.MCP_CONNECTORS_FIELD;
 import static org.opensearch.ml.common.CommonValue.MCP_CONNECTOR_ID_FIELD;
+import static org.opensearch.ml.common.CommonValue.MCP_SESSION_LEASE;
+import static org.opensearch.ml.common.CommonValue.MCP_SYNC_CLIENT;
 import static org.opensearch.ml.common.CommonValue.TENANT_ID_FIELD;
 import static org.opensearch.ml.common.memorycontainer.MemoryContainerConstants.CREDENTIAL_FIELD;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.DEFAULT_DATETIME_PREFIX;
@@ -28,9 +32,11 @@ import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.LLM_GEN_INPUT
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.LLM_INTERFACE_BEDROCK_CONVERSE_CLAUDE;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.LLM_RESPONSE_EXCLUDE_PATH;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.LLM_RESPONSE_FILTER;
+import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.MAX_PARALLEL_TOOL_CALLS;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.PROMPT_PREFIX;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.PROMPT_SUFFIX;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOLS;
+import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_CALLS;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_CALLS_PATH;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_CALLS_TOOL_INPUT;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_CALLS_TOOL_NAME;
@@ -38,6 +44,7 @@ import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_CALL_ID;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_CALL_ID_PATH;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_FILTERS_FIELD;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_TEMPLATE;
+import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.cleanUpResource;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.createTool;
 import static org.opensearch.ml.engine.algorithms.agent.MLChatAgentRunner.ACTION;
 import static org.opensearch.ml.engine.algorithms.agent.MLChatAgentRunner.ACTION_INPUT;
@@ -103,6 +110,8 @@ import org.opensearch.transport.client.Client;
 
 import com.google.gson.JsonSyntaxException;
 
+import io.modelcontextprotocol.client.McpSyncClient;
+
 public class AgentUtilsTest extends MLStaticMockBase {
 
     @Mock
@@ -1269,6 +1278,11 @@ public class AgentUtilsTest extends MLStaticMockBase {
         threadContext = new ThreadContext(Settings.builder().build());
         when(client.threadPool()).thenReturn(threadPool);
         when(threadPool.getThreadContext()).thenReturn(threadContext);
+        doAnswer(invocation -> {
+            ActionListener<String> listener = invocation.getArgument(1);
+            listener.onResponse("masterKey");
+            return null;
+        }).when(encryptor).loadMasterKey(any(), any());
 
         when(sdkClient.getDataObjectAsync(any(GetDataObjectRequest.class))).thenAnswer(inv -> {
             String json = "{\"_index\":\"i\",\"_id\":\"j\",\"found\":true,\"_source\":{}}";
@@ -1333,7 +1347,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
 
             // run and verify
-            AgentUtils.getMcpToolSpecs(mlAgent, client, sdkClient, null, listener);
+            AgentUtils.getMcpToolSpecs(mlAgent, client, sdkClient, encryptor, listener);
             verify(listener).onResponse(expected);
         }
     }
@@ -1365,7 +1379,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
 
             // run and verify
-            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, null, listener);
+            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, listener);
             verify(listener).onResponse(expected);
         }
     }
@@ -1397,7 +1411,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
 
             // run and verify
-            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, null, listener);
+            AgentUtils.getMcpToolSpecs(agent, client, sdkClient, encryptor, listener);
             verify(listener).onResponse(expected);
         }
     }
@@ -1571,6 +1585,80 @@ public class AgentUtilsTest extends MLStaticMockBase {
         Assert.assertEquals("test_id", output.get(TOOL_CALL_ID));
     }
 
+    @Test
+    public void testParseLLMOutput_WithParallelToolCalls() {
+        Map<String, Object> dataAsMap = Map
+            .of(
+                "output",
+                Map
+                    .of(
+                        "message",
+                        Map
+                            .of(
+                                "content",
+                                List
+                                    .of(
+                                        Map.of("text", "test"),
+                                        Map.of("toolUse", Map.of("name", "tool_a", "input", Map.of("index", "a"), "toolUseId", "id_a")),
+                                        Map.of("toolUse", Map.of("name", "tool_b", "input", Map.of("index", "b"), "toolUseId", "id_b"))
+                                    )
+                            )
+                    ),
+                "stopReason",
+                "tool_use"
+            );
+        ModelTensorOutput modelTensorOutput = ModelTensorOutput
+            .builder()
+            .mlModelOutputs(
+                List
+                    .of(
+                        ModelTensors
+                            .builder()
+                            .mlModelTensors(List.of(ModelTensor.builder().name("response").dataAsMap(dataAsMap).build()))
+                            .build()
+                    )
+            )
+            .build();
+        FunctionCalling functionCalling = FunctionCallingFactory.create(LLM_INTERFACE_BEDROCK_CONVERSE_CLAUDE);
+
+        // tool calls run one per step by default, only the first tool call is kept in the assistant message
+        Map<String, String> parameters = new HashMap<>();
+        functionCalling.configure(parameters);
+        List<String> interactions = new ArrayList<>();
+        Map<String, String> output = AgentUtils
+            .parseLLMOutput(parameters, modelTensorOutput, null, Set.of("tool_a", "tool_b"), interactions, functionCalling);
+        Assert.assertEquals("tool_a", output.get(ACTION));
+        Assert.assertNull(output.get(TOOL_CALLS));
+        Assert.assertFalse(interactions.get(0).contains("id_b"));
+
+        parameters = new HashMap<>();
+        parameters.put(MAX_PARALLEL_TOOL_CALLS, "2");
+        functionCalling.configure(parameters);
+        interactions = new ArrayList<>();
+        output = AgentUtils.parseLLMOutput(parameters, modelTensorOutput, null, Set.of("tool_a", "tool_b"), interactions, functionCalling);
+        Assert.assertEquals("tool_a", output.get(ACTION));
+        List<Map<String, String>> toolCalls = StringUtils.gson.fromJson(output.get(TOOL_CALLS), List.class);
+        Assert.assertEquals(2, toolCalls.size());
+        Assert.assertEquals("tool_b", toolCalls.get(1).get("tool_name"));
+        Assert.assertEquals("id_b", toolCalls.get(1).get("tool_call_id"));
+        Assert.assertTrue(interactions.get(0).contains("id_a"));
+        Assert.assertTrue(interactions.get(0).contains("id_b"));
+
+        // unknown tools are not run in parallel
+        interactions = new ArrayList<>();
+        output = AgentUtils.parseLLMOutput(parameters, modelTensorOutput, null, Set.of("tool_a"), interactions, functionCalling);
+        Assert.assertNull(output.get(TOOL_CALLS));
+    }
+
+    @Test
+    public void testGetMaxParallelToolCalls() {
+        Assert.assertEquals(1, AgentUtils.getMaxParallelToolCalls(null));
+        Assert.assertEquals(1, AgentUtils.getMaxParallelToolCalls(Map.of()));
+        Assert.assertEquals(4, AgentUtils.getMaxParallelToolCalls(Map.of(MAX_PARALLEL_TOOL_CALLS, "4")));
+        Assert.assertEquals(1, AgentUtils.getMaxParallelToolCalls(Map.of(MAX_PARALLEL_TOOL_CALLS, "0")));
+        Assert.assertEquals(1, AgentUtils.getMaxParallelToolCalls(Map.of(MAX_PARALLEL_TOOL_CALLS, "invalid")));
+    }
+
     @Test
     public void testRemoveJsonPath_WithStringPaths() {
         Map<String, Object> json = new HashMap<>();
@@ -1870,6 +1958,23 @@ public class AgentUtilsTest extends MLStaticMockBase {
         verify(factory).create(argThat(toolParamsMap -> ((Map<String, Object>) toolParamsMap).get("param1").equals("value1")));
     }
 
+    @Test
+    public void testCleanUpResource_ReleasesEachMcpSessionLease() {
+        // a client which is not pooled is closed on every release
+        McpSyncClient client = mock(McpSyncClient.class);
+        Object lease1 = new Object();
+        Object lease2 = new Object();
+        Map<String, Tool> tools = new HashMap<>();
+        tools.put("tool1", McpSseTool.Factory.getInstance().create(Map.of(MCP_SYNC_CLIENT, client, MCP_SESSION_LEASE, lease1)));
+        tools.put("tool2", McpSseTool.Factory.getInstance().create(Map.of(MCP_SYNC_CLIENT, client, MCP_SESSION_LEASE, lease1)));
+        tools.put("tool3", McpStreamableHttpTool.Factory.getInstance().create(Map.of(MCP_SYNC_CLIENT, client, MCP_SESSION_LEASE, lease2)));
+        tools.put("tool4", tool1);
+
+        cleanUpResource(tools);
+
+        verify(client, times(2)).closeGracefully();
+    }
+
     @Test
     public void testParseLLMOutput_PathNotFoundExceptionWithEmptyToolCalls() {
         Map<String, String> parameters = new HashMap<>();
@@ -1927,7 +2032,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
 
             // run and verify
-            AgentUtils.getMcpToolSpecs(mlAgent, client, sdkClient, null, listener);
+            AgentUtils.getMcpToolSpecs(mlAgent, client, sdkClient, encryptor, listener);
             verify(listener).onResponse(expected);
         }
     }
@@ -1968,7 +2073,7 @@ public class AgentUtilsTest extends MLStaticMockBase {
             ActionListener<List<MLToolSpec>> listener = mock(ActionListener.class);
 
             // run and verify
-            AgentUtils.getMcpToolSpecs(mlAgent, client, sdkClient, null, listener);
+            AgentUtils.getMcpToolSpecs(mlAgent, client, sdkClient, encryptor, listener);
             verify(listener).onResponse(Collections.emptyList());
         }
     }
@@ -51,12 +51,14 @@ import org.opensearch.ml.common.agent.MLAgent;
 import org.opensearch.ml.common.agent.MLMemorySpec;
 import org.opensearch.ml.common.agent.MLToolSpec;
 import org.opensearch.ml.common.conversation.Interaction;
+import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.memory.Memory;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.common.spi.tools.Tool;
 import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.engine.memory.ConversationIndexMemory;
 import org.opensearch.ml.engine.memory.MLMemoryManager;
 import org.opensearch.ml.engine.tools.ReadFromScratchPadTool;
@@ -1050,6 +1052,89 @@ public class MLChatAgentRunnerTest {
         };
     }
 
+    @Test
+    public void testParallelToolCalls() {
+        LLMSpec llmSpec = LLMSpec.builder().modelId("MODEL_ID").build();
+        MLToolSpec firstToolSpec = MLToolSpec.builder().name(FIRST_TOOL).type(FIRST_TOOL).build();
+        MLToolSpec secondToolSpec = MLToolSpec.builder().name(SECOND_TOOL).type(SECOND_TOOL).build();
+        MLAgent mlAgent = MLAgent
+            .builder()
+            .name("TestAgent")
+            .type(MLAgentType.CONVERSATIONAL.name())
+            .llm(llmSpec)
+            .memory(mlMemorySpec)
+            .tools(Arrays.asList(firstToolSpec, secondToolSpec))
+            .parameters(Map.of("_llm_interface", "bedrock/converse/claude", "max_parallel_tool_calls", "2"))
+            .build();
+
+        Map<String, Object> toolUseResponse = Map
+            .of(
+                "output",
+                Map
+                    .of(
+                        "message",
+                        Map
+                            .of(
+                                "role",
+                                "assistant",
+                                "content",
+                                List
+                                    .of(
+                                        Map.of("text", "Search both indices"),
+                                        Map.of("toolUse", Map.of("toolUseId", "call_1", "name", FIRST_TOOL, "input", Map.of("index", "a"))),
+                                        Map.of("toolUse", Map.of("toolUseId", "call_2", "name", SECOND_TOOL, "input", Map.of("index", "b")))
+                                    )
+                            )
+                    ),
+                "stopReason",
+                "tool_use"
+            );
+        Map<String, Object> finalAnswerResponse = Map
+            .of(
+                "output",
+                Map.of("message", Map.of("role", "assistant", "content", List.of(Map.of("text", "This is the final answer")))),
+                "stopReason",
+                "end_turn"
+            );
+        ArgumentCaptor<ActionRequest> requestCaptor = ArgumentCaptor.forClass(ActionRequest.class);
+        Mockito
+            .doAnswer(getLLMAnswerWithDataAsMap(toolUseResponse))
+            .doAnswer(getLLMAnswerWithDataAsMap(finalAnswerResponse))
+            .when(client)
+            .execute(any(ActionType.class), requestCaptor.capture(), isA(ActionListener.class));
+
+        Map<String, String> params = new HashMap<>();
+        params.put(MLAgentExecutor.PARENT_INTERACTION_ID, "parent_interaction_id");
+        mlChatAgentRunner.run(mlAgent, params, agentActionListener);
+
+        // both tool calls of the first LLM response run in the same step, the second LLM call returns the final answer
+        verify(firstTool).run(any(), any());
+        verify(secondTool).run(any(), any());
+        verify(client, Mockito.times(2)).execute(any(ActionType.class), any(ActionRequest.class), isA(ActionListener.class));
+        verify(agentActionListener).onResponse(objectCaptor.capture());
+        assertTrue(objectCaptor.getValue() instanceof ModelTensorOutput);
+
+        MLPredictionTaskRequest request = (MLPredictionTaskRequest) requestCaptor.getAllValues().get(1);
+        RemoteInferenceInputDataSet inputDataSet = (RemoteInferenceInputDataSet) request.getMlInput().getInputDataset();
+        String interactions = inputDataSet.getParameters().get(MLChatAgentRunner.INTERACTIONS);
+        assertTrue(interactions.contains("call_1"));
+        assertTrue(interactions.contains("call_2"));
+        assertTrue(interactions.contains("First tool response"));
+        assertTrue(interactions.contains("Second tool response"));
+    }
+
+    private Answer getLLMAnswerWithDataAsMap(Map<String, Object> llmResponse) {
+        return invocation -> {
+            ActionListener<Object> listener = invocation.getArgument(2);
+            ModelTensor modelTensor = ModelTensor.builder().name("response").dataAsMap(llmResponse).build();
+            ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+            ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+            MLTaskResponse mlTaskResponse = MLTaskResponse.builder().output(mlModelTensorOutput).build();
+            listener.onResponse(mlTaskResponse);
+            return null;
+        };
+    }
+
     @Test
     public void testMaxIterationsReached() {
         // Create LLM spec with max_iteration = 1 to force max iterations
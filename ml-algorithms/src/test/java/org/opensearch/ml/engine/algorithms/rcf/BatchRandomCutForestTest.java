@@ -5,6 +5,10 @@
 
 package org.opensearch.ml.engine.algorithms.rcf;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
 
 import org.junit.Assert;
@@ -97,6 +101,41 @@ public class BatchRandomCutForestTest {
         verifyPredictionResult(output);
     }
 
+    @Test
+    public void predictInParallel() {
+        MLModel model = forest.train(trainDataFrameInput);
+        MLInput input = MLInput
+            .builder()
+            .algorithm(FunctionName.BATCH_RCF)
+            .inputDataset(new DataFrameInputDataset(constructRCFDataFrame(true, 10 * RCFParallelScorer.CHUNK_SIZE + 1)))
+            .build();
+        DataFrame sequential = ((MLPredictionOutput) forest.predict(input, model)).getPredictionResult();
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            RCFParallelScorer.setExecutors(executor, executor);
+            RCFParallelScorer.setThreads(4);
+            assertSamePredictions(sequential, ((MLPredictionOutput) forest.predict(input, model)).getPredictionResult());
+
+            // score on the calling thread if the thread pool rejects the helpers
+            Executor rejecting = command -> { throw new RejectedExecutionException(); };
+            RCFParallelScorer.setExecutors(rejecting, rejecting);
+            assertSamePredictions(sequential, ((MLPredictionOutput) forest.predict(input, model)).getPredictionResult());
+        } finally {
+            RCFParallelScorer.setExecutors(null, null);
+            RCFParallelScorer.setThreads(RCFParallelScorer.DEFAULT_THREADS);
+            executor.shutdownNow();
+        }
+    }
+
+    private void assertSamePredictions(DataFrame expected, DataFrame actual) {
+        Assert.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(expected.getRow(i).getValue(0).doubleValue(), actual.getRow(i).getValue(0).doubleValue(), 0);
+            Assert.assertEquals(expected.getRow(i).getValue(1).booleanValue(), actual.getRow(i).getValue(1).booleanValue());
+        }
+    }
+
     private void verifyPredictionResult(MLPredictionOutput output) {
         DataFrame predictions = output.getPredictionResult();
         Assert.assertEquals(dataSize, predictions.size());
@@ -113,9 +152,13 @@ public class BatchRandomCutForestTest {
     }
 
     private DataFrame constructRCFDataFrame(boolean predict) {
+        return constructRCFDataFrame(predict, dataSize);
+    }
+
+    private DataFrame constructRCFDataFrame(boolean predict, int size) {
         ColumnMeta[] columnMetas = new ColumnMeta[] { new ColumnMeta("value", ColumnType.INTEGER) };
         DataFrame dataFrame = new DefaultDataFrame(columnMetas);
-        for (int i = 0; i < dataSize; i++) {
+        for (int i = 0; i < size; i++) {
             if (predict && i % 100 == 0) {
                 dataFrame.appendRow(new Object[] { ThreadLocalRandom.current().nextInt(100, 1000) });
             } else {
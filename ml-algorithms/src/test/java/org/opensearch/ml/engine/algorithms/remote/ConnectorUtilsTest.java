@@ -243,9 +243,9 @@ public class ConnectorUtilsTest {
         assertEquals("sentence_embedding", tensors.getMlModelTensors().get(0).getName());
         assertNull(tensors.getMlModelTensors().get(0).getDataAsMap());
         assertEquals(3, tensors.getMlModelTensors().get(0).getData().length);
-        assertEquals(-0.014555434, tensors.getMlModelTensors().get(0).getData()[0]);
-        assertEquals(-0.0002135904, tensors.getMlModelTensors().get(0).getData()[1]);
-        assertEquals(0.0035105038, tensors.getMlModelTensors().get(0).getData()[2]);
+        assertEquals(-0.014555434f, tensors.getMlModelTensors().get(0).getData()[0]);
+        assertEquals(-0.0002135904f, tensors.getMlModelTensors().get(0).getData()[1]);
+        assertEquals(0.0035105038f, tensors.getMlModelTensors().get(0).getData()[2]);
     }
 
     private void processInput_TextDocsInputDataSet_PreprocessFunction(
@@ -0,0 +1,206 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.spec.McpSchema;
+
+public class McpClientSessionPoolTest {
+    private AtomicLong clock;
+    private McpClientSessionPool pool;
+
+    @Before
+    public void setUp() {
+        clock = new AtomicLong();
+        pool = new McpClientSessionPool(Duration.ofMinutes(5), Duration.ofSeconds(30), Duration.ofMinutes(30), 2, clock::get);
+    }
+
+    @Test
+    public void testSessionKey() {
+        String key = McpClientSessionPool.sessionKey("http://mcp", Map.of("a", "1", "b", "2"), 1000);
+        assertEquals(key, McpClientSessionPool.sessionKey("http://mcp", Map.of("b", "2", "a", "1"), 1000));
+        assertNotEquals(key, McpClientSessionPool.sessionKey("http://mcp", Map.of("a", "1", "b", "3"), 1000));
+        assertNotEquals(key, McpClientSessionPool.sessionKey("http://other-mcp", Map.of("a", "1", "b", "2"), 1000));
+    }
+
+    @Test
+    public void testGetTools_ReusesSession() {
+        McpSyncClient client = client("tool1");
+
+        McpClientSessionPool.McpSessionTools tools = pool.getTools("key", () -> client);
+        McpClientSessionPool.McpSessionTools pooledTools = pool.getTools("key", () -> client);
+
+        assertSame(client, pooledTools.client());
+        assertEquals(1, tools.tools().size());
+        assertEquals("tool1", pooledTools.tools().get(0).get("name"));
+        assertEquals(1, pool.size());
+        verify(client, times(1)).initialize();
+        verify(client, times(1)).listTools();
+        verify(client, never()).ping();
+    }
+
+    @Test
+    public void testGetTools_RefreshesToolsAfterTtl() {
+        McpSyncClient client = client("tool1");
+        pool.getTools("key", () -> client);
+
+        clock.addAndGet(Duration.ofMinutes(6).toNanos());
+        pool.getTools("key", () -> client);
+
+        verify(client, times(1)).initialize();
+        verify(client, times(1)).ping();
+        verify(client, times(2)).listTools();
+    }
+
+    @Test
+    public void testGetTools_ReconnectsOnFailedPing() {
+        McpSyncClient client = client("tool1");
+        McpSyncClient newClient = client("tool2");
+        pool.getTools("key", () -> client);
+        pool.release(client);
+
+        when(client.ping()).thenThrow(new RuntimeException("connection closed"));
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+        McpClientSessionPool.McpSessionTools tools = pool.getTools("key", () -> newClient);
+
+        assertSame(newClient, tools.client());
+        assertEquals("tool2", tools.tools().get(0).get("name"));
+        verify(client, times(1)).closeGracefully();
+        verify(newClient, times(1)).initialize();
+    }
+
+    @Test
+    public void testGetTools_RetriesOnceOnListToolsFailure() {
+        McpSyncClient client = mock(McpSyncClient.class);
+        when(client.listTools()).thenThrow(new RuntimeException("session expired"));
+        McpSyncClient newClient = client("tool1");
+        McpSyncClient[] clients = { client, newClient };
+        int[] created = { 0 };
+
+        McpClientSessionPool.McpSessionTools tools = pool.getTools("key", () -> clients[created[0]++]);
+
+        assertSame(newClient, tools.client());
+        assertEquals(2, created[0]);
+        verify(client, times(1)).closeGracefully();
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void testGetTools_InitializeFailure() {
+        McpSyncClient client = mock(McpSyncClient.class);
+        when(client.initialize()).thenThrow(new RuntimeException("connection refused"));
+
+        assertThrows(RuntimeException.class, () -> pool.getTools("key", () -> client));
+        verify(client, times(1)).closeGracefully();
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void testRelease() {
+        McpSyncClient client = client("tool1");
+        McpSyncClient otherClient = client("tool2");
+        pool.getTools("key", () -> client);
+
+        pool.release(client);
+        pool.release(otherClient);
+        pool.release(null);
+
+        verify(client, never()).closeGracefully();
+        verify(otherClient, times(1)).closeGracefully();
+    }
+
+    @Test
+    public void testEviction() {
+        McpSyncClient client1 = client("tool1");
+        McpSyncClient client2 = client("tool2");
+        McpSyncClient client3 = client("tool3");
+        pool.getTools("key1", () -> client1);
+        pool.release(client1);
+        clock.incrementAndGet();
+        pool.getTools("key2", () -> client2);
+        pool.release(client2);
+        clock.incrementAndGet();
+
+        // over the session limit, the least recently used session is closed
+        pool.getTools("key3", () -> client3);
+        pool.release(client3);
+        assertEquals(2, pool.size());
+        verify(client1, times(1)).closeGracefully();
+
+        // idle sessions are closed
+        clock.addAndGet(Duration.ofMinutes(31).toNanos());
+        pool.getTools("key1", () -> client1);
+        assertEquals(1, pool.size());
+        verify(client2, times(1)).closeGracefully();
+        verify(client3, times(1)).closeGracefully();
+
+        pool.clear();
+        assertEquals(0, pool.size());
+        verify(client1, times(2)).closeGracefully();
+    }
+
+    @Test
+    public void testLeasedSessionClosedOnLastRelease() {
+        McpSyncClient client = client("tool1");
+        McpSyncClient newClient = client("tool2");
+        pool.getTools("key", () -> client);
+        pool.getTools("key", () -> client);
+
+        // the session is reconnected while two agent runs still use it
+        when(client.ping()).thenThrow(new RuntimeException("connection closed"));
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+        assertSame(newClient, pool.getTools("key", () -> newClient).client());
+        verify(client, never()).closeGracefully();
+
+        pool.release(client);
+        verify(client, never()).closeGracefully();
+        pool.release(client);
+        verify(client, times(1)).closeGracefully();
+        pool.release(newClient);
+        verify(newClient, never()).closeGracefully();
+    }
+
+    @Test
+    public void testUnreleasedRetiredSessionClosedAfterIdleTimeout() {
+        McpSyncClient client = client("tool1");
+        McpSyncClient newClient = client("tool2");
+        pool.getTools("key", () -> client);
+
+        when(client.ping()).thenThrow(new RuntimeException("connection closed"));
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+        pool.getTools("key", () -> newClient);
+        verify(client, never()).closeGracefully();
+
+        clock.addAndGet(Duration.ofMinutes(31).toNanos());
+        pool.getTools("key", () -> newClient);
+        verify(client, times(1)).closeGracefully();
+    }
+
+    private McpSyncClient client(String toolName) {
+        McpSyncClient client = mock(McpSyncClient.class);
+        McpSchema.Tool tool = new McpSchema.Tool(toolName, "desc", "{\"type\":\"object\"}");
+        when(client.listTools()).thenReturn(new McpSchema.ListToolsResult(List.of(tool), null));
+        return client;
+    }
+}
@@ -50,6 +50,9 @@ public class McpConnectorExecutorTest extends MLStaticMockBase {
         when(builder.requestTimeout(any())).thenReturn(builder);
         when(builder.capabilities(any())).thenReturn(builder);
         when(builder.build()).thenReturn(mcpClient);
+
+        // sessions are pooled per node, start every test without pooled sessions
+        McpClientSessionPool.getInstance().clear();
     }
 
     @Test
@@ -82,6 +85,33 @@ public class McpConnectorExecutorTest extends MLStaticMockBase {
         }
     }
 
+    @Test
+    public void getMcpToolSpecs_reusesPooledSession() {
+        McpSchema.Tool tool = new McpSchema.Tool("tool1", "desc1", "{\"type\":\"object\"}");
+        when(mcpClient.listTools()).thenReturn(new McpSchema.ListToolsResult(List.of(tool), null));
+        when(mcpClient.initialize()).thenReturn(null);
+
+        try (MockedStatic<McpClient> mocked = mockStatic(McpClient.class)) {
+            mocked.when(() -> McpClient.sync(any(McpClientTransport.class))).thenReturn(builder);
+            List<MLToolSpec> specs = new McpConnectorExecutor(mockConnector).getMcpToolSpecs();
+            List<MLToolSpec> pooledSpecs = new McpConnectorExecutor(mockConnector).getMcpToolSpecs();
+
+            Assert.assertEquals(1, pooledSpecs.size());
+            Assert.assertEquals(specs.get(0).getName(), pooledSpecs.get(0).getName());
+            Assert.assertSame(mcpClient, pooledSpecs.get(0).getRuntimeResources().get("mcp_sync_client"));
+            // each fetch holds its own lease of the pooled session
+            Assert.assertNotNull(pooledSpecs.get(0).getRuntimeResources().get("mcp_session_lease"));
+            Assert
+                .assertNotSame(
+                    specs.get(0).getRuntimeResources().get("mcp_session_lease"),
+                    pooledSpecs.get(0).getRuntimeResources().get("mcp_session_lease")
+                );
+            verify(builder, times(1)).build();
+            verify(mcpClient, times(1)).initialize();
+            verify(mcpClient, times(1)).listTools();
+        }
+    }
+
     @Test
     public void getMcpToolSpecs_throwsOnInitError() {
 
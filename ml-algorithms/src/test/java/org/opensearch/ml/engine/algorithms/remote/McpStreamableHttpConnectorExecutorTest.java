@@ -50,6 +50,9 @@ public class McpStreamableHttpConnectorExecutorTest extends MLStaticMockBase {
         when(builder.requestTimeout(any())).thenReturn(builder);
         when(builder.capabilities(any())).thenReturn(builder);
         when(builder.build()).thenReturn(mcpClient);
+
+        // sessions are pooled per node, start every test without pooled sessions
+        McpClientSessionPool.getInstance().clear();
     }
 
     @Test
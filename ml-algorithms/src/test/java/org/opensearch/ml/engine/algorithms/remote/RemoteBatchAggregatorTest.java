@@ -0,0 +1,269 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.connector.MLPreProcessFunction.TEXT_DOCS_TO_BEDROCK_EMBEDDING_INPUT;
+import static org.opensearch.ml.common.connector.MLPreProcessFunction.TEXT_DOCS_TO_OPENAI_EMBEDDING_INPUT;
+import static org.opensearch.ml.engine.algorithms.remote.RemoteBatchAggregator.CROSS_REQUEST_BATCH_MULTI_DOC_INPUT_FIELD;
+import static org.opensearch.ml.engine.algorithms.remote.RemoteBatchAggregator.CROSS_REQUEST_BATCH_SIZE_FIELD;
+import static org.opensearch.ml.engine.algorithms.remote.RemoteBatchAggregator.CROSS_REQUEST_BATCH_WAIT_TIME_FIELD;
+import static org.opensearch.ml.engine.algorithms.remote.RemoteBatchAggregator.INPUT_DOCS_PROCESSED_STEP_SIZE_FIELD;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.connector.ConnectorAction;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+public class RemoteBatchAggregatorTest {
+
+    private RemoteConnectorExecutor executor;
+    private ThreadPool threadPool;
+
+    @Before
+    public void setUp() {
+        executor = mock(RemoteConnectorExecutor.class);
+        Client client = mock(Client.class);
+        threadPool = mock(ThreadPool.class);
+        when(executor.getClient()).thenReturn(client);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+    }
+
+    @Test
+    public void create_NotConfigured() {
+        Connector connector = mock(Connector.class);
+        assertNull(RemoteBatchAggregator.create(executor, connector));
+        when(connector.getParameters()).thenReturn(Map.of("model", "embedding"));
+        assertNull(RemoteBatchAggregator.create(executor, connector));
+    }
+
+    @Test
+    public void create_LimitedByStepSize() {
+        Connector connector = connector(TEXT_DOCS_TO_OPENAI_EMBEDDING_INPUT);
+        when(connector.getParameters())
+            .thenReturn(Map.of(CROSS_REQUEST_BATCH_SIZE_FIELD, "100", INPUT_DOCS_PROCESSED_STEP_SIZE_FIELD, "16"));
+        RemoteBatchAggregator aggregator = RemoteBatchAggregator.create(executor, connector);
+        assertNotNull(aggregator);
+        assertEquals(16, aggregator.getMaxBatchSize());
+        assertEquals(RemoteBatchAggregator.DEFAULT_WAIT_TIME_IN_MILLIS, aggregator.getWaitTimeInMillis());
+        assertEquals(Set.of("PREDICT"), aggregator.getMultiDocActions());
+    }
+
+    @Test
+    public void create_SingleDocPreProcessFunction() {
+        Connector connector = connector(TEXT_DOCS_TO_BEDROCK_EMBEDDING_INPUT);
+        when(connector.getParameters()).thenReturn(Map.of(CROSS_REQUEST_BATCH_SIZE_FIELD, "8"));
+        assertNull(RemoteBatchAggregator.create(executor, connector));
+    }
+
+    @Test
+    public void create_MultiDocInputFlag() {
+        Connector connector = connector("custom pre process script");
+        when(connector.getParameters())
+            .thenReturn(Map.of(CROSS_REQUEST_BATCH_SIZE_FIELD, "8", CROSS_REQUEST_BATCH_MULTI_DOC_INPUT_FIELD, "true"));
+        RemoteBatchAggregator aggregator = RemoteBatchAggregator.create(executor, connector);
+        assertNotNull(aggregator);
+        assertEquals(Set.of("PREDICT"), aggregator.getMultiDocActions());
+    }
+
+    @Test
+    public void create_InvalidBatchSize() {
+        Connector connector = mock(Connector.class);
+        when(connector.getParameters()).thenReturn(Map.of(CROSS_REQUEST_BATCH_SIZE_FIELD, "0"));
+        assertThrows(IllegalArgumentException.class, () -> RemoteBatchAggregator.create(executor, connector));
+    }
+
+    @Test
+    public void create_InvalidWaitTime() {
+        Connector connector = mock(Connector.class);
+        when(connector.getParameters()).thenReturn(Map.of(CROSS_REQUEST_BATCH_SIZE_FIELD, "8", CROSS_REQUEST_BATCH_WAIT_TIME_FIELD, "-1"));
+        assertThrows(IllegalArgumentException.class, () -> RemoteBatchAggregator.create(executor, connector));
+    }
+
+    @Test
+    public void offer_RequestTooLarge() {
+        RemoteBatchAggregator aggregator = new RemoteBatchAggregator(executor, 2, 10, Set.of("PREDICT"));
+        assertFalse(aggregator.offer("PREDICT", textDocsInput("a", "b"), mock(ActionListener.class)));
+    }
+
+    @Test
+    public void offer_SingleDocAction() {
+        RemoteBatchAggregator aggregator = new RemoteBatchAggregator(executor, 2, 10, Set.of("PREDICT"));
+        assertFalse(aggregator.offer("EXECUTE", textDocsInput("a"), mock(ActionListener.class)));
+    }
+
+    @Test
+    public void offer_MergesRequestsWithinWaitTime() {
+        mockRemoteResponse(true);
+        RemoteBatchAggregator aggregator = new RemoteBatchAggregator(executor, 8, 10, Set.of("PREDICT"));
+        ActionListener<MLTaskResponse> listener1 = mock(ActionListener.class);
+        ActionListener<MLTaskResponse> listener2 = mock(ActionListener.class);
+
+        assertTrue(aggregator.offer("PREDICT", textDocsInput("a"), listener1));
+        assertTrue(aggregator.offer("PREDICT", textDocsInput("b", "c"), listener2));
+
+        ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool, times(1)).schedule(flushCaptor.capture(), eq(TimeValue.timeValueMillis(10)), any(String.class));
+        flushCaptor.getValue().run();
+
+        ArgumentCaptor<MLInput> inputCaptor = ArgumentCaptor.forClass(MLInput.class);
+        verify(executor, times(1)).preparePayloadAndInvoke(eq("PREDICT"), inputCaptor.capture(), any(), any());
+        assertEquals(List.of("a", "b", "c"), ((TextDocsInputDataSet) inputCaptor.getValue().getInputDataset()).getDocs());
+
+        assertEquals(List.of("a"), responseTensorNames(listener1));
+        assertEquals(List.of("b", "c"), responseTensorNames(listener2));
+    }
+
+    @Test
+    public void offer_FlushesFullBatchImmediately() {
+        mockRemoteResponse(true);
+        RemoteBatchAggregator aggregator = new RemoteBatchAggregator(executor, 3, 10, Set.of("PREDICT"));
+        ActionListener<MLTaskResponse> listener1 = mock(ActionListener.class);
+        ActionListener<MLTaskResponse> listener2 = mock(ActionListener.class);
+
+        aggregator.offer("PREDICT", textDocsInput("a"), listener1);
+        aggregator.offer("PREDICT", textDocsInput("b", "c"), listener2);
+
+        verify(executor, times(1)).preparePayloadAndInvoke(eq("PREDICT"), any(), any(), any());
+        assertEquals(List.of("a"), responseTensorNames(listener1));
+        assertEquals(List.of("b", "c"), responseTensorNames(listener2));
+    }
+
+    @Test
+    public void offer_UnsplittableOutput_FailsAllRequests() {
+        mockRemoteResponse(false);
+        RemoteBatchAggregator aggregator = new RemoteBatchAggregator(executor, 2, 10, Set.of("PREDICT"));
+        ActionListener<MLTaskResponse> listener1 = mock(ActionListener.class);
+        ActionListener<MLTaskResponse> listener2 = mock(ActionListener.class);
+
+        aggregator.offer("PREDICT", textDocsInput("a"), listener1);
+        aggregator.offer("PREDICT", textDocsInput("b"), listener2);
+
+        // the merged call is not sent again per request
+        verify(executor, times(1)).preparePayloadAndInvoke(eq("PREDICT"), any(), any(), any());
+        verify(listener1, times(1)).onFailure(any());
+        verify(listener2, times(1)).onFailure(any());
+    }
+
+    @Test
+    public void offer_ErrorStatus_ReturnedToAllRequests() {
+        doAnswer(invocation -> {
+            ActionListener<Tuple<Integer, ModelTensors>> listener = invocation.getArgument(3);
+            ModelTensors tensors = new ModelTensors(List.of(ModelTensor.builder().name("error").build()));
+            tensors.setStatusCode(429);
+            listener.onResponse(Tuple.tuple(0, tensors));
+            return null;
+        }).when(executor).preparePayloadAndInvoke(any(), any(), any(), any());
+        RemoteBatchAggregator aggregator = new RemoteBatchAggregator(executor, 2, 10, Set.of("PREDICT"));
+        ActionListener<MLTaskResponse> listener1 = mock(ActionListener.class);
+        ActionListener<MLTaskResponse> listener2 = mock(ActionListener.class);
+
+        aggregator.offer("PREDICT", textDocsInput("a"), listener1);
+        aggregator.offer("PREDICT", textDocsInput("b"), listener2);
+
+        verify(executor, times(1)).preparePayloadAndInvoke(eq("PREDICT"), any(), any(), any());
+        assertEquals(List.of("error"), responseTensorNames(listener1));
+        assertEquals(List.of("error"), responseTensorNames(listener2));
+    }
+
+    @Test
+    public void offer_RemoteFailure_FailsAllRequests() {
+        doAnswer(invocation -> {
+            ActionListener<Tuple<Integer, ModelTensors>> listener = invocation.getArgument(3);
+            listener.onFailure(new RuntimeException("remote failure"));
+            return null;
+        }).when(executor).preparePayloadAndInvoke(any(), any(), any(), any());
+        RemoteBatchAggregator aggregator = new RemoteBatchAggregator(executor, 2, 10, Set.of("PREDICT"));
+        ActionListener<MLTaskResponse> listener1 = mock(ActionListener.class);
+        ActionListener<MLTaskResponse> listener2 = mock(ActionListener.class);
+
+        aggregator.offer("PREDICT", textDocsInput("a"), listener1);
+        aggregator.offer("PREDICT", textDocsInput("b"), listener2);
+
+        verify(listener1, times(1)).onFailure(any());
+        verify(listener2, times(1)).onFailure(any());
+    }
+
+    private void mockRemoteResponse(boolean tensorPerDoc) {
+        doAnswer(invocation -> {
+            MLInput input = invocation.getArgument(1);
+            ActionListener<Tuple<Integer, ModelTensors>> listener = invocation.getArgument(3);
+            List<String> docs = ((TextDocsInputDataSet) input.getInputDataset()).getDocs();
+            List<ModelTensor> tensors = new ArrayList<>();
+            if (tensorPerDoc || docs.size() == 1) {
+                docs.forEach(doc -> tensors.add(ModelTensor.builder().name(doc).build()));
+            } else {
+                tensors.add(ModelTensor.builder().name("response").build());
+            }
+            listener.onResponse(Tuple.tuple(0, new ModelTensors(tensors)));
+            return null;
+        }).when(executor).preparePayloadAndInvoke(any(), any(), any(), any());
+    }
+
+    private List<String> responseTensorNames(ActionListener<MLTaskResponse> listener) {
+        ArgumentCaptor<MLTaskResponse> captor = ArgumentCaptor.forClass(MLTaskResponse.class);
+        verify(listener, times(1)).onResponse(captor.capture());
+        ModelTensorOutput output = (ModelTensorOutput) captor.getValue().getOutput();
+        assertEquals(1, output.getMlModelOutputs().size());
+        List<String> names = new ArrayList<>();
+        output.getMlModelOutputs().get(0).getMlModelTensors().forEach(tensor -> names.add(tensor.getName()));
+        return names;
+    }
+
+    private Connector connector(String preProcessFunction) {
+        Connector connector = mock(Connector.class);
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(ConnectorAction.ActionType.PREDICT)
+            .method("POST")
+            .url("https://api.example.com/embeddings")
+            .preProcessFunction(preProcessFunction)
+            .build();
+        when(connector.getActions()).thenReturn(List.of(predictAction));
+        return connector;
+    }
+
+    private MLInput textDocsInput(String... docs) {
+        return MLInput
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .inputDataset(TextDocsInputDataSet.builder().docs(List.of(docs)).build())
+            .build();
+    }
+}
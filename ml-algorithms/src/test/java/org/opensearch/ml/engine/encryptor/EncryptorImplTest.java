@@ -4,6 +4,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -21,6 +22,7 @@ import java.time.Instant;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.Assert;
@@ -28,6 +30,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.ResourceNotFoundException;
@@ -40,6 +43,7 @@ import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.commons.ConfigConstants;
@@ -133,6 +137,7 @@ public class EncryptorImplTest {
         threadContext.putTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT, USER_STRING);
         when(client.threadPool()).thenReturn(threadPool);
         when(threadPool.getThreadContext()).thenReturn(threadContext);
+        when(threadPool.executor(any())).thenReturn(OpenSearchExecutors.newDirectExecutorService());
 
         // Mock cluster settings for the new TTL setting
         when(clusterService.getSettings()).thenReturn(settings);
@@ -975,6 +980,116 @@ public class EncryptorImplTest {
         Assert.assertNull(encryptor.getMasterKey(null));
     }
 
+    @Test
+    public void loadMasterKey_CachesMasterKey() throws IOException {
+        doAnswer(invocation -> {
+            ActionListener<Boolean> actionListener = (ActionListener) invocation.getArgument(0);
+            actionListener.onResponse(true);
+            return null;
+        }).when(mlIndicesHandler).initMLConfigIndex(any());
+        GetResponse response = prepareMLConfigResponse(TENANT_ID);
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(response);
+            return null;
+        }).when(client).get(any(), any());
+
+        ActionListener<String> listener1 = mock(ActionListener.class);
+        encryptor.loadMasterKey(TENANT_ID, listener1);
+        verify(listener1, timeout(1000)).onResponse(GENERATED_MASTER_KEY);
+        Assert.assertEquals(GENERATED_MASTER_KEY, encryptor.getMasterKey(TENANT_ID));
+
+        ActionListener<String> listener2 = mock(ActionListener.class);
+        encryptor.loadMasterKey(TENANT_ID, listener2);
+        verify(listener2, timeout(1000)).onResponse(GENERATED_MASTER_KEY);
+        verify(client, times(1)).get(any(), any());
+    }
+
+    @Test
+    public void loadMasterKey_ListenerRunsWithCallerContext() throws IOException, InterruptedException {
+        doAnswer(invocation -> {
+            ActionListener<Boolean> actionListener = (ActionListener) invocation.getArgument(0);
+            actionListener.onResponse(true);
+            return null;
+        }).when(mlIndicesHandler).initMLConfigIndex(any());
+        GetResponse response = prepareMLConfigResponse(TENANT_ID);
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(response);
+            return null;
+        }).when(client).get(any(), any());
+
+        String[] userInListener = new String[1];
+        CountDownLatch latch = new CountDownLatch(1);
+        encryptor.loadMasterKey(TENANT_ID, ActionListener.wrap(masterKey -> {
+            userInListener[0] = threadContext.getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
+            latch.countDown();
+        }, e -> Assert.fail(e.getMessage())));
+
+        Assert.assertTrue(latch.await(1, TimeUnit.SECONDS));
+        Assert.assertEquals(USER_STRING, userInListener[0]);
+        verify(threadPool, times(1)).executor(EncryptorImpl.ML_THREAD_POOL);
+    }
+
+    @Test
+    public void loadMasterKey_SharesPendingLoad() throws IOException {
+        ActionListener<Boolean>[] initListener = new ActionListener[1];
+        doAnswer(invocation -> {
+            initListener[0] = invocation.getArgument(0);
+            return null;
+        }).when(mlIndicesHandler).initMLConfigIndex(any());
+        GetResponse response = prepareMLConfigResponse(TENANT_ID);
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(response);
+            return null;
+        }).when(client).get(any(), any());
+
+        ActionListener<String> listener1 = mock(ActionListener.class);
+        ActionListener<String> listener2 = mock(ActionListener.class);
+        encryptor.loadMasterKey(TENANT_ID, listener1);
+        encryptor.loadMasterKey(TENANT_ID, listener2);
+        verify(mlIndicesHandler, times(1)).initMLConfigIndex(any());
+
+        initListener[0].onResponse(true);
+        verify(listener1, timeout(1000)).onResponse(GENERATED_MASTER_KEY);
+        verify(listener2, timeout(1000)).onResponse(GENERATED_MASTER_KEY);
+        verify(client, times(1)).get(any(), any());
+    }
+
+    @Test
+    public void loadMasterKey_Failure() {
+        doAnswer(invocation -> {
+            ActionListener<Boolean> actionListener = (ActionListener) invocation.getArgument(0);
+            actionListener.onResponse(true);
+            return null;
+        }).when(mlIndicesHandler).initMLConfigIndex(any());
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onFailure(new RuntimeException("test error"));
+            return null;
+        }).when(client).get(any(), any());
+
+        ActionListener<String> listener = mock(ActionListener.class);
+        encryptor.loadMasterKey(TENANT_ID, listener);
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener, timeout(1000)).onFailure(argumentCaptor.capture());
+        Assert.assertEquals("test error", argumentCaptor.getValue().getMessage());
+        Assert.assertNull(encryptor.getMasterKey(TENANT_ID));
+    }
+
+    @Test
+    public void decrypt_CachedCredentialBoundToMasterKey() {
+        Encryptor encryptor = new EncryptorImpl(null, GENERATED_MASTER_KEY);
+        String encrypted = encryptor.encrypt("test", null);
+        Assert.assertEquals("test", encryptor.decrypt(encrypted, null));
+        Assert.assertEquals("test", encryptor.decrypt(encrypted, null));
+
+        // a cached credential isn't returned once the master key changed
+        encryptor.setMasterKey(null, encryptor.generateMasterKey());
+        Assert.assertThrows(RuntimeException.class, () -> encryptor.decrypt(encrypted, null));
+    }
+
     // Helper method to prepare a valid IndexResponse
     private IndexResponse prepareIndexResponse() {
         ShardId shardId = new ShardId(ML_CONFIG_INDEX, "index_uuid", 0);
@@ -8,6 +8,7 @@ package org.opensearch.ml.engine.function_calling;
 import static org.junit.Assert.*;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.LLM_INTERFACE_OPENAI_V1_CHAT_COMPLETIONS;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.LLM_RESPONSE_FILTER;
+import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.MAX_PARALLEL_TOOL_CALLS;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_CALL_ID;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_RESULT;
 import static org.opensearch.ml.engine.function_calling.OpenaiV1ChatCompletionsFunctionCalling.FINISH_REASON;
@@ -62,6 +63,19 @@ public class OpenaiV1ChatCompletionsFunctionCallingTests {
         Assert.assertEquals(OPENAI_V1_CHAT_COMPLETION_TEMPLATE, parameters.get("tool_template"));
     }
 
+    @Test
+    public void configure_ParallelToolCalls() {
+        Map<String, String> parameters = new HashMap<>();
+        functionCalling.configure(parameters);
+        Assert.assertEquals("false", parameters.get("parallel_tool_calls"));
+
+        parameters = new HashMap<>();
+        parameters.put(MAX_PARALLEL_TOOL_CALLS, "4");
+        functionCalling.configure(parameters);
+        Assert.assertEquals("true", parameters.get("parallel_tool_calls"));
+        Assert.assertTrue(parameters.get("tool_configs").endsWith("\"parallel_tool_calls\": true"));
+    }
+
     @Test
     public void handle() {
         Map<String, String> parameters = new HashMap<>();
@@ -14,16 +14,26 @@ import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.BufferedReader;
+import java.io.StringReader;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntToDoubleFunction;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -32,10 +42,13 @@ import org.junit.rules.ExpectedException;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.OpenSearchStatusException;
 import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.ml.common.transport.batch.MLBatchIngestionInput;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 
 public class AbstractIngestionTests {
@@ -336,4 +349,133 @@ public class AbstractIngestionTests {
             .getMessage()
             .equals("the bulk ingestion is empty: please check your field mapping to match your sources"));
     }
+    @Test
+    public void testIngestLines_BoundsInFlightBulks() throws Exception {
+        BlockingQueue<ActionListener<BulkResponse>> pendingBulks = new LinkedBlockingQueue<>();
+        doAnswer(invocation -> {
+            pendingBulks.add(invocation.getArgument(1));
+            return null;
+        }).when(client).bulk(any(), any());
+        MLBatchIngestionInput mlBatchIngestionInput = new MLBatchIngestionInput(
+            "indexName",
+            fieldMap,
+            ingestFields,
+            new HashMap<>(),
+            new HashMap<>(),
+            null
+        );
+        IngestionContext context = new IngestionContext(mlBatchIngestionInput, List.of("source"), 1, 2, null);
+        String line = "{\"SageMakerOutput\":[[-0.017166402, 0.055771016],[-0.004301484,-0.042826906]],"
+            + "\"content\":[\"this is chapter 1\",\"harry potter\"],\"id\":1}";
+        BufferedReader reader = new BufferedReader(new StringReader(String.join("\n", Collections.nCopies(5, line))));
+
+        CompletableFuture<Double> result = CompletableFuture.supplyAsync(() -> {
+            try {
+                return s3DataIngestion.ingestLines(reader, context, 0);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        BulkResponse bulkResponse = mock(BulkResponse.class);
+        for (int i = 0; i < 5; i++) {
+            ActionListener<BulkResponse> listener = pendingBulks.poll(10, TimeUnit.SECONDS);
+            assertTrue(listener != null);
+            // the reader never gets ahead of the window of two bulk requests
+            assertTrue(context.getBulkWindow().availablePermits() <= 1);
+            listener.onResponse(bulkResponse);
+        }
+
+        assertEquals(100, result.get(10, TimeUnit.SECONDS), 0);
+        SourceIngestionStats stats = context.getSourceStats().get(0);
+        assertEquals(5, stats.getLinesRead().get());
+        assertEquals(5, stats.getLinesIngested().get());
+        assertEquals(5, stats.getSuccessfulBatches().get());
+        assertTrue(stats.isCompleted());
+        assertEquals(2, context.getBulkWindow().availablePermits());
+    }
+
+    @Test
+    public void testIngestSources_MultipleSources() {
+        ThreadPool threadPool = mock(ThreadPool.class);
+        ExecutorService executorService = mock(ExecutorService.class);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.generic()).thenReturn(executorService);
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(executorService).execute(any(Runnable.class));
+        AtomicInteger reports = new AtomicInteger();
+        IngestionContext context = new IngestionContext(
+            mock(MLBatchIngestionInput.class),
+            List.of("source0", "source1", "source2"),
+            100,
+            2,
+            stats -> reports.incrementAndGet()
+        );
+
+        double successRate = s3DataIngestion.ingestSources(context, sourceIndex -> sourceIndex == 1 ? 50 : 100);
+
+        assertEquals(50, successRate, 0);
+        assertEquals(1, reports.get());
+        verify(executorService, times(2)).execute(any(Runnable.class));
+    }
+
+    @Test
+    public void testIngestSources_SourceFails() {
+        ThreadPool threadPool = mock(ThreadPool.class);
+        ExecutorService executorService = mock(ExecutorService.class);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.generic()).thenReturn(executorService);
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(executorService).execute(any(Runnable.class));
+        IngestionContext context = new IngestionContext(mock(MLBatchIngestionInput.class), List.of("source0", "source1"), 100, 2, null);
+
+        IntToDoubleFunction sourceIngester = sourceIndex -> {
+            if (sourceIndex == 1) {
+                throw new OpenSearchStatusException("Failed to batch ingest: error", RestStatus.INTERNAL_SERVER_ERROR);
+            }
+            return 100;
+        };
+
+        OpenSearchStatusException exception = assertThrows(
+            OpenSearchStatusException.class,
+            () -> s3DataIngestion.ingestSources(context, sourceIngester)
+        );
+
+        assertEquals("Failed to batch ingest: error", exception.getMessage());
+        assertTrue(context.isCancelled());
+    }
+
+    @Test
+    public void testIngestSources_WaitsForOtherSourcesOnFailure() {
+        ThreadPool threadPool = mock(ThreadPool.class);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.generic()).thenReturn(executorService);
+        IngestionContext context = new IngestionContext(mock(MLBatchIngestionInput.class), List.of("source0", "source1"), 100, 2, null);
+        AtomicBoolean otherSourceStopped = new AtomicBoolean(false);
+
+        IntToDoubleFunction sourceIngester = sourceIndex -> {
+            if (sourceIndex == 0) {
+                throw new OpenSearchStatusException("Failed to batch ingest: error", RestStatus.INTERNAL_SERVER_ERROR);
+            }
+            while (!context.isCancelled()) {
+                Thread.onSpinWait();
+            }
+            otherSourceStopped.set(true);
+            return 100;
+        };
+
+        try {
+            assertThrows(OpenSearchStatusException.class, () -> s3DataIngestion.ingestSources(context, sourceIngester));
+            assertTrue(otherSourceStopped.get());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
 }
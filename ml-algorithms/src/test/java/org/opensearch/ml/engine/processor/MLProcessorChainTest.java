@@ -8,6 +8,7 @@ package org.opensearch.ml.engine.processor;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
@@ -543,6 +544,63 @@ public class MLProcessorChainTest {
         assertEquals("second", result2);
     }
 
+    @Test
+    public void testGetOrCreateReusesChain() {
+        Map<String, String> params = new HashMap<>();
+        params.put(ProcessorChain.OUTPUT_PROCESSORS, "[{\"type\": \"regex_replace\", \"pattern\": \"a\", \"replacement\": \"b\"}]");
+
+        ProcessorChain chain = ProcessorChain.getOrCreate(params, ProcessorChain.OUTPUT_PROCESSORS);
+
+        assertTrue(chain.hasProcessors());
+        assertSame(chain, ProcessorChain.getOrCreate(new HashMap<>(params), ProcessorChain.OUTPUT_PROCESSORS));
+        assertEquals("bbc", chain.process("abc"));
+        assertFalse(ProcessorChain.getOrCreate(params, ProcessorChain.INPUT_PROCESSORS).hasProcessors());
+        assertFalse(ProcessorChain.getOrCreate(null, ProcessorChain.INPUT_PROCESSORS).hasProcessors());
+    }
+
+    @Test
+    public void testProcessorChainSharesDocumentWithoutModifyingInput() {
+        Map<String, Object> nestedValue = new HashMap<>();
+        nestedValue.put("secret", "s");
+        Map<String, Object> setConfig = new HashMap<>();
+        setConfig.put("type", "set_field");
+        setConfig.put("path", "$.nested");
+        setConfig.put("value", nestedValue);
+
+        Map<String, Object> setRoleConfig = createProcessorConfig("set_field", "path", "$.user.role");
+        setRoleConfig.put("value", "admin");
+
+        ProcessorChain chain = new ProcessorChain(
+            Arrays
+                .asList(
+                    setConfig,
+                    createProcessorConfig("remove_jsonpath", "paths", Arrays.asList("$.nested.secret", "$.user.password")),
+                    setRoleConfig
+                )
+        );
+
+        Map<String, Object> user = new HashMap<>();
+        user.put("name", "John");
+        user.put("password", "pwd");
+        Map<String, Object> input = new HashMap<>();
+        input.put("user", user);
+
+        Map<String, Object> result = (Map<String, Object>) chain.process(input);
+        Map<String, Object> resultUser = (Map<String, Object>) result.get("user");
+
+        assertEquals("John", resultUser.get("name"));
+        assertEquals("admin", resultUser.get("role"));
+        assertFalse(resultUser.containsKey("password"));
+        assertTrue(((Map<String, Object>) result.get("nested")).isEmpty());
+        // neither the caller's input nor the configured value is modified
+        assertEquals("pwd", user.get("password"));
+        assertFalse(user.containsKey("role"));
+        assertEquals("s", nestedValue.get("secret"));
+        Map<String, Object> secondResult = (Map<String, Object>) chain.process(input);
+        assertTrue(((Map<String, Object>) secondResult.get("nested")).isEmpty());
+        assertEquals("pwd", user.get("password"));
+    }
+
     // Helper methods
     private Map<String, Object> createProcessorConfig(String type) {
         Map<String, Object> config = new HashMap<>();
@@ -0,0 +1,95 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+
+public class DeserializedModelCacheTest {
+
+    private AtomicInteger loads;
+    private Function<MLModel, Object> loader;
+
+    @Before
+    public void setUp() {
+        DeserializedModelCache.setMaxSizeInBytes(DeserializedModelCache.DEFAULT_MAX_SIZE_IN_BYTES);
+        loads = new AtomicInteger();
+        loader = model -> {
+            loads.incrementAndGet();
+            return new Object();
+        };
+    }
+
+    @After
+    public void tearDown() {
+        DeserializedModelCache.setMaxSizeInBytes(DeserializedModelCache.DEFAULT_MAX_SIZE_IN_BYTES);
+    }
+
+    @Test
+    public void getOrLoad_CachesByModelIdAndVersion() {
+        Object model = DeserializedModelCache.getOrLoad(model("model1", "1", "content"), loader);
+
+        assertSame(model, DeserializedModelCache.getOrLoad(model("model1", "1", "content"), loader));
+        assertEquals(1, loads.get());
+
+        Object newVersion = DeserializedModelCache.getOrLoad(model("model1", "2", "content"), loader);
+        assertNotSame(model, newVersion);
+        assertNotSame(model, DeserializedModelCache.getOrLoad(model("model2", "1", "content"), loader));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void getOrLoad_WithoutModelId() {
+        DeserializedModelCache.getOrLoad(model(null, "1", "content"), loader);
+        DeserializedModelCache.getOrLoad(model(null, "1", "content"), loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void invalidate() {
+        Object model = DeserializedModelCache.getOrLoad(model("model1", "1", "content"), loader);
+        DeserializedModelCache.invalidate("model1");
+
+        assertNotSame(model, DeserializedModelCache.getOrLoad(model("model1", "1", "content"), loader));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void setMaxSizeInBytes_Disabled() {
+        DeserializedModelCache.setMaxSizeInBytes(0);
+
+        DeserializedModelCache.getOrLoad(model("model1", "1", "content"), loader);
+        DeserializedModelCache.getOrLoad(model("model1", "1", "content"), loader);
+        DeserializedModelCache.invalidate("model1");
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void setMaxSizeInBytes_LargerModelNotCached() {
+        DeserializedModelCache.setMaxSizeInBytes(4);
+
+        DeserializedModelCache.getOrLoad(model("model1", "1", "content"), loader);
+        DeserializedModelCache.getOrLoad(model("model1", "1", "content"), loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    private MLModel model(String modelId, String version, String content) {
+        return MLModel.builder().modelId(modelId).algorithm(FunctionName.KMEANS).version(version).content(content).build();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ModelChunkWriterTest {
+    private TemporaryFolder tempDir;
+
+    @Before
+    public void setUp() throws Exception {
+        tempDir = new TemporaryFolder();
+        tempDir.create();
+    }
+
+    @After
+    public void tearDown() {
+        if (tempDir != null) {
+            tempDir.delete();
+        }
+    }
+
+    @Test
+    public void testWrite_OutOfOrder() throws Exception {
+        File file = new File(tempDir.getRoot(), "model/model.zip");
+        try (ModelChunkWriter writer = new ModelChunkWriter(file, 3)) {
+            assertFalse(writer.write(2, bytes("chunk2")));
+            assertFalse(writer.write(1, bytes("chunk1")));
+            assertEquals(0, writer.getWrittenChunks());
+            assertTrue(writer.write(0, bytes("chunk0")));
+            assertEquals(3, writer.getWrittenChunks());
+            writer.close();
+
+            assertArrayEquals(bytes("chunk0chunk1chunk2"), Files.readAllBytes(file.toPath()));
+            assertEquals(FileUtils.calculateFileHash(file), writer.getHash());
+        }
+    }
+
+    @Test
+    public void testWrite_UnexpectedChunk() throws Exception {
+        File file = new File(tempDir.getRoot(), "model.zip");
+        try (ModelChunkWriter writer = new ModelChunkWriter(file, 2)) {
+            writer.write(0, bytes("chunk0"));
+            assertThrows(IllegalArgumentException.class, () -> writer.write(0, bytes("chunk0")));
+            assertThrows(IllegalArgumentException.class, () -> writer.write(2, bytes("chunk2")));
+            assertThrows(IllegalStateException.class, writer::getHash);
+        }
+    }
+
+    @Test
+    public void testAbort() throws Exception {
+        File file = new File(tempDir.getRoot(), "model.zip");
+        ModelChunkWriter writer = new ModelChunkWriter(file, 2);
+        writer.write(0, bytes("chunk0"));
+        writer.abort();
+        assertFalse(file.exists());
+    }
+
+    private byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+}
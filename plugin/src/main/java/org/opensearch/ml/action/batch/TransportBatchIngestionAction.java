@@ -6,10 +6,12 @@
 package org.opensearch.ml.action.batch;
 
 import static org.opensearch.ml.common.MLTask.ERROR_FIELD;
+import static org.opensearch.ml.common.MLTask.RESPONSE_FIELD;
 import static org.opensearch.ml.common.MLTask.STATE_FIELD;
 import static org.opensearch.ml.common.MLTaskState.COMPLETED;
 import static org.opensearch.ml.common.MLTaskState.FAILED;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_BATCH_INGESTION_BULK_SIZE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_BATCH_INGESTION_MAX_IN_FLIGHT_BULKS;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.INGEST_THREAD_POOL;
 import static org.opensearch.ml.task.MLTaskManager.TASK_SEMAPHORE_TIMEOUT;
 import static org.opensearch.ml.utils.MLExceptionUtils.OFFLINE_BATCH_INGESTION_DISABLED_ERR_MSG;
@@ -39,6 +41,7 @@ import org.opensearch.ml.common.transport.batch.MLBatchIngestionRequest;
 import org.opensearch.ml.common.transport.batch.MLBatchIngestionResponse;
 import org.opensearch.ml.engine.MLEngineClassLoader;
 import org.opensearch.ml.engine.ingest.Ingestable;
+import org.opensearch.ml.engine.ingest.SourceIngestionStats;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.task.MLTaskManager;
 import org.opensearch.ml.utils.MLExceptionUtils;
@@ -64,6 +67,7 @@ public class TransportBatchIngestionAction extends HandledTransportAction<Action
     private ThreadPool threadPool;
     private MLFeatureEnabledSetting mlFeatureEnabledSetting;
     private volatile Integer batchIngestionBulkSize;
+    private volatile Integer batchIngestionMaxInFlightBulks;
 
     @Inject
     public TransportBatchIngestionAction(
@@ -89,6 +93,10 @@ public class TransportBatchIngestionAction extends HandledTransportAction<Action
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(ML_COMMONS_BATCH_INGESTION_BULK_SIZE, it -> batchIngestionBulkSize = it);
+        batchIngestionMaxInFlightBulks = ML_COMMONS_BATCH_INGESTION_MAX_IN_FLIGHT_BULKS.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_BATCH_INGESTION_MAX_IN_FLIGHT_BULKS, it -> batchIngestionMaxInFlightBulks = it);
 
     }
 
@@ -160,7 +168,13 @@ public class TransportBatchIngestionAction extends HandledTransportAction<Action
                         Ingestable ingestable = MLEngineClassLoader.initInstance(ingestType.toLowerCase(), client, Client.class);
                         threadPool.executor(INGEST_THREAD_POOL).execute(() -> {
                             executeWithErrorHandling(() -> {
-                                double successRate = ingestable.ingest(mlBatchIngestionInput, batchIngestionBulkSize);
+                                double successRate = ingestable
+                                    .ingest(
+                                        mlBatchIngestionInput,
+                                        batchIngestionBulkSize,
+                                        batchIngestionMaxInFlightBulks,
+                                        stats -> reportIngestionProgress(taskId, stats)
+                                    );
                                 handleSuccessRate(successRate, taskId);
                             }, taskId);
                         });
@@ -213,6 +227,11 @@ public class TransportBatchIngestionAction extends HandledTransportAction<Action
         }
     }
 
+    protected void reportIngestionProgress(String taskId, List<SourceIngestionStats> stats) {
+        List<Map<String, Object>> sources = stats.stream().map(SourceIngestionStats::toMap).collect(Collectors.toList());
+        mlTaskManager.updateMLTaskDirectly(taskId, Map.of(RESPONSE_FIELD, Map.of("sources", sources)));
+    }
+
     protected void handleSuccessRate(double successRate, String taskId) {
         if (successRate == 100) {
             mlTaskManager.updateMLTask(taskId, null, Map.of(STATE_FIELD, COMPLETED), 5000, true);
@@ -74,6 +74,7 @@ import org.opensearch.ml.common.transport.model.MLModelDeleteAction;
 import org.opensearch.ml.common.transport.model.MLModelDeleteRequest;
 import org.opensearch.ml.common.transport.model.MLModelGetRequest;
 import org.opensearch.ml.engine.utils.AgentModelsSearcher;
+import org.opensearch.ml.engine.utils.DeserializedModelCache;
 import org.opensearch.ml.helper.ModelAccessControlHelper;
 import org.opensearch.ml.utils.RestActionUtils;
 import org.opensearch.ml.utils.TenantAwareHelper;
@@ -468,6 +469,7 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
         Boolean isHidden,
         DeleteResponse deleteResponse
     ) {
+        DeserializedModelCache.invalidate(modelId);
         CountDownLatch countDownLatch = new CountDownLatch(2);
         AtomicBoolean bothDeleted = new AtomicBoolean(true);
         ActionListener<Boolean> countDownActionListener = ActionListener.wrap(b -> {
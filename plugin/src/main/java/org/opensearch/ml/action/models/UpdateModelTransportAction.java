@@ -290,12 +290,13 @@ public class UpdateModelTransportAction extends HandledTransportAction<ActionReq
         boolean isModelDeployed = isModelDeployed(mlModel.getModelState());
         // This flag is used to decide if we need to re-deploy the predictor(model) when updating the model cache.
         // If one of the internal connector, stand-alone connector id, model quota flag, model rate limiter, model interface,
-        // and guardrails need update, we need to perform a re-deployment.
+        // guardrails and deploy setting need update, we need to perform a re-deployment.
         boolean isPredictorUpdate = (updateModelInput.getConnector() != null)
             || (newConnectorId != null)
             || !Objects.equals(updateModelInput.getIsEnabled(), mlModel.getIsEnabled())
             || (updateModelInput.getGuardrails() != null)
-            || (updateModelInput.getModelInterface() != null);
+            || (updateModelInput.getModelInterface() != null)
+            || (updateModelInput.getDeploySetting() != null);
         if (MLRateLimiter.updateValidityPreCheck(mlModel.getRateLimiter(), updateModelInput.getRateLimiter())) {
             MLRateLimiter updatedRateLimiterConfig = MLRateLimiter.update(mlModel.getRateLimiter(), updateModelInput.getRateLimiter());
             updateModelInput.setRateLimiter(updatedRateLimiterConfig);
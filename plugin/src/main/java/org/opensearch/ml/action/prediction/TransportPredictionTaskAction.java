@@ -46,6 +46,8 @@ import org.opensearch.tasks.Task;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.Client;
 
+import com.networknt.schema.JsonSchema;
+
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.log4j.Log4j2;
@@ -301,7 +303,12 @@ public class TransportPredictionTaskAction extends HandledTransportAction<Action
                 String InputString = mlInput.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS).toString();
                 // Process the parameters field in the input dataset to convert it back to its original datatype, instead of a string
                 String processedInputString = MLNodeUtils.processRemoteInferenceInputDataSetParametersValue(InputString, inputSchemaString);
-                MLNodeUtils.validateSchema(inputSchemaString, processedInputString);
+                JsonSchema inputSchema = modelCacheHelper.getModelInterfaceSchema(modelId, "input");
+                if (inputSchema == null) {
+                    MLNodeUtils.validateSchema(inputSchemaString, processedInputString);
+                } else {
+                    MLNodeUtils.validateSchema(inputSchema, processedInputString);
+                }
             } catch (Exception e) {
                 throw new OpenSearchStatusException(
                     "Error validating input schema, if you think this is expected, please update your 'input' field in the 'interface' field for this model: "
@@ -7,23 +7,45 @@ package org.opensearch.ml.breaker;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
 
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lifecycle.LifecycleListener;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.monitor.jvm.JvmService;
 import org.opensearch.monitor.os.OsService;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import com.google.common.annotations.VisibleForTesting;
 
 import lombok.extern.log4j.Log4j2;
 
 /**
  * This service registers internal system breakers and provide API for users to register their own breakers.
+ *
+ * Once sampling is started, the breakers are checked on a fixed cadence in the background and requests only read the
+ * last sampled state. A tripped breaker stays open until it was closed in several consecutive samples, so a value
+ * hovering around the threshold doesn't make the breaker flap. If sampling falls behind, e.g. because the scheduled
+ * sampling stopped, requests check the breakers themselves until a new sample is taken.
  */
 @Log4j2
 public class MLCircuitBreakerService {
+    static final TimeValue SAMPLE_INTERVAL = TimeValue.timeValueSeconds(1);
+    static final int CLOSE_AFTER_SAMPLES = 3;
+    static final long MAX_SAMPLE_AGE_NANOS = SAMPLE_INTERVAL.nanos() * 2;
 
     private final ConcurrentMap<BreakerName, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    // tripped breakers and how many consecutive samples found them closed since
+    private final Map<BreakerName, Integer> trippedBreakers = new ConcurrentHashMap<>();
+    private volatile ThresholdCircuitBreaker openBreaker;
+    private volatile Scheduler.Cancellable sampler;
+    private volatile long lastSampleTimeNanos;
+    private LongSupplier nanoClock = System::nanoTime;
     private final JvmService jvmService;
     private final OsService osService;
     private final Settings settings;
@@ -54,11 +76,14 @@ public class MLCircuitBreakerService {
         }
 
         breakers.remove(name);
+        trippedBreakers.remove(name);
         log.info("Removed ML breakers " + name);
     }
 
     public void clearBreakers() {
         breakers.clear();
+        trippedBreakers.clear();
+        openBreaker = null;
         log.info("Cleared ML breakers.");
     }
 
@@ -86,11 +111,83 @@ public class MLCircuitBreakerService {
         return this;
     }
 
+    /**
+     * Start sampling the breakers in the background, they are sampled once right away.
+     * @param threadPool thread pool to schedule the sampling on
+     */
+    public void startSampling(ThreadPool threadPool) {
+        if (sampler != null) {
+            return;
+        }
+        sampleBreakers();
+        // the generic pool never rejects, a rejected run would stop the sampling for good
+        sampler = threadPool.scheduleWithFixedDelay(this::sampleBreakers, SAMPLE_INTERVAL, ThreadPool.Names.GENERIC);
+        clusterService.addLifecycleListener(new LifecycleListener() {
+            @Override
+            public void beforeStop() {
+                stopSampling();
+            }
+        });
+    }
+
+    public void stopSampling() {
+        Scheduler.Cancellable cancellable = sampler;
+        sampler = null;
+        if (cancellable != null) {
+            cancellable.cancel();
+        }
+    }
+
+    /**
+     * Sample all breakers and publish the first open one.
+     */
+    void sampleBreakers() {
+        ThresholdCircuitBreaker open = null;
+        for (Map.Entry<BreakerName, CircuitBreaker> entry : breakers.entrySet()) {
+            if (isTripped(entry.getKey(), entry.getValue()) && open == null) {
+                open = (ThresholdCircuitBreaker) entry.getValue();
+            }
+        }
+        openBreaker = open;
+        lastSampleTimeNanos = nanoClock.getAsLong();
+    }
+
+    @VisibleForTesting
+    void setNanoClock(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    private boolean isTripped(BreakerName name, CircuitBreaker breaker) {
+        boolean tripped = trippedBreakers.containsKey(name);
+        boolean isOpen;
+        try {
+            isOpen = breaker.isOpen();
+        } catch (Exception e) {
+            log.warn("Failed to sample ML breaker " + breaker.getName(), e);
+            return tripped;
+        }
+        if (isOpen) {
+            trippedBreakers.put(name, 0);
+            return true;
+        }
+        if (!tripped) {
+            return false;
+        }
+        if (trippedBreakers.merge(name, 1, Integer::sum) >= CLOSE_AFTER_SAMPLES) {
+            trippedBreakers.remove(name);
+            return false;
+        }
+        return true;
+    }
+
     /**
      *
      * @return any open circuit breaker; otherwise return null
      */
     public ThresholdCircuitBreaker checkOpenCB() {
+        if (sampler != null && nanoClock.getAsLong() - lastSampleTimeNanos <= MAX_SAMPLE_AGE_NANOS) {
+            return openBreaker;
+        }
         for (CircuitBreaker breaker : breakers.values()) {
             if (breaker.isOpen()) {
                 return (ThresholdCircuitBreaker) breaker;
@@ -0,0 +1,166 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefIterator;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.profile.MLResultCacheStats;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node local cache of the prediction results of a deployed model, enabled per model with "result_cache_ttl_minutes" in the
+ * model's deploy setting.
+ * <p>
+ * Results are keyed by the sha256 hash of the serialized ML input, which covers the algorithm, the parameters and the input
+ * data, and only used for the model version they were cached for. They are stored serialized, so every hit returns a new
+ * copy which the caller may modify. The cache is bounded by the size of the serialized results, evicting the least recently
+ * used results first, and results expire the configured time after they were predicted. The model cache clears it when the
+ * model is updated or undeployed. Every clear starts a new generation, results of predictions started in an older generation
+ * are not cached.
+ */
+@Log4j2
+public class InferenceResultCache {
+    private final String modelVersion;
+    private final long maxSizeInBytes;
+    private final long ttlInMinutes;
+    private final Cache<String, BytesReference> cache;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final AtomicLong generation = new AtomicLong();
+
+    InferenceResultCache(String modelVersion, long maxSizeInBytes, long ttlInMinutes) {
+        this.modelVersion = modelVersion;
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.ttlInMinutes = ttlInMinutes;
+        this.cache = CacheBuilder
+            .newBuilder()
+            .maximumWeight(maxSizeInBytes)
+            .weigher((String key, BytesReference result) -> key.length() + result.length())
+            .expireAfterWrite(Duration.ofMinutes(ttlInMinutes))
+            .build();
+    }
+
+    boolean hasConfig(String modelVersion, long maxSizeInBytes, long ttlInMinutes) {
+        return Objects.equals(this.modelVersion, modelVersion)
+            && this.maxSizeInBytes == maxSizeInBytes
+            && this.ttlInMinutes == ttlInMinutes;
+    }
+
+    /**
+     * Builds the cache key of an ML input
+     * @param mlInput ML input of the predict request
+     * @return the cache key, or null if the input can't be serialized and must not be cached
+     */
+    public String key(MLInput mlInput) {
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            mlInput.writeTo(output);
+            Hasher hasher = Hashing.sha256().newHasher();
+            BytesRefIterator iterator = output.bytes().iterator();
+            BytesRef bytesRef;
+            while ((bytesRef = iterator.next()) != null) {
+                hasher.putBytes(bytesRef.bytes, bytesRef.offset, bytesRef.length);
+            }
+            return hasher.hash().toString();
+        } catch (Exception e) {
+            log.debug("Failed to build the result cache key of the ML input", e);
+            return null;
+        }
+    }
+
+    /**
+     * Gets a copy of the cached result
+     * @param key cache key built by {@link #key(MLInput)}
+     * @return the cached result, or null if there is none
+     */
+    public MLOutput get(String key) {
+        BytesReference result = cache.getIfPresent(key);
+        if (result != null) {
+            try (StreamInput input = result.streamInput()) {
+                MLOutput output = MLOutput.fromStream(input);
+                hitCount.increment();
+                return output;
+            } catch (IOException e) {
+                log.debug("Failed to read the cached result", e);
+                cache.invalidate(key);
+            }
+        }
+        missCount.increment();
+        return null;
+    }
+
+    /**
+     * @return the current generation, to be read before the prediction starts and passed to {@link #put(String, long, MLOutput)}
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Caches a copy of the result unless the cache was cleared since the prediction started
+     * @param key cache key built by {@link #key(MLInput)}
+     * @param generation the generation read before the prediction started
+     * @param output the predicted result
+     */
+    public void put(String key, long generation, MLOutput output) {
+        if (generation != this.generation.get()) {
+            return;
+        }
+        try (BytesStreamOutput bytesStreamOutput = new BytesStreamOutput()) {
+            output.writeTo(bytesStreamOutput);
+            // copy the result, the stream's pages are larger than most results
+            cache.put(key, new BytesArray(BytesReference.toBytes(bytesStreamOutput.bytes())));
+        } catch (Exception e) {
+            log.debug("Failed to cache the result", e);
+            return;
+        }
+        if (generation != this.generation.get()) {
+            // cleared while the result was being cached
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * Drops all cached results and keeps the hit and miss counts
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public MLResultCacheStats getStats() {
+        long sizeInBytes = 0;
+        long entryCount = 0;
+        for (BytesReference result : cache.asMap().values()) {
+            sizeInBytes += result.length();
+            entryCount++;
+        }
+        return MLResultCacheStats
+            .builder()
+            .hitCount(hitCount.sum())
+            .missCount(missCount.sum())
+            .entryCount(entryCount)
+            .sizeInBytes(sizeInBytes)
+            .build();
+    }
+}
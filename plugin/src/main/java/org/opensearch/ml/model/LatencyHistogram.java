@@ -0,0 +1,206 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.opensearch.ml.profile.MLPredictRequestStats;
+
+/**
+ * Records the durations of the most recent requests of a model, e.g. the last "monitoring_request_count" predict requests.
+ * <p>
+ * Recording is lock-free: the duration is written to a fixed size ring of the recent durations and counted in a log-linear
+ * histogram, and the duration it replaces in the ring is removed from the histogram. The ring is allocated in chunks as it
+ * fills up, so models with few requests don't hold memory for the full window. Count, min, max and average are computed
+ * from the filled part of the ring, and percentiles from the histogram, with a relative error below 1%.
+ */
+class LatencyHistogram {
+    // each power of two is split into 2^6 linear sub buckets
+    static final int SUB_BUCKET_BITS = 6;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // durations in milliseconds below 2^-10 (about 1 microsecond) share the first bucket, durations from 2^24 (about 4.6 hours)
+    // share the last bucket
+    static final int MIN_EXPONENT = -10;
+    static final int MAX_EXPONENT = 24;
+    static final int BUCKET_COUNT = (MAX_EXPONENT - MIN_EXPONENT) * SUB_BUCKETS;
+    private static final double MIN_VALUE = Math.scalb(1.0, MIN_EXPONENT);
+    private static final double MAX_VALUE = Math.scalb(1.0, MAX_EXPONENT);
+    // raw bits of a NaN, which is never recorded
+    private static final long EMPTY = -1L;
+    static final int CHUNK_BITS = 10;
+    static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+    private volatile Window window;
+
+    /**
+     * Records a duration
+     * @param duration duration in milliseconds
+     * @param maxRequestCount number of most recent durations to keep, 0 to keep none
+     */
+    public void record(double duration, long maxRequestCount) {
+        if (Double.isNaN(duration)) {
+            return;
+        }
+        Window current = window;
+        if (current == null || current.capacity != maxRequestCount) {
+            resize(maxRequestCount);
+            current = window;
+        }
+        if (current != null) {
+            current.add(Double.doubleToRawLongBits(duration));
+        }
+    }
+
+    /**
+     * Changes the number of durations to keep, keeping the most recent durations
+     * @param maxRequestCount number of most recent durations to keep, 0 to keep none
+     */
+    public synchronized void resize(long maxRequestCount) {
+        Window current = window;
+        if (maxRequestCount <= 0) {
+            window = null;
+            return;
+        }
+        if (current != null && current.capacity == maxRequestCount) {
+            return;
+        }
+        Window resized = new Window((int) Math.min(maxRequestCount, Integer.MAX_VALUE));
+        if (current != null) {
+            long end = current.cursor.get();
+            long start = Math.max(0, end - Math.min(current.capacity, resized.capacity));
+            for (long sequence = start; sequence < end; sequence++) {
+                long bits = current.get((int) (sequence % current.capacity));
+                if (bits != EMPTY) {
+                    resized.add(bits);
+                }
+            }
+        }
+        window = resized;
+    }
+
+    public void clear() {
+        window = null;
+    }
+
+    /**
+     * @return stats of the recorded durations, or null if no duration is recorded
+     */
+    public MLPredictRequestStats getStats() {
+        Window current = window;
+        if (current == null) {
+            return null;
+        }
+        long count = 0;
+        double sum = 0;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        int filled = (int) Math.min(current.cursor.get(), current.capacity);
+        for (int i = 0; i < filled; i++) {
+            long bits = current.get(i);
+            if (bits == EMPTY) {
+                continue;
+            }
+            double value = Double.longBitsToDouble(bits);
+            count++;
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        if (count == 0) {
+            return null;
+        }
+
+        long[] buckets = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = Math.max(0, current.buckets.get(i));
+            total += buckets[i];
+        }
+        return MLPredictRequestStats
+            .builder()
+            .count(count)
+            .max(max)
+            .min(min)
+            .average(sum / count)
+            .p50(percentile(buckets, total, 50, min, max))
+            .p90(percentile(buckets, total, 90, min, max))
+            .p99(percentile(buckets, total, 99, min, max))
+            .build();
+    }
+
+    private static double percentile(long[] buckets, long total, int percentile, double min, double max) {
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.min(max, Math.max(min, bucketMidpoint(i)));
+            }
+        }
+        return max;
+    }
+
+    static int bucketIndex(double value) {
+        if (!(value >= MIN_VALUE)) {
+            return 0;
+        }
+        if (value >= MAX_VALUE) {
+            return BUCKET_COUNT - 1;
+        }
+        long bits = Double.doubleToRawLongBits(value);
+        int exponent = (int) ((bits >>> 52) & 0x7FF) - 1023;
+        int subBucket = (int) ((bits >>> (52 - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return (exponent - MIN_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    static double bucketMidpoint(int index) {
+        int exponent = index / SUB_BUCKETS + MIN_EXPONENT;
+        int subBucket = index % SUB_BUCKETS;
+        return Math.scalb(1.0 + (subBucket + 0.5) / SUB_BUCKETS, exponent);
+    }
+
+    private static class Window {
+        private final int capacity;
+        // the ring in chunks of CHUNK_SIZE slots, a chunk is allocated when its first slot is written
+        private final AtomicReferenceArray<AtomicLongArray> chunks;
+        private final AtomicLong cursor = new AtomicLong();
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+        private Window(int capacity) {
+            this.capacity = capacity;
+            this.chunks = new AtomicReferenceArray<>((int) (((long) capacity + CHUNK_SIZE - 1) >>> CHUNK_BITS));
+        }
+
+        private long get(int slot) {
+            AtomicLongArray chunk = chunks.get(slot >>> CHUNK_BITS);
+            return chunk == null ? EMPTY : chunk.get(slot & (CHUNK_SIZE - 1));
+        }
+
+        private AtomicLongArray getOrCreateChunk(int slot) {
+            int index = slot >>> CHUNK_BITS;
+            AtomicLongArray chunk = chunks.get(index);
+            if (chunk == null) {
+                AtomicLongArray created = new AtomicLongArray(Math.min(CHUNK_SIZE, capacity - (index << CHUNK_BITS)));
+                for (int i = 0; i < created.length(); i++) {
+                    created.set(i, EMPTY);
+                }
+                chunk = chunks.compareAndSet(index, null, created) ? created : chunks.get(index);
+            }
+            return chunk;
+        }
+
+        private void add(long bits) {
+            int slot = (int) (cursor.getAndIncrement() % capacity);
+            long replaced = getOrCreateChunk(slot).getAndSet(slot & (CHUNK_SIZE - 1), bits);
+            buckets.incrementAndGet(bucketIndex(Double.longBitsToDouble(bits)));
+            if (replaced != EMPTY) {
+                buckets.decrementAndGet(bucketIndex(Double.longBitsToDouble(replaced)));
+            }
+        }
+    }
+}
@@ -6,25 +6,23 @@
 package org.opensearch.ml.model;
 
 import java.time.Instant;
-import java.util.DoubleSummaryStatistics;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.stream.DoubleStream;
 
 import org.opensearch.common.util.TokenBucket;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.model.MLDeploySetting;
 import org.opensearch.ml.common.model.MLGuard;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.profile.MLPredictRequestStats;
+import org.opensearch.ml.profile.MLResultCacheStats;
 
-import com.google.common.math.Quantiles;
+import com.networknt.schema.JsonSchema;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -43,12 +41,15 @@ public class MLModelCache {
     private final Set<String> targetWorkerNodes;
     private final Set<String> workerNodes;
     private MLModel modelInfo;
-    private final Queue<Double> modelInferenceDurationQueue;
-    private final Queue<Double> predictRequestDurationQueue;
+    private final LatencyHistogram modelInferenceDurations;
+    private final LatencyHistogram predictRequestDurations;
+    private volatile InferenceResultCache resultCache;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationCPU;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationGPU;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) MLGuard mlGuard;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Map<String, String> modelInterface;
+    // compiled schemas of the model interface, keyed by interface field like "input" or "output"
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Map<String, JsonSchema> modelInterfaceSchemas;
 
     // In rare case, this could be null, e.g. model info not synced up yet a predict request comes in.
     @Setter
@@ -59,8 +60,8 @@ public class MLModelCache {
     public MLModelCache() {
         targetWorkerNodes = ConcurrentHashMap.newKeySet();
         workerNodes = ConcurrentHashMap.newKeySet();
-        modelInferenceDurationQueue = new ConcurrentLinkedQueue<>();
-        predictRequestDurationQueue = new ConcurrentLinkedQueue<>();
+        modelInferenceDurations = new LatencyHistogram();
+        predictRequestDurations = new LatencyHistogram();
     }
 
     public void setTargetWorkerNodes(List<String> targetWorkerNodes) {
@@ -164,8 +165,8 @@ public class MLModelCache {
         functionName = null;
         workerNodes.clear();
         modelInfo = null;
-        modelInferenceDurationQueue.clear();
-        predictRequestDurationQueue.clear();
+        modelInferenceDurations.clear();
+        predictRequestDurations.clear();
         if (predictor != null) {
             predictor.close();
         }
@@ -179,58 +180,65 @@ public class MLModelCache {
         userRateLimiterMap = null;
         mlGuard = null;
         modelInterface = null;
+        modelInterfaceSchemas = null;
+        resultCache = null;
     }
 
-    public void addModelInferenceDuration(double duration, long maxRequestCount) {
-        addInferenceDuration(duration, maxRequestCount, modelInferenceDurationQueue);
+    /**
+     * Gets the prediction result cache, building it when the model enables it for the first time or its config changed.
+     * @param maxSizeInBytes max size of the cached results of the model, 0 disables the cache
+     * @return the result cache, or null if the model doesn't enable it or the model info is not cached yet
+     */
+    public InferenceResultCache getResultCache(long maxSizeInBytes) {
+        MLModel model = modelInfo;
+        MLDeploySetting deploySetting = model == null ? null : model.getDeploySetting();
+        Long ttlInMinutes = deploySetting == null ? null : deploySetting.getResultCacheTTLInMinutes();
+        if (maxSizeInBytes <= 0 || ttlInMinutes == null || ttlInMinutes <= 0) {
+            resultCache = null;
+            return null;
+        }
+        InferenceResultCache current = resultCache;
+        if (current != null && current.hasConfig(model.getVersion(), maxSizeInBytes, ttlInMinutes)) {
+            return current;
+        }
+        synchronized (this) {
+            current = resultCache;
+            if (current == null || !current.hasConfig(model.getVersion(), maxSizeInBytes, ttlInMinutes)) {
+                current = new InferenceResultCache(model.getVersion(), maxSizeInBytes, ttlInMinutes);
+                resultCache = current;
+            }
+            return current;
+        }
     }
 
-    public void addPredictRequestDuration(double duration, long maxRequestCount) {
-        addInferenceDuration(duration, maxRequestCount, predictRequestDurationQueue);
+    public void clearResultCache() {
+        InferenceResultCache current = resultCache;
+        if (current != null) {
+            current.invalidateAll();
+        }
     }
 
-    private void addInferenceDuration(double duration, long maxRequestCount, Queue<Double> queue) {
-        resizeInferenceQueue(maxRequestCount, queue);
-        if (maxRequestCount > 0) {
-            queue.add(duration);
-        }
+    public MLResultCacheStats getResultCacheStats() {
+        InferenceResultCache current = resultCache;
+        return current == null ? null : current.getStats();
     }
 
-    public void resizeMonitoringQueue(long maxRequestCount) {
-        log.debug("resize inference duration monitoring queue with size {}", maxRequestCount);
-        resizeInferenceQueue(maxRequestCount, predictRequestDurationQueue);
-        resizeInferenceQueue(maxRequestCount, modelInferenceDurationQueue);
+    public void addModelInferenceDuration(double duration, long maxRequestCount) {
+        modelInferenceDurations.record(duration, maxRequestCount);
     }
 
-    private void resizeInferenceQueue(long maxRequestCount, Queue<Double> queue) {
-        if (maxRequestCount <= 0) {
-            queue.clear();
-        } else {
-            while (queue.size() >= maxRequestCount) {
-                queue.poll();
-            }
-        }
+    public void addPredictRequestDuration(double duration, long maxRequestCount) {
+        predictRequestDurations.record(duration, maxRequestCount);
+    }
+
+    public void resizeMonitoringQueue(long maxRequestCount) {
+        log.debug("resize inference duration monitoring queue with size {}", maxRequestCount);
+        predictRequestDurations.resize(maxRequestCount);
+        modelInferenceDurations.resize(maxRequestCount);
     }
 
     public MLPredictRequestStats getInferenceStats(boolean modelInference) {
-        Queue<Double> queue = modelInference ? modelInferenceDurationQueue : predictRequestDurationQueue;
-        if (queue.size() > 0) {
-            MLPredictRequestStats.MLPredictRequestStatsBuilder statsBuilder = MLPredictRequestStats.builder();
-            DoubleStream doubleStream = queue.stream().mapToDouble(v -> v);
-            DoubleSummaryStatistics doubleSummaryStatistics = doubleStream.summaryStatistics();
-            statsBuilder.count(doubleSummaryStatistics.getCount());
-            statsBuilder.max(doubleSummaryStatistics.getMax());
-            statsBuilder.min(doubleSummaryStatistics.getMin());
-            statsBuilder.average(doubleSummaryStatistics.getAverage());
-
-            Quantiles.Scale percentiles = Quantiles.percentiles();
-            statsBuilder.p50(percentiles.index(50).compute(queue));
-            statsBuilder.p90(percentiles.index(90).compute(queue));
-            statsBuilder.p99(percentiles.index(99).compute(queue));
-
-            return statsBuilder.build();
-        }
-        return null;
+        return modelInference ? modelInferenceDurations.getStats() : predictRequestDurations.getStats();
     }
 
     public boolean isValidCache() {
@@ -5,10 +5,12 @@
 
 package org.opensearch.ml.model;
 
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_INFERENCE_RESULT_CACHE_SIZE_IN_MB;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +32,9 @@ import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.profile.MLModelProfile;
+import org.opensearch.ml.utils.MLNodeUtils;
+
+import com.networknt.schema.JsonSchema;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -39,6 +44,7 @@ public class MLModelCacheHelper {
 
     private final Map<String, MLModel> autoDeployModels;
     private volatile Long maxRequestCount;
+    private volatile long resultCacheSizeInBytes;
 
     public MLModelCacheHelper(ClusterService clusterService, Settings settings) {
         this.modelCaches = new ConcurrentHashMap<>();
@@ -46,6 +52,10 @@ public class MLModelCacheHelper {
 
         maxRequestCount = ML_COMMONS_MONITORING_REQUEST_COUNT.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MONITORING_REQUEST_COUNT, it -> maxRequestCount = it);
+        resultCacheSizeInBytes = ML_COMMONS_INFERENCE_RESULT_CACHE_SIZE_IN_MB.get(settings) * 1024L * 1024L;
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_INFERENCE_RESULT_CACHE_SIZE_IN_MB, it -> resultCacheSizeInBytes = it * 1024L * 1024L);
     }
 
     /**
@@ -197,7 +207,28 @@ public class MLModelCacheHelper {
      */
     public synchronized void setModelInterface(String modelId, Map<String, String> modelInterface) {
         log.debug("Setting ML Interface {} for Model {}", modelInterface, modelId);
-        getExistingModelCache(modelId).setModelInterface(modelInterface);
+        MLModelCache modelCache = getExistingModelCache(modelId);
+        modelCache.setModelInterface(modelInterface);
+        modelCache.setModelInterfaceSchemas(compileModelInterfaceSchemas(modelId, modelInterface));
+    }
+
+    private Map<String, JsonSchema> compileModelInterfaceSchemas(String modelId, Map<String, String> modelInterface) {
+        if (modelInterface == null) {
+            return null;
+        }
+        Map<String, JsonSchema> schemas = new HashMap<>();
+        for (Map.Entry<String, String> entry : modelInterface.entrySet()) {
+            if (entry.getValue() == null) {
+                continue;
+            }
+            try {
+                schemas.put(entry.getKey(), MLNodeUtils.compileSchema(entry.getValue()));
+            } catch (Exception e) {
+                // leave it out, validation compiles the schema string again and reports the error to the caller
+                log.warn("Failed to compile {} schema of ML Interface for Model {}", entry.getKey(), modelId, e);
+            }
+        }
+        return schemas;
     }
 
     /**
@@ -213,6 +244,21 @@ public class MLModelCacheHelper {
         return modelCache.getModelInterface();
     }
 
+    /**
+     * Get the compiled schema of a field in the ml interface of the model
+     *
+     * @param modelId model id
+     * @param field interface field, like "input" or "output"
+     * @return compiled schema, or null if the schema is not cached
+     */
+    public JsonSchema getModelInterfaceSchema(String modelId, String field) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache == null || modelCache.getModelInterfaceSchemas() == null) {
+            return null;
+        }
+        return modelCache.getModelInterfaceSchemas().get(field);
+    }
+
     /**
      * Remove the ml interface from cache
      *
@@ -220,7 +266,9 @@ public class MLModelCacheHelper {
      */
     public synchronized void removeModelInterface(String modelId) {
         log.debug("Removing the ML Interface from Model {}", modelId);
-        getExistingModelCache(modelId).setModelInterface(null);
+        MLModelCache modelCache = getExistingModelCache(modelId);
+        modelCache.setModelInterface(null);
+        modelCache.setModelInterfaceSchemas(null);
     }
 
     /**
@@ -476,6 +524,32 @@ public class MLModelCacheHelper {
         return modelCache.getPredictor();
     }
 
+    /**
+     * Get prediction result cache of model.
+     *
+     * @param modelId model id
+     * @return result cache, or null if the model is not deployed on this node or doesn't enable the result cache
+     */
+    public InferenceResultCache getResultCache(String modelId) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache == null || modelCache.getPredictor() == null) {
+            return null;
+        }
+        return modelCache.getResultCache(resultCacheSizeInBytes);
+    }
+
+    /**
+     * Drop the cached prediction results of model, e.g. after the model was updated.
+     *
+     * @param modelId model id
+     */
+    public void clearResultCache(String modelId) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache != null) {
+            modelCache.clearResultCache();
+        }
+    }
+
     /**
      * Set target worker nodes of model.
      * 
@@ -689,6 +763,7 @@ public class MLModelCacheHelper {
         builder.predictRequestStats(modelCache.getInferenceStats(false));
         builder.memSizeEstimationCPU(modelCache.getMemSizeEstimationCPU());
         builder.memSizeEstimationGPU(modelCache.getMemSizeEstimationGPU());
+        builder.resultCacheStats(modelCache.getResultCacheStats());
         return builder.build();
     }
 
@@ -22,11 +22,15 @@ import static org.opensearch.ml.common.MLTask.MODEL_ID_FIELD;
 import static org.opensearch.ml.common.MLTask.STATE_FIELD;
 import static org.opensearch.ml.common.MLTaskState.COMPLETED;
 import static org.opensearch.ml.common.MLTaskState.FAILED;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_DESERIALIZED_MODEL_CACHE_SIZE_IN_MB;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_PREDICT_BATCH_SIZE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_PREDICT_BATCH_WAIT_TIME_IN_MILLIS;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_BATCH_INFERENCE_TASKS;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_BATCH_INGESTION_TASKS;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE_IN_MB;
 import static org.opensearch.ml.common.utils.StringUtils.getErrorMessage;
 import static org.opensearch.ml.engine.ModelHelper.CHUNK_FILES;
 import static org.opensearch.ml.engine.ModelHelper.CHUNK_SIZE;
@@ -45,7 +49,8 @@ import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.XCONTENT_RE
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.ML_ENGINE;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_HELPER;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_ZIP_FILE;
-import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.PREDICT_BATCH_SIZE;
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.PREDICT_BATCH_WAIT_TIME_IN_MILLIS;
 import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.REGISTER_THREAD_POOL;
@@ -57,7 +62,7 @@ import static org.opensearch.ml.utils.MLNodeUtils.checkOpenCircuitBreaker;
 import static org.opensearch.ml.utils.MLNodeUtils.createXContentParserFromRegistry;
 
 import java.io.File;
-import java.nio.file.Path;
+import java.io.IOException;
 import java.security.PrivilegedActionException;
 import java.time.Instant;
 import java.util.Arrays;
@@ -70,7 +75,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -95,6 +99,7 @@ import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.TokenBucket;
 import org.opensearch.common.util.concurrent.ThreadContext;
@@ -135,10 +140,12 @@ import org.opensearch.ml.common.transport.register.MLRegisterModelResponse;
 import org.opensearch.ml.common.transport.upload_chunk.MLRegisterModelMetaInput;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.MLExecutable;
+import org.opensearch.ml.engine.ModelArtifactCache;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
-import org.opensearch.ml.engine.utils.FileUtils;
+import org.opensearch.ml.engine.utils.DeserializedModelCache;
+import org.opensearch.ml.engine.utils.ModelChunkWriter;
 import org.opensearch.ml.profile.MLModelProfile;
 import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionLevelStat;
@@ -162,6 +169,7 @@ import org.opensearch.transport.client.Client;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.io.Files;
+import com.networknt.schema.JsonSchema;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -174,6 +182,7 @@ public class MLModelManager {
 
     public static final int TIMEOUT_IN_MILLIS = 5000;
     public static final long MODEL_FILE_SIZE_LIMIT = 4L * 1024 * 1024 * 1024;// 4GB
+    public static final int MAX_CONCURRENT_CHUNK_REQUESTS = 4;
 
     private final Client client;
     private final SdkClient sdkClient;
@@ -198,6 +207,9 @@ public class MLModelManager {
     private volatile Integer maxDeployTasksPerNode;
     private volatile Integer maxBatchInferenceTasks;
     private volatile Integer maxBatchIngestionTasks;
+    private volatile Integer localModelPredictBatchSize;
+    private volatile Integer localModelPredictBatchWaitTimeInMillis;
+    private final ModelArtifactCache modelArtifactCache;
 
     public static final ImmutableSet<MLModelState> MODEL_DONE_STATES = ImmutableSet
         .of(
@@ -266,6 +278,35 @@ public class MLModelManager {
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(ML_COMMONS_MAX_BATCH_INGESTION_TASKS, it -> maxBatchIngestionTasks = it);
+
+        localModelPredictBatchSize = ML_COMMONS_LOCAL_MODEL_PREDICT_BATCH_SIZE.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_LOCAL_MODEL_PREDICT_BATCH_SIZE, it -> localModelPredictBatchSize = it);
+
+        localModelPredictBatchWaitTimeInMillis = ML_COMMONS_LOCAL_MODEL_PREDICT_BATCH_WAIT_TIME_IN_MILLIS.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(
+                ML_COMMONS_LOCAL_MODEL_PREDICT_BATCH_WAIT_TIME_IN_MILLIS,
+                it -> localModelPredictBatchWaitTimeInMillis = it
+            );
+
+        modelArtifactCache = new ModelArtifactCache(
+            mlEngine.getModelArtifactCachePath(),
+            ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE_IN_MB.get(settings) * 1024L * 1024L
+        );
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE_IN_MB, it -> modelArtifactCache.setMaxSizeInBytes(it * 1024L * 1024L));
+
+        DeserializedModelCache.setMaxSizeInBytes(ML_COMMONS_DESERIALIZED_MODEL_CACHE_SIZE_IN_MB.get(settings) * 1024L * 1024L);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(
+                ML_COMMONS_DESERIALIZED_MODEL_CACHE_SIZE_IN_MB,
+                it -> DeserializedModelCache.setMaxSizeInBytes(it * 1024L * 1024L)
+            );
     }
 
     public void registerModelMeta(MLRegisterModelMetaInput mlRegisterModelMetaInput, ActionListener<String> listener) {
@@ -1232,8 +1273,9 @@ public class MLModelManager {
                 deployControllerWithDeployingModel(mlModel, eligibleNodeCount);
                 // check circuit breaker before deploying custom model chunks
                 checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
-                retrieveModelChunks(mlModel, ActionListener.wrap(modelZipFile -> {// read model chunks
-                    String hash = calculateFileHash(modelZipFile);
+                retrieveModelArtifact(mlModel, modelContentHash, ActionListener.wrap(modelZip -> {// read model chunks
+                    File modelZipFile = modelZip.v1();
+                    String hash = modelZip.v2();
                     if (modelContentHash != null && !modelContentHash.equals(hash)) {
                         log.error("Model content hash can't match original hash value");
                         removeModel(modelId);
@@ -1241,7 +1283,7 @@ public class MLModelManager {
                         return;
                     }
                     log.debug("Model content matches original hash value, continue deploying");
-                    Map<String, Object> params = Map.of(MODEL_ZIP_FILE, modelZipFile, MODEL_HELPER, modelHelper, ML_ENGINE, mlEngine);
+                    Map<String, Object> params = setUpLocalModelParameterMap(modelZipFile);
                     if (FunctionName.METRICS_CORRELATION.equals(mlModel.getAlgorithm())) {
                         MLExecutable mlExecutable = mlEngine.deployExecute(mlModel, params);
                         try {
@@ -1383,8 +1425,9 @@ public class MLModelManager {
                 deployControllerWithDeployingModel(mlModel, eligibleNodeCount);
                 // check circuit breaker before deploying custom model chunks
                 checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
-                retrieveModelChunks(mlModel, ActionListener.wrap(modelZipFile -> {// read model chunks
-                    String hash = calculateFileHash(modelZipFile);
+                retrieveModelArtifact(mlModel, modelContentHash, ActionListener.wrap(modelZip -> {// read model chunks
+                    File modelZipFile = modelZip.v1();
+                    String hash = modelZip.v2();
                     if (modelContentHash != null && !modelContentHash.equals(hash)) {
                         log.error("Model content hash can't match original hash value");
                         removeModel(modelId);
@@ -1392,7 +1435,7 @@ public class MLModelManager {
                         return;
                     }
                     log.debug("Model content matches original hash value, continue deploying");
-                    Map<String, Object> params = Map.of(MODEL_ZIP_FILE, modelZipFile, MODEL_HELPER, modelHelper, ML_ENGINE, mlEngine);
+                    Map<String, Object> params = setUpLocalModelParameterMap(modelZipFile);
                     if (FunctionName.METRICS_CORRELATION.equals(mlModel.getAlgorithm())) {
                         MLExecutable mlExecutable = mlEngine.deployExecute(mlModel, params);
                         try {
@@ -1470,6 +1513,8 @@ public class MLModelManager {
         Map<String, Object> params = setUpParameterMap(modelId, mlModel.getTenantId());
         ActionListener<Predictable> wrappedListener = ActionListener.wrap(r -> {
             modelCacheHelper.setPredictor(modelId, r);
+            // don't cache results of the previous predictor, which served predictions while this one was set up
+            modelCacheHelper.clearResultCache(modelId);
             listener.onResponse("successful");
         }, e -> {
             log.error("Failed to deploy model", e);
@@ -1478,6 +1523,22 @@ public class MLModelManager {
         mlEngine.deploy(mlModel, params, wrappedListener);
     }
 
+    private Map<String, Object> setUpLocalModelParameterMap(File modelZipFile) {
+        return Map
+            .of(
+                MODEL_ZIP_FILE,
+                modelZipFile,
+                MODEL_HELPER,
+                modelHelper,
+                ML_ENGINE,
+                mlEngine,
+                PREDICT_BATCH_SIZE,
+                localModelPredictBatchSize,
+                PREDICT_BATCH_WAIT_TIME_IN_MILLIS,
+                localModelPredictBatchWaitTimeInMillis
+            );
+    }
+
     private Map<String, Object> setUpParameterMap(String modelId, String tenantId) {
         TokenBucket rateLimiter = getRateLimiter(modelId);
         Map<String, TokenBucket> userRateLimiterMap = getUserRateLimiterMap(modelId);
@@ -1531,6 +1592,9 @@ public class MLModelManager {
             ActionListener<String> wrappedListener = ActionListener.runBefore(listener, context::restore);
             getModel(modelId, ActionListener.wrap(mlModel -> {
                 int eligibleNodeCount = getWorkerNodes(modelId, mlModel.getAlgorithm()).length;
+                modelCacheHelper.setModelInfo(modelId, mlModel);
+                // results predicted by the previous connector, guardrails or deploy setting must not be returned anymore
+                modelCacheHelper.clearResultCache(modelId);
                 modelCacheHelper.setIsModelEnabled(modelId, mlModel.getIsEnabled());
                 setupRateLimiter(modelId, eligibleNodeCount, mlModel.getRateLimiter());
                 setupMLGuard(modelId, mlModel.getTenantId(), mlModel.getGuardrails());
@@ -1859,6 +1923,17 @@ public class MLModelManager {
         return modelCacheHelper.getModelInterface(modelId);
     }
 
+    /**
+     * Get compiled schema of a model interface field with model id.
+     *
+     * @param modelId model id
+     * @param field interface field, like "input" or "output"
+     * @return compiled schema, or null if not cached
+     */
+    public JsonSchema getModelInterfaceSchema(String modelId, String field) {
+        return modelCacheHelper.getModelInterfaceSchema(modelId, field);
+    }
+
     /**
      * Set up ML guard with model id.
      *
@@ -2116,52 +2191,109 @@ public class MLModelManager {
     }
 
     /**
-     * Retreive a model's all chunks.
+     * Get the model zip file from the node's model artifact cache, or retrieve its chunks from the model index and add the
+     * verified zip file to the cache.
+     *
+     * @param mlModelMeta      model meta
+     * @param modelContentHash expected model content hash, the cache is skipped if it's null
+     * @param listener         action listener of the model zip file and the sha256 hash of its content
+     */
+    private void retrieveModelArtifact(MLModel mlModelMeta, String modelContentHash, ActionListener<Tuple<File, String>> listener)
+        throws IOException {
+        if (modelContentHash == null) {
+            retrieveModelChunks(mlModelMeta, listener);
+            return;
+        }
+        File modelZipFile = new File(mlEngine.getDeployModelZipPath(mlModelMeta.getModelId(), mlModelMeta.getName()));
+        if (modelArtifactCache.get(modelContentHash, modelZipFile) != null) {
+            log.debug("Use cached model artifact for model {}", mlModelMeta.getModelId());
+            listener.onResponse(Tuple.tuple(modelZipFile, modelContentHash));
+            return;
+        }
+        retrieveModelChunks(mlModelMeta, ActionListener.wrap(modelZip -> {
+            if (modelContentHash.equals(modelZip.v2())) {
+                modelArtifactCache.put(modelContentHash, modelZip.v1());
+            }
+            listener.onResponse(modelZip);
+        }, listener::onFailure));
+    }
+
+    /**
+     * Retrieve a model's all chunks. Up to {@link #MAX_CONCURRENT_CHUNK_REQUESTS} chunks are fetched in parallel and
+     * written into the model zip file in chunk order as they arrive.
      *
      * @param mlModelMeta model meta
-     * @param listener    action listener
+     * @param listener    action listener of the model zip file and the sha256 hash of its content
      */
-    private void retrieveModelChunks(MLModel mlModelMeta, ActionListener<File> listener) throws InterruptedException {
+    private void retrieveModelChunks(MLModel mlModelMeta, ActionListener<Tuple<File, String>> listener) throws IOException {
         String modelId = mlModelMeta.getModelId();
         String modelName = mlModelMeta.getName();
-        Integer totalChunks = mlModelMeta.getTotalChunks();
-        GetRequest getRequest = new GetRequest();
-        getRequest.index(ML_MODEL_INDEX);
-        getRequest.id();
-        Semaphore semaphore = new Semaphore(1);
+        int totalChunks = mlModelMeta.getTotalChunks();
+        File modelZipFile = new File(mlEngine.getDeployModelZipPath(modelId, modelName));
+        ModelChunkWriter chunkWriter = new ModelChunkWriter(modelZipFile, totalChunks);
+        AtomicInteger requestedChunks = new AtomicInteger(0);
         AtomicBoolean stopNow = new AtomicBoolean(false);
-        String modelZip = mlEngine.getDeployModelZipPath(modelId, modelName);
-        ConcurrentLinkedDeque<File> chunkFiles = new ConcurrentLinkedDeque();
-        AtomicInteger retrievedChunks = new AtomicInteger(0);
-        for (int i = 0; i < totalChunks; i++) {
-            semaphore.tryAcquire(10, TimeUnit.SECONDS);
-            if (stopNow.get()) {
-                throw new MLException("Failed to deploy model");
-            }
-            String modelChunkId = this.getModelChunkId(modelId, i);
-            int currentChunk = i;
+        fetchModelChunks(modelId, chunkWriter, requestedChunks, stopNow, listener);
+    }
+
+    private void fetchModelChunks(
+        String modelId,
+        ModelChunkWriter chunkWriter,
+        AtomicInteger requestedChunks,
+        AtomicBoolean stopNow,
+        ActionListener<Tuple<File, String>> listener
+    ) {
+        int totalChunks = chunkWriter.getTotalChunks();
+        // don't run ahead of the written chunks too far, chunks arriving before their predecessors are held in memory
+        int fetchLimit = Math.min(totalChunks, chunkWriter.getWrittenChunks() + MAX_CONCURRENT_CHUNK_REQUESTS);
+        int currentChunk;
+        while (!stopNow.get() && (currentChunk = claimChunk(requestedChunks, fetchLimit)) >= 0) {
+            String modelChunkId = this.getModelChunkId(modelId, currentChunk);
+            int chunkNumber = currentChunk;
             this.getModel(modelChunkId, threadedActionListener(DEPLOY_THREAD_POOL, ActionListener.wrap(model -> {
-                Path chunkPath = mlEngine.getDeployModelChunkPath(modelId, currentChunk);
-                FileUtils.write(Base64.getDecoder().decode(model.getContent()), chunkPath.toString());
-                chunkFiles.add(new File(chunkPath.toUri()));
-                retrievedChunks.getAndIncrement();
-                if (retrievedChunks.get() == totalChunks) {
-                    File modelZipFile = new File(modelZip);
-                    FileUtils.mergeFiles(chunkFiles, modelZipFile);
-                    listener.onResponse(modelZipFile);
+                if (stopNow.get()) {
+                    return;
+                }
+                boolean completed;
+                try {
+                    completed = chunkWriter.write(chunkNumber, Base64.getDecoder().decode(model.getContent()));
+                    if (completed) {
+                        chunkWriter.close();
+                    }
+                } catch (Exception e) {
+                    log.error("Failed to write model chunk {}", modelChunkId, e);
+                    if (stopNow.compareAndSet(false, true)) {
+                        chunkWriter.abort();
+                        listener.onFailure(new MLException("Failed to write model chunk " + modelChunkId, e));
+                    }
+                    return;
+                }
+                if (completed) {
+                    listener.onResponse(Tuple.tuple(chunkWriter.getFile(), chunkWriter.getHash()));
+                } else {
+                    fetchModelChunks(modelId, chunkWriter, requestedChunks, stopNow, listener);
                 }
-                semaphore.release();
             }, e -> {
-                stopNow.set(true);
-                semaphore.release();
                 log.error("Failed to retrieve model chunk {}", modelChunkId, e);
-                if (retrievedChunks.get() == totalChunks - 1) {
+                if (stopNow.compareAndSet(false, true)) {
+                    chunkWriter.abort();
                     listener.onFailure(new MLResourceNotFoundException("Fail to find model chunk " + modelChunkId));
                 }
             })));
         }
     }
 
+    private int claimChunk(AtomicInteger requestedChunks, int fetchLimit) {
+        int chunk;
+        do {
+            chunk = requestedChunks.get();
+            if (chunk >= fetchLimit) {
+                return -1;
+            }
+        } while (!requestedChunks.compareAndSet(chunk, chunk + 1));
+        return chunk;
+    }
+
     /**
      * Update model with build-in listener.
      *
@@ -2550,6 +2682,16 @@ public class MLModelManager {
         return t;
     }
 
+    /**
+     * Get the prediction result cache of a model deployed on this node.
+     *
+     * @param modelId model id
+     * @return result cache, or null if the model doesn't enable it
+     */
+    public InferenceResultCache getResultCache(String modelId) {
+        return modelCacheHelper.getResultCache(modelId);
+    }
+
     public void trackPredictDuration(String modelId, long startTime) {
         long end = System.nanoTime();
         double durationInMs = (end - startTime) / 1e6;
@@ -704,6 +704,7 @@ public class MachineLearningPlugin extends Plugin
         OsService osService = new OsService(environment.settings());
         MLCircuitBreakerService mlCircuitBreakerService = new MLCircuitBreakerService(jvmService, osService, settings, clusterService)
             .init(dataPath);
+        mlCircuitBreakerService.startSampling(threadPool);
 
         Map<Enum, MLStat<?>> stats = new ConcurrentHashMap<>();
         // cluster level stats
@@ -1355,6 +1356,7 @@ public class MachineLearningPlugin extends Plugin
         List<Setting<?>> settings = ImmutableList
             .of(
                 MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_POLICY,
+                MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_LOAD_REFRESH_INTERVAL_IN_MILLIS,
                 MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE,
                 MLCommonsSettings.ML_COMMONS_ONLY_RUN_ON_ML_NODE,
                 MLCommonsSettings.ML_COMMONS_SYNC_UP_JOB_INTERVAL_IN_SECONDS,
@@ -1399,6 +1401,13 @@ public class MachineLearningPlugin extends Plugin
                 MLCommonsSettings.ML_COMMONS_MAX_BATCH_INFERENCE_TASKS,
                 MLCommonsSettings.ML_COMMONS_MAX_BATCH_INGESTION_TASKS,
                 MLCommonsSettings.ML_COMMONS_BATCH_INGESTION_BULK_SIZE,
+                MLCommonsSettings.ML_COMMONS_BATCH_INGESTION_MAX_IN_FLIGHT_BULKS,
+                MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_PREDICT_BATCH_SIZE,
+                MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_PREDICT_BATCH_WAIT_TIME_IN_MILLIS,
+                MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE_IN_MB,
+                MLCommonsSettings.ML_COMMONS_DESERIALIZED_MODEL_CACHE_SIZE_IN_MB,
+                MLCommonsSettings.ML_COMMONS_INFERENCE_RESULT_CACHE_SIZE_IN_MB,
+                MLCommonsSettings.ML_COMMONS_RCF_SCORING_THREADS,
                 MLCommonsSettings.ML_COMMONS_SAFE_DELETE_WITH_USAGE_CHECK,
                 MLCommonsSettings.ML_COMMONS_MULTI_TENANCY_ENABLED,
                 MLCommonsSettings.ML_COMMONS_MASTER_KEY_CACHE_TTL_MINUTES,
@@ -7,13 +7,19 @@ package org.opensearch.ml.processor;
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.*;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -25,12 +31,17 @@ import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ingest.AbstractProcessor;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.Processor;
 import org.opensearch.ingest.ValueSource;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.ModelResultFilter;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.script.ScriptService;
 import org.opensearch.script.TemplateScript;
@@ -56,6 +67,9 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
     private final boolean override;
     private final String modelInput;
     private final ScriptService scriptService;
+    private final int batchSize;
+    // set once a batched model output couldn't be split per document, later bulks predict each document on its own
+    private volatile boolean batchOutputUnsplittable;
     private static Client client;
     public static final String TYPE = "ml_inference";
     public static final String DEFAULT_OUTPUT_FIELD_NAME = "inference_results";
@@ -66,6 +80,9 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
     public static final String FUNCTION_NAME = "function_name";
     public static final String FULL_RESPONSE_PATH = "full_response_path";
     public static final String MODEL_INPUT = "model_input";
+    // max number of text docs of a bulk request sent in one batched prediction, 1 sends a prediction per document
+    public static final String BATCH_SIZE = "batch_size";
+    public static final int DEFAULT_BATCH_SIZE = 1;
     // At default, ml inference processor allows maximum 10 prediction tasks running in parallel
     // it can be overwritten using max_prediction_tasks when creating processor
     public static final int DEFAULT_MAX_PREDICTION_TASKS = 10;
@@ -89,6 +106,46 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         ScriptService scriptService,
         Client client,
         NamedXContentRegistry xContentRegistry
+    ) {
+        this(
+            modelId,
+            inputMaps,
+            outputMaps,
+            modelConfigMaps,
+            maxPredictionTask,
+            tag,
+            description,
+            ignoreMissing,
+            functionName,
+            fullResponsePath,
+            ignoreFailure,
+            override,
+            modelInput,
+            DEFAULT_BATCH_SIZE,
+            scriptService,
+            client,
+            xContentRegistry
+        );
+    }
+
+    protected MLInferenceIngestProcessor(
+        String modelId,
+        List<Map<String, String>> inputMaps,
+        List<Map<String, String>> outputMaps,
+        Map<String, String> modelConfigMaps,
+        int maxPredictionTask,
+        String tag,
+        String description,
+        boolean ignoreMissing,
+        String functionName,
+        boolean fullResponsePath,
+        boolean ignoreFailure,
+        boolean override,
+        String modelInput,
+        int batchSize,
+        ScriptService scriptService,
+        Client client,
+        NamedXContentRegistry xContentRegistry
     ) {
         super(tag, description);
         this.inferenceProcessorAttributes = new InferenceProcessorAttributes(
@@ -104,6 +161,7 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         this.ignoreFailure = ignoreFailure;
         this.override = override;
         this.modelInput = modelInput;
+        this.batchSize = batchSize;
         this.scriptService = scriptService;
         this.client = client;
         this.xContentRegistry = xContentRegistry;
@@ -161,6 +219,92 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         throw new UnsupportedOperationException("this method should not get executed.");
     }
 
+    /**
+     * Executes the processor on the documents of a bulk request. With a batch size larger than 1, the text docs model
+     * inputs of all documents are sent as a few batched predictions, and the outputs are mapped back to each document.
+     *
+     * @param ingestDocumentWrappers The documents to be processed.
+     * @param handler                A consumer for handling the processed documents.
+     */
+    @Override
+    public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        if (batchSize <= 1
+            || ingestDocumentWrappers.size() <= 1
+            || batchOutputUnsplittable
+            || !ModelExecutor.canMergePredictions(inferenceProcessorAttributes.getModelConfigMaps(), batchSize)) {
+            super.batchExecute(ingestDocumentWrappers, handler);
+            return;
+        }
+        List<Map<String, String>> processInputMap = inferenceProcessorAttributes.getInputMaps();
+        List<Map<String, String>> processOutputMap = inferenceProcessorAttributes.getOutputMaps();
+        int inputMapSize = (processInputMap != null) ? processInputMap.size() : 0;
+        int predictionRounds = Math.max(inputMapSize, 1);
+
+        IngestDocumentWrapper[] results = new IngestDocumentWrapper[ingestDocumentWrappers.size()];
+        AtomicInteger pendingDocuments = new AtomicInteger(ingestDocumentWrappers.size());
+        // the predictions of all documents grouped by prediction round, only predictions of the same round are batched
+        List<List<PredictionTask>> tasksByRound = new ArrayList<>(predictionRounds);
+        for (int round = 0; round < predictionRounds; round++) {
+            tasksByRound.add(new ArrayList<>());
+        }
+
+        for (int i = 0; i < ingestDocumentWrappers.size(); i++) {
+            int index = i;
+            IngestDocumentWrapper wrapper = ingestDocumentWrappers.get(i);
+            IngestDocument ingestDocument = wrapper.getIngestDocument();
+            if (wrapper.getException() != null || ingestDocument == null) {
+                completeDocument(results, index, wrapper, pendingDocuments, handler);
+                continue;
+            }
+            GroupedActionListener<Void> documentListener = new GroupedActionListener<>(ActionListener.wrap(voids -> {
+                IngestDocumentWrapper result = new IngestDocumentWrapper(wrapper.getSlot(), ingestDocument, null);
+                completeDocument(results, index, result, pendingDocuments, handler);
+            }, e -> {
+                IngestDocumentWrapper result = ignoreFailure
+                    ? new IngestDocumentWrapper(wrapper.getSlot(), ingestDocument, null)
+                    : new IngestDocumentWrapper(wrapper.getSlot(), null, e);
+                completeDocument(results, index, result, pendingDocuments, handler);
+            }), predictionRounds);
+
+            for (int round = 0; round < predictionRounds; round++) {
+                try {
+                    PredictionTask task = preparePrediction(
+                        ingestDocument,
+                        documentListener,
+                        processInputMap,
+                        processOutputMap,
+                        round,
+                        inputMapSize
+                    );
+                    if (task == null) {
+                        documentListener.onResponse(null);
+                    } else {
+                        tasksByRound.get(round).add(task);
+                    }
+                } catch (Exception e) {
+                    documentListener.onFailure(e);
+                }
+            }
+        }
+
+        for (List<PredictionTask> tasks : tasksByRound) {
+            predictInBatches(tasks, processOutputMap);
+        }
+    }
+
+    private void completeDocument(
+        IngestDocumentWrapper[] results,
+        int index,
+        IngestDocumentWrapper result,
+        AtomicInteger pendingDocuments,
+        Consumer<List<IngestDocumentWrapper>> handler
+    ) {
+        results[index] = result;
+        if (pendingDocuments.decrementAndGet() == 0) {
+            handler.accept(Arrays.asList(results));
+        }
+    }
+
     /**
      * process predictions for one model for multiple rounds of predictions
      * ingest documents after prediction rounds are completed,
@@ -182,6 +326,34 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         List<Map<String, String>> processOutputMap,
         int inputMapIndex,
         int inputMapSize
+    ) throws IOException {
+        PredictionTask task = preparePrediction(
+            ingestDocument,
+            batchPredictionListener,
+            processInputMap,
+            processOutputMap,
+            inputMapIndex,
+            inputMapSize
+        );
+        if (task == null) {
+            batchPredictionListener.onResponse(null);
+            return;
+        }
+        predict(task, processOutputMap);
+    }
+
+    /**
+     * Maps the model input of one prediction round from the document.
+     *
+     * @return the prediction to send, or null if all output fields already exist in the document and are not overridden
+     */
+    private PredictionTask preparePrediction(
+        IngestDocument ingestDocument,
+        GroupedActionListener<Void> batchPredictionListener,
+        List<Map<String, String>> processInputMap,
+        List<Map<String, String>> processOutputMap,
+        int inputMapIndex,
+        int inputMapSize
     ) throws IOException {
         Map<String, String> modelParameters = new HashMap<>();
         Map<String, String> modelConfigs = new HashMap<>();
@@ -221,8 +393,7 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
                 }
             }
             if (newOutputMapping.size() == 0) {
-                batchPredictionListener.onResponse(null);
-                return;
+                return null;
             }
         }
         // when no input mapping is provided, default to read all fields from documents as model input
@@ -259,37 +430,117 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
             modelInput
         );
 
-        client.execute(MLPredictionTaskAction.INSTANCE, request, new ActionListener<>() {
+        return new PredictionTask(ingestDocument, inputMapIndex, request, newOutputMapping, batchPredictionListener);
+    }
+
+    private void predict(PredictionTask task, List<Map<String, String>> processOutputMap) {
+        client.execute(MLPredictionTaskAction.INSTANCE, task.request, new ActionListener<>() {
 
             @Override
             public void onResponse(MLTaskResponse mlTaskResponse) {
-                MLOutput mlOutput = mlTaskResponse.getOutput();
-                if (processOutputMap == null || processOutputMap.isEmpty()) {
-                    appendFieldValue(mlOutput, null, DEFAULT_OUTPUT_FIELD_NAME, ingestDocument);
-                } else {
-                    // outMapping serves as a filter to modelTensorOutput, the fields that are not specified
-                    // in the outputMapping will not write to document
-                    Map<String, String> outputMapping = processOutputMap.get(inputMapIndex);
-
-                    for (Map.Entry<String, String> entry : outputMapping.entrySet()) {
-                        // document field as key, model field as value
-                        String newDocumentFieldName = entry.getKey();
-                        String modelOutputFieldName = entry.getValue();
-                        if (!newOutputMapping.containsKey(newDocumentFieldName)) {
-                            continue;
-                        }
-                        appendFieldValue(mlOutput, modelOutputFieldName, newDocumentFieldName, ingestDocument);
-                    }
-                }
-                batchPredictionListener.onResponse(null);
+                writePredictionOutput(mlTaskResponse.getOutput(), task, processOutputMap);
+                task.listener.onResponse(null);
             }
 
             @Override
             public void onFailure(Exception e) {
-                batchPredictionListener.onFailure(e);
+                task.listener.onFailure(e);
             }
         });
+    }
+
+    /**
+     * Writes the model output of one prediction round to the document.
+     */
+    private void writePredictionOutput(MLOutput mlOutput, PredictionTask task, List<Map<String, String>> processOutputMap) {
+        if (processOutputMap == null || processOutputMap.isEmpty()) {
+            appendFieldValue(mlOutput, null, DEFAULT_OUTPUT_FIELD_NAME, task.ingestDocument);
+        } else {
+            // outMapping serves as a filter to modelTensorOutput, the fields that are not specified
+            // in the outputMapping will not write to document
+            Map<String, String> outputMapping = processOutputMap.get(task.inputMapIndex);
+
+            for (Map.Entry<String, String> entry : outputMapping.entrySet()) {
+                // document field as key, model field as value
+                String newDocumentFieldName = entry.getKey();
+                String modelOutputFieldName = entry.getValue();
+                if (!task.newOutputMapping.containsKey(newDocumentFieldName)) {
+                    continue;
+                }
+                appendFieldValue(mlOutput, modelOutputFieldName, newDocumentFieldName, task.ingestDocument);
+            }
+        }
+    }
+
+    /**
+     * Merges the text docs of consecutive predictions into batched predictions of up to batch size docs. Predictions
+     * which don't use a text docs input, or use different model parameters, are sent on their own.
+     */
+    private void predictInBatches(List<PredictionTask> tasks, List<Map<String, String>> processOutputMap) {
+        List<PredictionTask> batch = new ArrayList<>();
+        int batchDocs = 0;
+        for (PredictionTask task : tasks) {
+            List<String> docs = task.getTextDocs();
+            if (docs == null || docs.isEmpty() || docs.size() >= batchSize) {
+                predict(task, processOutputMap);
+                continue;
+            }
+            if (!batch.isEmpty() && (batchDocs + docs.size() > batchSize || !task.canBatchWith(batch.get(0)))) {
+                predictBatch(batch, batchDocs, processOutputMap);
+                batch = new ArrayList<>();
+                batchDocs = 0;
+            }
+            batch.add(task);
+            batchDocs += docs.size();
+        }
+        if (!batch.isEmpty()) {
+            predictBatch(batch, batchDocs, processOutputMap);
+        }
+    }
 
+    private void predictBatch(List<PredictionTask> batch, int batchDocs, List<Map<String, String>> processOutputMap) {
+        if (batch.size() == 1) {
+            predict(batch.get(0), processOutputMap);
+            return;
+        }
+        List<String> docs = new ArrayList<>(batchDocs);
+        for (PredictionTask task : batch) {
+            docs.addAll(task.getTextDocs());
+        }
+        MLPredictionTaskRequest firstRequest = (MLPredictionTaskRequest) batch.get(0).request;
+        MLInput firstInput = firstRequest.getMlInput();
+        TextDocsInputDataSet firstDataSet = (TextDocsInputDataSet) firstInput.getInputDataset();
+        MLInput batchInput = MLInput
+            .builder()
+            .algorithm(firstInput.getAlgorithm())
+            .parameters(firstInput.getParameters())
+            .inputDataset(TextDocsInputDataSet.builder().docs(docs).resultFilter(firstDataSet.getResultFilter()).build())
+            .build();
+        MLPredictionTaskRequest batchRequest = new MLPredictionTaskRequest(firstRequest.getModelId(), batchInput);
+
+        client.execute(MLPredictionTaskAction.INSTANCE, batchRequest, ActionListener.wrap(mlTaskResponse -> {
+            List<Integer> docCounts = batch.stream().map(task -> task.getTextDocs().size()).collect(Collectors.toList());
+            List<MLOutput> outputs = ModelExecutor.splitBatchOutput(mlTaskResponse.getOutput(), docCounts);
+            if (outputs == null) {
+                // e.g. a connector step size below the batch size with one result per step, predict the docs on their own
+                // and don't batch again, so the extra load on the model is limited to this batch
+                logger
+                    .warn("Model output of {} batched docs can't be split per document, set {} to 1 for this model", batchDocs, BATCH_SIZE);
+                batchOutputUnsplittable = true;
+                batch.forEach(task -> predict(task, processOutputMap));
+                return;
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                PredictionTask task = batch.get(i);
+                try {
+                    writePredictionOutput(outputs.get(i), task, processOutputMap);
+                } catch (Exception e) {
+                    task.listener.onFailure(e);
+                    continue;
+                }
+                task.listener.onResponse(null);
+            }
+        }, e -> batch.forEach(task -> task.listener.onFailure(e))));
     }
 
     /**
@@ -449,6 +700,55 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         return TYPE;
     }
 
+    /**
+     * One prediction round of one document.
+     */
+    static class PredictionTask {
+        private final IngestDocument ingestDocument;
+        private final int inputMapIndex;
+        private final ActionRequest request;
+        private final Map<String, List<String>> newOutputMapping;
+        private final GroupedActionListener<Void> listener;
+
+        PredictionTask(
+            IngestDocument ingestDocument,
+            int inputMapIndex,
+            ActionRequest request,
+            Map<String, List<String>> newOutputMapping,
+            GroupedActionListener<Void> listener
+        ) {
+            this.ingestDocument = ingestDocument;
+            this.inputMapIndex = inputMapIndex;
+            this.request = request;
+            this.newOutputMapping = newOutputMapping;
+            this.listener = listener;
+        }
+
+        /**
+         * @return the text docs of the model input, or null if the model input is not text docs
+         */
+        List<String> getTextDocs() {
+            if (!(request instanceof MLPredictionTaskRequest)) {
+                return null;
+            }
+            MLInput mlInput = ((MLPredictionTaskRequest) request).getMlInput();
+            if (mlInput == null || !(mlInput.getInputDataset() instanceof TextDocsInputDataSet)) {
+                return null;
+            }
+            return ((TextDocsInputDataSet) mlInput.getInputDataset()).getDocs();
+        }
+
+        boolean canBatchWith(PredictionTask other) {
+            MLInput mlInput = ((MLPredictionTaskRequest) request).getMlInput();
+            MLInput otherInput = ((MLPredictionTaskRequest) other.request).getMlInput();
+            ModelResultFilter filter = ((TextDocsInputDataSet) mlInput.getInputDataset()).getResultFilter();
+            ModelResultFilter otherFilter = ((TextDocsInputDataSet) otherInput.getInputDataset()).getResultFilter();
+            return mlInput.getAlgorithm() == otherInput.getAlgorithm()
+                && Objects.equals(mlInput.getParameters(), otherInput.getParameters())
+                && ModelExecutor.sameResultFilter(filter, otherFilter);
+        }
+    }
+
     public static class Factory implements Processor.Factory {
 
         private final ScriptService scriptService;
@@ -510,6 +810,10 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
 
             boolean ignoreFailure = ConfigurationUtils
                 .readBooleanProperty(TYPE, processorTag, config, ConfigurationUtils.IGNORE_FAILURE_KEY, false);
+            int batchSize = ConfigurationUtils.readIntProperty(TYPE, processorTag, config, BATCH_SIZE, DEFAULT_BATCH_SIZE);
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("The batch_size of ML inference processor must be a positive integer.");
+            }
             // convert model config user input data structure to Map<String, String>
             Map<String, String> modelConfigMaps = null;
             if (modelConfigInput != null) {
@@ -543,6 +847,7 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
                 ignoreFailure,
                 override,
                 modelInput,
+                batchSize,
                 scriptService,
                 client,
                 xContentRegistry
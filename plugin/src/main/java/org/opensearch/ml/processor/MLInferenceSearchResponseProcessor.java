@@ -18,6 +18,7 @@ import static org.opensearch.ml.processor.MLInferenceSearchRequestProcessor.OPTI
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -25,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.logging.log4j.LogManager;
@@ -34,6 +36,7 @@ import org.opensearch.action.ActionRequest;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.GroupedActionListener;
+import org.opensearch.common.CheckedRunnable;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.core.action.ActionListener;
@@ -45,10 +48,15 @@ import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.MLInputDataset;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.dataset.TextSimilarityInputDataSet;
 import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.ml.utils.MapUtils;
 import org.opensearch.ml.utils.SearchResponseUtil;
@@ -75,6 +83,8 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
     private final boolean override;
     private final boolean fullResponsePath;
     private final boolean oneToOne;
+    @Getter
+    private final int batchSize;
     private final boolean ignoreFailure;
     private final String modelInput;
     private static Client client;
@@ -86,6 +96,9 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
     public static final String FULL_RESPONSE_PATH = "full_response_path";
     public static final String MODEL_INPUT = "model_input";
     public static final String ONE_TO_ONE = "one_to_one";
+    // max number of text docs of one_to_one hits sent in one batched prediction, 1 sends a prediction per hit
+    public static final String BATCH_SIZE = "batch_size";
+    public static final int DEFAULT_BATCH_SIZE = 1;
     public static final String DEFAULT_MODEL_INPUT = "{ \"parameters\": ${ml_inference.parameters} }";
     // At default, ml inference processor allows maximum 10 prediction tasks running in parallel
     // it can be overwritten using max_prediction_tasks when creating processor
@@ -118,9 +131,54 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
         Client client,
         NamedXContentRegistry xContentRegistry,
         boolean oneToOne
+    ) {
+        this(
+            modelId,
+            inputMaps,
+            outputMaps,
+            optionalInputMaps,
+            optionalOutputMaps,
+            modelConfigMaps,
+            maxPredictionTask,
+            tag,
+            description,
+            ignoreMissing,
+            functionName,
+            fullResponsePath,
+            ignoreFailure,
+            override,
+            modelInput,
+            client,
+            xContentRegistry,
+            oneToOne,
+            DEFAULT_BATCH_SIZE
+        );
+    }
+
+    protected MLInferenceSearchResponseProcessor(
+        String modelId,
+        List<Map<String, String>> inputMaps,
+        List<Map<String, String>> outputMaps,
+        List<Map<String, String>> optionalInputMaps,
+        List<Map<String, String>> optionalOutputMaps,
+        Map<String, String> modelConfigMaps,
+        int maxPredictionTask,
+        String tag,
+        String description,
+        boolean ignoreMissing,
+        String functionName,
+        boolean fullResponsePath,
+        boolean ignoreFailure,
+        boolean override,
+        String modelInput,
+        Client client,
+        NamedXContentRegistry xContentRegistry,
+        boolean oneToOne,
+        int batchSize
     ) {
         super(tag, description, ignoreFailure);
         this.oneToOne = oneToOne;
+        this.batchSize = batchSize;
         this.inferenceProcessorAttributes = new InferenceProcessorAttributes(
             modelId,
             inputMaps,
@@ -153,6 +211,8 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
      * executes the same rewriteResponseDocument method for each one-hit search response,
      * and after receiving N one-hit search responses with inference results,
      * it combines them back into a single N-hits search response.
+     * With a batch size larger than 1, it instead predicts up to batch size hits in one prediction, and writes the
+     * inference results of each hit to the hits of the search response in place.
      *
      * @param request          the search request
      * @param response         the search response
@@ -202,6 +262,12 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
                 }
 
                 rewriteResponseDocuments(mlInferenceSearchResponse, responseListener, queryString);
+            } else if (batchSize > 1 && isRemoteModel()) {
+                // remote model inputs are parameters, predict chunks of hits with list parameters as many to one does
+                rewriteResponseDocumentsInChunks(response, responseListener, queryString);
+            } else if (batchSize > 1 && ModelExecutor.canMergePredictions(inferenceProcessorAttributes.getModelConfigMaps(), batchSize)) {
+                // if one to one with a batch size, batch the predictions of the hits and rewrite the hits in place
+                rewriteResponseDocumentsInBatches(response, responseListener, queryString);
             } else {
                 // if one to one, make one hit search response and run rewriteResponseDocuments
                 GroupedActionListener<SearchResponse> combineResponseListener = getCombineResponseGroupedActionListener(
@@ -247,6 +313,266 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
         }
     }
 
+    /**
+     * Rewrites each hit with the inference results of its own model input, as one_to_one does with a one-hit search
+     * response per hit, without copying the search response. The text docs predictions of up to batch size hits are
+     * merged into one prediction and the outputs are mapped back to each hit. Predictions with other inputs can't be
+     * merged generically and are still sent once per hit.
+     *
+     * @param response         the search response
+     * @param responseListener the listener to be notified when the response is processed
+     * @param queryString      the query body in string format, for example, "{ \"query\": { \"match_all\": {} } }\n"
+     * @throws IOException if an I/O error occurs while building the model inputs
+     */
+    private void rewriteResponseDocumentsInBatches(
+        SearchResponse response,
+        ActionListener<SearchResponse> responseListener,
+        String queryString
+    ) throws IOException {
+        List<Map<String, String>> processInputMap = inferenceProcessorAttributes.getInputMaps();
+        List<Map<String, String>> combinedInputMaps = ModelExecutor.combineMaps(processInputMap, optionalInputMaps);
+        List<Map<String, String>> combinedOutputMaps = ModelExecutor
+            .combineMaps(inferenceProcessorAttributes.getOutputMaps(), optionalOutputMaps);
+        int predictionRounds = max(combinedInputMaps.size(), 1);
+        SearchHit[] hits = response.getHits().getHits();
+
+        // the model outputs of each hit by input map index, and the hit count of each round of prediction of the hit
+        List<Map<Integer, MLOutput>> hitOutputs = new ArrayList<>(hits.length);
+        List<Map<Integer, Integer>> hitCounts = new ArrayList<>(hits.length);
+        // the predictions of all hits grouped by prediction round, only predictions of the same round are batched
+        List<List<HitPrediction>> predictionsByRound = new ArrayList<>(predictionRounds);
+        int predictionCount = 0;
+        for (int round = 0; round < predictionRounds; round++) {
+            predictionsByRound.add(new ArrayList<>());
+        }
+        for (SearchHit hit : hits) {
+            Map<Integer, MLOutput> outputs = new ConcurrentHashMap<>();
+            Map<Integer, Integer> hitCountInPredictions = new HashMap<>();
+            for (int round = 0; round < predictionRounds; round++) {
+                SearchHit[] oneHit = new SearchHit[] { hit };
+                ActionRequest request = buildPredictionRequest(oneHit, combinedInputMaps, round, hitCountInPredictions, queryString, false);
+                // a hit missing the input fields of this round is skipped when writing the outputs, don't predict it
+                if (hitCountInPredictions.containsKey(round)) {
+                    predictionsByRound.get(round).add(new HitPrediction(outputs, round, request));
+                    predictionCount++;
+                }
+            }
+            hitOutputs.add(outputs);
+            hitCounts.add(hitCountInPredictions);
+        }
+
+        ActionListener<Void> rewriteListener = createInPlaceRewriteListener(response, responseListener, () -> {
+            for (int i = 0; i < hits.length; i++) {
+                writeOutputsToHits(
+                    response,
+                    new SearchHit[] { hits[i] },
+                    hitOutputs.get(i),
+                    processInputMap,
+                    combinedInputMaps,
+                    combinedOutputMaps,
+                    hitCounts.get(i),
+                    false,
+                    false
+                );
+            }
+        });
+        if (predictionCount == 0) {
+            rewriteListener.onResponse(null);
+            return;
+        }
+        GroupedActionListener<Void> predictionListener = new GroupedActionListener<>(
+            ActionListener.wrap(voids -> rewriteListener.onResponse(null), rewriteListener::onFailure),
+            predictionCount
+        );
+        for (List<HitPrediction> predictions : predictionsByRound) {
+            predictInBatches(predictions, predictionListener);
+        }
+    }
+
+    /**
+     * Rewrites each hit with the inference results of its own model input for remote models. The model inputs of up to
+     * batch size hits are mapped into list parameters and predicted at once, as many to one does, and each list output
+     * whose size matches the number of predicted hits of the chunk is written back to the hits by index.
+     *
+     * @param response         the search response
+     * @param responseListener the listener to be notified when the response is processed
+     * @param queryString      the query body in string format, for example, "{ \"query\": { \"match_all\": {} } }\n"
+     * @throws IOException if an I/O error occurs while building the model inputs
+     */
+    private void rewriteResponseDocumentsInChunks(
+        SearchResponse response,
+        ActionListener<SearchResponse> responseListener,
+        String queryString
+    ) throws IOException {
+        List<Map<String, String>> processInputMap = inferenceProcessorAttributes.getInputMaps();
+        List<Map<String, String>> combinedInputMaps = ModelExecutor.combineMaps(processInputMap, optionalInputMaps);
+        List<Map<String, String>> combinedOutputMaps = ModelExecutor
+            .combineMaps(inferenceProcessorAttributes.getOutputMaps(), optionalOutputMaps);
+        int predictionRounds = max(combinedInputMaps.size(), 1);
+        SearchHit[] hits = response.getHits().getHits();
+
+        List<SearchHit[]> chunks = new ArrayList<>();
+        // the model outputs of each chunk by input map index, and the hit count of each round of prediction of the chunk
+        List<Map<Integer, MLOutput>> chunkOutputs = new ArrayList<>();
+        List<Map<Integer, Integer>> chunkHitCounts = new ArrayList<>();
+        List<HitPrediction> predictions = new ArrayList<>();
+        for (int from = 0; from < hits.length; from += batchSize) {
+            SearchHit[] chunk = Arrays.copyOfRange(hits, from, Math.min(from + batchSize, hits.length));
+            Map<Integer, MLOutput> outputs = new ConcurrentHashMap<>();
+            Map<Integer, Integer> hitCountInPredictions = new HashMap<>();
+            for (int round = 0; round < predictionRounds; round++) {
+                ActionRequest request = buildPredictionRequest(chunk, combinedInputMaps, round, hitCountInPredictions, queryString, true);
+                // skip the round when no hit of the chunk has its input fields
+                if (hitCountInPredictions.containsKey(round)) {
+                    predictions.add(new HitPrediction(outputs, round, request));
+                }
+            }
+            chunks.add(chunk);
+            chunkOutputs.add(outputs);
+            chunkHitCounts.add(hitCountInPredictions);
+        }
+
+        ActionListener<Void> rewriteListener = createInPlaceRewriteListener(response, responseListener, () -> {
+            for (int i = 0; i < chunks.size(); i++) {
+                writeOutputsToHits(
+                    response,
+                    chunks.get(i),
+                    chunkOutputs.get(i),
+                    processInputMap,
+                    combinedInputMaps,
+                    combinedOutputMaps,
+                    chunkHitCounts.get(i),
+                    true,
+                    true
+                );
+            }
+        });
+        if (predictions.isEmpty()) {
+            rewriteListener.onResponse(null);
+            return;
+        }
+        GroupedActionListener<Void> predictionListener = new GroupedActionListener<>(
+            ActionListener.wrap(voids -> rewriteListener.onResponse(null), rewriteListener::onFailure),
+            predictions.size()
+        );
+        for (HitPrediction prediction : predictions) {
+            predict(prediction, predictionListener);
+        }
+    }
+
+    /**
+     * Creates a listener which writes the inference results to the hits of the search response in place once all
+     * predictions are done.
+     *
+     * @param response         the search response
+     * @param responseListener the listener to be notified when the response is processed
+     * @param writeOutputs     writes the inference results to the hits
+     * @return the listener of all predictions
+     */
+    private ActionListener<Void> createInPlaceRewriteListener(
+        SearchResponse response,
+        ActionListener<SearchResponse> responseListener,
+        CheckedRunnable<IOException> writeOutputs
+    ) {
+        return ActionListener.wrap(voids -> {
+            try {
+                writeOutputs.run();
+            } catch (Exception e) {
+                if (!ignoreFailure) {
+                    responseListener.onFailure(e);
+                    return;
+                }
+                logger.error("Failed in writing prediction outcomes to search response", e);
+            }
+            responseListener.onResponse(response);
+        }, e -> {
+            if (ignoreFailure) {
+                logger.error("Failed in writing prediction outcomes to search response", e);
+                responseListener.onResponse(response);
+            } else {
+                responseListener.onFailure(e);
+            }
+        });
+    }
+
+    /**
+     * Merges the text docs of consecutive predictions into batched predictions of up to batch size docs. Predictions
+     * which don't use a text docs input, or use different model parameters, are sent on their own.
+     */
+    private void predictInBatches(List<HitPrediction> predictions, ActionListener<Void> listener) {
+        List<HitPrediction> batch = new ArrayList<>();
+        int batchDocs = 0;
+        for (HitPrediction prediction : predictions) {
+            List<String> docs = prediction.getTextDocs();
+            if (docs == null || docs.isEmpty() || docs.size() >= batchSize) {
+                predict(prediction, listener);
+                continue;
+            }
+            if (!batch.isEmpty() && (batchDocs + docs.size() > batchSize || !prediction.canBatchWith(batch.get(0)))) {
+                predictBatch(batch, listener);
+                batch = new ArrayList<>();
+                batchDocs = 0;
+            }
+            batch.add(prediction);
+            batchDocs += docs.size();
+        }
+        if (!batch.isEmpty()) {
+            predictBatch(batch, listener);
+        }
+    }
+
+    private void predict(HitPrediction prediction, ActionListener<Void> listener) {
+        client.execute(MLPredictionTaskAction.INSTANCE, prediction.request, ActionListener.wrap(mlTaskResponse -> {
+            prediction.outputs.put(prediction.inputMapIndex, mlTaskResponse.getOutput());
+            listener.onResponse(null);
+        }, listener::onFailure));
+    }
+
+    private void predictBatch(List<HitPrediction> batch, ActionListener<Void> listener) {
+        if (batch.size() == 1) {
+            predict(batch.get(0), listener);
+            return;
+        }
+        List<Integer> docCounts = new ArrayList<>(batch.size());
+        List<String> docs = new ArrayList<>();
+        for (HitPrediction prediction : batch) {
+            docCounts.add(prediction.getTextDocs().size());
+            docs.addAll(prediction.getTextDocs());
+        }
+        MLPredictionTaskRequest firstRequest = (MLPredictionTaskRequest) batch.get(0).request;
+        MLInput firstInput = firstRequest.getMlInput();
+        MLInputDataset batchDataset;
+        if (firstInput.getInputDataset() instanceof TextSimilarityInputDataSet) {
+            batchDataset = ((TextSimilarityInputDataSet) firstInput.getInputDataset()).toBuilder().textDocs(docs).build();
+        } else {
+            batchDataset = ((TextDocsInputDataSet) firstInput.getInputDataset()).toBuilder().docs(docs).build();
+        }
+        MLInput batchInput = MLInput
+            .builder()
+            .algorithm(firstInput.getAlgorithm())
+            .parameters(firstInput.getParameters())
+            .inputDataset(batchDataset)
+            .build();
+        MLPredictionTaskRequest batchRequest = new MLPredictionTaskRequest(firstRequest.getModelId(), batchInput);
+
+        client.execute(MLPredictionTaskAction.INSTANCE, batchRequest, ActionListener.wrap(mlTaskResponse -> {
+            List<MLOutput> outputs = ModelExecutor.splitBatchOutput(mlTaskResponse.getOutput(), docCounts);
+            if (outputs == null) {
+                // predicting every hit again would double the load on the model, let the caller lower the batch size instead
+                IllegalArgumentException e = new IllegalArgumentException(
+                    "Model output of " + docs.size() + " batched docs can't be split per hit, set " + BATCH_SIZE + " to 1 for this model"
+                );
+                batch.forEach(prediction -> listener.onFailure(e));
+                return;
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                HitPrediction prediction = batch.get(i);
+                prediction.outputs.put(prediction.inputMapIndex, outputs.get(i));
+                listener.onResponse(null);
+            }
+        }, e -> batch.forEach(prediction -> listener.onFailure(e))));
+    }
+
     /**
      * Creates an ActionListener for a single SearchResponse that delegates its
      * onResponse and onFailure callbacks to a GroupedActionListener.
@@ -379,6 +705,45 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
         Map<Integer, Integer> hitCountInPredictions,
         String queryString
     ) throws IOException {
+        ActionRequest request = buildPredictionRequest(hits, processInputMap, inputMapIndex, hitCountInPredictions, queryString, !oneToOne);
+
+        client.execute(MLPredictionTaskAction.INSTANCE, request, new ActionListener<>() {
+
+            @Override
+            public void onResponse(MLTaskResponse mlTaskResponse) {
+                MLOutput mlOutput = mlTaskResponse.getOutput();
+                Map<Integer, MLOutput> mlOutputMap = new HashMap<>();
+                mlOutputMap.put(inputMapIndex, mlOutput);
+                batchPredictionListener.onResponse(mlOutputMap);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                batchPredictionListener.onFailure(e);
+            }
+        });
+    }
+
+    /**
+     * Maps the model input of the given input map index from the hits and builds the prediction request.
+     *
+     * @param hits                  the search hits
+     * @param processInputMap       the list of input mappings
+     * @param inputMapIndex         the index of the input mapping to process
+     * @param hitCountInPredictions a map to keep track of the count of hits that have the required input fields for each round of prediction
+     * @param queryString           the query body in string format, for example, "{ \"query\": { \"match_all\": {} } }\n"
+     * @param listValues            true to map the document values of all hits into a list per model input field
+     * @return the prediction request
+     * @throws IOException if an I/O error occurs while building the model input
+     */
+    private ActionRequest buildPredictionRequest(
+        SearchHit[] hits,
+        List<Map<String, String>> processInputMap,
+        int inputMapIndex,
+        Map<Integer, Integer> hitCountInPredictions,
+        String queryString,
+        boolean listValues
+    ) throws IOException {
 
         Map<String, String> modelParameters = new HashMap<>();
         Map<String, String> modelConfigs = new HashMap<>();
@@ -437,7 +802,7 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
                             Object documentValue = JsonPath.using(suppressExceptionConfiguration).parse(document).read(documentFieldName);
                             if (documentValue != null) {
                                 // when not existed in the map, add into the modelInputParameters map
-                                updateModelInputParameters(modelInputParameters, modelInputFieldName, documentValue);
+                                updateModelInputParameters(modelInputParameters, modelInputFieldName, documentValue, listValues);
                             }
                         }
                     }
@@ -464,7 +829,7 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
                     Object documentValue = entry.getValue();
 
                     // when not existed in the map, add into the modelInputParameters map
-                    updateModelInputParameters(modelInputParameters, modelInputFieldName, documentValue);
+                    updateModelInputParameters(modelInputParameters, modelInputFieldName, documentValue, listValues);
                 }
             }
         }
@@ -479,7 +844,7 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
             inputMappings.put(k, modelParameters.get(k));
         }
 
-        ActionRequest request = getMLModelInferenceRequest(
+        return getMLModelInferenceRequest(
             xContentRegistry,
             modelParameters,
             modelConfigs,
@@ -488,36 +853,26 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
             functionName,
             modelInput
         );
-
-        client.execute(MLPredictionTaskAction.INSTANCE, request, new ActionListener<>() {
-
-            @Override
-            public void onResponse(MLTaskResponse mlTaskResponse) {
-                MLOutput mlOutput = mlTaskResponse.getOutput();
-                Map<Integer, MLOutput> mlOutputMap = new HashMap<>();
-                mlOutputMap.put(inputMapIndex, mlOutput);
-                batchPredictionListener.onResponse(mlOutputMap);
-            }
-
-            @Override
-            public void onFailure(Exception e) {
-                batchPredictionListener.onFailure(e);
-            }
-        });
     }
 
     /**
      * Updates the model input parameters map with the given document value.
-     * If the setting is one-to-one,
+     * If the values are not listed, e.g. one-to-one,
      * simply put the document value in the map
-     * If the setting is many-to-one,
+     * If the values are listed, e.g. many-to-one,
      * create a new list and add the document value
      * @param modelInputParameters The map containing the model input parameters.
      * @param modelInputFieldName The name of the model input field.
      * @param documentValue The value from the document that needs to be added to the model input parameters.
+     * @param listValues true to add the document value to the list of values of all hits
      */
-    private void updateModelInputParameters(Map<String, Object> modelInputParameters, String modelInputFieldName, Object documentValue) {
-        if (!this.oneToOne) {
+    private void updateModelInputParameters(
+        Map<String, Object> modelInputParameters,
+        String modelInputFieldName,
+        Object documentValue,
+        boolean listValues
+    ) {
+        if (listValues) {
             if (!modelInputParameters.containsKey(modelInputFieldName)) {
                 List<Object> documentValueList = new ArrayList<>();
                 documentValueList.add(documentValue);
@@ -583,107 +938,17 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
             @Override
             public void onResponse(Map<Integer, MLOutput> multipleMLOutputs) {
                 try {
-                    Map<Integer, Map<String, Integer>> writeOutputMapDocCounter = new HashMap<>();
-
-                    for (SearchHit hit : response.getHits().getHits()) {
-                        Map<String, Object> sourceAsMapWithInference = new HashMap<>();
-                        if (hit.hasSource()) {
-                            BytesReference sourceRef = hit.getSourceRef();
-                            Tuple<? extends MediaType, Map<String, Object>> typeAndSourceMap = XContentHelper
-                                .convertToMap(sourceRef, false, (MediaType) null);
-
-                            Map<String, Object> sourceAsMap = typeAndSourceMap.v2();
-                            sourceAsMapWithInference.putAll(sourceAsMap);
-                            Map<String, Object> document = hit.getSourceAsMap();
-
-                            for (Map.Entry<Integer, MLOutput> entry : multipleMLOutputs.entrySet()) {
-                                Integer mappingIndex = entry.getKey();
-                                MLOutput mlOutput = entry.getValue();
-                                Map<String, String> outputMapping = getDefaultOutputMapping(mappingIndex, processOutputMap);
-                                Map<String, String> requiredInputMapping;
-                                if (requiredInputFields != null && requiredInputFields.size() > mappingIndex) {
-                                    requiredInputMapping = requiredInputFields.get(mappingIndex);
-                                } else {
-                                    requiredInputMapping = new HashMap<>();
-                                }
-
-                                boolean isDocumentFieldMissing = false;
-                                if (!CollectionUtils.isEmpty(processInputMap)) {
-                                    isDocumentFieldMissing = checkIsDocumentFieldMissing(document, requiredInputMapping);
-                                }
-                                if (!isDocumentFieldMissing) {
-                                    // Iterate over outputMapping
-                                    for (Map.Entry<String, String> outputMapEntry : outputMapping.entrySet()) {
-
-                                        String newDocumentFieldName = outputMapEntry.getKey();
-                                        String modelOutputFieldName = outputMapEntry.getValue();
-
-                                        MapUtils.incrementCounter(writeOutputMapDocCounter, mappingIndex, modelOutputFieldName);
-
-                                        Object modelOutputValue = getModelOutputValue(
-                                            mlOutput,
-                                            modelOutputFieldName,
-                                            ignoreMissing,
-                                            fullResponsePath
-                                        );
-                                        // writing to search response extension
-                                        if (newDocumentFieldName.startsWith(EXTENSION_PREFIX)) {
-                                            Map<String, Object> params = ((MLInferenceSearchResponse) response).getParams();
-                                            String paramsName = newDocumentFieldName.replaceFirst(EXTENSION_PREFIX + ".", "");
-
-                                            if (params != null) {
-                                                params.put(paramsName, modelOutputValue);
-                                                ((MLInferenceSearchResponse) response).setParams(params);
-                                            } else {
-                                                Map<String, Object> newParams = new HashMap<>();
-                                                newParams.put(paramsName, modelOutputValue);
-                                                ((MLInferenceSearchResponse) response).setParams(newParams);
-                                            }
-                                        } else {
-                                            Object modelOutputValuePerDoc;
-                                            if (hitCountInPredictions.containsKey(mappingIndex)) {
-                                                if (modelOutputValue instanceof List
-                                                    && ((List) modelOutputValue).size() == hitCountInPredictions.get(mappingIndex)
-                                                    && !oneToOne) {
-                                                    Object valuePerDoc = ((List) modelOutputValue)
-                                                        .get(
-                                                            MapUtils
-                                                                .getCounter(writeOutputMapDocCounter, mappingIndex, modelOutputFieldName)
-                                                        );
-                                                    modelOutputValuePerDoc = valuePerDoc;
-                                                } else {
-                                                    modelOutputValuePerDoc = modelOutputValue;
-                                                }
-                                            } else {
-                                                modelOutputValuePerDoc = modelOutputValue;
-                                            }
-                                            // writing to search response hits
-                                            if (sourceAsMap.containsKey(newDocumentFieldName)) {
-                                                if (override) {
-                                                    sourceAsMapWithInference.remove(newDocumentFieldName);
-                                                    sourceAsMapWithInference.put(newDocumentFieldName, modelOutputValuePerDoc);
-                                                } else {
-                                                    logger
-                                                        .debug(
-                                                            "{} already exists in the search response hit. Skip processing this field.",
-                                                            newDocumentFieldName
-                                                        );
-                                                    // TODO when the response has the same field name, should it throw exception? currently,
-                                                    // ingest processor quietly skip it
-                                                }
-                                            } else {
-                                                sourceAsMapWithInference.put(newDocumentFieldName, modelOutputValuePerDoc);
-                                            }
-                                        }
-                                    }
-                                }
-                            }
-                            XContentBuilder builder = XContentBuilder.builder(typeAndSourceMap.v1().xContent());
-                            builder.map(sourceAsMapWithInference);
-                            hit.sourceRef(BytesReference.bytes(builder));
-
-                        }
-                    }
+                    writeOutputsToHits(
+                        response,
+                        response.getHits().getHits(),
+                        multipleMLOutputs,
+                        requiredInputFields,
+                        processInputMap,
+                        processOutputMap,
+                        hitCountInPredictions,
+                        !oneToOne,
+                        false
+                    );
                 } catch (Exception e) {
                     if (ignoreFailure) {
                         responseListener.onResponse(response);
@@ -708,6 +973,144 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
         };
     }
 
+    /**
+     * Writes the inference results to the sources of the hits, or to the search response extension.
+     *
+     * @param response              the search response
+     * @param hits                  the hits to write to
+     * @param multipleMLOutputs     the model outputs by input map index
+     * @param requiredInputFields   the list of required input fields
+     * @param processInputMap       the list of input mappings
+     * @param processOutputMap      the list of output mappings
+     * @param hitCountInPredictions a map to keep track of the count of hits that have the required input fields for each round of prediction
+     * @param splitListOutputs      true to write the element of a list output whose size matches the hit count to each hit
+     * @param requireSplitOutputs   true to fail instead of writing an output which can't be split to each of several hits
+     * @throws IOException if an I/O error occurs while rewriting the source of a hit
+     */
+    private void writeOutputsToHits(
+        SearchResponse response,
+        SearchHit[] hits,
+        Map<Integer, MLOutput> multipleMLOutputs,
+        List<Map<String, String>> requiredInputFields,
+        List<Map<String, String>> processInputMap,
+        List<Map<String, String>> processOutputMap,
+        Map<Integer, Integer> hitCountInPredictions,
+        boolean splitListOutputs,
+        boolean requireSplitOutputs
+    ) throws IOException {
+        Map<Integer, Map<String, Integer>> writeOutputMapDocCounter = new HashMap<>();
+
+        for (SearchHit hit : hits) {
+            Map<String, Object> sourceAsMapWithInference = new HashMap<>();
+            if (hit.hasSource()) {
+                BytesReference sourceRef = hit.getSourceRef();
+                Tuple<? extends MediaType, Map<String, Object>> typeAndSourceMap = XContentHelper
+                    .convertToMap(sourceRef, false, (MediaType) null);
+
+                Map<String, Object> sourceAsMap = typeAndSourceMap.v2();
+                sourceAsMapWithInference.putAll(sourceAsMap);
+                Map<String, Object> document = hit.getSourceAsMap();
+
+                for (Map.Entry<Integer, MLOutput> entry : multipleMLOutputs.entrySet()) {
+                    Integer mappingIndex = entry.getKey();
+                    MLOutput mlOutput = entry.getValue();
+                    Map<String, String> outputMapping = getDefaultOutputMapping(mappingIndex, processOutputMap);
+                    Map<String, String> requiredInputMapping;
+                    if (requiredInputFields != null && requiredInputFields.size() > mappingIndex) {
+                        requiredInputMapping = requiredInputFields.get(mappingIndex);
+                    } else {
+                        requiredInputMapping = new HashMap<>();
+                    }
+
+                    boolean isDocumentFieldMissing = false;
+                    if (!CollectionUtils.isEmpty(processInputMap)) {
+                        isDocumentFieldMissing = checkIsDocumentFieldMissing(document, requiredInputMapping);
+                    }
+                    if (!isDocumentFieldMissing) {
+                        // Iterate over outputMapping
+                        for (Map.Entry<String, String> outputMapEntry : outputMapping.entrySet()) {
+
+                            String newDocumentFieldName = outputMapEntry.getKey();
+                            String modelOutputFieldName = outputMapEntry.getValue();
+
+                            MapUtils.incrementCounter(writeOutputMapDocCounter, mappingIndex, modelOutputFieldName);
+
+                            Object modelOutputValue = getModelOutputValue(
+                                mlOutput,
+                                modelOutputFieldName,
+                                ignoreMissing,
+                                fullResponsePath
+                            );
+                            // writing to search response extension
+                            if (newDocumentFieldName.startsWith(EXTENSION_PREFIX)) {
+                                Map<String, Object> params = ((MLInferenceSearchResponse) response).getParams();
+                                String paramsName = newDocumentFieldName.replaceFirst(EXTENSION_PREFIX + ".", "");
+
+                                if (params != null) {
+                                    params.put(paramsName, modelOutputValue);
+                                    ((MLInferenceSearchResponse) response).setParams(params);
+                                } else {
+                                    Map<String, Object> newParams = new HashMap<>();
+                                    newParams.put(paramsName, modelOutputValue);
+                                    ((MLInferenceSearchResponse) response).setParams(newParams);
+                                }
+                            } else {
+                                Object modelOutputValuePerDoc;
+                                if (hitCountInPredictions.containsKey(mappingIndex) && splitListOutputs) {
+                                    int hitCount = hitCountInPredictions.get(mappingIndex);
+                                    if (modelOutputValue instanceof List && ((List) modelOutputValue).size() == hitCount) {
+                                        Object valuePerDoc = ((List) modelOutputValue)
+                                            .get(
+                                                MapUtils
+                                                    .getCounter(writeOutputMapDocCounter, mappingIndex, modelOutputFieldName)
+                                            );
+                                        modelOutputValuePerDoc = valuePerDoc;
+                                    } else if (!requireSplitOutputs || hitCount == 1 || (modelOutputValue == null && ignoreMissing)) {
+                                        modelOutputValuePerDoc = modelOutputValue;
+                                    } else {
+                                        // copying the output of all hits to each hit would write wrong results
+                                        throw new IllegalArgumentException(
+                                            "Model output "
+                                                + modelOutputFieldName
+                                                + " of "
+                                                + hitCount
+                                                + " batched hits can't be split per hit, set "
+                                                + BATCH_SIZE
+                                                + " to 1 for this model"
+                                        );
+                                    }
+                                } else {
+                                    modelOutputValuePerDoc = modelOutputValue;
+                                }
+                                // writing to search response hits
+                                if (sourceAsMap.containsKey(newDocumentFieldName)) {
+                                    if (override) {
+                                        sourceAsMapWithInference.remove(newDocumentFieldName);
+                                        sourceAsMapWithInference.put(newDocumentFieldName, modelOutputValuePerDoc);
+                                    } else {
+                                        logger
+                                            .debug(
+                                                "{} already exists in the search response hit. Skip processing this field.",
+                                                newDocumentFieldName
+                                            );
+                                        // TODO when the response has the same field name, should it throw exception? currently,
+                                        // ingest processor quietly skip it
+                                    }
+                                } else {
+                                    sourceAsMapWithInference.put(newDocumentFieldName, modelOutputValuePerDoc);
+                                }
+                            }
+                        }
+                    }
+                }
+                XContentBuilder builder = XContentBuilder.builder(typeAndSourceMap.v1().xContent());
+                builder.map(sourceAsMapWithInference);
+                hit.sourceRef(BytesReference.bytes(builder));
+
+            }
+        }
+    }
+
     /**
      * Checks if the document is missing any of the required input fields specified in the input mapping.
      * When model config contains the default model_input value, it's not considered as missing model input.
@@ -818,6 +1221,68 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
         return TYPE;
     }
 
+    private boolean isRemoteModel() {
+        return functionName == null || FunctionName.REMOTE == FunctionName.from(functionName);
+    }
+
+    /**
+     * One prediction round of one hit of a one_to_one search response.
+     */
+    static class HitPrediction {
+        private final Map<Integer, MLOutput> outputs;
+        private final int inputMapIndex;
+        private final ActionRequest request;
+
+        HitPrediction(Map<Integer, MLOutput> outputs, int inputMapIndex, ActionRequest request) {
+            this.outputs = outputs;
+            this.inputMapIndex = inputMapIndex;
+            this.request = request;
+        }
+
+        /**
+         * @return the text docs of the model input, or null if the model input has no text docs which can be merged
+         */
+        List<String> getTextDocs() {
+            if (!(request instanceof MLPredictionTaskRequest)) {
+                return null;
+            }
+            MLInput mlInput = ((MLPredictionTaskRequest) request).getMlInput();
+            if (mlInput == null) {
+                return null;
+            }
+            if (mlInput.getInputDataset() instanceof TextDocsInputDataSet) {
+                return ((TextDocsInputDataSet) mlInput.getInputDataset()).getDocs();
+            }
+            if (mlInput.getInputDataset() instanceof TextSimilarityInputDataSet) {
+                return ((TextSimilarityInputDataSet) mlInput.getInputDataset()).getTextDocs();
+            }
+            return null;
+        }
+
+        boolean canBatchWith(HitPrediction other) {
+            MLInput mlInput = ((MLPredictionTaskRequest) request).getMlInput();
+            MLInput otherInput = ((MLPredictionTaskRequest) other.request).getMlInput();
+            if (mlInput.getAlgorithm() != otherInput.getAlgorithm()
+                || !Objects.equals(mlInput.getParameters(), otherInput.getParameters())
+                || mlInput.getInputDataset().getClass() != otherInput.getInputDataset().getClass()) {
+                return false;
+            }
+            if (mlInput.getInputDataset() instanceof TextSimilarityInputDataSet) {
+                // a cross encoder scores all docs of a batch against the same query
+                return Objects
+                    .equals(
+                        ((TextSimilarityInputDataSet) mlInput.getInputDataset()).getQueryText(),
+                        ((TextSimilarityInputDataSet) otherInput.getInputDataset()).getQueryText()
+                    );
+            }
+            return ModelExecutor
+                .sameResultFilter(
+                    ((TextDocsInputDataSet) mlInput.getInputDataset()).getResultFilter(),
+                    ((TextDocsInputDataSet) otherInput.getInputDataset()).getResultFilter()
+                );
+        }
+    }
+
     /**
      * A factory class for creating instances of the MLInferenceSearchResponseProcessor.
      * This class implements the Processor.Factory interface for creating SearchResponseProcessor instances.
@@ -875,6 +1340,10 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
                 .readStringProperty(TYPE, processorTag, config, FUNCTION_NAME, FunctionName.REMOTE.name());
             boolean override = ConfigurationUtils.readBooleanProperty(TYPE, processorTag, config, OVERRIDE, false);
             boolean oneToOne = ConfigurationUtils.readBooleanProperty(TYPE, processorTag, config, ONE_TO_ONE, false);
+            int batchSize = ConfigurationUtils.readIntProperty(TYPE, processorTag, config, BATCH_SIZE, DEFAULT_BATCH_SIZE);
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("The batch_size of ML inference processor must be a positive integer.");
+            }
 
             String modelInput = ConfigurationUtils.readOptionalStringProperty(TYPE, processorTag, config, MODEL_INPUT);
 
@@ -955,7 +1424,8 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
                 modelInput,
                 client,
                 xContentRegistry,
-                oneToOne
+                oneToOne,
+                batchSize
             );
         }
     }
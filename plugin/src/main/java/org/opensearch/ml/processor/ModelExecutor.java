@@ -17,6 +17,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.apache.commons.text.StringSubstitutor;
@@ -31,6 +32,7 @@ import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.ModelResultFilter;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
@@ -50,6 +52,8 @@ import com.jayway.jsonpath.Option;
  */
 public interface ModelExecutor {
 
+    String INPUT_DOCS_PROCESSED_STEP_SIZE = "input_docs_processed_step_size";
+
     Configuration suppressExceptionConfiguration = Configuration
         .builder()
         .options(Option.SUPPRESS_EXCEPTIONS, Option.DEFAULT_PATH_LEAF_TO_NULL)
@@ -414,4 +418,102 @@ public interface ModelExecutor {
         }
         return combinedMaps;
     }
+
+    /**
+     * Splits the output of a batched prediction into the outputs the merged predictions would have returned on their own.
+     * Models return either one result per doc, e.g. local text embedding and cross encoder models, or results with one
+     * tensor per doc, e.g. remote models which embed all docs in one call, or in one call per step of
+     * "input_docs_processed_step_size" docs.
+     *
+     * @param mlOutput  the output of the batched prediction
+     * @param docCounts the number of docs of each merged prediction, in the order the docs were merged
+     * @return the output of each merged prediction, or null if the output can't be split per doc
+     */
+    static List<MLOutput> splitBatchOutput(MLOutput mlOutput, List<Integer> docCounts) {
+        if (!(mlOutput instanceof ModelTensorOutput)) {
+            return null;
+        }
+        List<ModelTensors> modelOutputs = ((ModelTensorOutput) mlOutput).getMlModelOutputs();
+        if (modelOutputs == null) {
+            return null;
+        }
+        int batchDocs = docCounts.stream().mapToInt(Integer::intValue).sum();
+        List<MLOutput> outputs = new ArrayList<>(docCounts.size());
+        int offset = 0;
+        if (modelOutputs.size() == batchDocs) {
+            for (int docCount : docCounts) {
+                outputs.add(new ModelTensorOutput(new ArrayList<>(modelOutputs.subList(offset, offset + docCount))));
+                offset += docCount;
+            }
+            return outputs;
+        }
+        // the tensors of all results in doc order, with the status code of the result each one belongs to
+        List<ModelTensor> tensors = new ArrayList<>(batchDocs);
+        List<Integer> statusCodes = new ArrayList<>(batchDocs);
+        for (ModelTensors modelOutput : modelOutputs) {
+            if (modelOutput.getMlModelTensors() == null) {
+                return null;
+            }
+            for (ModelTensor tensor : modelOutput.getMlModelTensors()) {
+                tensors.add(tensor);
+                statusCodes.add(modelOutput.getStatusCode());
+            }
+        }
+        if (tensors.size() != batchDocs) {
+            return null;
+        }
+        for (int docCount : docCounts) {
+            ModelTensors taskTensors = new ModelTensors(new ArrayList<>(tensors.subList(offset, offset + docCount)));
+            taskTensors.setStatusCode(mergeStatusCodes(statusCodes.subList(offset, offset + docCount)));
+            outputs.add(new ModelTensorOutput(List.of(taskTensors)));
+            offset += docCount;
+        }
+        return outputs;
+    }
+
+    /**
+     * The docs of one merged prediction may span the results of several steps, report the first unsuccessful status.
+     */
+    private static Integer mergeStatusCodes(List<Integer> statusCodes) {
+        Integer merged = statusCodes.isEmpty() ? null : statusCodes.get(0);
+        for (Integer statusCode : statusCodes) {
+            if (statusCode != null && (statusCode < 200 || statusCode >= 300)) {
+                return statusCode;
+            }
+            if (merged == null) {
+                merged = statusCode;
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Checks up front whether predictions of up to batch size docs can be merged. A remote connector that processes the
+     * docs in steps smaller than the batch size returns one result per step, which can't be split back per doc.
+     *
+     * @param modelConfigs the model config of the processor, can be null
+     * @param batchSize    the batch size of the processor
+     * @return true if merged predictions return results that can be split per doc
+     */
+    static boolean canMergePredictions(Map<String, String> modelConfigs, int batchSize) {
+        String stepSize = modelConfigs == null ? null : modelConfigs.get(INPUT_DOCS_PROCESSED_STEP_SIZE);
+        if (stepSize == null) {
+            return true;
+        }
+        try {
+            return Integer.parseInt(stepSize) >= batchSize;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    static boolean sameResultFilter(ModelResultFilter filter, ModelResultFilter other) {
+        if (filter == null || other == null) {
+            return filter == other;
+        }
+        return filter.isReturnBytes() == other.isReturnBytes()
+            && filter.isReturnNumber() == other.isReturnNumber()
+            && Objects.equals(filter.getTargetResponse(), other.getTargetResponse())
+            && Objects.equals(filter.getTargetResponsePositions(), other.getTargetResponsePositions());
+    }
 }
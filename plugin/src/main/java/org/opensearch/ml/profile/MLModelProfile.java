@@ -13,6 +13,7 @@ import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
 import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.common.model.MLDeploySetting;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
 
@@ -33,10 +34,10 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
     private final MLPredictRequestStats predictRequestStats;
     private final Long memSizeEstimationCPU;
     private final Long memSizeEstimationGPU;
+    private final MLResultCacheStats resultCacheStats;
     @Setter
     private Boolean isHidden;
 
-    @Builder
     public MLModelProfile(
         MLModelState modelState,
         String predictor,
@@ -46,6 +47,31 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         MLPredictRequestStats predictRequestStats,
         Long memSizeEstimationCPU,
         Long memSizeEstimationGPU
+    ) {
+        this(
+            modelState,
+            predictor,
+            targetWorkerNodes,
+            workerNodes,
+            modelInferenceStats,
+            predictRequestStats,
+            memSizeEstimationCPU,
+            memSizeEstimationGPU,
+            null
+        );
+    }
+
+    @Builder
+    public MLModelProfile(
+        MLModelState modelState,
+        String predictor,
+        String[] targetWorkerNodes,
+        String[] workerNodes,
+        MLPredictRequestStats modelInferenceStats,
+        MLPredictRequestStats predictRequestStats,
+        Long memSizeEstimationCPU,
+        Long memSizeEstimationGPU,
+        MLResultCacheStats resultCacheStats
     ) {
         this.modelState = modelState;
         this.predictor = predictor;
@@ -55,6 +81,7 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         this.predictRequestStats = predictRequestStats;
         this.memSizeEstimationCPU = memSizeEstimationCPU;
         this.memSizeEstimationGPU = memSizeEstimationGPU;
+        this.resultCacheStats = resultCacheStats;
     }
 
     @Override
@@ -84,6 +111,9 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         if (memSizeEstimationGPU != null) {
             builder.field("memory_size_estimation_gpu", memSizeEstimationGPU);
         }
+        if (resultCacheStats != null) {
+            builder.field("result_cache_stats", resultCacheStats);
+        }
         if (isHidden != null && isHidden) {
             builder.field("is_hidden", true);
         }
@@ -116,6 +146,11 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         if (streamInputVersion.onOrAfter(MLRegisterModelInput.MINIMAL_SUPPORTED_VERSION_FOR_AGENT_FRAMEWORK)) {
             this.isHidden = in.readOptionalBoolean();
         }
+        if (streamInputVersion.onOrAfter(MLDeploySetting.MINIMAL_SUPPORTED_VERSION_FOR_RESULT_CACHE) && in.readBoolean()) {
+            this.resultCacheStats = new MLResultCacheStats(in);
+        } else {
+            this.resultCacheStats = null;
+        }
     }
 
     @Override
@@ -147,5 +182,13 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         if (streamOutputVersion.onOrAfter(MLRegisterModelInput.MINIMAL_SUPPORTED_VERSION_FOR_AGENT_FRAMEWORK)) {
             out.writeOptionalBoolean(isHidden);
         }
+        if (streamOutputVersion.onOrAfter(MLDeploySetting.MINIMAL_SUPPORTED_VERSION_FOR_RESULT_CACHE)) {
+            if (resultCacheStats != null) {
+                out.writeBoolean(true);
+                resultCacheStats.writeTo(out);
+            } else {
+                out.writeBoolean(false);
+            }
+        }
     }
 }
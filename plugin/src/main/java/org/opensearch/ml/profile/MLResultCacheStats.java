@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.profile;
+
+import java.io.IOException;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Stats of the prediction result cache of a model on a node.
+ */
+@Getter
+public class MLResultCacheStats implements ToXContentFragment, Writeable {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long entryCount;
+    private final long sizeInBytes;
+
+    @Builder
+    public MLResultCacheStats(long hitCount, long missCount, long entryCount, long sizeInBytes) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.entryCount = entryCount;
+        this.sizeInBytes = sizeInBytes;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field("hit_count", hitCount);
+        builder.field("miss_count", missCount);
+        builder.field("entry_count", entryCount);
+        builder.field("size_in_bytes", sizeInBytes);
+        builder.endObject();
+        return builder;
+    }
+
+    public MLResultCacheStats(StreamInput in) throws IOException {
+        this.hitCount = in.readVLong();
+        this.missCount = in.readVLong();
+        this.entryCount = in.readVLong();
+        this.sizeInBytes = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(hitCount);
+        out.writeVLong(missCount);
+        out.writeVLong(entryCount);
+        out.writeVLong(sizeInBytes);
+    }
+}
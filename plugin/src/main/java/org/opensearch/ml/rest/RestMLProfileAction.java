@@ -208,7 +208,8 @@ public class RestMLProfileAction extends BaseRestHandler {
                     entry.getValue().getModelInferenceStats(),
                     entry.getValue().getPredictRequestStats(),
                     entry.getValue().getMemSizeEstimationCPU(),
-                    entry.getValue().getMemSizeEstimationGPU()
+                    entry.getValue().getMemSizeEstimationGPU(),
+                    entry.getValue().getResultCacheStats()
                 );
                 mlProfileModelResponse.getMlModelProfileMap().putAll(ImmutableMap.of(nodeId, modelProfile));
             }
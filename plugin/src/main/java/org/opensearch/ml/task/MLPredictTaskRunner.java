@@ -9,11 +9,13 @@ import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedTok
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
 import static org.opensearch.ml.common.MLModel.ALGORITHM_FIELD;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_RCF_SCORING_THREADS;
 import static org.opensearch.ml.common.utils.StringUtils.getErrorMessage;
 import static org.opensearch.ml.permission.AccessController.checkUserPermissions;
 import static org.opensearch.ml.permission.AccessController.getUserContext;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.PREDICT_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.REMOTE_PREDICT_THREAD_POOL;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.TRAIN_THREAD_POOL;
 import static org.opensearch.ml.utils.MLExceptionUtils.logException;
 
 import java.io.IOException;
@@ -35,14 +37,12 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
-import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
-import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
@@ -69,7 +69,9 @@ import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.algorithms.rcf.RCFParallelScorer;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
+import org.opensearch.ml.model.InferenceResultCache;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionLevelStat;
@@ -89,6 +91,7 @@ import org.opensearch.transport.client.Client;
 import org.opensearch.transport.stream.StreamTransportResponse;
 
 import com.google.common.collect.ImmutableList;
+import com.networknt.schema.JsonSchema;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -138,6 +141,9 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE, it -> autoDeploymentEnabled = it);
+        RCFParallelScorer.setExecutors(threadPool.executor(TRAIN_THREAD_POOL), threadPool.executor(PREDICT_THREAD_POOL));
+        RCFParallelScorer.setThreads(ML_COMMONS_RCF_SCORING_THREADS.get(settings));
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_RCF_SCORING_THREADS, RCFParallelScorer::setThreads);
     }
 
     @Override
@@ -523,8 +529,26 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                     if (!predictor.isModelReady()) {
                         throw new IllegalArgumentException("Model not ready: " + modelId);
                     }
-                    if (mlInput.getAlgorithm() == FunctionName.REMOTE) {
-                        long startTime = System.nanoTime();
+                    // streamed responses are sent to the channel and batch predictions create a job, neither can be cached
+                    InferenceResultCache resultCache = channel == null && mlTask.getTaskType() != MLTaskType.BATCH_PREDICTION
+                        ? mlModelManager.getResultCache(modelId)
+                        : null;
+                    String resultCacheKey = resultCache == null ? null : resultCache.key(mlInput);
+                    long resultCacheGeneration = resultCache == null ? 0 : resultCache.generation();
+                    long startTime = System.nanoTime();
+                    MLOutput cachedOutput = resultCacheKey == null ? null : resultCache.get(resultCacheKey);
+                    if (cachedOutput != null) {
+                        // the output schema may have been updated since the output was cached
+                        if (cachedOutput instanceof ModelTensorOutput) {
+                            validateOutputSchema(modelId, (ModelTensorOutput) cachedOutput);
+                        }
+                        if (cachedOutput instanceof MLPredictionOutput) {
+                            ((MLPredictionOutput) cachedOutput).setStatus(MLTaskState.COMPLETED.name());
+                        }
+                        handleAsyncMLTaskComplete(mlTask);
+                        mlModelManager.trackPredictDuration(modelId, startTime);
+                        internalListener.onResponse(new MLTaskResponse(cachedOutput));
+                    } else if (mlInput.getAlgorithm() == FunctionName.REMOTE) {
                         ActionListener<MLTaskResponse> trackPredictDurationListener = ActionListener.wrap(output -> {
                             if (output.getOutput() instanceof ModelTensorOutput) {
                                 validateOutputSchema(modelId, (ModelTensorOutput) output.getOutput());
@@ -581,6 +605,9 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                             } else {
                                 handleAsyncMLTaskComplete(mlTask);
                                 mlModelManager.trackPredictDuration(modelId, startTime);
+                                if (resultCacheKey != null && isSuccessfulOutput(output.getOutput())) {
+                                    resultCache.put(resultCacheKey, resultCacheGeneration, output.getOutput());
+                                }
                                 internalListener.onResponse(output);
                                 // double durationInMs = (System.nanoTime() - startTime) / 1_000_000.0;
                                 // recordPredictMetrics(modelId, durationInMs, output, internalListener);
@@ -597,6 +624,10 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                         if (output instanceof ModelTensorOutput) {
                             validateOutputSchema(modelId, (ModelTensorOutput) output);
                         }
+                        // only outputs which passed validation are cached
+                        if (resultCacheKey != null && output != null) {
+                            cacheLocalResult(resultCache, resultCacheKey, resultCacheGeneration, output);
+                        }
                         // Once prediction complete, reduce ML_EXECUTING_TASK_COUNT and update task state
                         handleAsyncMLTaskComplete(mlTask);
                         internalListener.onResponse(new MLTaskResponse(output));
@@ -718,11 +749,11 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         if (mlModelManager.getModelInterface(modelId) != null && mlModelManager.getModelInterface(modelId).get("output") != null) {
             String outputSchemaString = mlModelManager.getModelInterface(modelId).get("output");
             try {
-                MLNodeUtils
-                    .validateSchema(
-                        outputSchemaString,
-                        output.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS).toString()
-                    );
+                JsonSchema outputSchema = mlModelManager.getModelInterfaceSchema(modelId, "output");
+                if (outputSchema == null) {
+                    outputSchema = MLNodeUtils.compileSchema(outputSchemaString);
+                }
+                MLNodeUtils.validateSchema(outputSchema, MLNodeUtils.toJsonNode(output));
             } catch (Exception e) {
                 throw new OpenSearchStatusException(
                     "Error validating output schema, if you think this is expected, please update your 'output' field in the 'interface' field for this model: "
@@ -733,6 +764,42 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         }
     }
 
+    /**
+     * Remote models return the status code of the connector's response instead of failing, only cache successful responses.
+     */
+    boolean isSuccessfulOutput(MLOutput output) {
+        if (output == null) {
+            return false;
+        }
+        if (output instanceof ModelTensorOutput && ((ModelTensorOutput) output).getMlModelOutputs() != null) {
+            for (ModelTensors modelTensors : ((ModelTensorOutput) output).getMlModelOutputs()) {
+                Integer statusCode = modelTensors.getStatusCode();
+                if (statusCode != null && (statusCode < 200 || statusCode >= 300)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A cached result is returned for the predictions of other tasks, so the task id of this one is not cached with it.
+     */
+    private void cacheLocalResult(InferenceResultCache resultCache, String resultCacheKey, long resultCacheGeneration, MLOutput output) {
+        if (!(output instanceof MLPredictionOutput)) {
+            resultCache.put(resultCacheKey, resultCacheGeneration, output);
+            return;
+        }
+        MLPredictionOutput predictionOutput = (MLPredictionOutput) output;
+        String taskId = predictionOutput.getTaskId();
+        predictionOutput.setTaskId(null);
+        try {
+            resultCache.put(resultCacheKey, resultCacheGeneration, predictionOutput);
+        } finally {
+            predictionOutput.setTaskId(taskId);
+        }
+    }
+
     boolean shouldTrackRemoteFailure(Exception e) {
         // Don't track failures for user configuration issues
         if (e instanceof IllegalArgumentException) {
@@ -6,17 +6,25 @@
 package org.opensearch.ml.task;
 
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_LOAD_REFRESH_INTERVAL_IN_MILLIS;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_POLICY;
 
+import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import javax.naming.LimitExceededException;
 
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Randomness;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.action.stats.MLStatsNodeResponse;
@@ -47,6 +55,11 @@ public class MLTaskDispatcher {
     private volatile Integer maxMLBatchTaskPerNode;
     private volatile String dispatchPolicy;
     private DiscoveryNodeHelper nodeHelper;
+    private volatile Integer loadRefreshIntervalInMillis;
+    // last known load of nodes for least load dispatching, keyed by node id
+    private final Map<String, NodeLoad> loadTable = new ConcurrentHashMap<>();
+    private volatile long loadTableRefreshTime;
+    private final AtomicBoolean loadTableRefreshing = new AtomicBoolean(false);
 
     public MLTaskDispatcher(ClusterService clusterService, Client client, Settings settings, DiscoveryNodeHelper nodeHelper) {
         this.clusterService = clusterService;
@@ -57,6 +70,10 @@ public class MLTaskDispatcher {
         this.dispatchPolicy = ML_COMMONS_TASK_DISPATCH_POLICY.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_TASK_DISPATCH_POLICY, it -> dispatchPolicy = it);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MAX_ML_TASK_PER_NODE, it -> maxMLBatchTaskPerNode = it);
+        this.loadRefreshIntervalInMillis = ML_COMMONS_TASK_DISPATCH_LOAD_REFRESH_INTERVAL_IN_MILLIS.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_TASK_DISPATCH_LOAD_REFRESH_INTERVAL_IN_MILLIS, it -> loadRefreshIntervalInMillis = it);
     }
 
     /**
@@ -105,18 +122,90 @@ public class MLTaskDispatcher {
     }
 
     private void dispatchTaskWithLeastLoad(DiscoveryNode[] nodes, ActionListener<DiscoveryNode> listener) {
+        if (loadRefreshIntervalInMillis > 0) {
+            NodeLoad[] loads = getCachedLoads(nodes);
+            if (loads != null) {
+                if (System.currentTimeMillis() - loadTableRefreshTime > loadRefreshIntervalInMillis) {
+                    refreshLoadTableInBackground();
+                }
+                selectLeastLoadNode(loads, listener);
+                return;
+            }
+        }
+        // load table is disabled or doesn't cover all candidate nodes yet, fetch their stats before dispatching
+        fetchNodeLoads(nodes, ActionListener.wrap(loads -> selectLeastLoadNode(loads, listener), exception -> {
+            log.error("Failed to get node's task stats", exception);
+            listener.onFailure(exception);
+        }));
+    }
+
+    private NodeLoad[] getCachedLoads(DiscoveryNode[] nodes) {
+        NodeLoad[] loads = new NodeLoad[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            loads[i] = loadTable.get(nodes[i].getId());
+            if (loads[i] == null) {
+                return null;
+            }
+        }
+        return loads;
+    }
+
+    private void refreshLoadTableInBackground() {
+        if (!loadTableRefreshing.compareAndSet(false, true)) {
+            return;
+        }
+        DiscoveryNode[] nodes = nodeHelper.getNodes(loadTable.keySet().toArray(new String[0]));
+        // forget nodes which left the cluster
+        Set<String> nodeIds = Arrays.stream(nodes).map(DiscoveryNode::getId).collect(Collectors.toSet());
+        loadTable.keySet().retainAll(nodeIds);
+        fetchNodeLoads(nodes, ActionListener.runAfter(ActionListener.wrap(loads -> {}, exception -> {
+            log.warn("Failed to refresh node load table for task dispatching", exception);
+        }), () -> loadTableRefreshing.set(false)));
+    }
+
+    private void fetchNodeLoads(DiscoveryNode[] nodes, ActionListener<NodeLoad[]> listener) {
         MLStatsNodesRequest MLStatsNodesRequest = new MLStatsNodesRequest(nodes);
         MLStatsNodesRequest.addNodeLevelStats(ImmutableSet.of(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, MLNodeLevelStat.ML_JVM_HEAP_USAGE));
 
         client.execute(MLStatsNodesAction.INSTANCE, MLStatsNodesRequest, ActionListener.wrap(mlStatsResponse -> {
+            List<MLStatsNodeResponse> nodeResponses = mlStatsResponse.getNodes();
+            NodeLoad[] loads = new NodeLoad[nodeResponses.size()];
+            for (int i = 0; i < loads.length; i++) {
+                MLStatsNodeResponse stat = nodeResponses.get(i);
+                loads[i] = new NodeLoad(
+                    stat.getNode(),
+                    (Long) stat.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT),
+                    (Long) stat.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE)
+                );
+            }
+            for (NodeLoad load : loads) {
+                loadTable.put(load.node.getId(), load);
+            }
+            loadTableRefreshTime = System.currentTimeMillis();
+            listener.onResponse(loads);
+        }, listener::onFailure));
+    }
+
+    /**
+     * Pick the least loaded node with power of two choices: compare two random candidates and take the one with fewer
+     * executing and recently dispatched tasks, falling back to a full scan only when neither of them can take the task.
+     */
+    private void selectLeastLoadNode(NodeLoad[] loads, ActionListener<DiscoveryNode> listener) {
+        NodeLoad target = null;
+        if (loads.length > 0) {
+            Random random = Randomness.get();
+            NodeLoad first = loads[random.nextInt(loads.length)];
+            NodeLoad second = loads.length == 1 ? first : loads[random.nextInt(loads.length)];
+            target = lessLoaded(isAvailable(first) ? first : null, isAvailable(second) ? second : null);
+        }
+        if (target == null) {
             // Check JVM pressure
-            List<MLStatsNodeResponse> candidateNodeResponse = mlStatsResponse
-                .getNodes()
-                .stream()
-                .filter(stat -> (long) stat.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE) < DEFAULT_JVM_HEAP_USAGE_THRESHOLD)
+            List<NodeLoad> candidateNodes = Arrays
+                .stream(loads)
+                .filter(load -> load.jvmHeapUsage < DEFAULT_JVM_HEAP_USAGE_THRESHOLD)
                 .collect(Collectors.toList());
 
-            if (candidateNodeResponse.size() == 0) {
+            if (candidateNodes.size() == 0) {
                 String errorMessage = "All nodes' memory usage exceeds limitation "
                     + DEFAULT_JVM_HEAP_USAGE_THRESHOLD
                     + ". No eligible node available to run ml jobs ";
@@ -126,37 +215,36 @@ public class MLTaskDispatcher {
             }
 
             // Check # of executing ML task
-            candidateNodeResponse = candidateNodeResponse
-                .stream()
-                .filter(stat -> (Long) stat.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT) < maxMLBatchTaskPerNode)
-                .collect(Collectors.toList());
-            if (candidateNodeResponse.size() == 0) {
+            candidateNodes = candidateNodes.stream().filter(this::isAvailable).collect(Collectors.toList());
+            if (candidateNodes.size() == 0) {
                 String errorMessage = "All nodes' executing ML task count reach limitation.";
                 log.warn(errorMessage);
                 listener.onFailure(new LimitExceededException(errorMessage));
                 return;
             }
+            target = candidateNodes.stream().reduce(this::lessLoaded).get();
+        }
+        // rank the node by its dispatches until the next refresh, so concurrent requests don't all pick the same node
+        target.dispatchedTaskCount.incrementAndGet();
+        listener.onResponse(target.node);
+    }
 
-            // sort nodes by JVM usage percentage and # of executing ML task
-            Optional<MLStatsNodeResponse> targetNode = candidateNodeResponse
-                .stream()
-                .sorted((MLStatsNodeResponse r1, MLStatsNodeResponse r2) -> {
-                    int result = ((Long) r1.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT))
-                        .compareTo((Long) r2.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT));
-                    if (result == 0) {
-                        // if multiple nodes have same running task count, choose the one with least
-                        // JVM heap usage.
-                        return ((Long) r1.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE))
-                            .compareTo((Long) r2.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE));
-                    }
-                    return result;
-                })
-                .findFirst();
-            listener.onResponse(targetNode.get().getNode());
-        }, exception -> {
-            log.error("Failed to get node's task stats", exception);
-            listener.onFailure(exception);
-        }));
+    private boolean isAvailable(NodeLoad load) {
+        // dispatched tasks may have completed already, only the reported executing tasks count against the limit
+        return load.jvmHeapUsage < DEFAULT_JVM_HEAP_USAGE_THRESHOLD && load.executingTaskCount < maxMLBatchTaskPerNode;
+    }
+
+    private NodeLoad lessLoaded(NodeLoad load1, NodeLoad load2) {
+        if (load1 == null || load2 == null) {
+            return load1 == null ? load2 : load1;
+        }
+        int result = Long.compare(load1.getRankingTaskCount(), load2.getRankingTaskCount());
+        if (result == 0) {
+            // if multiple nodes have same running task count, choose the one with least
+            // JVM heap usage.
+            result = Long.compare(load1.jvmHeapUsage, load2.jvmHeapUsage);
+        }
+        return result <= 0 ? load1 : load2;
     }
 
     private void dispatchTaskWithLeastLoad(FunctionName functionName, ActionListener<DiscoveryNode> listener) {
@@ -177,4 +265,20 @@ public class MLTaskDispatcher {
         dispatchTaskWithRoundRobin(eligibleNodes, listener);
     }
 
+    private static class NodeLoad {
+        private final DiscoveryNode node;
+        private final long executingTaskCount;
+        private final long jvmHeapUsage;
+        private final AtomicLong dispatchedTaskCount = new AtomicLong();
+
+        private NodeLoad(DiscoveryNode node, Long executingTaskCount, Long jvmHeapUsage) {
+            this.node = node;
+            this.executingTaskCount = executingTaskCount;
+            this.jvmHeapUsage = jvmHeapUsage;
+        }
+
+        private long getRankingTaskCount() {
+            return executingTaskCount + dispatchedTaskCount.get();
+        }
+    }
 }
@@ -10,6 +10,8 @@ import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_ROLE_NAME;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -25,11 +27,15 @@ import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.breaker.ThresholdCircuitBreaker;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStats;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
@@ -40,6 +46,8 @@ import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public class MLNodeUtils {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     public boolean isMLNode(DiscoveryNode node) {
         return node.getRoles().stream().anyMatch(role -> role.roleName().equalsIgnoreCase(ML_ROLE_NAME));
     }
@@ -68,28 +76,119 @@ public class MLNodeUtils {
     }
 
     public static void validateSchema(String schemaString, String instanceString) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
         // parse the schema JSON as string
-        JsonNode schemaNode = mapper.readTree(schemaString);
-        JsonSchema schema = JsonSchemaFactory.getInstance(VersionFlag.V202012).getSchema(schemaNode);
+        validateSchema(compileSchema(schemaString), instanceString);
+    }
 
+    public static void validateSchema(JsonSchema schema, String instanceString) throws IOException {
         // JSON data to validate
-        JsonNode jsonNode = mapper.readTree(instanceString);
+        validateSchema(schema, MAPPER.readTree(instanceString));
+    }
 
-        // Validate JSON node against the schema
+    /**
+     * Compile a JSON schema string, the returned schema is thread safe and can be reused across requests.
+     * @param schemaString JSON schema string
+     * @return compiled JSON schema
+     */
+    public static JsonSchema compileSchema(String schemaString) throws IOException {
+        JsonNode schemaNode = MAPPER.readTree(schemaString);
+        return JsonSchemaFactory.getInstance(VersionFlag.V202012).getSchema(schemaNode);
+    }
+
+    /**
+     * Validate a JSON tree against a compiled schema.
+     * @param schema compiled JSON schema
+     * @param jsonNode JSON data to validate
+     */
+    public static void validateSchema(JsonSchema schema, JsonNode jsonNode) {
         Set<ValidationMessage> errors = schema.validate(jsonNode);
         if (!errors.isEmpty()) {
             throw new OpenSearchParseException(
                 "Validation failed: "
                     + Arrays.toString(errors.toArray(new ValidationMessage[0]))
                     + " for instance: "
-                    + instanceString
+                    + jsonNode
                     + " with schema: "
-                    + schemaString
+                    + schema.getSchemaNode()
             );
         }
     }
 
+    /**
+     * Build the JSON tree of a model tensor output, same as parsing its XContent, without writing it to a string first.
+     * @param output model tensor output
+     * @return JSON tree of the output
+     */
+    public static JsonNode toJsonNode(ModelTensorOutput output) {
+        ObjectNode outputNode = MAPPER.createObjectNode();
+        List<ModelTensors> mlModelOutputs = output.getMlModelOutputs();
+        if (mlModelOutputs != null && !mlModelOutputs.isEmpty()) {
+            ArrayNode inferenceResults = outputNode.putArray(ModelTensorOutput.INFERENCE_RESULT_FIELD);
+            for (ModelTensors modelTensors : mlModelOutputs) {
+                inferenceResults.add(toJsonNode(modelTensors));
+            }
+        }
+        return outputNode;
+    }
+
+    private static JsonNode toJsonNode(ModelTensors modelTensors) {
+        ObjectNode tensorsNode = MAPPER.createObjectNode();
+        List<ModelTensor> tensors = modelTensors.getMlModelTensors();
+        if (tensors != null && !tensors.isEmpty()) {
+            ArrayNode outputs = tensorsNode.putArray(ModelTensors.OUTPUT_FIELD);
+            for (ModelTensor tensor : tensors) {
+                outputs.add(toJsonNode(tensor));
+            }
+        }
+        if (modelTensors.getStatusCode() != null) {
+            tensorsNode.put(ModelTensors.STATUS_CODE_FIELD, modelTensors.getStatusCode());
+        }
+        return tensorsNode;
+    }
+
+    private static JsonNode toJsonNode(ModelTensor tensor) {
+        ObjectNode tensorNode = MAPPER.createObjectNode();
+        if (tensor.getName() != null) {
+            tensorNode.put(ModelTensor.NAME_FIELD, tensor.getName());
+        }
+        if (tensor.getDataType() != null) {
+            tensorNode.put(ModelTensor.DATA_TYPE_FIELD, tensor.getDataType().toString());
+        }
+        if (tensor.getShape() != null) {
+            ArrayNode shape = tensorNode.putArray(ModelTensor.SHAPE_FIELD);
+            for (long dimension : tensor.getShape()) {
+                shape.add(dimension);
+            }
+        }
+        // same order as ModelTensor.toXContent, primitive data is added without boxing it through getData()
+        if (tensor.getFloatData() != null) {
+            ArrayNode data = tensorNode.putArray(ModelTensor.DATA_FIELD);
+            for (float value : tensor.getFloatData()) {
+                data.add(value);
+            }
+        } else if (tensor.getIntData() != null) {
+            ArrayNode data = tensorNode.putArray(ModelTensor.DATA_FIELD);
+            for (int value : tensor.getIntData()) {
+                data.add(value);
+            }
+        } else if (tensor.getData() != null) {
+            tensorNode.set(ModelTensor.DATA_FIELD, MAPPER.valueToTree(tensor.getData()));
+        }
+        if (tensor.getByteBuffer() != null) {
+            ObjectNode byteBuffer = tensorNode.putObject(ModelTensor.BYTE_BUFFER_FIELD);
+            // XContent writes binary values as base64 strings
+            byteBuffer.put(ModelTensor.BYTE_BUFFER_ARRAY_FIELD, Base64.getEncoder().encodeToString(tensor.getByteBuffer().array()));
+            byteBuffer.put(ModelTensor.BYTE_BUFFER_ORDER_FIELD, tensor.getByteBuffer().order().toString());
+        }
+        if (tensor.getResult() != null) {
+            tensorNode.put(ModelTensor.RESULT_FIELD, tensor.getResult());
+        }
+        if (tensor.getDataAsMap() != null) {
+            tensorNode.set(ModelTensor.DATA_AS_MAP_FIELD, MAPPER.valueToTree(tensor.getDataAsMap()));
+        }
+        return tensorNode;
+    }
+
     /**
      * This method processes the input JSON string and replaces the string values of the parameters with JSON objects if the string is a valid JSON, unless the schema defines the value as a string.
      * @param inputJson The input JSON string
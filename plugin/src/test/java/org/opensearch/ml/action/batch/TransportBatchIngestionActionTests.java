@@ -9,6 +9,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
@@ -17,10 +18,12 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.MLTask.ERROR_FIELD;
+import static org.opensearch.ml.common.MLTask.RESPONSE_FIELD;
 import static org.opensearch.ml.common.MLTask.STATE_FIELD;
 import static org.opensearch.ml.common.MLTaskState.COMPLETED;
 import static org.opensearch.ml.common.MLTaskState.FAILED;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_BATCH_INGESTION_BULK_SIZE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_BATCH_INGESTION_MAX_IN_FLIGHT_BULKS;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_BATCH_INGESTION_TASKS;
 import static org.opensearch.ml.engine.ingest.S3DataIngestion.SOURCE;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.INGEST_THREAD_POOL;
@@ -30,6 +33,7 @@ import static org.opensearch.ml.utils.TestHelper.clusterSetting;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 
@@ -52,6 +56,7 @@ import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.batch.MLBatchIngestionInput;
 import org.opensearch.ml.common.transport.batch.MLBatchIngestionRequest;
 import org.opensearch.ml.common.transport.batch.MLBatchIngestionResponse;
+import org.opensearch.ml.engine.ingest.SourceIngestionStats;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.task.MLTaskManager;
 import org.opensearch.tasks.Task;
@@ -102,6 +107,7 @@ public class TransportBatchIngestionActionTests extends OpenSearchTestCase {
         ClusterSettings clusterSettings = clusterSetting(
             settings,
             ML_COMMONS_BATCH_INGESTION_BULK_SIZE,
+            ML_COMMONS_BATCH_INGESTION_MAX_IN_FLIGHT_BULKS,
             ML_COMMONS_MAX_BATCH_INGESTION_TASKS
         );
         when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
@@ -233,6 +239,25 @@ public class TransportBatchIngestionActionTests extends OpenSearchTestCase {
             );
     }
 
+    public void test_reportIngestionProgress() {
+        SourceIngestionStats stats = new SourceIngestionStats("s3://bucket/file");
+        stats.getLinesRead().addAndGet(200);
+        stats.getLinesIngested().addAndGet(100);
+        stats.getSuccessfulBatches().incrementAndGet();
+
+        batchAction.reportIngestionProgress("taskid", List.of(stats));
+
+        ArgumentCaptor<Map<String, Object>> argumentCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(mlTaskManager).updateMLTaskDirectly(eq("taskid"), argumentCaptor.capture());
+        Map<String, Object> response = (Map<String, Object>) argumentCaptor.getValue().get(RESPONSE_FIELD);
+        List<Map<String, Object>> sources = (List<Map<String, Object>>) response.get("sources");
+        assertEquals(1, sources.size());
+        assertEquals("s3://bucket/file", sources.get(0).get(SourceIngestionStats.SOURCE_FIELD));
+        assertEquals(200L, sources.get(0).get(SourceIngestionStats.LINES_READ_FIELD));
+        assertEquals(100L, sources.get(0).get(SourceIngestionStats.LINES_INGESTED_FIELD));
+        assertEquals(false, sources.get(0).get(SourceIngestionStats.COMPLETED_FIELD));
+    }
+
     public void test_doExecute_batchIngestionDisabled() {
         when(mlFeatureEnabledSetting.isOfflineBatchIngestionEnabled()).thenReturn(false);
         batchAction.doExecute(task, mlBatchIngestionRequest, actionListener);
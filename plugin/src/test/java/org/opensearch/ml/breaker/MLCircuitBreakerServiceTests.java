@@ -5,6 +5,11 @@
 
 package org.opensearch.ml.breaker;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_DISK_FREE_SPACE_THRESHOLD;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_JVM_HEAP_MEM_THRESHOLD;
@@ -13,6 +18,7 @@ import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_NAT
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -26,6 +32,8 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.monitor.jvm.JvmService;
 import org.opensearch.monitor.jvm.JvmStats;
 import org.opensearch.monitor.os.OsService;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
 
 public class MLCircuitBreakerServiceTests {
 
@@ -126,4 +134,69 @@ public class MLCircuitBreakerServiceTests {
         Assert.assertEquals("Memory Circuit Breaker", mlCircuitBreakerService.checkOpenCB().getName());
     }
 
+    @Test
+    public void testSampledState_Hysteresis() {
+        when(jvmService.stats()).thenReturn(jvmStats);
+        when(jvmStats.getMem()).thenReturn(mem);
+        when(mem.getHeapUsedPercent()).thenReturn((short) 90);
+        ThreadPool threadPool = mock(ThreadPool.class);
+        Scheduler.Cancellable cancellable = mock(Scheduler.Cancellable.class);
+        when(threadPool.scheduleWithFixedDelay(any(), any(), any())).thenReturn(cancellable);
+
+        mlCircuitBreakerService.registerBreaker(BreakerName.MEMORY, new MemoryCircuitBreaker(jvmService));
+        mlCircuitBreakerService.startSampling(threadPool);
+        verify(jvmService, times(1)).stats();
+        Assert.assertEquals("Memory Circuit Breaker", mlCircuitBreakerService.checkOpenCB().getName());
+
+        // the request path only reads the sampled state
+        when(mem.getHeapUsedPercent()).thenReturn((short) 50);
+        Assert.assertNotNull(mlCircuitBreakerService.checkOpenCB());
+        verify(jvmService, times(1)).stats();
+
+        // the breaker closes only after it was closed in consecutive samples
+        for (int i = 1; i < MLCircuitBreakerService.CLOSE_AFTER_SAMPLES; i++) {
+            mlCircuitBreakerService.sampleBreakers();
+            Assert.assertNotNull(mlCircuitBreakerService.checkOpenCB());
+        }
+        mlCircuitBreakerService.sampleBreakers();
+        Assert.assertNull(mlCircuitBreakerService.checkOpenCB());
+
+        mlCircuitBreakerService.stopSampling();
+        verify(cancellable, times(1)).cancel();
+    }
+
+    @Test
+    public void testSampledState_SampleFailureKeepsState() {
+        CircuitBreaker breaker = mock(ThresholdCircuitBreaker.class);
+        when(breaker.isOpen()).thenReturn(true);
+        mlCircuitBreakerService.registerBreaker(BreakerName.DISK, breaker);
+        mlCircuitBreakerService.sampleBreakers();
+        Assert.assertNotNull(mlCircuitBreakerService.checkOpenCB());
+
+        when(breaker.isOpen()).thenThrow(new RuntimeException("Failed to run disk circuit breaker"));
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.scheduleWithFixedDelay(any(), any(), any())).thenReturn(mock(Scheduler.Cancellable.class));
+        mlCircuitBreakerService.startSampling(threadPool);
+        Assert.assertSame(breaker, mlCircuitBreakerService.checkOpenCB());
+    }
+
+    @Test
+    public void testSampledState_StaleSampleChecksBreakers() {
+        when(jvmService.stats()).thenReturn(jvmStats);
+        when(jvmStats.getMem()).thenReturn(mem);
+        when(mem.getHeapUsedPercent()).thenReturn((short) 50);
+        AtomicLong clock = new AtomicLong();
+        mlCircuitBreakerService.setNanoClock(clock::get);
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.scheduleWithFixedDelay(any(), any(), eq(ThreadPool.Names.GENERIC))).thenReturn(mock(Scheduler.Cancellable.class));
+
+        mlCircuitBreakerService.registerBreaker(BreakerName.MEMORY, new MemoryCircuitBreaker(jvmService));
+        mlCircuitBreakerService.startSampling(threadPool);
+        when(mem.getHeapUsedPercent()).thenReturn((short) 90);
+        Assert.assertNull(mlCircuitBreakerService.checkOpenCB());
+
+        // the scheduled sampling stopped, requests check the breakers themselves
+        clock.addAndGet(MLCircuitBreakerService.MAX_SAMPLE_AGE_NANOS + 1);
+        Assert.assertEquals("Memory Circuit Breaker", mlCircuitBreakerService.checkOpenCB().getName());
+    }
 }
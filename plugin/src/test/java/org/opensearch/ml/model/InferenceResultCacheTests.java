@@ -0,0 +1,115 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.util.List;
+
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.profile.MLResultCacheStats;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class InferenceResultCacheTests extends OpenSearchTestCase {
+
+    private InferenceResultCache resultCache;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        resultCache = new InferenceResultCache("1", 1024 * 1024, 10);
+    }
+
+    public void testGetAndPut() {
+        String key = resultCache.key(textDocsInput("hello"));
+        assertNull(resultCache.get(key));
+
+        resultCache.put(key, resultCache.generation(), embeddingOutput(0.5f));
+        ModelTensorOutput cached = (ModelTensorOutput) resultCache.get(key);
+        assertArrayEquals(new float[] { 0.5f }, cached.getMlModelOutputs().get(0).getMlModelTensors().get(0).getFloatData(), 0);
+
+        // every hit returns a copy
+        cached.getMlModelOutputs().clear();
+        assertEquals(1, ((ModelTensorOutput) resultCache.get(key)).getMlModelOutputs().size());
+
+        MLResultCacheStats stats = resultCache.getStats();
+        assertEquals(2, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getEntryCount());
+        assertTrue(stats.getSizeInBytes() > 0);
+    }
+
+    public void testKey() {
+        assertEquals(resultCache.key(textDocsInput("hello")), resultCache.key(textDocsInput("hello")));
+        assertNotEquals(resultCache.key(textDocsInput("hello")), resultCache.key(textDocsInput("world")));
+    }
+
+    public void testInvalidateAll() {
+        String key = resultCache.key(textDocsInput("hello"));
+        resultCache.put(key, resultCache.generation(), embeddingOutput(0.5f));
+        assertNotNull(resultCache.get(key));
+
+        resultCache.invalidateAll();
+        assertNull(resultCache.get(key));
+        MLResultCacheStats stats = resultCache.getStats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(0, stats.getEntryCount());
+    }
+
+    public void testPut_SkipsResultPredictedBeforeInvalidateAll() {
+        String key = resultCache.key(textDocsInput("hello"));
+        long generation = resultCache.generation();
+
+        // the model is updated while the prediction is running
+        resultCache.invalidateAll();
+        resultCache.put(key, generation, embeddingOutput(0.5f));
+        assertNull(resultCache.get(key));
+
+        resultCache.put(key, resultCache.generation(), embeddingOutput(0.5f));
+        assertNotNull(resultCache.get(key));
+    }
+
+    public void testPut_EvictsWhenFull() {
+        InferenceResultCache smallCache = new InferenceResultCache("1", 1024, 10);
+        for (int i = 0; i < 100; i++) {
+            smallCache.put(smallCache.key(textDocsInput("doc" + i)), smallCache.generation(), embeddingOutput(i));
+        }
+        assertTrue(smallCache.getStats().getSizeInBytes() <= 1024);
+        assertNotNull(smallCache.get(smallCache.key(textDocsInput("doc99"))));
+    }
+
+    public void testHasConfig() {
+        assertTrue(resultCache.hasConfig("1", 1024 * 1024, 10));
+        assertFalse(resultCache.hasConfig("2", 1024 * 1024, 10));
+        assertFalse(resultCache.hasConfig("1", 1024, 10));
+        assertFalse(resultCache.hasConfig("1", 1024 * 1024, 5));
+    }
+
+    private MLInput textDocsInput(String doc) {
+        return MLInput
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .inputDataset(TextDocsInputDataSet.builder().docs(List.of(doc)).build())
+            .build();
+    }
+
+    private MLOutput embeddingOutput(float value) {
+        ModelTensor tensor = ModelTensor
+            .builder()
+            .name("sentence_embedding")
+            .floatData(new float[] { value })
+            .shape(new long[] { 1 })
+            .dataType(MLResultDataType.FLOAT32)
+            .build();
+        return ModelTensorOutput.builder().mlModelOutputs(List.of(new ModelTensors(List.of(tensor)))).build();
+    }
+}
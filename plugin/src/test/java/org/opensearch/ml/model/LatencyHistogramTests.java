@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.opensearch.ml.profile.MLPredictRequestStats;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class LatencyHistogramTests extends OpenSearchTestCase {
+
+    public void testRecord_KeepsMostRecentDurations() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertNull(histogram.getStats());
+
+        for (int i = 1; i <= 2000; i++) {
+            histogram.record(i, 1000);
+        }
+        MLPredictRequestStats stats = histogram.getStats();
+        assertEquals(1000, stats.getCount().longValue());
+        assertEquals(1001, stats.getMin(), 1e-5);
+        assertEquals(2000, stats.getMax(), 1e-5);
+        assertEquals(1500.5, stats.getAverage(), 1e-5);
+        assertEquals(1500, stats.getP50(), 1500 * 0.01);
+        assertEquals(1900, stats.getP90(), 1900 * 0.01);
+        assertEquals(1990, stats.getP99(), 1990 * 0.01);
+    }
+
+    public void testRecord_SingleDuration() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(12.3, 10);
+
+        MLPredictRequestStats stats = histogram.getStats();
+        assertEquals(1, stats.getCount().longValue());
+        assertEquals(12.3, stats.getP50(), 1e-9);
+        assertEquals(12.3, stats.getP99(), 1e-9);
+    }
+
+    public void testRecord_ZeroAndLargeDurations() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(0, 10);
+        histogram.record(1e9, 10);
+        histogram.record(Double.NaN, 10);
+
+        MLPredictRequestStats stats = histogram.getStats();
+        assertEquals(2, stats.getCount().longValue());
+        assertEquals(0, stats.getMin(), 1e-9);
+        assertEquals(1e9, stats.getMax(), 1e-9);
+        assertEquals(1e9, stats.getP99(), 1e-9);
+    }
+
+    public void testRecord_AcrossChunks() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        int capacity = 2 * LatencyHistogram.CHUNK_SIZE + 5;
+        histogram.record(1, capacity);
+        assertEquals(1, histogram.getStats().getCount().longValue());
+
+        for (int i = 2; i <= 3 * LatencyHistogram.CHUNK_SIZE; i++) {
+            histogram.record(i, capacity);
+        }
+        MLPredictRequestStats stats = histogram.getStats();
+        assertEquals(capacity, stats.getCount().longValue());
+        assertEquals(3 * LatencyHistogram.CHUNK_SIZE - capacity + 1, stats.getMin(), 1e-5);
+        assertEquals(3 * LatencyHistogram.CHUNK_SIZE, stats.getMax(), 1e-5);
+    }
+
+    public void testResize() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(i, 10);
+        }
+
+        histogram.resize(4);
+        MLPredictRequestStats stats = histogram.getStats();
+        assertEquals(4, stats.getCount().longValue());
+        assertEquals(7, stats.getMin(), 1e-5);
+        assertEquals(10, stats.getMax(), 1e-5);
+
+        histogram.resize(0);
+        assertNull(histogram.getStats());
+        histogram.record(1, 0);
+        assertNull(histogram.getStats());
+    }
+
+    public void testClear() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1, 10);
+        histogram.clear();
+        assertNull(histogram.getStats());
+    }
+
+    public void testRecord_Concurrently() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    histogram.record(5, 100);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        MLPredictRequestStats stats = histogram.getStats();
+        assertEquals(100, stats.getCount().longValue());
+        assertEquals(5, stats.getP50(), 1e-9);
+    }
+
+    public void testBucketIndex() {
+        assertEquals(0, LatencyHistogram.bucketIndex(0));
+        assertEquals(0, LatencyHistogram.bucketIndex(-1));
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Double.POSITIVE_INFINITY));
+        for (double value = 0.01; value < 1e6; value *= 1.37) {
+            double midpoint = LatencyHistogram.bucketMidpoint(LatencyHistogram.bucketIndex(value));
+            assertEquals(value, midpoint, value * 0.01);
+        }
+    }
+}
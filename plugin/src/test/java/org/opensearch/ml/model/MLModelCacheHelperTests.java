@@ -10,6 +10,7 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_INFERENCE_RESULT_CACHE_SIZE_IN_MB;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT;
 import static org.opensearch.ml.utils.TestHelper.clusterSetting;
 
@@ -31,9 +32,13 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.TokenBucket;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.exception.MLLimitExceededException;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.model.MLDeploySetting;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel;
 import org.opensearch.ml.profile.MLModelProfile;
@@ -73,7 +78,11 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         MockitoAnnotations.openMocks(this);
         maxMonitoringRequests = 10;
         settings = Settings.builder().put(ML_COMMONS_MONITORING_REQUEST_COUNT.getKey(), maxMonitoringRequests).build();
-        ClusterSettings clusterSettings = clusterSetting(settings, ML_COMMONS_MONITORING_REQUEST_COUNT);
+        ClusterSettings clusterSettings = clusterSetting(
+            settings,
+            ML_COMMONS_MONITORING_REQUEST_COUNT,
+            ML_COMMONS_INFERENCE_RESULT_CACHE_SIZE_IN_MB
+        );
         clusterService = spy(new ClusterService(settings, clusterSettings, null, clusterApplierService));
 
         when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
@@ -132,6 +141,23 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
     }
 
+    public void testModelInterfaceSchema() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.REMOTE, targetWorkerNodes, true);
+        assertNull(cacheHelper.getModelInterfaceSchema(modelId, "output"));
+        Map<String, String> modelInterface = new HashMap<>();
+        modelInterface.put("input", "{\"type\": \"object\"}");
+        modelInterface.put("output", "{\"type\": \"object\", \"required\": [\"inference_results\"]}");
+        modelInterface.put("invalid", "not a schema");
+        cacheHelper.setModelInterface(modelId, modelInterface);
+        assertNotNull(cacheHelper.getModelInterfaceSchema(modelId, "input"));
+        assertNotNull(cacheHelper.getModelInterfaceSchema(modelId, "output"));
+        assertNull(cacheHelper.getModelInterfaceSchema(modelId, "invalid"));
+
+        cacheHelper.removeModelInterface(modelId);
+        assertNull(cacheHelper.getModelInterface(modelId));
+        assertNull(cacheHelper.getModelInterfaceSchema(modelId, "output"));
+    }
+
     public void testPredictor() {
         cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
         assertNull(cacheHelper.getPredictor(modelId));
@@ -381,6 +407,41 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertEquals(maxMonitoringRequests, predictStats.getCount().longValue());
     }
 
+    public void testResultCache() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYED, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        cacheHelper.setPredictor(modelId, predictor);
+        MLModel mlModel = MLModel.builder().modelId(modelId).version("1").build();
+        cacheHelper.setModelInfo(modelId, mlModel);
+        assertNull(cacheHelper.getResultCache(modelId));
+
+        mlModel = mlModel.toBuilder().deploySetting(MLDeploySetting.builder().resultCacheTTLInMinutes(10L).build()).build();
+        cacheHelper.setModelInfo(modelId, mlModel);
+        InferenceResultCache resultCache = cacheHelper.getResultCache(modelId);
+        assertNotNull(resultCache);
+        assertSame(resultCache, cacheHelper.getResultCache(modelId));
+        MLInput mlInput = MLInput
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .inputDataset(TextDocsInputDataSet.builder().docs(List.of("hello")).build())
+            .build();
+        String key = resultCache.key(mlInput);
+        assertNull(resultCache.get(key));
+        resultCache.put(key, ModelTensorOutput.builder().mlModelOutputs(new ArrayList<>()).build());
+        assertNotNull(resultCache.get(key));
+        assertEquals(1, cacheHelper.getModelProfile(modelId).getResultCacheStats().getHitCount());
+        assertEquals(1, cacheHelper.getModelProfile(modelId).getResultCacheStats().getMissCount());
+
+        cacheHelper.clearResultCache(modelId);
+        assertNull(resultCache.get(key));
+
+        // a new model version gets a new cache
+        cacheHelper.setModelInfo(modelId, mlModel.toBuilder().version("2").build());
+        assertNotSame(resultCache, cacheHelper.getResultCache(modelId));
+
+        cacheHelper.removeModel(modelId);
+        assertNull(cacheHelper.getResultCache(modelId));
+    }
+
     public void testGetModelProfile_Deploying() {
         cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
         MLModelProfile modelProfile = cacheHelper.getModelProfile(modelId);
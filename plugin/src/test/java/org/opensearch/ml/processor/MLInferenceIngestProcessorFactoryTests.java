@@ -5,6 +5,7 @@
 package org.opensearch.ml.processor;
 
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.*;
+import static org.opensearch.ml.processor.MLInferenceIngestProcessor.BATCH_SIZE;
 import static org.opensearch.ml.processor.MLInferenceIngestProcessor.FULL_RESPONSE_PATH;
 import static org.opensearch.ml.processor.MLInferenceIngestProcessor.FUNCTION_NAME;
 import static org.opensearch.ml.processor.MLInferenceIngestProcessor.MODEL_INPUT;
@@ -69,6 +70,7 @@ public class MLInferenceIngestProcessorFactoryTests extends OpenSearchTestCase {
         config.put(INPUT_MAP, inputMap);
         config.put(OUTPUT_MAP, outputMap);
         config.put(MAX_PREDICTION_TASKS, 5);
+        config.put(BATCH_SIZE, 16);
         String processorTag = randomAlphaOfLength(10);
         MLInferenceIngestProcessor mLInferenceIngestProcessor = factory.create(registry, processorTag, null, config);
         assertNotNull(mLInferenceIngestProcessor);
@@ -86,6 +88,20 @@ public class MLInferenceIngestProcessorFactoryTests extends OpenSearchTestCase {
         }
     }
 
+    public void testInvalidBatchSize() throws Exception {
+        Map<String, Processor.Factory> registry = new HashMap<>();
+        Map<String, Object> config = new HashMap<>();
+        config.put(MODEL_ID, "model1");
+        config.put(BATCH_SIZE, 0);
+        String processorTag = randomAlphaOfLength(10);
+
+        IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> factory.create(registry, processorTag, null, config)
+        );
+        assertEquals("The batch_size of ML inference processor must be a positive integer.", e.getMessage());
+    }
+
     public void testExceedMaxPredictionTasks() throws Exception {
         Map<String, Processor.Factory> registry = new HashMap<>();
         Map<String, Object> config = new HashMap<>();
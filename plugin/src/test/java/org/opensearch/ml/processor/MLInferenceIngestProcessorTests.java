@@ -30,7 +30,9 @@ import org.mockito.MockitoAnnotations;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.model.MLResultDataType;
@@ -2145,6 +2147,218 @@ public class MLInferenceIngestProcessorTests extends OpenSearchTestCase {
         assertEquals(6.0, meanPooled.get(2), 0.001); // (3+6+9)/3
     }
 
+    public void testBatchExecute_BatchesTextDocsOfDocuments() {
+        MLInferenceIngestProcessor processor = createBatchingMLInferenceProcessor(10);
+        List<IngestDocumentWrapper> wrappers = createTextDocumentWrappers(3);
+        List<MLPredictionTaskRequest> requests = new ArrayList<>();
+        doAnswer(invocation -> {
+            MLPredictionTaskRequest request = invocation.getArgument(1);
+            requests.add(request);
+            List<String> docs = ((TextDocsInputDataSet) request.getMlInput().getInputDataset()).getDocs();
+            List<ModelTensors> outputs = new ArrayList<>();
+            for (String doc : docs) {
+                ModelTensor tensor = ModelTensor.builder().dataAsMap(Map.of("response", doc + "_embedding")).build();
+                outputs.add(ModelTensors.builder().mlModelTensors(List.of(tensor)).build());
+            }
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(ModelTensorOutput.builder().mlModelOutputs(outputs).build()).build());
+            return null;
+        }).when(client).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+
+        List<List<IngestDocumentWrapper>> results = new ArrayList<>();
+        processor.batchExecute(wrappers, results::add);
+
+        assertEquals(1, requests.size());
+        assertEquals(List.of("text0", "text1", "text2"), ((TextDocsInputDataSet) requests.get(0).getMlInput().getInputDataset()).getDocs());
+        assertEquals(1, results.size());
+        assertEquals(3, results.get(0).size());
+        for (int i = 0; i < 3; i++) {
+            IngestDocumentWrapper result = results.get(0).get(i);
+            assertEquals(i, result.getSlot());
+            assertNull(result.getException());
+            assertEquals("text" + i + "_embedding", result.getIngestDocument().getFieldValue("text_embedding", String.class));
+        }
+    }
+
+    public void testBatchExecute_SplitsByBatchSize() {
+        MLInferenceIngestProcessor processor = createBatchingMLInferenceProcessor(2);
+        List<IngestDocumentWrapper> wrappers = createTextDocumentWrappers(3);
+        List<MLPredictionTaskRequest> requests = new ArrayList<>();
+        doAnswer(invocation -> {
+            MLPredictionTaskRequest request = invocation.getArgument(1);
+            requests.add(request);
+            List<String> docs = ((TextDocsInputDataSet) request.getMlInput().getInputDataset()).getDocs();
+            // a single result with one tensor per doc, as remote models embedding all docs in one call return
+            List<ModelTensor> tensors = new ArrayList<>();
+            for (String doc : docs) {
+                tensors.add(ModelTensor.builder().dataAsMap(Map.of("response", doc + "_embedding")).build());
+            }
+            ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(tensors).build();
+            ModelTensorOutput output = ModelTensorOutput.builder().mlModelOutputs(List.of(modelTensors)).build();
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(output).build());
+            return null;
+        }).when(client).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+
+        List<List<IngestDocumentWrapper>> results = new ArrayList<>();
+        processor.batchExecute(wrappers, results::add);
+
+        assertEquals(2, requests.size());
+        assertEquals(1, results.size());
+        for (int i = 0; i < 3; i++) {
+            IngestDocument document = results.get(0).get(i).getIngestDocument();
+            assertEquals("text" + i + "_embedding", document.getFieldValue("text_embedding", String.class));
+        }
+    }
+
+    public void testBatchExecute_SplitsOutputsOfConnectorSteps() {
+        MLInferenceIngestProcessor processor = createBatchingMLInferenceProcessor(10);
+        List<IngestDocumentWrapper> wrappers = createTextDocumentWrappers(3);
+        List<MLPredictionTaskRequest> requests = new ArrayList<>();
+        doAnswer(invocation -> {
+            MLPredictionTaskRequest request = invocation.getArgument(1);
+            requests.add(request);
+            List<String> docs = ((TextDocsInputDataSet) request.getMlInput().getInputDataset()).getDocs();
+            // a connector with an input_docs_processed_step_size of 2 returns one result per step of 2 docs
+            List<ModelTensors> outputs = new ArrayList<>();
+            for (int i = 0; i < docs.size(); i += 2) {
+                List<ModelTensor> tensors = new ArrayList<>();
+                for (String doc : docs.subList(i, Math.min(i + 2, docs.size()))) {
+                    tensors.add(ModelTensor.builder().dataAsMap(Map.of("response", doc + "_embedding")).build());
+                }
+                outputs.add(ModelTensors.builder().mlModelTensors(tensors).build());
+            }
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(ModelTensorOutput.builder().mlModelOutputs(outputs).build()).build());
+            return null;
+        }).when(client).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+
+        List<List<IngestDocumentWrapper>> results = new ArrayList<>();
+        processor.batchExecute(wrappers, results::add);
+
+        assertEquals(1, requests.size());
+        assertEquals(1, results.size());
+        for (int i = 0; i < 3; i++) {
+            IngestDocument document = results.get(0).get(i).getIngestDocument();
+            assertEquals("text" + i + "_embedding", document.getFieldValue("text_embedding", String.class));
+        }
+    }
+
+    public void testBatchExecute_PredictsPerDocumentWhenOutputCannotBeSplit() {
+        MLInferenceIngestProcessor processor = createBatchingMLInferenceProcessor(10);
+        List<MLPredictionTaskRequest> requests = new ArrayList<>();
+        doAnswer(invocation -> {
+            MLPredictionTaskRequest request = invocation.getArgument(1);
+            requests.add(request);
+            List<String> docs = ((TextDocsInputDataSet) request.getMlInput().getInputDataset()).getDocs();
+            ModelTensor tensor = ModelTensor.builder().dataAsMap(Map.of("response", String.join(",", docs) + "_embedding")).build();
+            ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(List.of(tensor)).build();
+            ModelTensorOutput output = ModelTensorOutput.builder().mlModelOutputs(List.of(modelTensors)).build();
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(output).build());
+            return null;
+        }).when(client).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+
+        List<List<IngestDocumentWrapper>> results = new ArrayList<>();
+        processor.batchExecute(createTextDocumentWrappers(3), results::add);
+
+        // the batched prediction and one prediction per document
+        assertEquals(4, requests.size());
+        assertEquals(1, results.size());
+        for (int i = 0; i < 3; i++) {
+            IngestDocumentWrapper result = results.get(0).get(i);
+            assertNull(result.getException());
+            assertEquals("text" + i + "_embedding", result.getIngestDocument().getFieldValue("text_embedding", String.class));
+        }
+
+        // later bulks are not batched again
+        requests.clear();
+        processor.batchExecute(createTextDocumentWrappers(3), results::add);
+        assertEquals(3, requests.size());
+        for (MLPredictionTaskRequest request : requests) {
+            assertEquals(1, ((TextDocsInputDataSet) request.getMlInput().getInputDataset()).getDocs().size());
+        }
+    }
+
+    public void testBatchExecute_SmallerStepSizeSendsPerDocument() {
+        MLInferenceIngestProcessor processor = createBatchingMLInferenceProcessor(10, Map.of("input_docs_processed_step_size", "2"));
+        List<IngestDocumentWrapper> wrappers = createTextDocumentWrappers(3);
+        List<MLPredictionTaskRequest> requests = new ArrayList<>();
+        doAnswer(invocation -> {
+            MLPredictionTaskRequest request = invocation.getArgument(1);
+            requests.add(request);
+            List<String> docs = ((TextDocsInputDataSet) request.getMlInput().getInputDataset()).getDocs();
+            ModelTensor tensor = ModelTensor.builder().dataAsMap(Map.of("response", docs.get(0) + "_embedding")).build();
+            ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(List.of(tensor)).build();
+            ModelTensorOutput output = ModelTensorOutput.builder().mlModelOutputs(List.of(modelTensors)).build();
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(output).build());
+            return null;
+        }).when(client).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+
+        processor.batchExecute(wrappers, results -> {});
+
+        assertEquals(3, requests.size());
+        for (MLPredictionTaskRequest request : requests) {
+            assertEquals(1, ((TextDocsInputDataSet) request.getMlInput().getInputDataset()).getDocs().size());
+        }
+    }
+
+    public void testBatchExecute_BatchedPredictionFails() {
+        MLInferenceIngestProcessor processor = createBatchingMLInferenceProcessor(10);
+        List<IngestDocumentWrapper> wrappers = createTextDocumentWrappers(2);
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onFailure(new RuntimeException("model failed"));
+            return null;
+        }).when(client).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+
+        List<List<IngestDocumentWrapper>> results = new ArrayList<>();
+        processor.batchExecute(wrappers, results::add);
+
+        assertEquals(1, results.size());
+        for (IngestDocumentWrapper result : results.get(0)) {
+            assertNull(result.getIngestDocument());
+            assertEquals("model failed", result.getException().getMessage());
+        }
+    }
+
+    private MLInferenceIngestProcessor createBatchingMLInferenceProcessor(int batchSize) {
+        return createBatchingMLInferenceProcessor(batchSize, null);
+    }
+
+    private MLInferenceIngestProcessor createBatchingMLInferenceProcessor(int batchSize, Map<String, String> modelConfigMaps) {
+        return new MLInferenceIngestProcessor(
+            "model1",
+            List.of(Map.of("text_docs", "text")),
+            List.of(Map.of("text_embedding", "$.inference_results[0].output[0].dataAsMap.response")),
+            modelConfigMaps,
+            RANDOM_MULTIPLIER,
+            PROCESSOR_TAG,
+            DESCRIPTION,
+            false,
+            "text_embedding",
+            true,
+            false,
+            false,
+            "{ \"text_docs\": [${ml_inference.text_docs}] }",
+            batchSize,
+            scriptService,
+            client,
+            xContentRegistry
+        );
+    }
+
+    private List<IngestDocumentWrapper> createTextDocumentWrappers(int count) {
+        List<IngestDocumentWrapper> wrappers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> sourceAndMetadata = new HashMap<>();
+            sourceAndMetadata.put("text", "text" + i);
+            wrappers.add(new IngestDocumentWrapper(i, new IngestDocument(sourceAndMetadata, new HashMap<>()), null));
+        }
+        return wrappers;
+    }
+
     private static List<Map<String, String>> getInputMapsForNestedObjectChunks(String documentFieldPath) {
         List<Map<String, String>> inputMap = new ArrayList<>();
         Map<String, String> input = new HashMap<>();
@@ -12,6 +12,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.utils.StringUtils.gson;
 import static org.opensearch.ml.common.utils.StringUtils.toJson;
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.INPUT_MAP;
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.MAX_PREDICTION_TASKS;
@@ -20,6 +21,7 @@ import static org.opensearch.ml.processor.InferenceProcessorAttributes.MODEL_ID;
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.OUTPUT_MAP;
 import static org.opensearch.ml.processor.MLInferenceSearchRequestProcessor.OPTIONAL_INPUT_MAP;
 import static org.opensearch.ml.processor.MLInferenceSearchRequestProcessor.OPTIONAL_OUTPUT_MAP;
+import static org.opensearch.ml.processor.MLInferenceSearchResponseProcessor.BATCH_SIZE;
 import static org.opensearch.ml.processor.MLInferenceSearchResponseProcessor.DEFAULT_MAX_PREDICTION_TASKS;
 import static org.opensearch.ml.processor.MLInferenceSearchResponseProcessor.DEFAULT_OUTPUT_FIELD_NAME;
 import static org.opensearch.ml.processor.MLInferenceSearchResponseProcessor.FULL_RESPONSE_PATH;
@@ -1425,6 +1427,365 @@ public class MLInferenceSearchResponseProcessorTests extends AbstractBuilderTest
         verify(client, times(5)).execute(any(), any(), any());
     }
 
+    /**
+     * Tests create processor with one_to_one is true and batch_size 3
+     * with a local cross encoder model
+     * expect to score the docs of 5 hits in two batched predictions of 3 and 2 docs
+     * and to write the score of each doc to its own hit
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    public void testProcessResponseOneToOneBatchedPredictions() throws Exception {
+        String newDocumentField = "similarity_score";
+        List<Map<String, String>> inputMap = new ArrayList<>();
+        Map<String, String> input = new HashMap<>();
+        input.put("query_text", "$._request.query.term.text.value");
+        input.put("text_docs", "text");
+        inputMap.add(input);
+        List<Map<String, String>> outputMap = new ArrayList<>();
+        Map<String, String> output = new HashMap<>();
+        output.put(newDocumentField, "response");
+        outputMap.add(output);
+
+        MLInferenceSearchResponseProcessor responseProcessor = new MLInferenceSearchResponseProcessor(
+            "model1",
+            inputMap,
+            outputMap,
+            optionalInputMaps,
+            optionalOutputMaps,
+            new HashMap<>(),
+            DEFAULT_MAX_PREDICTION_TASKS,
+            PROCESSOR_TAG,
+            DESCRIPTION,
+            false,
+            "text_similarity",
+            false,
+            false,
+            false,
+            "{ \"query_text\": \"${input_map.query_text}\", \"text_docs\": [\"${input_map.text_docs}\"]}",
+            client,
+            TEST_XCONTENT_REGISTRY_FOR_QUERY,
+            true,
+            3
+        );
+
+        SearchRequest request = getSearchRequest();
+        SearchResponse response = getSearchResponse(5, true, "text");
+
+        // the cross encoder returns one score per doc, the score of "value i" is i
+        doAnswer(invocation -> {
+            MLPredictionTaskRequest predictionRequest = invocation.getArgument(1);
+            TextSimilarityInputDataSet inputDataSet = (TextSimilarityInputDataSet) predictionRequest.getMlInput().getInputDataset();
+            List<ModelTensors> modelTensors = new ArrayList<>();
+            for (String doc : inputDataSet.getTextDocs()) {
+                double score = Double.parseDouble(doc.substring("value ".length()));
+                ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", score)).build();
+                modelTensors.add(ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build());
+            }
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(new ModelTensorOutput(modelTensors)).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        ActionListener<SearchResponse> listener = new ActionListener<>() {
+            @Override
+            public void onResponse(SearchResponse newSearchResponse) {
+                assertSame(response, newSearchResponse);
+                assertEquals(newSearchResponse.getHits().getHits().length, 5);
+                for (int i = 0; i < 5; i++) {
+                    assertEquals(newSearchResponse.getHits().getHits()[i].getSourceAsMap().get(newDocumentField), (double) i);
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+
+        ArgumentCaptor<MLPredictionTaskRequest> argCaptor = ArgumentCaptor.forClass(MLPredictionTaskRequest.class);
+        responseProcessor.processResponseAsync(request, response, responseContext, listener);
+        verify(client, times(2)).execute(eq(MLPredictionTaskAction.INSTANCE), argCaptor.capture(), any());
+        List<MLPredictionTaskRequest> requests = argCaptor.getAllValues();
+        TextSimilarityInputDataSet firstBatch = (TextSimilarityInputDataSet) requests.get(0).getMlInput().getInputDataset();
+        assertEquals(toJson(firstBatch.getTextDocs()), "[\"value 0\",\"value 1\",\"value 2\"]");
+        TextSimilarityInputDataSet secondBatch = (TextSimilarityInputDataSet) requests.get(1).getMlInput().getInputDataset();
+        assertEquals(toJson(secondBatch.getTextDocs()), "[\"value 3\",\"value 4\"]");
+        assertEquals(firstBatch.getQueryText(), secondBatch.getQueryText());
+    }
+
+    /**
+     * Tests create processor with one_to_one is true and batch_size 3
+     * with a local cross encoder model, whose output is a single score for all docs
+     * expect the batched prediction to fail instead of predicting every hit again
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    public void testProcessResponseOneToOneBatchedPredictionsOutputCannotBeSplit() throws Exception {
+        List<Map<String, String>> inputMap = new ArrayList<>();
+        Map<String, String> input = new HashMap<>();
+        input.put("query_text", "$._request.query.term.text.value");
+        input.put("text_docs", "text");
+        inputMap.add(input);
+        List<Map<String, String>> outputMap = new ArrayList<>();
+        Map<String, String> output = new HashMap<>();
+        output.put("similarity_score", "response");
+        outputMap.add(output);
+
+        MLInferenceSearchResponseProcessor responseProcessor = new MLInferenceSearchResponseProcessor(
+            "model1",
+            inputMap,
+            outputMap,
+            optionalInputMaps,
+            optionalOutputMaps,
+            new HashMap<>(),
+            DEFAULT_MAX_PREDICTION_TASKS,
+            PROCESSOR_TAG,
+            DESCRIPTION,
+            false,
+            "text_similarity",
+            false,
+            false,
+            false,
+            "{ \"query_text\": \"${input_map.query_text}\", \"text_docs\": [\"${input_map.text_docs}\"]}",
+            client,
+            TEST_XCONTENT_REGISTRY_FOR_QUERY,
+            true,
+            3
+        );
+
+        SearchRequest request = getSearchRequest();
+        SearchResponse response = getSearchResponse(3, true, "text");
+
+        ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", 1.0)).build();
+        ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+        ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        ActionListener<SearchResponse> listener = mock(ActionListener.class);
+        responseProcessor.processResponseAsync(request, response, responseContext, listener);
+        verify(client, times(1)).execute(any(), any(), any());
+        ArgumentCaptor<Exception> exceptionCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(exceptionCaptor.capture());
+        assertTrue(exceptionCaptor.getValue() instanceof IllegalArgumentException);
+    }
+
+    /**
+     * Tests create processor with one_to_one is true and batch_size 3
+     * with a remote model
+     * expect to predict the 5 hits in two predictions of 3 and 2 hits with list parameters
+     * and to write the output of each hit to its own hit of the search response
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    public void testProcessResponseOneToOneBatchSizeRemoteModel() throws Exception {
+        String newDocumentField = "text_embedding";
+        List<Map<String, String>> outputMap = new ArrayList<>();
+        Map<String, String> output = new HashMap<>();
+        output.put(newDocumentField, "response");
+        outputMap.add(output);
+
+        MLInferenceSearchResponseProcessor responseProcessor = new MLInferenceSearchResponseProcessor(
+            "model1",
+            null,
+            outputMap,
+            optionalInputMaps,
+            optionalOutputMaps,
+            null,
+            DEFAULT_MAX_PREDICTION_TASKS,
+            PROCESSOR_TAG,
+            DESCRIPTION,
+            false,
+            "remote",
+            false,
+            false,
+            false,
+            "{ \"parameters\": ${ml_inference.parameters} }",
+            client,
+            TEST_XCONTENT_REGISTRY_FOR_QUERY,
+            true,
+            3
+        );
+
+        SearchRequest request = getSearchRequest();
+        SearchResponse response = getSearchResponse(5, true, "text");
+        List<String> predictedTexts = new ArrayList<>();
+        mockRemoteModelEchoingInput("text", predictedTexts);
+
+        ActionListener<SearchResponse> listener = new ActionListener<>() {
+            @Override
+            public void onResponse(SearchResponse newSearchResponse) {
+                assertSame(response, newSearchResponse);
+                assertEquals(newSearchResponse.getHits().getHits().length, 5);
+                SearchHit[] hits = newSearchResponse.getHits().getHits();
+                for (int i = 0; i < 5; i++) {
+                    assertEquals(hits[i].getSourceAsMap().get(newDocumentField), "value " + i + "_embedding");
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+        responseProcessor.processResponseAsync(request, response, responseContext, listener);
+        verify(client, times(2)).execute(any(), any(), any());
+        assertEquals(predictedTexts, List.of("[\"value 0\",\"value 1\",\"value 2\"]", "[\"value 3\",\"value 4\"]"));
+    }
+
+    /**
+     * Tests create processor with one_to_one is true, batch_size 3 and ignore_missing is true
+     * with a remote model and a hit missing the input field
+     * expect to leave the hit out of the list parameters and to write the outputs to the other hits only
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    public void testProcessResponseOneToOneBatchSizeRemoteModelIgnoreMissing() throws Exception {
+        String newDocumentField = "text_embedding";
+        List<Map<String, String>> inputMap = new ArrayList<>();
+        Map<String, String> input = new HashMap<>();
+        input.put("inputs", "text");
+        inputMap.add(input);
+        List<Map<String, String>> outputMap = new ArrayList<>();
+        Map<String, String> output = new HashMap<>();
+        output.put(newDocumentField, "response");
+        outputMap.add(output);
+
+        MLInferenceSearchResponseProcessor responseProcessor = new MLInferenceSearchResponseProcessor(
+            "model1",
+            inputMap,
+            outputMap,
+            optionalInputMaps,
+            optionalOutputMaps,
+            null,
+            DEFAULT_MAX_PREDICTION_TASKS,
+            PROCESSOR_TAG,
+            DESCRIPTION,
+            true,
+            "remote",
+            false,
+            false,
+            false,
+            "{ \"parameters\": ${ml_inference.parameters} }",
+            client,
+            TEST_XCONTENT_REGISTRY_FOR_QUERY,
+            true,
+            3
+        );
+
+        SearchRequest request = getSearchRequest();
+        // the hit at index 2 misses the text field
+        SearchResponse response = getSearchResponseMissingField(5, true, "text");
+        List<String> predictedTexts = new ArrayList<>();
+        mockRemoteModelEchoingInput("inputs", predictedTexts);
+
+        ActionListener<SearchResponse> listener = new ActionListener<>() {
+            @Override
+            public void onResponse(SearchResponse newSearchResponse) {
+                SearchHit[] hits = newSearchResponse.getHits().getHits();
+                assertEquals(hits.length, 5);
+                for (int i = 0; i < 5; i++) {
+                    if (i == 2) {
+                        assertFalse(hits[i].getSourceAsMap().containsKey(newDocumentField));
+                    } else {
+                        assertEquals(hits[i].getSourceAsMap().get(newDocumentField), "value " + i + "_embedding");
+                    }
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+        responseProcessor.processResponseAsync(request, response, responseContext, listener);
+        verify(client, times(2)).execute(any(), any(), any());
+        assertEquals(predictedTexts, List.of("[\"value 0\",\"value 1\"]", "[\"value 3\",\"value 4\"]"));
+    }
+
+    /**
+     * Tests create processor with one_to_one is true and batch_size 3
+     * with a remote model, whose output is a single value for all hits of a chunk
+     * expect the search response to fail instead of writing the same value to every hit
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    public void testProcessResponseOneToOneBatchSizeRemoteModelOutputCannotBeSplit() throws Exception {
+        List<Map<String, String>> outputMap = new ArrayList<>();
+        Map<String, String> output = new HashMap<>();
+        output.put("text_embedding", "response");
+        outputMap.add(output);
+
+        MLInferenceSearchResponseProcessor responseProcessor = new MLInferenceSearchResponseProcessor(
+            "model1",
+            null,
+            outputMap,
+            optionalInputMaps,
+            optionalOutputMaps,
+            null,
+            DEFAULT_MAX_PREDICTION_TASKS,
+            PROCESSOR_TAG,
+            DESCRIPTION,
+            false,
+            "remote",
+            false,
+            false,
+            false,
+            "{ \"parameters\": ${ml_inference.parameters} }",
+            client,
+            TEST_XCONTENT_REGISTRY_FOR_QUERY,
+            true,
+            3
+        );
+
+        SearchRequest request = getSearchRequest();
+        SearchResponse response = getSearchResponse(3, true, "text");
+
+        ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", "summary")).build();
+        ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+        ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        ActionListener<SearchResponse> listener = mock(ActionListener.class);
+        responseProcessor.processResponseAsync(request, response, responseContext, listener);
+        verify(client, times(1)).execute(any(), any(), any());
+        ArgumentCaptor<Exception> exceptionCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(exceptionCaptor.capture());
+        assertTrue(exceptionCaptor.getValue() instanceof IllegalArgumentException);
+        for (SearchHit hit : response.getHits().getHits()) {
+            assertFalse(hit.getSourceAsMap().containsKey("text_embedding"));
+        }
+    }
+
+    /**
+     * Mocks a remote model which returns a response list with one element per element of the given list parameter.
+     */
+    private void mockRemoteModelEchoingInput(String parameterName, List<String> predictedValues) {
+        doAnswer(invocation -> {
+            MLPredictionTaskRequest predictionRequest = invocation.getArgument(1);
+            RemoteInferenceInputDataSet inputDataSet = (RemoteInferenceInputDataSet) predictionRequest.getMlInput().getInputDataset();
+            String values = inputDataSet.getParameters().get(parameterName);
+            predictedValues.add(values);
+            List<String> responses = new ArrayList<>();
+            for (Object value : gson.fromJson(values, List.class)) {
+                responses.add(value + "_embedding");
+            }
+            ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", responses)).build();
+            ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(new ModelTensorOutput(Arrays.asList(modelTensors))).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+    }
+
     /**
      * Tests create processor with one_to_one is true
      * with output_maps
@@ -5490,6 +5851,31 @@ public class MLInferenceSearchResponseProcessorTests extends AbstractBuilderTest
 
     }
 
+    /**
+     * Tests the creation of a one_to_one processor with batch_size, and that an invalid batch_size is rejected.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    public void testCreateBatchSize() throws Exception {
+        Map<String, Object> config = new HashMap<>();
+        config.put(MODEL_ID, "model1");
+        config.put(ONE_TO_ONE, true);
+        config.put(BATCH_SIZE, 16);
+        MLInferenceSearchResponseProcessor processor = factory.create(Collections.emptyMap(), "batch", null, false, config, null);
+        assertEquals(processor.getBatchSize(), 16);
+
+        Map<String, Object> invalidConfig = new HashMap<>();
+        invalidConfig.put(MODEL_ID, "model1");
+        invalidConfig.put(ONE_TO_ONE, true);
+        invalidConfig.put(BATCH_SIZE, 0);
+        try {
+            factory.create(Collections.emptyMap(), "batch", null, false, invalidConfig, null);
+            fail("factory create should have failed");
+        } catch (IllegalArgumentException e) {
+            assertEquals(e.getMessage(), "The batch_size of ML inference processor must be a positive integer.");
+        }
+    }
+
     /**
      * Tests the case where output map try to write to extension and one to one inference  is true
      * and an exception is expected.
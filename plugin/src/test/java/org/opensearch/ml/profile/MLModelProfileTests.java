@@ -150,6 +150,7 @@ public class MLModelProfileTests {
             .predictRequestStats(stats)
             .memSizeEstimationCPU(1024L)
             .memSizeEstimationGPU(2048L)
+            .resultCacheStats(MLResultCacheStats.builder().hitCount(3).missCount(2).entryCount(2).sizeInBytes(512).build())
             .build();
         original.setIsHidden(true);
 
@@ -170,6 +171,9 @@ public class MLModelProfileTests {
         assertEquals(original.getMemSizeEstimationCPU(), deserialized.getMemSizeEstimationCPU());
         assertEquals(original.getMemSizeEstimationGPU(), deserialized.getMemSizeEstimationGPU());
         assertEquals(original.getIsHidden(), deserialized.getIsHidden());
+        assertEquals(3, deserialized.getResultCacheStats().getHitCount());
+        assertEquals(2, deserialized.getResultCacheStats().getMissCount());
+        assertEquals(512, deserialized.getResultCacheStats().getSizeInBytes());
     }
 
     @Test
@@ -192,5 +196,6 @@ public class MLModelProfileTests {
         assertNull(deserialized.getPredictRequestStats());
         assertNull(deserialized.getMemSizeEstimationCPU());
         assertNull(deserialized.getMemSizeEstimationGPU());
+        assertNull(deserialized.getResultCacheStats());
     }
 }
@@ -10,6 +10,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.spy;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_RCF_SCORING_THREADS;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -81,6 +82,7 @@ import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
+import org.opensearch.ml.model.InferenceResultCache;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStat;
@@ -100,6 +102,10 @@ import com.google.common.collect.ImmutableSet;
 public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
 
     public static final String USER_STRING = "myuser|role1,role2|myTenant";
+    // an output interface which model tensor outputs never match
+    private static final Map<String, String> STRING_RESULTS_INTERFACE = Map
+        .of("output", "{\"properties\":{\"inference_results\":{\"type\":\"string\"}}}");
+
     @Mock
     ThreadPool threadPool;
 
@@ -176,7 +182,10 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         stats.put(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT, new MLStat<>(false, new CounterSupplier()));
 
         Settings settings = Settings.builder().put(ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE.getKey(), true).build();
-        ClusterSettings clusterSettings = new ClusterSettings(settings, new HashSet<>(Arrays.asList(ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE)));
+        ClusterSettings clusterSettings = new ClusterSettings(
+            settings,
+            new HashSet<>(Arrays.asList(ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE, ML_COMMONS_RCF_SCORING_THREADS))
+        );
         when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
         this.mlStats = new MLStats(stats);
         mlInputDatasetHandler = spy(new MLInputDatasetHandler(client));
@@ -380,6 +389,69 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         assert argumentCaptor.getValue().getOutput() instanceof MLPredictionOutput;
     }
 
+    public void testExecuteTask_OnLocalNode_localModel_InvalidOutputNotCached() {
+        setupMocks(true, false, false, false);
+        MLPredictionTaskRequest textDocsInputRequest = textEmbeddingRequest();
+        Predictable predictor = mock(Predictable.class);
+        when(predictor.isModelReady()).thenReturn(true);
+        when(mlModelManager.getPredictor(anyString())).thenReturn(predictor);
+        when(mlModelManager.getWorkerNodes(anyString(), eq(FunctionName.TEXT_EMBEDDING), eq(true))).thenReturn(new String[] { "node1" });
+        InferenceResultCache resultCache = mock(InferenceResultCache.class);
+        when(resultCache.key(any())).thenReturn("key");
+        when(mlModelManager.getResultCache(anyString())).thenReturn(resultCache);
+        when(mlModelManager.trackPredictDuration(anyString(), any())).thenReturn(modelTensorOutput());
+        when(mlModelManager.getModelInterface(any())).thenReturn(STRING_RESULTS_INTERFACE);
+
+        taskRunner.dispatchTask(FunctionName.TEXT_EMBEDDING, textDocsInputRequest, transportService, listener);
+
+        verify(listener).onFailure(any(OpenSearchStatusException.class));
+        verify(resultCache, never()).put(anyString(), anyLong(), any());
+    }
+
+    public void testExecuteTask_OnLocalNode_localModel_CacheHitValidatedAndTracked() {
+        setupMocks(true, false, false, false);
+        MLPredictionTaskRequest textDocsInputRequest = textEmbeddingRequest();
+        Predictable predictor = mock(Predictable.class);
+        when(predictor.isModelReady()).thenReturn(true);
+        when(mlModelManager.getPredictor(anyString())).thenReturn(predictor);
+        when(mlModelManager.getWorkerNodes(anyString(), eq(FunctionName.TEXT_EMBEDDING), eq(true))).thenReturn(new String[] { "node1" });
+        InferenceResultCache resultCache = mock(InferenceResultCache.class);
+        when(resultCache.key(any())).thenReturn("key");
+        when(resultCache.get("key")).thenReturn(modelTensorOutput());
+        when(mlModelManager.getResultCache(anyString())).thenReturn(resultCache);
+        when(mlModelManager.getModelInterface(any())).thenReturn(STRING_RESULTS_INTERFACE);
+
+        taskRunner.dispatchTask(FunctionName.TEXT_EMBEDDING, textDocsInputRequest, transportService, listener);
+
+        verify(listener).onFailure(any(OpenSearchStatusException.class));
+        verify(predictor, never()).predict(any());
+        verify(mlModelManager, never()).trackPredictDuration(anyString(), anyLong());
+
+        when(mlModelManager.getModelInterface(any())).thenReturn(null);
+        taskRunner.dispatchTask(FunctionName.TEXT_EMBEDDING, textDocsInputRequest, transportService, listener);
+
+        verify(listener).onResponse(any(MLTaskResponse.class));
+        verify(mlModelManager).trackPredictDuration(anyString(), anyLong());
+        verify(predictor, never()).predict(any());
+    }
+
+    private MLPredictionTaskRequest textEmbeddingRequest() {
+        TextDocsInputDataSet textDocsInputDataSet = new TextDocsInputDataSet(List.of("hello", "world"), null);
+        return MLPredictionTaskRequest
+            .builder()
+            .modelId("test_model")
+            .mlInput(MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(textDocsInputDataSet).build())
+            .build();
+    }
+
+    private ModelTensorOutput modelTensorOutput() {
+        ModelTensor modelTensor = ModelTensor.builder().name("response").dataAsMap(Map.of("id", "id")).build();
+        return ModelTensorOutput
+            .builder()
+            .mlModelOutputs(List.of(ModelTensors.builder().mlModelTensors(List.of(modelTensor)).build()))
+            .build();
+    }
+
     public void testExecuteTask_OnLocalNode_prediction_exception() {
         setupMocks(true, false, false, false);
         TextDocsInputDataSet textDocsInputDataSet = new TextDocsInputDataSet(List.of("hello", "world"), null);
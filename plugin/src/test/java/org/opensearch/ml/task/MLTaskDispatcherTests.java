@@ -7,13 +7,23 @@ package org.opensearch.ml.task;
 
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.breaker.MemoryCircuitBreaker.DEFAULT_JVM_HEAP_USAGE_THRESHOLD;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_EXCLUDE_NODE_NAMES;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_ELIGIBLE_NODE_ROLES;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_ONLY_RUN_ON_ML_NODE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_MODEL_ELIGIBLE_NODE_ROLES;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_LOAD_REFRESH_INTERVAL_IN_MILLIS;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_POLICY;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_ROLE_NAME;
 import static org.opensearch.ml.utils.TestHelper.ML_ROLE;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -33,6 +43,7 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodeRole;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.action.stats.MLStatsNodeResponse;
@@ -73,6 +84,7 @@ public class MLTaskDispatcherTests extends OpenSearchTestCase {
     public void setup() {
         settings = Settings.builder().put(ML_COMMONS_ONLY_RUN_ON_ML_NODE.getKey(), false).build();
         MockitoAnnotations.openMocks(this);
+        when(clusterService.getClusterSettings()).thenReturn(dispatcherClusterSettings(settings));
 
         taskDispatcher = spy(new MLTaskDispatcher(clusterService, client, settings, nodeHelper));
         nodeHelper = spy(new DiscoveryNodeHelper(clusterService, settings));
@@ -208,4 +220,94 @@ public class MLTaskDispatcherTests extends OpenSearchTestCase {
             new ArrayList<>()
         );
     }
+
+    public void testDispatchPredictTask_LeastLoad_ReusesLoadTable() {
+        MLTaskDispatcher dispatcher = leastLoadDispatcher(60000);
+        mlStatsNodesResponse = getNodesResponse(statsOf(10l, 50l), statsOf(1l, 50l));
+
+        dispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+        dispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+
+        verify(client, times(1)).execute(any(MLStatsNodesAction.class), any(MLStatsNodesRequest.class), any());
+        verify(listener, times(2)).onResponse(dataNode2);
+    }
+
+    public void testDispatchPredictTask_LeastLoad_LoadTableDisabled() {
+        MLTaskDispatcher dispatcher = leastLoadDispatcher(0);
+        mlStatsNodesResponse = getNodesResponse(statsOf(10l, 50l), statsOf(1l, 50l));
+
+        dispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+        dispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+
+        verify(client, times(2)).execute(any(MLStatsNodesAction.class), any(MLStatsNodesRequest.class), any());
+        verify(listener, times(2)).onResponse(dataNode2);
+    }
+
+    public void testDispatchPredictTask_LeastLoad_CountsDispatchedTasks() {
+        MLTaskDispatcher dispatcher = leastLoadDispatcher(60000);
+        mlStatsNodesResponse = getNodesResponse(statsOf(10l, 50l), statsOf(9l, 50l));
+
+        // dispatched tasks only rank the nodes, they don't count against the limit of 10 executing tasks
+        for (int i = 0; i < 20; i++) {
+            dispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+        }
+
+        verify(client, times(1)).execute(any(MLStatsNodesAction.class), any(MLStatsNodesRequest.class), any());
+        verify(listener, times(20)).onResponse(dataNode2);
+        verify(listener, never()).onFailure(any());
+    }
+
+    public void testDispatchPredictTask_LeastLoad_MemoryExceedLimit() {
+        MLTaskDispatcher dispatcher = leastLoadDispatcher(60000);
+        mlStatsNodesResponse = getNodesResponse(statsOf(1l, 90l), statsOf(1l, 90l));
+
+        dispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals(
+            "All nodes' memory usage exceeds limitation 85. No eligible node available to run ml jobs ",
+            argumentCaptor.getValue().getMessage()
+        );
+    }
+
+    private MLTaskDispatcher leastLoadDispatcher(int refreshIntervalInMillis) {
+        Settings leastLoadSettings = Settings
+            .builder()
+            .put(ML_COMMONS_TASK_DISPATCH_POLICY.getKey(), "least_load")
+            .put(ML_COMMONS_TASK_DISPATCH_LOAD_REFRESH_INTERVAL_IN_MILLIS.getKey(), refreshIntervalInMillis)
+            .build();
+        when(clusterService.getClusterSettings()).thenReturn(dispatcherClusterSettings(leastLoadSettings));
+        DiscoveryNodeHelper discoveryNodeHelper = mock(DiscoveryNodeHelper.class);
+        when(discoveryNodeHelper.getNodes(any())).thenReturn(new DiscoveryNode[] { dataNode1, dataNode2 });
+        return new MLTaskDispatcher(clusterService, client, leastLoadSettings, discoveryNodeHelper);
+    }
+
+    private ClusterSettings dispatcherClusterSettings(Settings settings) {
+        return clusterSetting(
+            settings,
+            ML_COMMONS_TASK_DISPATCH_POLICY,
+            ML_COMMONS_MAX_ML_TASK_PER_NODE,
+            ML_COMMONS_TASK_DISPATCH_LOAD_REFRESH_INTERVAL_IN_MILLIS,
+            ML_COMMONS_ONLY_RUN_ON_ML_NODE,
+            ML_COMMONS_EXCLUDE_NODE_NAMES,
+            ML_COMMONS_REMOTE_MODEL_ELIGIBLE_NODE_ROLES,
+            ML_COMMONS_LOCAL_MODEL_ELIGIBLE_NODE_ROLES
+        );
+    }
+
+    private Map<MLNodeLevelStat, Object> statsOf(long executingTaskCount, long jvmHeapUsage) {
+        Map<MLNodeLevelStat, Object> nodeStats = new HashMap<>();
+        nodeStats.put(MLNodeLevelStat.ML_JVM_HEAP_USAGE, jvmHeapUsage);
+        nodeStats.put(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, executingTaskCount);
+        return nodeStats;
+    }
+
+    private MLStatsNodesResponse getNodesResponse(Map<MLNodeLevelStat, Object> node1Stats, Map<MLNodeLevelStat, Object> node2Stats) {
+        return new MLStatsNodesResponse(
+            new ClusterName(clusterName),
+            Arrays.asList(new MLStatsNodeResponse(dataNode1, node1Stats), new MLStatsNodeResponse(dataNode2, node2Stats)),
+            new ArrayList<>()
+        );
+    }
 }
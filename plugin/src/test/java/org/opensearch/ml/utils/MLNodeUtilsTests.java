@@ -12,11 +12,16 @@ import static org.opensearch.ml.common.utils.ModelInterfaceUtils.BEDROCK_TITAN_E
 import static org.opensearch.ml.utils.TestHelper.ML_ROLE;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.opensearch.OpenSearchParseException;
 import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodeRole;
@@ -27,9 +32,15 @@ import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.test.OpenSearchTestCase;
 
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.JsonSchema;
 
 public class MLNodeUtilsTests extends OpenSearchTestCase {
 
@@ -208,4 +219,50 @@ public class MLNodeUtilsTests extends OpenSearchTestCase {
         String processedJson = MLNodeUtils.processRemoteInferenceInputDataSetParametersValue(json, schema);
         assertEquals(json, processedJson);
     }
+
+    @Test
+    public void testValidateSchemaWithCompiledSchema() throws IOException {
+        JsonSchema schema = MLNodeUtils
+            .compileSchema("{\"type\": \"object\", \"properties\": {\"key1\": {\"type\": \"string\"}}, \"required\": [\"key1\"]}");
+        MLNodeUtils.validateSchema(schema, "{\"key1\": \"foo\"}");
+        assertThrows(OpenSearchParseException.class, () -> MLNodeUtils.validateSchema(schema, "{\"key2\": \"foo\"}"));
+    }
+
+    @Test
+    public void testToJsonNode_SameAsXContent() throws IOException {
+        Map<String, Object> dataAsMap = new HashMap<>();
+        dataAsMap.put("response", "hello");
+        dataAsMap.put("usage", Map.of("tokens", 3));
+        List<ModelTensor> tensors = List
+            .of(
+                ModelTensor
+                    .builder()
+                    .name("sentence_embedding")
+                    .dataType(MLResultDataType.FLOAT32)
+                    .shape(new long[] { 2 })
+                    .data(new Number[] { 1.5f, 2.0f })
+                    .build(),
+                ModelTensor
+                    .builder()
+                    .name("token_embedding")
+                    .dataType(MLResultDataType.FLOAT32)
+                    .shape(new long[] { 2 })
+                    .floatData(new float[] { 0.25f, -3.5f })
+                    .build(),
+                ModelTensor.builder().name("tokens").dataType(MLResultDataType.INT32).intData(new int[] { 7, 42 }).build(),
+                ModelTensor
+                    .builder()
+                    .name("response")
+                    .result("text")
+                    .byteBuffer(ByteBuffer.wrap(new byte[] { 1, 2, 3 }))
+                    .dataAsMap(dataAsMap)
+                    .build()
+            );
+        ModelTensors modelTensors = new ModelTensors(tensors);
+        modelTensors.setStatusCode(200);
+        ModelTensorOutput output = new ModelTensorOutput(List.of(modelTensors));
+
+        String xContent = output.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS).toString();
+        assertEquals(new ObjectMapper().readTree(xContent).toString(), MLNodeUtils.toJsonNode(output).toString());
+    }
 }